@@ -0,0 +1,94 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JDK does not provide a Base32 codec, so {@link Base64} is used as the
+ * nearest JDK baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Base32Benchmark {
+  @Param({"20", "1024"})
+  private int size;
+
+  private byte[] bytes;
+  private String base32;
+  private String base64;
+  private char[] chars;
+  private byte[] decoded;
+
+  @Setup
+  public void setup() {
+    bytes = new byte[size];
+    new Random(1).nextBytes(bytes);
+    base32 = Base32.encode(bytes);
+    base64 = Base64.getEncoder().encodeToString(bytes);
+    chars = new char[Base32.getEncodedLength(size, false)];
+    decoded = new byte[size];
+  }
+
+  @Benchmark
+  public String encode() {
+    return Base32.encode(bytes);
+  }
+
+  @Benchmark
+  public int encodeInto() {
+    return Base32.encode(bytes, 0, bytes.length, chars, 0, Base32.Alphabet.STANDARD, false);
+  }
+
+  @Benchmark
+  public String encodeJdkBase64() {
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+
+  @Benchmark
+  public byte[] decode() {
+    return Base32.decode(base32);
+  }
+
+  @Benchmark
+  public int decodeInto() {
+    return Base32.decode(base32, 0, base32.length(), decoded, 0, Base32.Alphabet.STANDARD);
+  }
+
+  @Benchmark
+  public byte[] decodeJdkBase64() {
+    return Base64.getDecoder().decode(base64);
+  }
+}
@@ -0,0 +1,92 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Base64Benchmark {
+  @Param({"16", "1024"})
+  private int size;
+
+  private byte[] bytes;
+  private String base64;
+  private byte[] ascii;
+  private byte[] decoded;
+
+  @Setup
+  public void setup() {
+    bytes = new byte[size];
+    new Random(1).nextBytes(bytes);
+    base64 = Base64.encode(bytes);
+    ascii = new byte[base64.length()];
+    decoded = new byte[size];
+  }
+
+  @Benchmark
+  public String encode() {
+    return Base64.encode(bytes);
+  }
+
+  @Benchmark
+  public int encodeInto() {
+    return Base64.encode(bytes, 0, bytes.length, ascii, 0, Base64.Alphabet.STANDARD, true);
+  }
+
+  @Benchmark
+  public String encodeJdk() {
+    return java.util.Base64.getEncoder().encodeToString(bytes);
+  }
+
+  @Benchmark
+  public byte[] decode() {
+    return Base64.decode(base64);
+  }
+
+  @Benchmark
+  public int decodeInto() {
+    return Base64.decode(base64, 0, base64.length(), decoded, 0, Base64.Alphabet.STANDARD);
+  }
+
+  @Benchmark
+  public byte[] decodeJdk() {
+    return java.util.Base64.getDecoder().decode(base64);
+  }
+
+  @Benchmark
+  public String encodeBase58() {
+    return Base58.encode(bytes);
+  }
+}
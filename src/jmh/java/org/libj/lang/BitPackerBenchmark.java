@@ -0,0 +1,82 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BitPackerBenchmark {
+  @Param({"7", "16", "27"})
+  private int bits;
+
+  private int[] values;
+  private long[] packed;
+  private int[] indices;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(1);
+    values = new int[65536];
+    for (int i = 0; i < values.length; ++i)
+      values[i] = random.nextInt() >>> (32 - bits);
+
+    packed = new long[BitPacker.getPackedLength(values.length, bits)];
+    BitPacker.pack(values, 0, packed, 0, values.length, bits);
+    indices = new int[1024];
+    for (int i = 0; i < indices.length; ++i)
+      indices[i] = random.nextInt(values.length);
+  }
+
+  @Benchmark
+  public long[] pack() {
+    BitPacker.pack(values, 0, packed, 0, values.length, bits);
+    return packed;
+  }
+
+  @Benchmark
+  public int[] unpack() {
+    BitPacker.unpack(packed, 0, values, 0, values.length, bits);
+    return values;
+  }
+
+  @Benchmark
+  public long get() {
+    long sum = 0;
+    for (final int index : indices)
+      sum += BitPacker.get(packed, 0, bits, index);
+
+    return sum;
+  }
+}
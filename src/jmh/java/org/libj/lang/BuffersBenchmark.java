@@ -0,0 +1,91 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BuffersBenchmark {
+  @Param({"1", "50"})
+  private int density;
+
+  private long[] a;
+  private long[] b;
+  private int bits;
+
+  @Setup
+  public void setup() {
+    bits = 10_000_000;
+    a = new long[bits / Long.SIZE];
+    b = new long[bits / Long.SIZE];
+    final Random random = new Random(1);
+    for (int i = 0; i < bits; ++i) {
+      if (random.nextInt(100) < density)
+        Buffers.set(a, i, 0);
+
+      if (random.nextInt(100) < density)
+        Buffers.set(b, i, 0);
+    }
+  }
+
+  @Benchmark
+  public int countEachBit() {
+    int count = 0;
+    for (int i = 0; i < bits; ++i)
+      if (Buffers.get(a, i))
+        ++count;
+
+    return count;
+  }
+
+  @Benchmark
+  public int cardinality() {
+    return Buffers.cardinality(a);
+  }
+
+  @Benchmark
+  public long nextSetBit() {
+    long sum = 0;
+    for (int i = Buffers.nextSetBit(a, 0); i >= 0; i = Buffers.nextSetBit(a, i + 1))
+      sum += i;
+
+    return sum;
+  }
+
+  @Benchmark
+  public long[] and() {
+    return Buffers.and(a.clone(), b);
+  }
+}
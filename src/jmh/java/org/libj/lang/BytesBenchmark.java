@@ -0,0 +1,181 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BytesBenchmark {
+  @Param({"1024", "1048576"})
+  private int size;
+
+  private byte[] bytes;
+  private byte[] sequence;
+  private String string;
+  private String sequenceString;
+  private Bytes.Searcher searcher;
+  private ByteBuffer direct;
+  private byte[][] delimiters;
+  private Bytes.MultiSearcher multiSearcher;
+  private long[] longs;
+  private byte[] longBytes;
+  private int[] ints;
+  private byte[] varInts;
+  private byte[] groupVarInts;
+
+  @Setup
+  public void setup() {
+    // Random lowercase text, with the sequence placed at the very end
+    final Random random = new Random(1);
+    bytes = new byte[size];
+    for (int i = 0; i < size; ++i)
+      bytes[i] = (byte)('a' + random.nextInt(26));
+
+    sequence = "--boundary--".getBytes(StandardCharsets.US_ASCII);
+    System.arraycopy(sequence, 0, bytes, size - sequence.length, sequence.length);
+    string = new String(bytes, StandardCharsets.ISO_8859_1);
+    sequenceString = new String(sequence, StandardCharsets.ISO_8859_1);
+    searcher = Bytes.compile(sequence);
+    direct = ByteBuffer.allocateDirect(size);
+    direct.put(bytes).clear();
+
+    // Delimiters that are absent from the text, except for the sequence at its end
+    delimiters = new byte[][] {"\r\n".getBytes(StandardCharsets.US_ASCII), "\t".getBytes(StandardCharsets.US_ASCII), "<br>".getBytes(StandardCharsets.US_ASCII), "&amp;".getBytes(StandardCharsets.US_ASCII), "\u0000".getBytes(StandardCharsets.US_ASCII), "END".getBytes(StandardCharsets.US_ASCII), "--".getBytes(StandardCharsets.US_ASCII), "##".getBytes(StandardCharsets.US_ASCII)};
+    multiSearcher = Bytes.compileAll(delimiters);
+
+    longs = new long[size / Long.BYTES];
+    for (int i = 0; i < longs.length; ++i)
+      longs[i] = random.nextLong();
+
+    longBytes = new byte[longs.length * Long.BYTES];
+
+    // Values of every byte length
+    ints = new int[size / Integer.BYTES];
+    for (int i = 0; i < ints.length; ++i)
+      ints[i] = random.nextInt() >>> random.nextInt(32);
+
+    varInts = new byte[5 * ints.length];
+    Bytes.writeVarInts(ints, 0, varInts, 0, ints.length);
+    groupVarInts = new byte[(ints.length + 3) / 4 + 4 * ints.length];
+    Bytes.writeGroupVarInts(ints, 0, groupVarInts, 0, ints.length);
+  }
+
+  @Benchmark
+  public int indexOf() {
+    return Bytes.indexOf(bytes, sequence);
+  }
+
+  @Benchmark
+  public int indexOfJdk() {
+    return new String(bytes, StandardCharsets.ISO_8859_1).indexOf(sequenceString);
+  }
+
+  @Benchmark
+  public int indexOfJdkNoCopy() {
+    return string.indexOf(sequenceString);
+  }
+
+  @Benchmark
+  public int searcherIndexOf() {
+    return searcher.indexOf(bytes);
+  }
+
+  @Benchmark
+  public int searcherIndexOfDirect() {
+    return searcher.indexOf(direct);
+  }
+
+  @Benchmark
+  public int searcherLastIndexOf() {
+    return searcher.lastIndexOf(bytes);
+  }
+
+  @Benchmark
+  public int multiSearcherIndexOf() {
+    return multiSearcher.indexOf(bytes);
+  }
+
+  @Benchmark
+  public int indexOfEachDelimiter() {
+    int index = -1;
+    for (final byte[] delimiter : delimiters) {
+      final int i = Bytes.indexOf(bytes, delimiter);
+      if (i > -1 && (index == -1 || i < index))
+        index = i;
+    }
+
+    return index;
+  }
+
+  @Benchmark
+  public byte[] toBytesLongs() {
+    Bytes.toBytes(longs, 0, longBytes, 0, longs.length, true);
+    return longBytes;
+  }
+
+  @Benchmark
+  public byte[] toBytesLongEach() {
+    for (int i = 0; i < longs.length; ++i)
+      Bytes.toBytes(longs[i], longBytes, i * Long.BYTES, false);
+
+    return longBytes;
+  }
+
+  @Benchmark
+  public long[] toLongs() {
+    Bytes.toLongs(longBytes, 0, longs, 0, longs.length, true);
+    return longs;
+  }
+
+  @Benchmark
+  public long[] toLongEach() {
+    for (int i = 0; i < longs.length; ++i)
+      longs[i] = Bytes.toLong(longBytes, i * Long.BYTES, false);
+
+    return longs;
+  }
+
+  @Benchmark
+  public int readVarInts() {
+    return Bytes.readVarInts(varInts, 0, ints, 0, ints.length);
+  }
+
+  @Benchmark
+  public int readGroupVarInts() {
+    return Bytes.readGroupVarInts(groupVarInts, 0, ints, 0, ints.length);
+  }
+}
@@ -0,0 +1,75 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ClassesBenchmark {
+  private Constructor<BigDecimal> constructor;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+    constructor = BigDecimal.class.getConstructor(String.class);
+  }
+
+  @Benchmark
+  public Method[] getDeclaredMethodsDeep() {
+    return Classes.getDeclaredMethodsDeep(ArrayList.class);
+  }
+
+  @Benchmark
+  public Method[] getDeclaredMethodsDeepJdk() {
+    final ArrayList<Method> methods = new ArrayList<>();
+    for (Class<?> cls = ArrayList.class; cls != null; cls = cls.getSuperclass())
+      Collections.addAll(methods, cls.getDeclaredMethods());
+
+    return methods.toArray(new Method[methods.size()]);
+  }
+
+  @Benchmark
+  public BigDecimal newInstance() throws IllegalAccessException, InstantiationException, InvocationTargetException {
+    return Classes.newInstance(BigDecimal.class, "3.14159");
+  }
+
+  @Benchmark
+  public BigDecimal newInstanceJdk() throws IllegalAccessException, InstantiationException, InvocationTargetException {
+    return constructor.newInstance("3.14159");
+  }
+}
@@ -0,0 +1,66 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EnumsBenchmark {
+  private enum Permission {
+    READ, WRITE, EXECUTE, DELETE, ADMIN
+  }
+
+  private static final Permission[] values = Enums.values(Permission.class);
+
+  private int mask = 0b10101;
+
+  @Benchmark
+  public int setVarargs() {
+    return Enums.Mask.set(mask, new Permission[] {Permission.WRITE, Permission.DELETE});
+  }
+
+  @Benchmark
+  public int setTwo() {
+    return Enums.Mask.set(mask, Permission.WRITE, Permission.DELETE);
+  }
+
+  @Benchmark
+  public Permission[] toArray() {
+    return Enums.Mask.toArray(mask, values);
+  }
+
+  @Benchmark
+  public void forEach(final Blackhole blackhole) {
+    Enums.Mask.forEach(mask, values, blackhole::consume);
+  }
+}
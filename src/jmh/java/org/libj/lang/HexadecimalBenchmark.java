@@ -0,0 +1,91 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HexadecimalBenchmark {
+  @Param({"16", "32", "1024"})
+  private int size;
+
+  private byte[] bytes;
+  private String hex;
+  private char[] chars;
+  private byte[] decoded;
+
+  @Setup
+  public void setup() {
+    bytes = new byte[size];
+    new Random(1).nextBytes(bytes);
+    bytes[0] |= 0x10; // Avoid a leading zero nibble, so BigInteger round-trips the same length
+    hex = Hexadecimal.encode(bytes);
+    chars = new char[size * 2];
+    decoded = new byte[size];
+  }
+
+  @Benchmark
+  public String encode() {
+    return Hexadecimal.encode(bytes);
+  }
+
+  @Benchmark
+  public char[] encodeChars() {
+    Hexadecimal.encode(bytes, 0, bytes.length, chars, 0, false);
+    return chars;
+  }
+
+  @Benchmark
+  public String encodeJdk() {
+    return new BigInteger(1, bytes).toString(16);
+  }
+
+  @Benchmark
+  public byte[] decode() {
+    return Hexadecimal.decode(hex);
+  }
+
+  @Benchmark
+  public byte[] decodeInto() {
+    Hexadecimal.decode(hex, 0, hex.length(), decoded, 0);
+    return decoded;
+  }
+
+  @Benchmark
+  public byte[] decodeJdk() {
+    return new BigInteger(hex, 16).toByteArray();
+  }
+}
@@ -0,0 +1,243 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NumbersBenchmark {
+  private final String[] ints = new String[1024];
+  private final String[] longs = new String[1024];
+  private final String[] doubles = new String[1024];
+  private final byte[][] longBytes = new byte[1024][];
+  private final ByteBuffer[] longBuffers = new ByteBuffer[1024];
+  private final double[] doubleValues = new double[1024];
+  private final String[] numbers = new String[1024];
+  private final char[] cbuf = new char[32];
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(1);
+    for (int i = 0; i < ints.length; ++i) {
+      ints[i] = String.valueOf(random.nextInt());
+      longs[i] = String.valueOf(random.nextLong());
+      doubleValues[i] = random.nextDouble() * random.nextInt(1000000);
+      doubles[i] = String.valueOf(doubleValues[i]);
+      numbers[i] = i % 3 == 0 ? random.nextInt(100) + " " + (1 + random.nextInt(9)) + "/" + (10 + random.nextInt(90)) : i % 3 == 1 ? (1 + random.nextInt(9)) + "/" + (1 + random.nextInt(9)) : doubles[i];
+      longBytes[i] = longs[i].getBytes();
+      longBuffers[i] = ByteBuffer.allocateDirect(longBytes[i].length);
+      longBuffers[i].put(longBytes[i]).flip();
+    }
+  }
+
+  private int next() {
+    return index++ & 1023;
+  }
+
+  @Benchmark
+  public int parseInt() {
+    return Numbers.parseInt(ints[next()], 0);
+  }
+
+  @Benchmark
+  public int parseIntJdk() {
+    return Integer.parseInt(ints[next()]);
+  }
+
+  @Benchmark
+  public long parseLong() {
+    return Numbers.parseLong(longs[next()], 0L);
+  }
+
+  @Benchmark
+  public long parseLongBytes() {
+    return Numbers.parseLong(longBytes[next()], 0L);
+  }
+
+  @Benchmark
+  public long parseLongDirectBuffer() {
+    return Numbers.parseLong(longBuffers[next()], 10, 0L);
+  }
+
+  @Benchmark
+  public long parseLongJdk() {
+    return Long.parseLong(longs[next()]);
+  }
+
+  @Benchmark
+  public double parseDouble() {
+    return Numbers.parseDouble(doubles[next()], 0d);
+  }
+
+  @Benchmark
+  public double parseDoubleJdk() {
+    return Double.parseDouble(doubles[next()]);
+  }
+
+  @Benchmark
+  public int toCharsDouble() {
+    return Numbers.toChars(doubleValues[next()], cbuf, 0);
+  }
+
+  @Benchmark
+  public String toStringDoubleJdk() {
+    return Double.toString(doubleValues[next()]);
+  }
+
+  @Benchmark
+  public int toCharsLong() {
+    return Numbers.toChars((long)doubleValues[next()], cbuf, 0);
+  }
+
+  @Benchmark
+  public String toStringLongJdk() {
+    return Long.toString((long)doubleValues[next()]);
+  }
+
+  @Benchmark
+  public double parseNumber() {
+    return Numbers.parseNumber(numbers[next()]);
+  }
+
+  @Benchmark
+  public double parseNumberLegacy() {
+    return parseNumberLegacy(numbers[next()]);
+  }
+
+  /**
+   * The previous implementation of {@link Numbers#parseNumber(CharSequence)},
+   * as a baseline.
+   */
+  private static double parseNumberLegacy(String s) {
+    if (s == null || (s = s.trim()).length() == 0 || !isNumberLegacy(s))
+      return Double.NaN;
+
+    double scalar = 0;
+    final String[] parts = s.split(" ");
+    if (parts.length == 2) {
+      scalar += new BigDecimal(parts[0]).doubleValue();
+      s = parts[1];
+    }
+
+    final int slash = s.indexOf('/');
+    if (slash == 1)
+      scalar += (double)Integer.parseInt(s.substring(0, slash)) / Integer.parseInt(s.substring(slash + 1));
+    else
+      scalar += new BigDecimal(s).doubleValue();
+
+    return scalar;
+  }
+
+  /**
+   * The previous implementation of {@link Numbers#isNumber(CharSequence)}, as
+   * used by {@link #parseNumberLegacy(String)}.
+   */
+  private static boolean isNumberLegacy(String s) {
+    if (s == null || (s = s.trim()).length() == 0)
+      return false;
+
+    final String[] parts = s.split(" ");
+    if (parts.length > 2)
+      return false;
+
+    if (parts.length == 2) {
+      final int slash = parts[1].indexOf('/');
+      if (slash < 0)
+        return false;
+
+      return isNumberLegacy(parts[0], false) && isNumberLegacy(parts[1], true);
+    }
+
+    return isNumberLegacy(parts[0], true);
+  }
+
+  private static boolean isNumberLegacy(String string, final boolean fraction) {
+    if (string == null || (string = string.trim()).length() == 0)
+      return false;
+
+    boolean dotEncountered = false;
+    boolean expEncountered = false;
+    boolean minusEncountered = false;
+    boolean slashEncountered = false;
+    int factor = 0;
+    for (int i = string.length() - 1; i >= 0; --i) {
+      final char c = string.charAt(i);
+      if (c < '0') {
+        if (c == '/') {
+          if (!fraction || dotEncountered || expEncountered || minusEncountered || slashEncountered)
+            return false;
+
+          slashEncountered = true;
+        }
+        else if (c == '.') {
+          if (dotEncountered || slashEncountered)
+            return false;
+
+          dotEncountered = true;
+        }
+        else if (c == '-') {
+          if (minusEncountered)
+            return false;
+
+          minusEncountered = true;
+        }
+        else if (!expEncountered && c != '+') {
+          return false;
+        }
+      }
+      else if ('9' < c) {
+        if (c != 'E')
+          return false;
+
+        if (factor == 0 || expEncountered)
+          return false;
+
+        expEncountered = true;
+        factor = 0;
+        minusEncountered = false;
+      }
+      else {
+        if (minusEncountered)
+          return false;
+
+        ++factor;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,74 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JDK has no package discovery facility, so the baseline loads the same
+ * (previously discovered) class names with {@link Class#forName(String)},
+ * which isolates the cost of discovery in {@link PackageLoader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PackageLoaderBenchmark {
+  private static final String packageName = "org.openjdk.jmh.annotations";
+
+  private String[] classNames;
+
+  @Setup
+  public void setup() throws IOException, PackageNotFoundException {
+    final Set<Class<?>> classes = PackageLoader.getContextPackageLoader().loadPackage(packageName, false);
+    classNames = new String[classes.size()];
+    int i = 0;
+    for (final Class<?> cls : classes)
+      classNames[i++] = cls.getName();
+  }
+
+  @Benchmark
+  public Set<Class<?>> loadPackage() throws IOException, PackageNotFoundException {
+    return PackageLoader.getContextPackageLoader().loadPackage(packageName, false);
+  }
+
+  @Benchmark
+  public Set<Class<?>> loadPackageJdk() throws ClassNotFoundException {
+    final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    final Set<Class<?>> classes = new HashSet<>();
+    for (final String className : classNames)
+      classes.add(Class.forName(className, false, classLoader));
+
+    return classes;
+  }
+}
@@ -0,0 +1,123 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringsBenchmark {
+  private static final String template = "The ${subject} jumps over the ${object}, and the ${subject} runs away from the ${object}";
+  private static final String messageFormat = "The {0} jumps over the {1}, and the {0} runs away from the {1}";
+
+  private final Map<String,String> properties = new HashMap<>();
+  private final Object[] arguments = {"quick brown fox", "lazy dog"};
+  private MessageFormat format;
+  private Strings.Template compiled;
+  private final StringBuilder builder = new StringBuilder();
+
+  private String[] strings;
+  private char[][] chars;
+  private int index;
+
+  @Setup
+  public void setup() {
+    properties.put("subject", "quick brown fox");
+    properties.put("object", "lazy dog");
+    format = new MessageFormat(messageFormat);
+    compiled = Strings.compileTemplate(template, "${", "}");
+
+    strings = new String[1024];
+    chars = new char[strings.length][];
+    for (int i = 0; i < strings.length; ++i)
+      chars[i] = (strings[i] = new String("key-" + (i % 256))).toCharArray();
+  }
+
+  private String nextString() {
+    return strings[index++ & (strings.length - 1)];
+  }
+
+  @Benchmark
+  public String interpolate() {
+    return Strings.interpolate(template, properties, "${", "}");
+  }
+
+  @Benchmark
+  public String interpolateCompiled() {
+    return compiled.render(properties);
+  }
+
+  @Benchmark
+  public StringBuilder interpolateCompiledReuse() {
+    builder.setLength(0);
+    return compiled.render(properties, builder);
+  }
+
+  @Benchmark
+  public String interpolateJdkReplace() {
+    String text = template;
+    for (final Map.Entry<String,String> entry : properties.entrySet())
+      text = text.replace("${" + entry.getKey() + "}", entry.getValue());
+
+    return text;
+  }
+
+  @Benchmark
+  public String interpolateJdkMessageFormat() {
+    return format.format(arguments);
+  }
+
+  @Benchmark
+  public String intern() {
+    return Strings.intern(nextString());
+  }
+
+  @Benchmark
+  public String internCharArray() {
+    final char[] chars = this.chars[index++ & (this.chars.length - 1)];
+    return Strings.intern(chars, 0, chars.length);
+  }
+
+  @Benchmark
+  public String internCharArrayJdk() {
+    final char[] chars = this.chars[index++ & (this.chars.length - 1)];
+    return new String(chars, 0, chars.length).intern();
+  }
+
+  @Benchmark
+  public String internJdk() {
+    return nextString().intern();
+  }
+}
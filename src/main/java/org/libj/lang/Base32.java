@@ -16,7 +16,16 @@
 
 package org.libj.lang;
 
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Encodes and decodes Base32.
@@ -25,22 +34,90 @@ import java.util.Arrays;
  */
 public class Base32 extends DataEncoding<byte[],String> {
   private static final long serialVersionUID = 3283110401340470031L;
-  private static final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
-  private static final int[] lookup = {
-    0xFF, 0xFF, 0x1A, 0x1B, 0x1C, 0x1D, 0x1E, 0x1F,
-    0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF,
-    0xFF, 0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06,
-    0x07, 0x08, 0x09, 0x0A, 0x0B, 0x0C, 0x0D, 0x0E,
-    0x0F, 0x10, 0x11, 0x12, 0x13, 0x14, 0x15, 0x16,
-    0x17, 0x18, 0x19, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF,
-    0xFF, 0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06,
-    0x07, 0x08, 0x09, 0x0A, 0x0B, 0x0C, 0x0D, 0x0E,
-    0x0F, 0x10, 0x11, 0x12, 0x13, 0x14, 0x15, 0x16,
-    0x17, 0x18, 0x19, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF
-  };
-
-  /**
-   * Returns the base32 encoding of the provided {@code bytes} array.
+  /** The value in {@link Alphabet#values} of a character that is not a digit. */
+  private static final byte ILLEGAL = -1;
+  /** The value in {@link Alphabet#values} of a character that is ignored when decoding. */
+  private static final byte IGNORED = -2;
+
+  /**
+   * The alphabets with which base32 is encoded and decoded. Each alphabet is
+   * encoded with uppercase digits, and is decoded case-insensitively.
+   */
+  public enum Alphabet {
+    /**
+     * The "base32" alphabet of RFC 4648 &sect;6: {@code A-Z} and {@code 2-7}.
+     */
+    STANDARD("ABCDEFGHIJKLMNOPQRSTUVWXYZ234567", "", ""),
+    /**
+     * The "base32hex" alphabet of RFC 4648 &sect;7: {@code 0-9} and
+     * {@code A-V}. Encodings in this alphabet sort in the same order as the
+     * data they encode.
+     */
+    HEX("0123456789ABCDEFGHIJKLMNOPQRSTUV", "", ""),
+    /**
+     * The alphabet of Douglas Crockford's Base32: {@code 0-9} and {@code A-Z},
+     * except {@code I}, {@code L}, {@code O} and {@code U}. When decoding,
+     * {@code I} and {@code L} are read as {@code 1}, {@code O} is read as
+     * {@code 0}, and hyphens are ignored. Check symbols are not supported.
+     */
+    CROCKFORD("0123456789ABCDEFGHJKMNPQRSTVWXYZ", "I1L1O0", "-");
+
+    /** The digit pair of each 10-bit value, at {@code 2 * value}. */
+    private final char[] pairs = new char[2048];
+    /** The value of each ASCII character, or {@link #ILLEGAL} or {@link #IGNORED}. */
+    private final byte[] values = new byte[128];
+
+    Alphabet(final String digits, final String aliases, final String ignored) {
+      for (int v = 0; v < 1024; ++v) {
+        pairs[v << 1] = digits.charAt(v >>> 5);
+        pairs[(v << 1) + 1] = digits.charAt(v & 0x1F);
+      }
+
+      Arrays.fill(values, ILLEGAL);
+      for (int i = 0; i < 32; ++i)
+        setValue(digits.charAt(i), i);
+
+      for (int i = 0; i < aliases.length(); i += 2)
+        setValue(aliases.charAt(i), values[aliases.charAt(i + 1)]);
+
+      for (int i = 0; i < ignored.length(); ++i)
+        values[ignored.charAt(i)] = IGNORED;
+    }
+
+    private void setValue(final char ch, final int value) {
+      values[ch] = (byte)value;
+      values[Character.toLowerCase(ch)] = (byte)value;
+    }
+
+    private int valueOf(final char ch) {
+      return ch < 128 ? values[ch] : ILLEGAL;
+    }
+  }
+
+  /**
+   * Returns the number of characters in the base32 encoding of {@code len}
+   * bytes.
+   *
+   * @param len The number of bytes.
+   * @param padding Whether the encoding is padded with {@code '='} to a
+   *          multiple of 8 characters.
+   * @return The number of characters in the base32 encoding of {@code len}
+   *         bytes.
+   * @throws ArithmeticException If the length of the encoding exceeds
+   *           {@link Integer#MAX_VALUE}.
+   * @throws IllegalArgumentException If {@code len} is negative.
+   */
+  public static int getEncodedLength(final int len, final boolean padding) {
+    if (len < 0)
+      throw new IllegalArgumentException("len (" + len + ") must be non-negative");
+
+    final int tail = len % 5;
+    return Math.addExact(len / 5 * 8, tail == 0 ? 0 : padding ? 8 : (tail * 8 + 4) / 5);
+  }
+
+  /**
+   * Returns the base32 encoding of the provided {@code bytes} array, in the
+   * {@link Alphabet#STANDARD} alphabet without padding.
    *
    * @param bytes The bytes to encode.
    * @return The base32 encoding of the provided {@code bytes} array.
@@ -51,93 +128,655 @@ public class Base32 extends DataEncoding<byte[],String> {
   }
 
   /**
-   * Returns the base32 encoding of the provided {@code bytes} array.
+   * Returns the base32 encoding of the provided {@code bytes} array, in the
+   * {@link Alphabet#STANDARD} alphabet without padding.
    *
    * @param bytes The bytes to encode.
    * @param offset The initial offset.
    * @param len The length.
    * @return The base32 encoding of the provided {@code bytes} array.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code len} is
+   *           negative, or if the range of {@code bytes} is out of bounds.
    * @throws NullPointerException If {@code bytes} is null.
    */
   public static String encode(final byte[] bytes, final int offset, final int len) {
-    final StringBuilder base32 = new StringBuilder((bytes.length + 7) * 8 / 5);
-    for (int i = offset, index = 0, digit, by0, by1; i < len + offset;) {
-      by0 = (bytes[i] >= 0) ? bytes[i] : (bytes[i] + 256);
-      if (index > 3) {
-        by1 = i + 1 < bytes.length ? bytes[i + 1] < 0 ? bytes[i + 1] + 256 : bytes[i + 1] : 0;
-        digit = by0 & (0xFF >> index);
-        index = (index + 5) % 8;
-        digit <<= index;
-        digit |= by1 >> (8 - index);
-        ++i;
+    return encode(bytes, offset, len, Alphabet.STANDARD, false);
+  }
+
+  /**
+   * Returns the base32 encoding of the provided {@code bytes} array, in the
+   * specified {@link Alphabet}.
+   *
+   * @param bytes The bytes to encode.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 8 characters.
+   * @return The base32 encoding of the provided {@code bytes} array.
+   * @throws NullPointerException If {@code bytes} or {@code alphabet} is null.
+   */
+  public static String encode(final byte[] bytes, final Alphabet alphabet, final boolean padding) {
+    return encode(bytes, 0, bytes.length, alphabet, padding);
+  }
+
+  /**
+   * Returns the base32 encoding of the provided {@code bytes} array, in the
+   * specified {@link Alphabet}.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 8 characters.
+   * @return The base32 encoding of the provided {@code bytes} array.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code len} is
+   *           negative, or if the range of {@code bytes} is out of bounds.
+   * @throws NullPointerException If {@code bytes} or {@code alphabet} is null.
+   */
+  public static String encode(final byte[] bytes, final int offset, final int len, final Alphabet alphabet, final boolean padding) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    final char[] chars = new char[getEncodedLength(len, padding)];
+    encode(bytes, offset, len, chars, 0, alphabet, padding);
+    return new String(chars);
+  }
+
+  /**
+   * Writes the base32 encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} array, starting at
+   * {@code destOffset}. Each block of 5 bytes is encoded with 4 lookups of 2
+   * digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@code char[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          digit.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 8 characters.
+   * @return The index in {@code dest} after the last written character.
+   * @throws IndexOutOfBoundsException If {@code offset}, {@code len} or
+   *           {@code destOffset} is negative, or if the range of {@code bytes}
+   *           or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code bytes}, {@code dest} or
+   *           {@code alphabet} is null.
+   * @see #getEncodedLength(int,boolean)
+   */
+  public static int encode(final byte[] bytes, final int offset, final int len, final char[] dest, int destOffset, final Alphabet alphabet, final boolean padding) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    final int encodedLength = getEncodedLength(len, padding);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "encodedLength", encodedLength);
+    final int end = destOffset + encodedLength;
+    final char[] pairs = alphabet.pairs;
+    int i = offset;
+    for (final int blocksEnd = offset + len / 5 * 5; i < blocksEnd; i += 5) {
+      final long block = readBlock(bytes, i, 5);
+      for (int shift = 30; shift >= 0; shift -= 10) {
+        final int j = (int)(block >>> shift) << 1 & 0x7FE;
+        dest[destOffset++] = pairs[j];
+        dest[destOffset++] = pairs[j + 1];
       }
-      else {
-        digit = (by0 >> (8 - (index + 5))) & 0x1F;
-        index = (index + 5) % 8;
-        if (index == 0)
-          ++i;
+    }
+
+    final int n = offset + len - i;
+    if (n > 0) {
+      final long block = readBlock(bytes, i, n);
+      for (int k = 0, chars = (n * 8 + 4) / 5; k < chars; ++k)
+        dest[destOffset++] = pairs[((int)(block >>> (35 - 5 * k)) & 0x1F) << 1 | 1];
+
+      while (destOffset < end)
+        dest[destOffset++] = '=';
+    }
+
+    return destOffset;
+  }
+
+  /**
+   * Writes the base32 encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} array as ASCII
+   * characters, starting at {@code destOffset}. Each block of 5 bytes is
+   * encoded with 4 lookups of 2 digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          digit.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 8 characters.
+   * @return The index in {@code dest} after the last written character.
+   * @throws IndexOutOfBoundsException If {@code offset}, {@code len} or
+   *           {@code destOffset} is negative, or if the range of {@code bytes}
+   *           or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code bytes}, {@code dest} or
+   *           {@code alphabet} is null.
+   * @see #getEncodedLength(int,boolean)
+   */
+  public static int encode(final byte[] bytes, final int offset, final int len, final byte[] dest, int destOffset, final Alphabet alphabet, final boolean padding) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    final int encodedLength = getEncodedLength(len, padding);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "encodedLength", encodedLength);
+    final int end = destOffset + encodedLength;
+    final char[] pairs = alphabet.pairs;
+    int i = offset;
+    for (final int blocksEnd = offset + len / 5 * 5; i < blocksEnd; i += 5) {
+      final long block = readBlock(bytes, i, 5);
+      for (int shift = 30; shift >= 0; shift -= 10) {
+        final int j = (int)(block >>> shift) << 1 & 0x7FE;
+        dest[destOffset++] = (byte)pairs[j];
+        dest[destOffset++] = (byte)pairs[j + 1];
       }
+    }
+
+    final int n = offset + len - i;
+    if (n > 0) {
+      final long block = readBlock(bytes, i, n);
+      for (int k = 0, chars = (n * 8 + 4) / 5; k < chars; ++k)
+        dest[destOffset++] = (byte)pairs[((int)(block >>> (35 - 5 * k)) & 0x1F) << 1 | 1];
 
-      base32.append(alphabet.charAt(digit));
+      while (destOffset < end)
+        dest[destOffset++] = '=';
     }
 
-    return base32.toString();
+    return destOffset;
+  }
+
+  /**
+   * Returns the {@code n} bytes (between 1 and 5) at {@code offset} in
+   * {@code bytes} as the high bytes of a 40-bit big-endian block.
+   */
+  private static long readBlock(final byte[] bytes, final int offset, final int n) {
+    long block = 0;
+    for (int i = 0; i < n; ++i)
+      block |= (bytes[offset + i] & 0xFFL) << (32 - 8 * i);
+
+    return block;
+  }
+
+  /**
+   * Returns a {@code new byte[]} of the decoded {@code base32} characters in
+   * the specified {@link Alphabet}.
+   *
+   * @param base32 The base32 characters.
+   * @param alphabet The {@link Alphabet}.
+   * @return A {@code new byte[]} of the decoded {@code base32} characters.
+   * @throws IllegalArgumentException If {@code base32} is not a valid encoding
+   *           in the specified {@link Alphabet}.
+   * @throws NullPointerException If {@code base32} or {@code alphabet} is
+   *           null.
+   * @see #decode(CharSequence,int,int,byte[],int,Alphabet)
+   */
+  public static byte[] decode(final CharSequence base32, final Alphabet alphabet) {
+    final int length = base32.length();
+    final byte[] bytes = new byte[(int)(length * 5L / 8)];
+    final int n = decode(base32, 0, length, bytes, 0, alphabet);
+    return n == bytes.length ? bytes : Arrays.copyOf(bytes, n);
   }
 
   /**
-   * Returns a {@code new byte[]} of the decoded {@code base32} string.
+   * Decodes the base32 characters in the range {@code [fromIndex, toIndex)}
+   * of the {@link CharSequence} in the specified {@link Alphabet} into the
+   * {@code dest} array, starting at {@code destOffset}. Digits are accepted in
+   * uppercase and lowercase, and the encoding may be padded with {@code '='}.
+   * Complete blocks of 8 digits are decoded with a single validity check per
+   * block.
+   * <p>
+   * The range decodes to at most {@code (toIndex - fromIndex) * 5 / 8} bytes.
+   * If the range is not a valid encoding, the contents of the decoded range of
+   * {@code dest} are unspecified.
+   *
+   * @param base32 The base32 characters.
+   * @param fromIndex The index of the first character to decode (inclusive).
+   * @param toIndex The index of the last character to decode (exclusive).
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @param alphabet The {@link Alphabet}.
+   * @return The index in {@code dest} after the last written byte.
+   * @throws IllegalArgumentException If the range contains a character that is
+   *           not in the {@link Alphabet}, if a digit follows the padding, or
+   *           if the number of digits or of padding characters is not that of
+   *           a valid encoding.
+   * @throws IndexOutOfBoundsException If the range of {@code base32} is out of
+   *           bounds, or if {@code dest} is too small to hold the decoded
+   *           bytes.
+   * @throws NullPointerException If {@code base32}, {@code dest} or
+   *           {@code alphabet} is null.
+   */
+  public static int decode(final CharSequence base32, final int fromIndex, final int toIndex, final byte[] dest, int destOffset, final Alphabet alphabet) {
+    Assertions.assertBoundsOffsetCount("base32.length()", base32.length(), "fromIndex", fromIndex, "toIndex - fromIndex", toIndex - fromIndex);
+    if (destOffset < 0)
+      throw new ArrayIndexOutOfBoundsException("Index: " + destOffset + ", Length: " + dest.length);
+
+    int i = fromIndex;
+    for (final int end = toIndex - 8; i <= end; i += 8) {
+      long block = 0;
+      int error = 0;
+      for (int j = i; j < i + 8; ++j) {
+        final int value = alphabet.valueOf(base32.charAt(j));
+        error |= value;
+        block = block << 5 | (value & 0x1F);
+      }
+
+      if (error < 0)
+        break;
+
+      destOffset = writeBlock(block, 5, dest, destOffset);
+    }
+
+    long block = 0;
+    int digits = 0;
+    int padding = 0;
+    for (; i < toIndex; ++i) {
+      final char ch = base32.charAt(i);
+      if (ch == '=') {
+        ++padding;
+        continue;
+      }
+
+      final int value = alphabet.valueOf(ch);
+      if (value == IGNORED)
+        continue;
+
+      if (value < 0 || padding > 0)
+        throw new IllegalArgumentException("Illegal base32 character at index " + i + ": " + ch);
+
+      block = block << 5 | value;
+      if (++digits == 8) {
+        destOffset = writeBlock(block, 5, dest, destOffset);
+        block = 0;
+        digits = 0;
+      }
+    }
+
+    final int n = digits * 5 / 8;
+    if (digits != (n * 8 + 4) / 5 || padding > 0 && (digits == 0 || digits + padding != 8))
+      throw new IllegalArgumentException("Illegal base32 length: " + digits + " trailing digits, " + padding + " padding characters");
+
+    return n == 0 ? destOffset : writeBlock(block >>> (digits * 5 - n * 8), n, dest, destOffset);
+  }
+
+  /**
+   * Writes the low {@code n} bytes of {@code block} to {@code dest} at
+   * {@code destOffset} in big-endian order, and returns the index in
+   * {@code dest} after the last written byte.
+   */
+  private static int writeBlock(final long block, final int n, final byte[] dest, final int destOffset) {
+    for (int i = 0; i < n; ++i)
+      dest[destOffset + i] = (byte)(block >>> (8 * (n - 1 - i)));
+
+    return destOffset + n;
+  }
+
+  /**
+   * Returns a {@code new byte[]} of the decoded {@code base32} string, in the
+   * {@link Alphabet#STANDARD} alphabet. Characters that are not in the
+   * alphabet are ignored, trailing padding is not counted towards the length
+   * of the result, and the trailing bits that do not complete a byte are
+   * discarded.
    *
    * @param base32 The base32 string.
    * @return A {@code new byte[]} of the decoded {@code base32} string.
    * @throws NullPointerException If {@code base32} is null.
    */
   public static byte[] decode(final String base32) {
-    final byte[] bytes = new byte[base32.length() * 5 / 8];
+    int length = base32.length();
+    while (length > 0 && base32.charAt(length - 1) == '=')
+      --length;
+
+    final byte[] bytes = new byte[(int)(length * 5L / 8)];
     decode(base32, bytes, 0);
     return bytes;
   }
 
   /**
-   * Decode the {@code base32} string into the provided {@code bytes} array.
+   * Decode the {@code base32} string into the provided {@code bytes} array, in
+   * the {@link Alphabet#STANDARD} alphabet. Characters that are not in the
+   * alphabet are ignored, and decoding stops when the end of {@code bytes} is
+   * reached.
    *
    * @param base32 The base32 string.
    * @param bytes The {@code bytes} array.
    * @param offset The offset into the {@code bytes} array.
-   * @throws ArrayIndexOutOfBoundsException If the size of {@code bytes} is not
-   *           big enough, or if {@code offset} causes the index to go out of
-   *           bounds.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} is negative.
    * @throws NullPointerException If {@code base32} or {@code bytes} is null.
    */
   public static void decode(final String base32, final byte[] bytes, int offset) {
-    for (int i = 0, len = base32.length(), index = 0, ch, digit; i < len; ++i) {
-      ch = base32.charAt(i) - '0';
-      if (ch < 0 || lookup.length < ch)
+    final Alphabet alphabet = Alphabet.STANDARD;
+    for (int i = 0, len = base32.length(), bits = 0, bitCount = 0, value; i < len && offset < bytes.length; ++i) {
+      if ((value = alphabet.valueOf(base32.charAt(i))) < 0)
         continue;
 
-      digit = lookup[ch];
-      if (digit == 0xFF)
-        continue;
+      bits = bits << 5 | value;
+      if ((bitCount += 5) >= 8) {
+        bytes[offset++] = (byte)(bits >>> (bitCount -= 8));
+        bits &= (1 << bitCount) - 1;
+      }
+    }
+  }
+
+  private static final class EncoderOutputStream extends FilterOutputStream {
+    private final byte[] buf = new byte[8192];
+    private final byte[] block = new byte[5];
+    private final Alphabet alphabet;
+    private final boolean padding;
+    private int blockCount;
+    private int count;
+    private boolean closed;
+
+    private EncoderOutputStream(final OutputStream out, final Alphabet alphabet, final boolean padding) {
+      super(out);
+      this.alphabet = alphabet;
+      this.padding = padding;
+    }
+
+    private void flushBuffer() throws IOException {
+      if (count > 0) {
+        out.write(buf, 0, count);
+        count = 0;
+      }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      block[blockCount++] = (byte)b;
+      if (blockCount == 5) {
+        if (count > buf.length - 8)
+          flushBuffer();
+
+        count = encode(block, 0, 5, buf, count, alphabet, false);
+        blockCount = 0;
+      }
+    }
 
-      if (index <= 3) {
-        index = (index + 5) % 8;
-        if (index == 0) {
-          bytes[offset] |= digit;
-          if (++offset >= bytes.length)
-            break;
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "off", off, "len", len);
+      while (blockCount > 0 && len > 0) {
+        write(b[off++]);
+        --len;
+      }
+
+      while (len >= 5) {
+        final int n = Math.min(len / 5, (buf.length - count) / 8) * 5;
+        if (n == 0) {
+          flushBuffer();
+          continue;
         }
-        else {
-          bytes[offset] |= digit << (8 - index);
+
+        count = encode(b, off, n, buf, count, alphabet, false);
+        off += n;
+        len -= n;
+      }
+
+      while (len-- > 0)
+        write(b[off++]);
+    }
+
+    /**
+     * Writes the buffered encoding to the underlying stream, and flushes it.
+     * Bytes of an incomplete 5-byte block are retained until the block is
+     * completed, or the stream is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+      flushBuffer();
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed)
+        return;
+
+      closed = true;
+      try {
+        if (blockCount > 0) {
+          if (count > buf.length - 8)
+            flushBuffer();
+
+          count = encode(block, 0, blockCount, buf, count, alphabet, padding);
+          blockCount = 0;
         }
+
+        flush();
       }
-      else {
-        index = (index + 5) % 8;
-        bytes[offset] |= (digit >>> index);
-        if (++offset >= bytes.length)
-          break;
+      finally {
+        out.close();
+      }
+    }
+  }
+
+  private static final class DecoderInputStream extends FilterInputStream {
+    private final byte[] buf = new byte[8192];
+    private final byte[] one = new byte[1];
+    private final Alphabet alphabet;
+    private int pos;
+    private int limit;
+    private int bits;
+    private int bitCount;
+
+    private DecoderInputStream(final InputStream in, final Alphabet alphabet) {
+      super(in);
+      this.alphabet = alphabet;
+    }
 
-        bytes[offset] |= digit << (8 - index);
+    @Override
+    public int read() throws IOException {
+      return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "off", off, "len", len);
+      if (len == 0)
+        return 0;
+
+      int n = 0;
+      do {
+        if (pos == limit) {
+          pos = 0;
+          if ((limit = in.read(buf, 0, buf.length)) == -1) {
+            limit = 0;
+            return n == 0 ? -1 : n;
+          }
+        }
+
+        for (int value; pos < limit && n < len;) {
+          if ((value = alphabet.valueOf((char)(buf[pos++] & 0xff))) < 0)
+            continue;
+
+          bits = bits << 5 | value;
+          if ((bitCount += 5) >= 8) {
+            b[off + n++] = (byte)(bits >>> (bitCount -= 8));
+            bits &= (1 << bitCount) - 1;
+          }
+        }
       }
+      while (n == 0);
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final byte[] b = new byte[(int)Math.min(n, 512)];
+      long skipped = 0;
+      for (int r; skipped < n && (r = read(b, 0, (int)Math.min(n - skipped, b.length))) != -1; skipped += r);
+      return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (limit - pos + in.available()) * 5 / 8;
     }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void mark(final int readlimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+    }
+  }
+
+  /**
+   * Returns an {@link OutputStream} that writes the base32 encoding of the
+   * bytes written to it to the specified {@link OutputStream}, as ASCII
+   * characters in the {@link Alphabet#STANDARD} alphabet without padding.
+   *
+   * @param out The {@link OutputStream} to which the encoding is to be
+   *          written.
+   * @return An {@link OutputStream} that writes the base32 encoding of the
+   *         bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} is null.
+   * @see #newEncoder(OutputStream,Alphabet,boolean)
+   */
+  public static OutputStream newEncoder(final OutputStream out) {
+    return newEncoder(out, Alphabet.STANDARD, false);
+  }
+
+  /**
+   * Returns an {@link OutputStream} that writes the base32 encoding of the
+   * bytes written to it to the specified {@link OutputStream}, as ASCII
+   * characters in the specified {@link Alphabet}.
+   * <p>
+   * Bytes are encoded in blocks of 5, each of which produces 8 characters.
+   * Bytes of an incomplete block are retained across writes, and are encoded
+   * only when the block is completed, or when the returned stream is closed.
+   * The encoding is therefore complete only after the returned stream is
+   * closed, which also closes {@code out}. The encoding is buffered in a
+   * fixed-size buffer, which is written to {@code out} when it is full, and
+   * when the returned stream is flushed or closed.
+   *
+   * @param out The {@link OutputStream} to which the encoding is to be
+   *          written.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 8 characters.
+   * @return An {@link OutputStream} that writes the base32 encoding of the
+   *         bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} or {@code alphabet} is null.
+   */
+  public static OutputStream newEncoder(final OutputStream out, final Alphabet alphabet, final boolean padding) {
+    return new EncoderOutputStream(Objects.requireNonNull(out), Objects.requireNonNull(alphabet), padding);
+  }
+
+  /**
+   * Returns a {@link WritableByteChannel} that writes the base32 encoding of
+   * the bytes written to it to the specified {@link WritableByteChannel}, as
+   * ASCII characters in the {@link Alphabet#STANDARD} alphabet without
+   * padding. The encoding is complete only after the returned channel is
+   * closed, which also closes {@code out}.
+   *
+   * @param out The {@link WritableByteChannel} to which the encoding is to be
+   *          written.
+   * @return A {@link WritableByteChannel} that writes the base32 encoding of
+   *         the bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} is null.
+   * @see #newEncoder(OutputStream,Alphabet,boolean)
+   */
+  public static WritableByteChannel newEncoder(final WritableByteChannel out) {
+    return newEncoder(out, Alphabet.STANDARD, false);
+  }
+
+  /**
+   * Returns a {@link WritableByteChannel} that writes the base32 encoding of
+   * the bytes written to it to the specified {@link WritableByteChannel}, as
+   * ASCII characters in the specified {@link Alphabet}. The encoding is
+   * complete only after the returned channel is closed, which also closes
+   * {@code out}.
+   *
+   * @param out The {@link WritableByteChannel} to which the encoding is to be
+   *          written.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 8 characters.
+   * @return A {@link WritableByteChannel} that writes the base32 encoding of
+   *         the bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} or {@code alphabet} is null.
+   * @see #newEncoder(OutputStream,Alphabet,boolean)
+   */
+  public static WritableByteChannel newEncoder(final WritableByteChannel out, final Alphabet alphabet, final boolean padding) {
+    return Channels.newChannel(newEncoder(Channels.newOutputStream(out), alphabet, padding));
+  }
+
+  /**
+   * Returns an {@link InputStream} that reads the bytes decoded from the
+   * base32 ASCII characters of the specified {@link InputStream}, in the
+   * {@link Alphabet#STANDARD} alphabet.
+   *
+   * @param in The {@link InputStream} from which the encoding is to be read.
+   * @return An {@link InputStream} that reads the bytes decoded from the
+   *         base32 ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} is null.
+   * @see #newDecoder(InputStream,Alphabet)
+   */
+  public static InputStream newDecoder(final InputStream in) {
+    return newDecoder(in, Alphabet.STANDARD);
+  }
+
+  /**
+   * Returns an {@link InputStream} that reads the bytes decoded from the
+   * base32 ASCII characters of the specified {@link InputStream}, in the
+   * specified {@link Alphabet}. As with {@link #decode(String)}, uppercase and
+   * lowercase characters are accepted, characters that are not in the
+   * alphabet (including padding) are ignored, and the trailing bits that do
+   * not complete a byte are discarded. The characters are read from
+   * {@code in} into a fixed-size buffer. Closing the returned stream closes
+   * {@code in}.
+   *
+   * @param in The {@link InputStream} from which the encoding is to be read.
+   * @param alphabet The {@link Alphabet}.
+   * @return An {@link InputStream} that reads the bytes decoded from the
+   *         base32 ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} or {@code alphabet} is null.
+   */
+  public static InputStream newDecoder(final InputStream in, final Alphabet alphabet) {
+    return new DecoderInputStream(Objects.requireNonNull(in), Objects.requireNonNull(alphabet));
+  }
+
+  /**
+   * Returns a {@link ReadableByteChannel} that reads the bytes decoded from
+   * the base32 ASCII characters of the specified {@link ReadableByteChannel},
+   * in the {@link Alphabet#STANDARD} alphabet. Closing the returned channel
+   * closes {@code in}.
+   *
+   * @param in The {@link ReadableByteChannel} from which the encoding is to be
+   *          read.
+   * @return A {@link ReadableByteChannel} that reads the bytes decoded from
+   *         the base32 ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} is null.
+   * @see #newDecoder(InputStream,Alphabet)
+   */
+  public static ReadableByteChannel newDecoder(final ReadableByteChannel in) {
+    return newDecoder(in, Alphabet.STANDARD);
+  }
+
+  /**
+   * Returns a {@link ReadableByteChannel} that reads the bytes decoded from
+   * the base32 ASCII characters of the specified {@link ReadableByteChannel},
+   * in the specified {@link Alphabet}. Closing the returned channel closes
+   * {@code in}.
+   *
+   * @param in The {@link ReadableByteChannel} from which the encoding is to be
+   *          read.
+   * @param alphabet The {@link Alphabet}.
+   * @return A {@link ReadableByteChannel} that reads the bytes decoded from
+   *         the base32 ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} or {@code alphabet} is null.
+   * @see #newDecoder(InputStream,Alphabet)
+   */
+  public static ReadableByteChannel newDecoder(final ReadableByteChannel in, final Alphabet alphabet) {
+    return Channels.newChannel(newDecoder(Channels.newInputStream(in), alphabet));
   }
 
   /**
@@ -0,0 +1,307 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Arrays;
+
+/**
+ * Encodes and decodes Base58, in the alphabet of Bitcoin:
+ * {@code 1-9}, {@code A-Z} except {@code I} and {@code O}, and {@code a-z}
+ * except {@code l}. The alphabet omits the characters that are easily
+ * confused, which makes Base58 suitable for short identifiers that are read
+ * and typed by people.
+ * <p>
+ * Base58 encodes the data as a single big-endian number, of which each
+ * leading zero byte is encoded as a {@code '1'}. Unlike {@link Base32} and
+ * {@link Base64}, it therefore has no fixed block size, and cannot be
+ * encoded or decoded as a stream. The conversion is quadratic in the length
+ * of the data, and is performed in limbs of 5 digits or 4 bytes, so as to
+ * reduce the number of divisions.
+ */
+public class Base58 extends DataEncoding<byte[],String> {
+  private static final long serialVersionUID = 5460542813427815532L;
+  private static final char[] digits = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
+  /** The value of each ASCII character, or {@code -1} for each other character. */
+  private static final byte[] values = new byte[128];
+  /** The number of values in a limb of 5 digits, {@code 58^5}. */
+  private static final int LIMB = 58 * 58 * 58 * 58 * 58;
+  /** The powers of 58 from {@code 58^0} to {@code 58^5}. */
+  private static final int[] powers = {1, 58, 58 * 58, 58 * 58 * 58, 58 * 58 * 58 * 58, LIMB};
+
+  static {
+    Arrays.fill(values, (byte)-1);
+    for (int i = 0; i < digits.length; ++i)
+      values[digits[i]] = (byte)i;
+  }
+
+  /**
+   * Returns the maximum number of characters in the base58 encoding of
+   * {@code len} bytes.
+   *
+   * @param len The number of bytes.
+   * @return The maximum number of characters in the base58 encoding of
+   *         {@code len} bytes.
+   * @throws IllegalArgumentException If {@code len} is negative.
+   */
+  public static int getMaxEncodedLength(final int len) {
+    if (len < 0)
+      throw new IllegalArgumentException("len (" + len + ") must be non-negative");
+
+    // log(256) / log(58) = 1.36565...
+    return (int)(len * 1366L / 1000) + 1;
+  }
+
+  /**
+   * Returns the number of limbs of 5 digits that can hold the number
+   * represented by {@code len} bytes, computed in {@code long} arithmetic so as
+   * not to overflow for large {@code len}.
+   */
+  static int encodeLimbs(final int len) {
+    // log(256) / log(58^5) = 0.27313...
+    return (int)(len * 1366L / 5000) + 2;
+  }
+
+  /**
+   * Returns the number of limbs of 32 bits that can hold the number
+   * represented by {@code len} digits, computed in {@code long} arithmetic so
+   * as not to overflow for large {@code len}.
+   */
+  static int decodeLimbs(final int len) {
+    // log(58) / log(2^32) = 0.18303...
+    return (int)(len * 733L / 4000) + 2;
+  }
+
+  /**
+   * Returns the base58 encoding of the provided {@code bytes} array.
+   *
+   * @param bytes The bytes to encode.
+   * @return The base58 encoding of the provided {@code bytes} array.
+   * @throws NullPointerException If {@code bytes} is null.
+   */
+  public static String encode(final byte[] bytes) {
+    return encode(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Returns the base58 encoding of the provided {@code bytes} array.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @return The base58 encoding of the provided {@code bytes} array.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code len} is
+   *           negative, or if the range of {@code bytes} is out of bounds.
+   * @throws NullPointerException If {@code bytes} is null.
+   */
+  public static String encode(final byte[] bytes, final int offset, final int len) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    final char[] chars = new char[getMaxEncodedLength(len)];
+    return new String(chars, 0, encode(bytes, offset, len, chars, 0));
+  }
+
+  /**
+   * Writes the base58 encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} array, starting at
+   * {@code destOffset}.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@code char[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          digit.
+   * @return The index in {@code dest} after the last written digit.
+   * @throws IndexOutOfBoundsException If {@code offset}, {@code len} or
+   *           {@code destOffset} is negative, or if the range of {@code bytes}
+   *           or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code bytes} or {@code dest} is null.
+   * @see #getMaxEncodedLength(int)
+   */
+  public static int encode(final byte[] bytes, final int offset, final int len, final char[] dest, int destOffset) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    final int end = offset + len;
+    int i = offset;
+    while (i < end && bytes[i] == 0)
+      ++i;
+
+    final int zeros = i - offset;
+
+    // The number as little-endian limbs of 5 digits, fed 4 bytes at a time
+    final int[] limbs = new int[encodeLimbs(end - i)];
+    int size = 0;
+    for (int n = (end - i) % 4 == 0 ? 4 : (end - i) % 4; i < end; i += n, n = 4) {
+      long carry = 0;
+      for (int k = 0; k < n; ++k)
+        carry = carry << 8 | bytes[i + k] & 0xFF;
+
+      final long multiplier = 1L << (8 * n);
+      for (int j = 0; j < size; ++j) {
+        final long t = limbs[j] * multiplier + carry;
+        limbs[j] = (int)(t % LIMB);
+        carry = t / LIMB;
+      }
+
+      for (; carry > 0; carry /= LIMB)
+        limbs[size++] = (int)(carry % LIMB);
+    }
+
+    int top = size == 0 ? 0 : 1;
+    if (size > 0)
+      while (limbs[size - 1] >= powers[top])
+        ++top;
+
+    final int count = zeros + (size == 0 ? 0 : (size - 1) * 5 + top);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "encodedLength", count);
+    Arrays.fill(dest, destOffset, destOffset + zeros, digits[0]);
+    int k = destOffset + count;
+    for (int j = 0; j < size; ++j)
+      for (int d = 0, v = limbs[j], m = j == size - 1 ? top : 5; d < m; ++d, v /= 58)
+        dest[--k] = digits[v % 58];
+
+    return destOffset + count;
+  }
+
+  /**
+   * Returns a {@code new byte[]} of the decoded {@code base58} string.
+   *
+   * @param base58 The base58 string.
+   * @return A {@code new byte[]} of the decoded {@code base58} string.
+   * @throws IllegalArgumentException If {@code base58} contains a character
+   *           that is not a base58 digit.
+   * @throws NullPointerException If {@code base58} is null.
+   */
+  public static byte[] decode(final String base58) {
+    final byte[] bytes = new byte[base58.length()];
+    final int n = decode(base58, 0, base58.length(), bytes, 0);
+    return Arrays.copyOf(bytes, n);
+  }
+
+  /**
+   * Decodes the base58 digits in the range {@code [fromIndex, toIndex)} of
+   * the {@link CharSequence} into the {@code dest} array, starting at
+   * {@code destOffset}. The range decodes to at most
+   * {@code toIndex - fromIndex} bytes.
+   *
+   * @param base58 The base58 digits.
+   * @param fromIndex The index of the first digit to decode (inclusive).
+   * @param toIndex The index of the last digit to decode (exclusive).
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @return The index in {@code dest} after the last written byte.
+   * @throws IllegalArgumentException If the range contains a character that is
+   *           not a base58 digit.
+   * @throws IndexOutOfBoundsException If the range of {@code base58} or of
+   *           {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code base58} or {@code dest} is null.
+   */
+  public static int decode(final CharSequence base58, final int fromIndex, final int toIndex, final byte[] dest, final int destOffset) {
+    Assertions.assertBoundsOffsetCount("base58.length()", base58.length(), "fromIndex", fromIndex, "toIndex - fromIndex", toIndex - fromIndex);
+    int i = fromIndex;
+    while (i < toIndex && base58.charAt(i) == digits[0])
+      ++i;
+
+    final int zeros = i - fromIndex;
+
+    // The number as little-endian limbs of 32 bits, fed 5 digits at a time
+    final int[] limbs = new int[decodeLimbs(toIndex - i)];
+    int size = 0;
+    for (int n = (toIndex - i) % 5 == 0 ? 5 : (toIndex - i) % 5; i < toIndex; i += n, n = 5) {
+      long carry = 0;
+      for (int k = i; k < i + n; ++k) {
+        final char ch = base58.charAt(k);
+        final int value = ch < 128 ? values[ch] : -1;
+        if (value < 0)
+          throw new IllegalArgumentException("Illegal base58 character at index " + k + ": " + ch);
+
+        carry = carry * 58 + value;
+      }
+
+      final long multiplier = powers[n];
+      for (int j = 0; j < size; ++j) {
+        final long t = (limbs[j] & 0xFFFFFFFFL) * multiplier + carry;
+        limbs[j] = (int)t;
+        carry = t >>> 32;
+      }
+
+      for (; carry > 0; carry >>>= 32)
+        limbs[size++] = (int)carry;
+    }
+
+    final int top = size == 0 ? 0 : 4 - Integer.numberOfLeadingZeros(limbs[size - 1]) / 8;
+    final int count = zeros + (size == 0 ? 0 : (size - 1) * 4 + top);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "decodedLength", count);
+    Arrays.fill(dest, destOffset, destOffset + zeros, (byte)0);
+    int k = destOffset + count;
+    for (int j = 0; j < size; ++j)
+      for (int b = 0, v = limbs[j], m = j == size - 1 ? top : 4; b < m; ++b, v >>>= 8)
+        dest[--k] = (byte)v;
+
+    return destOffset + count;
+  }
+
+  /**
+   * Create a new {@link Base58} object with the provided raw bytes.
+   *
+   * @param bytes The raw bytes.
+   */
+  public Base58(final byte[] bytes) {
+    super(bytes, null);
+  }
+
+  /**
+   * Create a new {@link Base58} object with the provided base58-encoded string
+   * value.
+   *
+   * @param base58 The base58-encoded string value.
+   */
+  public Base58(final String base58) {
+    super(null, base58);
+  }
+
+  @Override
+  public byte[] getData() {
+    return data == null ? data = decode(encoded) : data;
+  }
+
+  @Override
+  public String getEncoded() {
+    return encoded == null ? encoded = encode(data) : encoded;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Base58))
+      return false;
+
+    final Base58 that = (Base58)obj;
+    return encoded != null && that.encoded != null ? encoded.equals(that.encoded) : Arrays.equals(getData(), that.getData());
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 + Arrays.hashCode(getData());
+  }
+
+  @Override
+  public String toString() {
+    return getEncoded();
+  }
+}
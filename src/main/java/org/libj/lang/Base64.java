@@ -0,0 +1,748 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Encodes and decodes Base64.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc4648">RFC4648</a>
+ */
+public class Base64 extends DataEncoding<byte[],String> {
+  private static final long serialVersionUID = -4195308384640349216L;
+  /** The value in {@link Alphabet#values} of a character that is not a digit. */
+  private static final byte ILLEGAL = -1;
+
+  /**
+   * The alphabets with which base64 is encoded and decoded.
+   */
+  public enum Alphabet {
+    /**
+     * The "base64" alphabet of RFC 4648 &sect;4: {@code A-Z}, {@code a-z},
+     * {@code 0-9}, {@code +} and {@code /}.
+     */
+    STANDARD("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"),
+    /**
+     * The "base64url" alphabet of RFC 4648 &sect;5: {@code A-Z}, {@code a-z},
+     * {@code 0-9}, {@code -} and {@code _}, which is safe for URLs and
+     * filenames.
+     */
+    URL("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_");
+
+    /** The digit pair of each 12-bit value, at {@code 2 * value}. */
+    private final char[] pairs = new char[8192];
+    /** The value of each ASCII character, or {@link #ILLEGAL}. */
+    private final byte[] values = new byte[128];
+
+    Alphabet(final String digits) {
+      for (int v = 0; v < 4096; ++v) {
+        pairs[v << 1] = digits.charAt(v >>> 6);
+        pairs[(v << 1) + 1] = digits.charAt(v & 0x3F);
+      }
+
+      Arrays.fill(values, ILLEGAL);
+      for (int i = 0; i < 64; ++i)
+        values[digits.charAt(i)] = (byte)i;
+    }
+
+    private int valueOf(final char ch) {
+      return ch < 128 ? values[ch] : ILLEGAL;
+    }
+  }
+
+  /**
+   * Returns the number of characters in the base64 encoding of {@code len}
+   * bytes.
+   *
+   * @param len The number of bytes.
+   * @param padding Whether the encoding is padded with {@code '='} to a
+   *          multiple of 4 characters.
+   * @return The number of characters in the base64 encoding of {@code len}
+   *         bytes.
+   * @throws ArithmeticException If the length of the encoding exceeds
+   *           {@link Integer#MAX_VALUE}.
+   * @throws IllegalArgumentException If {@code len} is negative.
+   */
+  public static int getEncodedLength(final int len, final boolean padding) {
+    if (len < 0)
+      throw new IllegalArgumentException("len (" + len + ") must be non-negative");
+
+    final int tail = len % 3;
+    return Math.addExact(len / 3 * 4, tail == 0 ? 0 : padding ? 4 : tail + 1);
+  }
+
+  /**
+   * Returns the base64 encoding of the provided {@code bytes} array, in the
+   * {@link Alphabet#STANDARD} alphabet with padding.
+   *
+   * @param bytes The bytes to encode.
+   * @return The base64 encoding of the provided {@code bytes} array.
+   * @throws NullPointerException If {@code bytes} is null.
+   */
+  public static String encode(final byte[] bytes) {
+    return encode(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Returns the base64 encoding of the provided {@code bytes} array, in the
+   * {@link Alphabet#STANDARD} alphabet with padding.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @return The base64 encoding of the provided {@code bytes} array.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code len} is
+   *           negative, or if the range of {@code bytes} is out of bounds.
+   * @throws NullPointerException If {@code bytes} is null.
+   */
+  public static String encode(final byte[] bytes, final int offset, final int len) {
+    return encode(bytes, offset, len, Alphabet.STANDARD, true);
+  }
+
+  /**
+   * Returns the base64 encoding of the provided {@code bytes} array, in the
+   * specified {@link Alphabet}.
+   *
+   * @param bytes The bytes to encode.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 4 characters.
+   * @return The base64 encoding of the provided {@code bytes} array.
+   * @throws NullPointerException If {@code bytes} or {@code alphabet} is null.
+   */
+  public static String encode(final byte[] bytes, final Alphabet alphabet, final boolean padding) {
+    return encode(bytes, 0, bytes.length, alphabet, padding);
+  }
+
+  /**
+   * Returns the base64 encoding of the provided {@code bytes} array, in the
+   * specified {@link Alphabet}.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 4 characters.
+   * @return The base64 encoding of the provided {@code bytes} array.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code len} is
+   *           negative, or if the range of {@code bytes} is out of bounds.
+   * @throws NullPointerException If {@code bytes} or {@code alphabet} is null.
+   */
+  public static String encode(final byte[] bytes, final int offset, final int len, final Alphabet alphabet, final boolean padding) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    final char[] chars = new char[getEncodedLength(len, padding)];
+    encode(bytes, offset, len, chars, 0, alphabet, padding);
+    return new String(chars);
+  }
+
+  /**
+   * Writes the base64 encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} array, starting at
+   * {@code destOffset}. Each block of 3 bytes is encoded with 2 lookups of 2
+   * digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@code char[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          digit.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 4 characters.
+   * @return The index in {@code dest} after the last written character.
+   * @throws IndexOutOfBoundsException If {@code offset}, {@code len} or
+   *           {@code destOffset} is negative, or if the range of {@code bytes}
+   *           or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code bytes}, {@code dest} or
+   *           {@code alphabet} is null.
+   * @see #getEncodedLength(int,boolean)
+   */
+  public static int encode(final byte[] bytes, final int offset, final int len, final char[] dest, int destOffset, final Alphabet alphabet, final boolean padding) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "encodedLength", getEncodedLength(len, padding));
+    final char[] pairs = alphabet.pairs;
+    int i = offset;
+    for (final int blocksEnd = offset + len / 3 * 3; i < blocksEnd; i += 3) {
+      final int block = (bytes[i] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8 | bytes[i + 2] & 0xFF;
+      final int j = block >>> 11 & 0x1FFE, k = (block & 0xFFF) << 1;
+      dest[destOffset++] = pairs[j];
+      dest[destOffset++] = pairs[j + 1];
+      dest[destOffset++] = pairs[k];
+      dest[destOffset++] = pairs[k + 1];
+    }
+
+    final int n = offset + len - i;
+    if (n > 0) {
+      final int block = (bytes[i] & 0xFF) << 16 | (n == 2 ? (bytes[i + 1] & 0xFF) << 8 : 0);
+      final int j = block >>> 11 & 0x1FFE, k = (block & 0xFFF) << 1;
+      dest[destOffset++] = pairs[j];
+      dest[destOffset++] = pairs[j + 1];
+      if (n == 2)
+        dest[destOffset++] = pairs[k];
+      else if (padding)
+        dest[destOffset++] = '=';
+
+      if (padding)
+        dest[destOffset++] = '=';
+    }
+
+    return destOffset;
+  }
+
+  /**
+   * Writes the base64 encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} array as ASCII
+   * characters, starting at {@code destOffset}. Each block of 3 bytes is
+   * encoded with 2 lookups of 2 digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          digit.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 4 characters.
+   * @return The index in {@code dest} after the last written character.
+   * @throws IndexOutOfBoundsException If {@code offset}, {@code len} or
+   *           {@code destOffset} is negative, or if the range of {@code bytes}
+   *           or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code bytes}, {@code dest} or
+   *           {@code alphabet} is null.
+   * @see #getEncodedLength(int,boolean)
+   */
+  public static int encode(final byte[] bytes, final int offset, final int len, final byte[] dest, int destOffset, final Alphabet alphabet, final boolean padding) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "encodedLength", getEncodedLength(len, padding));
+    final char[] pairs = alphabet.pairs;
+    int i = offset;
+    for (final int blocksEnd = offset + len / 3 * 3; i < blocksEnd; i += 3) {
+      final int block = (bytes[i] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8 | bytes[i + 2] & 0xFF;
+      final int j = block >>> 11 & 0x1FFE, k = (block & 0xFFF) << 1;
+      dest[destOffset++] = (byte)pairs[j];
+      dest[destOffset++] = (byte)pairs[j + 1];
+      dest[destOffset++] = (byte)pairs[k];
+      dest[destOffset++] = (byte)pairs[k + 1];
+    }
+
+    final int n = offset + len - i;
+    if (n > 0) {
+      final int block = (bytes[i] & 0xFF) << 16 | (n == 2 ? (bytes[i + 1] & 0xFF) << 8 : 0);
+      final int j = block >>> 11 & 0x1FFE, k = (block & 0xFFF) << 1;
+      dest[destOffset++] = (byte)pairs[j];
+      dest[destOffset++] = (byte)pairs[j + 1];
+      if (n == 2)
+        dest[destOffset++] = (byte)pairs[k];
+      else if (padding)
+        dest[destOffset++] = '=';
+
+      if (padding)
+        dest[destOffset++] = '=';
+    }
+
+    return destOffset;
+  }
+
+  /**
+   * Returns a {@code new byte[]} of the decoded {@code base64} string, in the
+   * {@link Alphabet#STANDARD} alphabet.
+   *
+   * @param base64 The base64 string.
+   * @return A {@code new byte[]} of the decoded {@code base64} string.
+   * @throws IllegalArgumentException If {@code base64} is not a valid encoding
+   *           in the {@link Alphabet#STANDARD} alphabet.
+   * @throws NullPointerException If {@code base64} is null.
+   * @see #decode(CharSequence,int,int,byte[],int,Alphabet)
+   */
+  public static byte[] decode(final String base64) {
+    return decode(base64, Alphabet.STANDARD);
+  }
+
+  /**
+   * Returns a {@code new byte[]} of the decoded {@code base64} characters in
+   * the specified {@link Alphabet}.
+   *
+   * @param base64 The base64 characters.
+   * @param alphabet The {@link Alphabet}.
+   * @return A {@code new byte[]} of the decoded {@code base64} characters.
+   * @throws IllegalArgumentException If {@code base64} is not a valid encoding
+   *           in the specified {@link Alphabet}.
+   * @throws NullPointerException If {@code base64} or {@code alphabet} is
+   *           null.
+   * @see #decode(CharSequence,int,int,byte[],int,Alphabet)
+   */
+  public static byte[] decode(final CharSequence base64, final Alphabet alphabet) {
+    final int length = base64.length();
+    final byte[] bytes = new byte[(int)(length * 3L / 4)];
+    final int n = decode(base64, 0, length, bytes, 0, alphabet);
+    return n == bytes.length ? bytes : Arrays.copyOf(bytes, n);
+  }
+
+  /**
+   * Decodes the base64 characters in the range {@code [fromIndex, toIndex)}
+   * of the {@link CharSequence} in the specified {@link Alphabet} into the
+   * {@code dest} array, starting at {@code destOffset}. The encoding may be
+   * padded with {@code '='}. Complete blocks of 4 digits are decoded with a
+   * single validity check per block.
+   * <p>
+   * The range decodes to at most {@code (toIndex - fromIndex) * 3 / 4} bytes.
+   * If the range is not a valid encoding, the contents of the decoded range of
+   * {@code dest} are unspecified.
+   *
+   * @param base64 The base64 characters.
+   * @param fromIndex The index of the first character to decode (inclusive).
+   * @param toIndex The index of the last character to decode (exclusive).
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @param alphabet The {@link Alphabet}.
+   * @return The index in {@code dest} after the last written byte.
+   * @throws IllegalArgumentException If the range contains a character that is
+   *           not in the {@link Alphabet}, if a digit follows the padding, or
+   *           if the number of digits or of padding characters is not that of
+   *           a valid encoding.
+   * @throws IndexOutOfBoundsException If the range of {@code base64} is out of
+   *           bounds, or if {@code dest} is too small to hold the decoded
+   *           bytes.
+   * @throws NullPointerException If {@code base64}, {@code dest} or
+   *           {@code alphabet} is null.
+   */
+  public static int decode(final CharSequence base64, final int fromIndex, final int toIndex, final byte[] dest, int destOffset, final Alphabet alphabet) {
+    Assertions.assertBoundsOffsetCount("base64.length()", base64.length(), "fromIndex", fromIndex, "toIndex - fromIndex", toIndex - fromIndex);
+    if (destOffset < 0)
+      throw new ArrayIndexOutOfBoundsException("Index: " + destOffset + ", Length: " + dest.length);
+
+    int i = fromIndex;
+    for (final int end = toIndex - 4; i <= end; i += 4) {
+      final int v0 = alphabet.valueOf(base64.charAt(i));
+      final int v1 = alphabet.valueOf(base64.charAt(i + 1));
+      final int v2 = alphabet.valueOf(base64.charAt(i + 2));
+      final int v3 = alphabet.valueOf(base64.charAt(i + 3));
+      if ((v0 | v1 | v2 | v3) < 0)
+        break;
+
+      final int block = v0 << 18 | v1 << 12 | v2 << 6 | v3;
+      dest[destOffset] = (byte)(block >>> 16);
+      dest[destOffset + 1] = (byte)(block >>> 8);
+      dest[destOffset + 2] = (byte)block;
+      destOffset += 3;
+    }
+
+    int block = 0;
+    int digits = 0;
+    int padding = 0;
+    for (; i < toIndex; ++i) {
+      final char ch = base64.charAt(i);
+      if (ch == '=') {
+        ++padding;
+        continue;
+      }
+
+      final int value = alphabet.valueOf(ch);
+      if (value < 0 || padding > 0)
+        throw new IllegalArgumentException("Illegal base64 character at index " + i + ": " + ch);
+
+      block = block << 6 | value;
+      if (++digits == 4) {
+        dest[destOffset] = (byte)(block >>> 16);
+        dest[destOffset + 1] = (byte)(block >>> 8);
+        dest[destOffset + 2] = (byte)block;
+        destOffset += 3;
+        block = 0;
+        digits = 0;
+      }
+    }
+
+    if (digits == 1 || padding > 0 && (digits == 0 || digits + padding != 4))
+      throw new IllegalArgumentException("Illegal base64 length: " + digits + " trailing digits, " + padding + " padding characters");
+
+    if (digits == 2) {
+      dest[destOffset++] = (byte)(block >>> 4);
+    }
+    else if (digits == 3) {
+      dest[destOffset] = (byte)(block >>> 10);
+      dest[destOffset + 1] = (byte)(block >>> 2);
+      destOffset += 2;
+    }
+
+    return destOffset;
+  }
+
+  private static final class EncoderOutputStream extends FilterOutputStream {
+    private final byte[] buf = new byte[8192];
+    private final byte[] block = new byte[3];
+    private final Alphabet alphabet;
+    private final boolean padding;
+    private int blockCount;
+    private int count;
+    private boolean closed;
+
+    private EncoderOutputStream(final OutputStream out, final Alphabet alphabet, final boolean padding) {
+      super(out);
+      this.alphabet = alphabet;
+      this.padding = padding;
+    }
+
+    private void flushBuffer() throws IOException {
+      if (count > 0) {
+        out.write(buf, 0, count);
+        count = 0;
+      }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      block[blockCount++] = (byte)b;
+      if (blockCount == 3) {
+        if (count > buf.length - 4)
+          flushBuffer();
+
+        count = encode(block, 0, 3, buf, count, alphabet, false);
+        blockCount = 0;
+      }
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "off", off, "len", len);
+      while (blockCount > 0 && len > 0) {
+        write(b[off++]);
+        --len;
+      }
+
+      while (len >= 3) {
+        final int n = Math.min(len / 3, (buf.length - count) / 4) * 3;
+        if (n == 0) {
+          flushBuffer();
+          continue;
+        }
+
+        count = encode(b, off, n, buf, count, alphabet, false);
+        off += n;
+        len -= n;
+      }
+
+      while (len-- > 0)
+        write(b[off++]);
+    }
+
+    /**
+     * Writes the buffered encoding to the underlying stream, and flushes it.
+     * Bytes of an incomplete 3-byte block are retained until the block is
+     * completed, or the stream is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+      flushBuffer();
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed)
+        return;
+
+      closed = true;
+      try {
+        if (blockCount > 0) {
+          if (count > buf.length - 4)
+            flushBuffer();
+
+          count = encode(block, 0, blockCount, buf, count, alphabet, padding);
+          blockCount = 0;
+        }
+
+        flush();
+      }
+      finally {
+        out.close();
+      }
+    }
+  }
+
+  private static final class DecoderInputStream extends FilterInputStream {
+    private final byte[] buf = new byte[8192];
+    private final byte[] one = new byte[1];
+    private final Alphabet alphabet;
+    private int pos;
+    private int limit;
+    private int bits;
+    private int bitCount;
+
+    private DecoderInputStream(final InputStream in, final Alphabet alphabet) {
+      super(in);
+      this.alphabet = alphabet;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "off", off, "len", len);
+      if (len == 0)
+        return 0;
+
+      int n = 0;
+      do {
+        if (pos == limit) {
+          pos = 0;
+          if ((limit = in.read(buf, 0, buf.length)) == -1) {
+            limit = 0;
+            if (n == 0 && bitCount == 6)
+              throw new IOException("Illegal base64 length");
+
+            return n == 0 ? -1 : n;
+          }
+        }
+
+        for (int value; pos < limit && n < len;) {
+          final char ch = (char)(buf[pos++] & 0xff);
+          if ((value = alphabet.valueOf(ch)) < 0) {
+            if (ch == '=' || ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n')
+              continue;
+
+            throw new IOException("Illegal base64 character: " + ch);
+          }
+
+          bits = bits << 6 | value;
+          if ((bitCount += 6) >= 8) {
+            b[off + n++] = (byte)(bits >>> (bitCount -= 8));
+            bits &= (1 << bitCount) - 1;
+          }
+        }
+      }
+      while (n == 0);
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final byte[] b = new byte[(int)Math.min(n, 512)];
+      long skipped = 0;
+      for (int r; skipped < n && (r = read(b, 0, (int)Math.min(n - skipped, b.length))) != -1; skipped += r);
+      return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (limit - pos + in.available()) * 3 / 4;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void mark(final int readlimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+    }
+  }
+
+  /**
+   * Returns an {@link OutputStream} that writes the base64 encoding of the
+   * bytes written to it to the specified {@link OutputStream}, as ASCII
+   * characters in the specified {@link Alphabet}.
+   * <p>
+   * Bytes are encoded in blocks of 3, each of which produces 4 characters.
+   * Bytes of an incomplete block are retained across writes, and are encoded
+   * only when the block is completed, or when the returned stream is closed.
+   * The encoding is therefore complete only after the returned stream is
+   * closed, which also closes {@code out}. The encoding is buffered in a
+   * fixed-size buffer, which is written to {@code out} when it is full, and
+   * when the returned stream is flushed or closed.
+   *
+   * @param out The {@link OutputStream} to which the encoding is to be
+   *          written.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 4 characters.
+   * @return An {@link OutputStream} that writes the base64 encoding of the
+   *         bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} or {@code alphabet} is null.
+   */
+  public static OutputStream newEncoder(final OutputStream out, final Alphabet alphabet, final boolean padding) {
+    return new EncoderOutputStream(Objects.requireNonNull(out), Objects.requireNonNull(alphabet), padding);
+  }
+
+  /**
+   * Returns a {@link WritableByteChannel} that writes the base64 encoding of
+   * the bytes written to it to the specified {@link WritableByteChannel}, as
+   * ASCII characters in the specified {@link Alphabet}. The encoding is
+   * complete only after the returned channel is closed, which also closes
+   * {@code out}.
+   *
+   * @param out The {@link WritableByteChannel} to which the encoding is to be
+   *          written.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 4 characters.
+   * @return A {@link WritableByteChannel} that writes the base64 encoding of
+   *         the bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} or {@code alphabet} is null.
+   * @see #newEncoder(OutputStream,Alphabet,boolean)
+   */
+  public static WritableByteChannel newEncoder(final WritableByteChannel out, final Alphabet alphabet, final boolean padding) {
+    return Channels.newChannel(newEncoder(Channels.newOutputStream(out), alphabet, padding));
+  }
+
+  /**
+   * Returns an {@link InputStream} that reads the bytes decoded from the
+   * base64 ASCII characters of the specified {@link InputStream}, in the
+   * specified {@link Alphabet}. Padding and whitespace are ignored, so that
+   * padded, unpadded and line-wrapped encodings are accepted. The characters
+   * are read from {@code in} into a fixed-size buffer. Closing the returned
+   * stream closes {@code in}.
+   * <p>
+   * The {@code read} methods of the returned stream throw an
+   * {@link IOException} if any other character that is not in the
+   * {@link Alphabet} is read, or if {@code in} ends with a single digit of an
+   * incomplete block.
+   *
+   * @param in The {@link InputStream} from which the encoding is to be read.
+   * @param alphabet The {@link Alphabet}.
+   * @return An {@link InputStream} that reads the bytes decoded from the
+   *         base64 ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} or {@code alphabet} is null.
+   */
+  public static InputStream newDecoder(final InputStream in, final Alphabet alphabet) {
+    return new DecoderInputStream(Objects.requireNonNull(in), Objects.requireNonNull(alphabet));
+  }
+
+  /**
+   * Returns a {@link ReadableByteChannel} that reads the bytes decoded from
+   * the base64 ASCII characters of the specified {@link ReadableByteChannel},
+   * in the specified {@link Alphabet}. Closing the returned channel closes
+   * {@code in}.
+   *
+   * @param in The {@link ReadableByteChannel} from which the encoding is to be
+   *          read.
+   * @param alphabet The {@link Alphabet}.
+   * @return A {@link ReadableByteChannel} that reads the bytes decoded from
+   *         the base64 ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} or {@code alphabet} is null.
+   * @see #newDecoder(InputStream,Alphabet)
+   */
+  public static ReadableByteChannel newDecoder(final ReadableByteChannel in, final Alphabet alphabet) {
+    return Channels.newChannel(newDecoder(Channels.newInputStream(in), alphabet));
+  }
+
+  private final Alphabet alphabet;
+  private final boolean padding;
+
+  /**
+   * Create a new {@link Base64} object with the provided raw bytes, which
+   * are encoded in the {@link Alphabet#STANDARD} alphabet with padding.
+   *
+   * @param bytes The raw bytes.
+   */
+  public Base64(final byte[] bytes) {
+    this(bytes, Alphabet.STANDARD, true);
+  }
+
+  /**
+   * Create a new {@link Base64} object with the provided raw bytes, which
+   * are encoded in the specified {@link Alphabet}.
+   *
+   * @param bytes The raw bytes.
+   * @param alphabet The {@link Alphabet}.
+   * @param padding Whether to pad the encoding with {@code '='} to a multiple
+   *          of 4 characters.
+   * @throws NullPointerException If {@code alphabet} is null.
+   */
+  public Base64(final byte[] bytes, final Alphabet alphabet, final boolean padding) {
+    super(bytes, null);
+    this.alphabet = Objects.requireNonNull(alphabet);
+    this.padding = padding;
+  }
+
+  /**
+   * Create a new {@link Base64} object with the provided base64-encoded
+   * string value in the {@link Alphabet#STANDARD} alphabet.
+   *
+   * @param base64 The base64-encoded string value.
+   */
+  public Base64(final String base64) {
+    this(base64, Alphabet.STANDARD);
+  }
+
+  /**
+   * Create a new {@link Base64} object with the provided base64-encoded
+   * string value in the specified {@link Alphabet}.
+   *
+   * @param base64 The base64-encoded string value.
+   * @param alphabet The {@link Alphabet}.
+   * @throws NullPointerException If {@code alphabet} is null.
+   */
+  public Base64(final String base64, final Alphabet alphabet) {
+    super(null, base64);
+    this.alphabet = Objects.requireNonNull(alphabet);
+    this.padding = base64 != null && base64.endsWith("=");
+  }
+
+  @Override
+  public byte[] getData() {
+    return data == null ? data = decode(encoded, alphabet) : data;
+  }
+
+  @Override
+  public String getEncoded() {
+    return encoded == null ? encoded = encode(data, alphabet, padding) : encoded;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Base64))
+      return false;
+
+    final Base64 that = (Base64)obj;
+    return encoded != null && encoded.equals(that.encoded) || Arrays.equals(getData(), that.getData());
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 + Arrays.hashCode(getData());
+  }
+
+  @Override
+  public String toString() {
+    return getEncoded();
+  }
+}
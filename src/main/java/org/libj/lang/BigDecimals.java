@@ -16,18 +16,16 @@
 
 package org.libj.lang;
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility functions for operations pertaining to {@link BigDecimal}.
  */
 public final class BigDecimals {
-  private static final ConcurrentHashMap<Serializable,BigDecimal> instances = new ConcurrentHashMap<>();
+  private static volatile Interner<BigDecimal> interner = Interner.newWeakInterner();
 
   private static class BigDecimalInfinity extends BigDecimal {
     private static final long serialVersionUID = -6061982086335481343L;
@@ -81,48 +79,255 @@ public final class BigDecimals {
   public static final BigDecimal NEGATIVE_INFINITY = new BigDecimalInfinity(-1);
 
   /** The {@link BigDecimal} constant {@code 0}, with a scale of {@code 0}. */
-  public static final BigDecimal ZERO = init("0", BigDecimal.ZERO);
+  public static final BigDecimal ZERO = interner.intern(BigDecimal.ZERO);
 
   /** The {@link BigDecimal} constant {@code 1}, with a scale of {@code 0}. */
-  public static final BigDecimal ONE = init("1", BigDecimal.ONE);
+  public static final BigDecimal ONE = interner.intern(BigDecimal.ONE);
 
   /** The {@link BigDecimal} constant {@code 2}, with a scale of {@code 0}. */
-  public static final BigDecimal TWO = init("2", BigDecimal.valueOf(2L));
+  public static final BigDecimal TWO = interner.intern(BigDecimal.valueOf(2L));
 
   /** The {@link BigDecimal} constant <i><code>e</code></i>, with a scale of {@code 15}. */
-  public static final BigDecimal E = init(String.valueOf(Math.E), BigDecimal.valueOf(Math.E));
+  public static final BigDecimal E = interner.intern(BigDecimal.valueOf(Math.E));
 
   /** The {@link BigDecimal} constant <i><code>pi</code></i>, with a scale of {@code 15}. */
-  public static final BigDecimal PI = init(String.valueOf(Math.PI), BigDecimal.valueOf(Math.PI));
+  public static final BigDecimal PI = interner.intern(BigDecimal.valueOf(Math.PI));
 
   /** The {@link BigDecimal} constant {@code log(2)}, with a scale of {@code 15}. */
-  public static final BigDecimal LOG_2 = init(String.valueOf(Constants.LOG_2), BigDecimal.valueOf(Constants.LOG_2));
+  public static final BigDecimal LOG_2 = interner.intern(BigDecimal.valueOf(Constants.LOG_2));
 
   /** The {@link BigDecimal} constant {@code log(10)}, with a scale of {@code 15}. */
-  public static final BigDecimal LOG_10 = init(String.valueOf(Constants.LOG_10), BigDecimal.valueOf(Constants.LOG_10));
+  public static final BigDecimal LOG_10 = interner.intern(BigDecimal.valueOf(Constants.LOG_10));
 
   /** The {@link BigDecimal} constant {@code sqrt(2)}, with a scale of {@code 15}. */
-  public static final BigDecimal SQRT_2 = init(String.valueOf(Constants.SQRT_2), BigDecimal.valueOf(Constants.SQRT_2));
+  public static final BigDecimal SQRT_2 = interner.intern(BigDecimal.valueOf(Constants.SQRT_2));
 
-  private static BigDecimal init(final Serializable key, final BigDecimal val) {
-    instances.put(key, val);
-    return val;
+  /**
+   * Returns the {@link Interner} used by the {@code intern} methods of this
+   * class, which by default is a {@linkplain Interner#newWeakInterner() weak}
+   * {@link Interner} that retains canonical instances only while they are
+   * strongly reachable elsewhere.
+   *
+   * @return The {@link Interner} used by the {@code intern} methods of this
+   *         class.
+   */
+  public static Interner<BigDecimal> getInterner() {
+    return interner;
+  }
+
+  /**
+   * Sets the {@link Interner} to be used by the {@code intern} methods of this
+   * class, such as a {@linkplain Interner#newBoundedInterner(int) bounded}
+   * {@link Interner}. The constants of this class are interned in the
+   * specified {@link Interner}, and remain canonical for as long as it retains
+   * them, unless it already retains instances equal to them, in which case
+   * those instances are canonical instead. Other instances that were interned
+   * with the previous {@link Interner} are not canonical in the specified
+   * {@link Interner}.
+   *
+   * @param interner The {@link Interner} to be used by the {@code intern}
+   *          methods of this class.
+   * @throws NullPointerException If {@code interner} is null.
+   */
+  public static void setInterner(final Interner<BigDecimal> interner) {
+    Objects.requireNonNull(interner);
+    for (final BigDecimal constant : new BigDecimal[] {ZERO, ONE, TWO, E, PI, LOG_2, LOG_10, SQRT_2})
+      interner.intern(constant);
+
+    BigDecimals.interner = interner;
   }
 
   /**
    * Returns a canonical representation of the {@link BigDecimal} object
    * representing the specified string value.
+   * <p>
+   * For values of up to 18 significant digits, a {@link BigDecimal} is not
+   * allocated if the pool already has a canonical instance for the value.
    *
    * @param val The value of the desired {@link BigDecimal} instance.
    * @return A canonical representation of the {@link BigDecimal} object
    *         representing the specified string value.
    * @throws NullPointerException If the specified string value is null.
+   * @throws NumberFormatException If {@code val} is not a valid representation
+   *           of a {@link BigDecimal}.
    */
   public static BigDecimal intern(final String val) {
-    final BigDecimal instance = instances.get(Objects.requireNonNull(val));
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    final long unscaled = parse(val, false);
+    final long scale = unscaled == NOT_COMPACT ? NOT_COMPACT : parse(val, true);
+    return scale == NOT_COMPACT ? interner.intern(new BigDecimal(val)) : interner.intern(hashCode(unscaled, (int)scale), val, 0, val.length(), stringMatcher);
+  }
+
+  private static final long NOT_COMPACT = Long.MIN_VALUE;
+  private static final long COMPACT_LIMIT = 1000000000000000000L;
+
+  /**
+   * Returns the unscaled value (if {@code scale} is {@code false}) or the
+   * scale (if {@code scale} is {@code true}) of {@code new BigDecimal(str)},
+   * or {@link #NOT_COMPACT} if the string has more than 18 significant digits,
+   * a character that is not in the ASCII syntax of
+   * {@link BigDecimal#BigDecimal(String)}, or a scale that does not fit in an
+   * {@code int}.
+   */
+  private static long parse(final String str, final boolean scale) {
+    final int length = str.length();
+    int i = 0;
+    char ch = length == 0 ? '\0' : str.charAt(0);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+')
+      ++i;
+
+    long unscaled = 0;
+    int digits = 0, precision = 0, fraction = -1;
+    for (; i < length; ++i) {
+      ch = str.charAt(i);
+      if ('0' <= ch && ch <= '9') {
+        ++digits;
+        if (fraction >= 0)
+          ++fraction;
+
+        if (unscaled != 0 || ch != '0') {
+          if (++precision > 18)
+            return NOT_COMPACT;
+
+          unscaled = unscaled * 10 + (ch - '0');
+        }
+      }
+      else if (ch == '.' && fraction < 0) {
+        fraction = 0;
+      }
+      else {
+        break;
+      }
+    }
+
+    if (digits == 0)
+      return NOT_COMPACT;
+
+    long exponent = 0;
+    if (i < length) {
+      if ((ch = str.charAt(i)) != 'e' && ch != 'E' || ++i == length)
+        return NOT_COMPACT;
+
+      final boolean negativeExponent = (ch = str.charAt(i)) == '-';
+      if ((negativeExponent || ch == '+') && ++i == length)
+        return NOT_COMPACT;
+
+      for (; i < length; ++i)
+        if ((ch = str.charAt(i)) < '0' || '9' < ch || (exponent = exponent * 10 + (ch - '0')) > Integer.MAX_VALUE)
+          return NOT_COMPACT;
+
+      if (negativeExponent)
+        exponent = -exponent;
+    }
+
+    if (!scale)
+      return negative ? -unscaled : unscaled;
+
+    final long value = Math.max(fraction, 0) - exponent;
+    return value < Integer.MIN_VALUE || Integer.MAX_VALUE < value ? NOT_COMPACT : value;
   }
 
+  /**
+   * Returns the unscaled value (if {@code scale} is {@code false}) or the
+   * scale (if {@code scale} is {@code true}) of {@code new BigDecimal(d)} for
+   * the {@code double} {@code d} with the specified bits, or
+   * {@link #NOT_COMPACT} if {@code d} is not finite, or if the unscaled value
+   * has more than 18 digits.
+   */
+  private static long parse(final long bits, final boolean scale) {
+    final int biasedExponent = (int)(bits >>> 52) & 0x7ff;
+    if (biasedExponent == 0x7ff)
+      return NOT_COMPACT;
+
+    long significand = biasedExponent == 0 ? (bits & (1L << 52) - 1) << 1 : bits & (1L << 52) - 1 | 1L << 52;
+    if (significand == 0)
+      return 0;
+
+    final int zeros = Long.numberOfTrailingZeros(significand);
+    significand >>>= zeros;
+    final int exponent = biasedExponent - 1075 + zeros;
+    if (exponent >= 0) {
+      if (exponent >= 60 || significand > (COMPACT_LIMIT - 1) >>> exponent)
+        return NOT_COMPACT;
+
+      significand <<= exponent;
+    }
+    else {
+      for (int i = exponent; i < 0; ++i) {
+        if (significand > (COMPACT_LIMIT - 1) / 5)
+          return NOT_COMPACT;
+
+        significand *= 5;
+      }
+    }
+
+    if (scale)
+      return exponent < 0 ? -exponent : 0;
+
+    return bits < 0 ? -significand : significand;
+  }
+
+  /**
+   * Returns the value of {@link BigDecimal#hashCode()} for the specified
+   * unscaled value and scale, without creating a {@link BigDecimal}.
+   */
+  private static int hashCode(final long unscaled, final int scale) {
+    return 31 * BigIntegers.hashCode(unscaled) + scale;
+  }
+
+  /**
+   * Returns whether the specified {@link BigDecimal} has the specified
+   * unscaled value of up to 18 digits and the specified scale.
+   */
+  private static boolean matches(final BigDecimal value, final long unscaled, final long scale) {
+    if (value.scale() != scale || value.precision() > 18)
+      return false;
+
+    if (scale == 0)
+      return value.longValue() == unscaled;
+
+    // BigDecimal caches the string returned by toString(), so only the first
+    // match against a canonical instance allocates
+    return parse(value.toString(), false) == unscaled;
+  }
+
+  private static final Interner.Matcher<BigDecimal> stringMatcher = new Interner.Matcher<BigDecimal>() {
+    @Override
+    public boolean matches(final BigDecimal value, final Object key, final int offset, final int length) {
+      return BigDecimals.matches(value, parse((String)key, false), parse((String)key, true));
+    }
+
+    @Override
+    public BigDecimal create(final Object key, final int offset, final int length) {
+      return new BigDecimal((String)key);
+    }
+  };
+
+  private static final Interner.Matcher<BigDecimal> longMatcher = new Interner.Matcher<BigDecimal>() {
+    @Override
+    public boolean matches(final BigDecimal value, final Object key, final int offset, final int length) {
+      return BigDecimals.matches(value, (long)offset << 32 | length & 0xffffffffL, 0);
+    }
+
+    @Override
+    public BigDecimal create(final Object key, final int offset, final int length) {
+      return BigDecimal.valueOf((long)offset << 32 | length & 0xffffffffL);
+    }
+  };
+
+  private static final Interner.Matcher<BigDecimal> doubleMatcher = new Interner.Matcher<BigDecimal>() {
+    @Override
+    public boolean matches(final BigDecimal value, final Object key, final int offset, final int length) {
+      final long bits = (long)offset << 32 | length & 0xffffffffL;
+      return BigDecimals.matches(value, parse(bits, false), parse(bits, true));
+    }
+
+    @Override
+    public BigDecimal create(final Object key, final int offset, final int length) {
+      return new BigDecimal(Double.longBitsToDouble((long)offset << 32 | length & 0xffffffffL));
+    }
+  };
+
   /**
    * Returns a canonical representation for the {@link BigDecimal} object.
    *
@@ -133,26 +338,33 @@ public final class BigDecimals {
    * @throws NullPointerException If {@code n} is null.
    */
   public static BigDecimal intern(final BigDecimal n) {
-    final BigDecimal instance = instances.putIfAbsent(n.toString(), n);
-    return instance != null ? instance : n;
+    return interner.intern(n);
   }
 
   /**
    * Returns a canonical representation of the {@link BigDecimal} object
    * representing the specified {@code long} value.
+   * <p>
+   * For values of up to 18 digits, a {@link BigDecimal} is not allocated if
+   * the pool already has a canonical instance for the value.
    *
    * @param val The value of the desired {@link BigDecimal} instance.
    * @return A canonical representation of the {@link BigDecimal} object
    *         representing the specified {@code long} value.
    */
   public static BigDecimal intern(final long val) {
-    final BigDecimal instance = instances.get(val);
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    if (val <= -COMPACT_LIMIT || COMPACT_LIMIT <= val)
+      return interner.intern(new BigDecimal(val));
+
+    return interner.intern(hashCode(val, 0), null, (int)(val >>> 32), (int)val, longMatcher);
   }
 
   /**
    * Returns a canonical representation of the {@link BigDecimal} object
    * representing the specified {@link Long} value.
+   * <p>
+   * For values of up to 18 digits, a {@link BigDecimal} is not allocated if
+   * the pool already has a canonical instance for the value.
    *
    * @param val The value of the desired {@link BigDecimal} instance.
    * @return A canonical representation of the {@link BigDecimal} object
@@ -160,35 +372,49 @@ public final class BigDecimals {
    * @throws NullPointerException If the specified {@link Long} value is null.
    */
   public static BigDecimal intern(final Long val) {
-    final BigDecimal instance = instances.get(Objects.requireNonNull(val));
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    return intern(val.longValue());
   }
 
   /**
    * Returns a canonical representation of the {@link BigDecimal} object
-   * representing the specified {@code double} value.
+   * representing the exact specified {@code double} value, as per
+   * {@link BigDecimal#BigDecimal(double)}.
+   * <p>
+   * For values whose exact decimal expansion has up to 18 digits, a
+   * {@link BigDecimal} is not allocated if the pool already has a canonical
+   * instance for the value.
    *
    * @param val The value of the desired {@link BigDecimal} instance.
    * @return A canonical representation of the {@link BigDecimal} object
    *         representing the specified {@code double} value.
+   * @throws NumberFormatException If {@code val} is infinite or NaN.
    */
   public static BigDecimal intern(final double val) {
-    final BigDecimal instance = instances.get(val);
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    final long bits = Double.doubleToRawLongBits(val);
+    final long unscaled = parse(bits, false);
+    if (unscaled == NOT_COMPACT)
+      return interner.intern(new BigDecimal(val));
+
+    return interner.intern(hashCode(unscaled, (int)parse(bits, true)), null, (int)(bits >>> 32), (int)bits, doubleMatcher);
   }
 
   /**
    * Returns a canonical representation of the {@link BigDecimal} object
-   * representing the specified {@link Double} value.
+   * representing the exact specified {@link Double} value, as per
+   * {@link BigDecimal#BigDecimal(double)}.
+   * <p>
+   * For values whose exact decimal expansion has up to 18 digits, a
+   * {@link BigDecimal} is not allocated if the pool already has a canonical
+   * instance for the value.
    *
    * @param val The value of the desired {@link BigDecimal} instance.
    * @return A canonical representation of the {@link BigDecimal} object
    *         representing the specified {@link Double} value.
    * @throws NullPointerException If the specified {@link Double} value is null.
+   * @throws NumberFormatException If {@code val} is infinite or NaN.
    */
   public static BigDecimal intern(final Double val) {
-    final BigDecimal instance = instances.get(Objects.requireNonNull(val));
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    return intern(val.doubleValue());
   }
 
   /**
@@ -18,29 +18,58 @@ package org.libj.lang;
 
 import java.math.BigInteger;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility functions for operations pertaining to {@link BigInteger}.
  */
 public final class BigIntegers {
-  private static final ConcurrentHashMap<String,BigInteger> instances = new ConcurrentHashMap<>();
+  private static volatile Interner<BigInteger> interner = Interner.newWeakInterner();
 
   /** The {@link BigInteger} constant zero ({@code 0}). */
-  public static final BigInteger ZERO = init("0", BigInteger.ZERO);
+  public static final BigInteger ZERO = interner.intern(BigInteger.ZERO);
 
   /** The {@link BigInteger} constant one ({@code 1}). */
-  public static final BigInteger ONE = init("1", BigInteger.ONE);
+  public static final BigInteger ONE = interner.intern(BigInteger.ONE);
 
   /** The {@link BigInteger} constant two ({@code 2}). */
-  public static final BigInteger TWO = init("2", BigInteger.valueOf(2));
+  public static final BigInteger TWO = interner.intern(BigInteger.valueOf(2));
 
   /** The {@link BigInteger} constant ten ({@code 10}). */
-  public static final BigInteger TEN = init("10", BigInteger.TEN);
+  public static final BigInteger TEN = interner.intern(BigInteger.TEN);
 
-  private static BigInteger init(final String str, final BigInteger val) {
-    instances.put(str, val);
-    return val;
+  /**
+   * Returns the {@link Interner} used by the {@code intern} methods of this
+   * class, which by default is a {@linkplain Interner#newWeakInterner() weak}
+   * {@link Interner} that retains canonical instances only while they are
+   * strongly reachable elsewhere.
+   *
+   * @return The {@link Interner} used by the {@code intern} methods of this
+   *         class.
+   */
+  public static Interner<BigInteger> getInterner() {
+    return interner;
+  }
+
+  /**
+   * Sets the {@link Interner} to be used by the {@code intern} methods of this
+   * class, such as a {@linkplain Interner#newBoundedInterner(int) bounded}
+   * {@link Interner}. The constants of this class are interned in the
+   * specified {@link Interner}, and remain canonical for as long as it retains
+   * them, unless it already retains instances equal to them, in which case
+   * those instances are canonical instead. Other instances that were interned
+   * with the previous {@link Interner} are not canonical in the specified
+   * {@link Interner}.
+   *
+   * @param interner The {@link Interner} to be used by the {@code intern}
+   *          methods of this class.
+   * @throws NullPointerException If {@code interner} is null.
+   */
+  public static void setInterner(final Interner<BigInteger> interner) {
+    Objects.requireNonNull(interner);
+    for (final BigInteger constant : new BigInteger[] {ZERO, ONE, TWO, TEN})
+      interner.intern(constant);
+
+    BigIntegers.interner = interner;
   }
 
   /**
@@ -51,10 +80,123 @@ public final class BigIntegers {
    * @return A canonical representation of the {@link BigInteger} object
    *         representing the specified string value.
    * @throws NullPointerException If the specified string value is null.
+   * @throws NumberFormatException If {@code val} is not a valid representation
+   *           of a {@link BigInteger}.
    */
   public static BigInteger intern(final String val) {
-    final BigInteger intern = instances.get(Objects.requireNonNull(val));
-    return intern != null ? intern : init(val, new BigInteger(val));
+    return intern0(val, 0, val.length());
+  }
+
+  private static final long NOT_LONG = Long.MIN_VALUE;
+
+  private static char charAt(final Object key, final int index) {
+    return key instanceof char[] ? ((char[])key)[index] : ((CharSequence)key).charAt(index);
+  }
+
+  /**
+   * Returns the {@code long} value of the decimal digits in the specified
+   * range of the key, or {@link #NOT_LONG} if the range has more than 18
+   * digits or a character that is not an ASCII digit (excepting a leading
+   * sign).
+   */
+  private static long parseLong(final Object key, int offset, final int length) {
+    final int end = offset + length;
+    final char sign = length == 0 ? '\0' : charAt(key, offset);
+    if (sign == '-' || sign == '+')
+      ++offset;
+
+    if (offset == end || end - offset > 18)
+      return NOT_LONG;
+
+    long value = 0;
+    for (char ch; offset < end; ++offset) {
+      if ((ch = charAt(key, offset)) < '0' || '9' < ch)
+        return NOT_LONG;
+
+      value = value * 10 + (ch - '0');
+    }
+
+    return sign == '-' ? -value : value;
+  }
+
+  /**
+   * Returns the value of {@link BigInteger#hashCode()} for the specified
+   * {@code long} value, without creating a {@link BigInteger}.
+   */
+  static int hashCode(final long value) {
+    final long mag = Math.abs(value);
+    final int hi = (int)(mag >>> 32);
+    final int lo = (int)mag;
+    final int hashCode = hi == 0 ? lo : 31 * hi + lo;
+    return value < 0 ? -hashCode : hashCode;
+  }
+
+  private static final Interner.Matcher<BigInteger> longMatcher = new Interner.Matcher<BigInteger>() {
+    @Override
+    public boolean matches(final BigInteger value, final Object key, final int offset, final int length) {
+      return value.bitLength() < 64 && value.longValue() == parseLong(key, offset, length);
+    }
+
+    @Override
+    public BigInteger create(final Object key, final int offset, final int length) {
+      return BigInteger.valueOf(parseLong(key, offset, length));
+    }
+  };
+
+  private static BigInteger intern0(final Object key, final int offset, final int length) {
+    final long value = parseLong(key, offset, length);
+    if (value != NOT_LONG)
+      return interner.intern(hashCode(value), key, offset, length, longMatcher);
+
+    final String str = key instanceof char[] ? new String((char[])key, offset, length) : ((CharSequence)key).subSequence(offset, offset + length).toString();
+    return interner.intern(new BigInteger(str));
+  }
+
+  /**
+   * Returns a canonical representation of the {@link BigInteger} object
+   * representing the decimal value of the characters in the specified range
+   * of the provided {@code char[]}.
+   * <p>
+   * For values of up to 18 digits, neither a {@link String} nor a
+   * {@link BigInteger} is allocated if the pool already has a canonical
+   * instance for the value.
+   *
+   * @param chars The {@code char[]}.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * @return A canonical representation of the {@link BigInteger} object
+   *         representing the decimal value of the characters in the specified
+   *         range of the provided {@code char[]}.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code length} is
+   *           negative, or {@code offset + length} is greater than
+   *           {@code chars.length}.
+   * @throws NullPointerException If {@code chars} is null.
+   * @throws NumberFormatException If the specified range is not a valid
+   *           representation of a {@link BigInteger}.
+   */
+  public static BigInteger intern(final char[] chars, final int offset, final int length) {
+    Assertions.assertBoundsOffsetCount("length", chars.length, "offset", offset, "count", length);
+    return intern0(chars, offset, length);
+  }
+
+  /**
+   * Returns a canonical representation of the {@link BigInteger} object
+   * representing the decimal value of the provided {@link CharSequence}.
+   * <p>
+   * For values of up to 18 digits, neither a {@link String} nor a
+   * {@link BigInteger} is allocated if the pool already has a canonical
+   * instance for the value.
+   *
+   * @param val The value of the desired {@link BigInteger} instance.
+   * @return A canonical representation of the {@link BigInteger} object
+   *         representing the decimal value of the provided
+   *         {@link CharSequence}.
+   * @throws NullPointerException If {@code val} is null.
+   * @throws NumberFormatException If {@code val} is not a valid representation
+   *           of a {@link BigInteger}.
+   */
+  public static BigInteger intern(final CharSequence val) {
+    return intern0(val, 0, val.length());
   }
 
   /**
@@ -67,8 +209,7 @@ public final class BigIntegers {
    * @throws NullPointerException If {@code n} is null.
    */
   public static BigInteger intern(final BigInteger n) {
-    final BigInteger instance = instances.putIfAbsent(n.toString(), n);
-    return instance != null ? instance : n;
+    return interner.intern(n);
   }
 
   /**
@@ -0,0 +1,413 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+/**
+ * Functions for the packing of {@code int} and {@code long} values into a
+ * fixed number of bits each, in a {@code long[]}.
+ * <p>
+ * Values are packed contiguously, starting at the least significant bit of
+ * the first word, with each value in little-endian bit order. A value may
+ * straddle 2 words. {@code count} values of {@code bits} bits each occupy
+ * {@link #getPackedLength(int,int) getPackedLength(count, bits)} words.
+ * <p>
+ * This is the storage format of frame-of-reference compression, in which each
+ * value of a block is stored as its difference from the minimum value of the
+ * block, in the number of bits required by the largest difference (see
+ * {@link #getBits(int[],int,int)}).
+ */
+public final class BitPacker {
+  /**
+   * Returns the number of {@code long} words occupied by {@code count} values
+   * packed into {@code bits} bits each.
+   *
+   * @param count The number of values.
+   * @param bits The number of bits of each value.
+   * @return The number of {@code long} words occupied by {@code count} values
+   *         packed into {@code bits} bits each.
+   * @throws IllegalArgumentException If {@code count} is negative, if
+   *           {@code bits} is not between 0 and 64, or if the result is
+   *           greater than {@link Integer#MAX_VALUE}.
+   */
+  public static int getPackedLength(final int count, final int bits) {
+    if (count < 0)
+      throw new IllegalArgumentException("count (" + count + ") must be non-negative");
+
+    assertBits(bits, Long.SIZE);
+    final long words = ((long)count * bits + Long.SIZE - 1) >>> 6;
+    if (words > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("Packed length of " + count + " values of " + bits + " bits exceeds " + Integer.MAX_VALUE);
+
+    return (int)words;
+  }
+
+  /**
+   * Returns the number of bits required to pack each of {@code length} values
+   * of the {@code src} array, starting at {@code offset}, when the values are
+   * treated as unsigned.
+   *
+   * @param src The {@code int} array.
+   * @param offset The index of the first value.
+   * @param length The number of values.
+   * @return The number of bits required to pack each of the values, between 0
+   *         and 32.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code length} is
+   *           negative, or if the range of {@code src} is out of bounds.
+   * @throws NullPointerException If {@code src} is null.
+   */
+  public static int getBits(final int[] src, final int offset, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "offset", offset, "length", length);
+    int or = 0;
+    for (int i = offset, end = offset + length; i < end; ++i)
+      or |= src[i];
+
+    return Integer.SIZE - Integer.numberOfLeadingZeros(or);
+  }
+
+  /**
+   * Returns the number of bits required to pack each of {@code length} values
+   * of the {@code src} array, starting at {@code offset}, when the values are
+   * treated as unsigned.
+   *
+   * @param src The {@code long} array.
+   * @param offset The index of the first value.
+   * @param length The number of values.
+   * @return The number of bits required to pack each of the values, between 0
+   *         and 64.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code length} is
+   *           negative, or if the range of {@code src} is out of bounds.
+   * @throws NullPointerException If {@code src} is null.
+   */
+  public static int getBits(final long[] src, final int offset, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "offset", offset, "length", length);
+    long or = 0;
+    for (int i = offset, end = offset + length; i < end; ++i)
+      or |= src[i];
+
+    return Long.SIZE - Long.numberOfLeadingZeros(or);
+  }
+
+  /**
+   * Packs the low {@code bits} bits of {@code length} values of the
+   * {@code src} array, starting at {@code srcOffset}, into the {@code dest}
+   * array, starting at the least significant bit of {@code dest[destOffset]}.
+   * The higher bits of each value are ignored. The unused high bits of the
+   * last written word are cleared.
+   *
+   * @param src The source {@code int} array.
+   * @param srcOffset The index of the first value in {@code src} to pack.
+   * @param dest The destination {@code long} array.
+   * @param destOffset The index of the first word in {@code dest} to write.
+   * @param length The number of values to pack.
+   * @param bits The number of bits of each value, between 0 and 32.
+   * @return The index in {@code dest} after the last written word.
+   * @throws ArrayIndexOutOfBoundsException If the packed values do not fit in
+   *           {@code dest} at {@code destOffset}.
+   * @throws IllegalArgumentException If {@code bits} is not between 0 and 32.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or {@code length}
+   *           is negative, or if the range of {@code src} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static int pack(final int[] src, int srcOffset, final long[] dest, int destOffset, final int length, final int bits) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    assertBits(bits, Integer.SIZE);
+    if (bits == 0)
+      return destOffset;
+
+    final long mask = -1L >>> (Long.SIZE - bits);
+    final int end = srcOffset + length;
+    if ((Long.SIZE % bits) == 0) {
+      // No value straddles 2 words
+      final int perWord = Long.SIZE / bits;
+      for (final int fullEnd = end - perWord + 1; srcOffset < fullEnd; ++destOffset) {
+        long word = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += bits)
+          word |= (src[srcOffset++] & mask) << shift;
+
+        dest[destOffset] = word;
+      }
+    }
+
+    long word = 0;
+    int shift = 0;
+    while (srcOffset < end) {
+      final long value = src[srcOffset++] & mask;
+      word |= value << shift;
+      if ((shift += bits) >= Long.SIZE) {
+        dest[destOffset++] = word;
+        word = (shift -= Long.SIZE) == 0 ? 0 : value >>> (bits - shift);
+      }
+    }
+
+    if (shift > 0)
+      dest[destOffset++] = word;
+
+    return destOffset;
+  }
+
+  /**
+   * Packs the low {@code bits} bits of {@code length} values of the
+   * {@code src} array, starting at {@code srcOffset}, into the {@code dest}
+   * array, starting at the least significant bit of {@code dest[destOffset]}.
+   * The higher bits of each value are ignored. The unused high bits of the
+   * last written word are cleared.
+   *
+   * @param src The source {@code long} array.
+   * @param srcOffset The index of the first value in {@code src} to pack.
+   * @param dest The destination {@code long} array.
+   * @param destOffset The index of the first word in {@code dest} to write.
+   * @param length The number of values to pack.
+   * @param bits The number of bits of each value, between 0 and 64.
+   * @return The index in {@code dest} after the last written word.
+   * @throws ArrayIndexOutOfBoundsException If the packed values do not fit in
+   *           {@code dest} at {@code destOffset}.
+   * @throws IllegalArgumentException If {@code bits} is not between 0 and 64.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or {@code length}
+   *           is negative, or if the range of {@code src} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static int pack(final long[] src, int srcOffset, final long[] dest, int destOffset, final int length, final int bits) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    assertBits(bits, Long.SIZE);
+    if (bits == 0)
+      return destOffset;
+
+    final long mask = -1L >>> (Long.SIZE - bits);
+    final int end = srcOffset + length;
+    if ((Long.SIZE % bits) == 0) {
+      // No value straddles 2 words
+      final int perWord = Long.SIZE / bits;
+      for (final int fullEnd = end - perWord + 1; srcOffset < fullEnd; ++destOffset) {
+        long word = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += bits)
+          word |= (src[srcOffset++] & mask) << shift;
+
+        dest[destOffset] = word;
+      }
+    }
+
+    long word = 0;
+    int shift = 0;
+    while (srcOffset < end) {
+      final long value = src[srcOffset++] & mask;
+      word |= value << shift;
+      if ((shift += bits) >= Long.SIZE) {
+        dest[destOffset++] = word;
+        word = (shift -= Long.SIZE) == 0 ? 0 : value >>> (bits - shift);
+      }
+    }
+
+    if (shift > 0)
+      dest[destOffset++] = word;
+
+    return destOffset;
+  }
+
+  /**
+   * Unpacks {@code length} values of {@code bits} bits each from the
+   * {@code src} array, starting at the least significant bit of
+   * {@code src[srcOffset]}, into the {@code dest} array, starting at
+   * {@code destOffset}.
+   *
+   * @param src The source {@code long} array of packed values.
+   * @param srcOffset The index of the first word in {@code src} to read.
+   * @param dest The destination {@code int} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to unpack.
+   * @param bits The number of bits of each value, between 0 and 32.
+   * @return The index in {@code src} after the last word that was read.
+   * @throws ArrayIndexOutOfBoundsException If the packed values are truncated
+   *           by the end of {@code src}.
+   * @throws IllegalArgumentException If {@code bits} is not between 0 and 32.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or {@code length}
+   *           is negative, or if the range of {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static int unpack(final long[] src, int srcOffset, final int[] dest, int destOffset, final int length, final int bits) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    assertBits(bits, Integer.SIZE);
+    final int end = destOffset + length;
+    if (bits == 0) {
+      while (destOffset < end)
+        dest[destOffset++] = 0;
+
+      return srcOffset;
+    }
+
+    final int next = srcOffset + (int)(((long)length * bits + Long.SIZE - 1) >>> 6);
+    final long mask = -1L >>> (Long.SIZE - bits);
+    if ((Long.SIZE % bits) == 0) {
+      // No value straddles 2 words
+      final int perWord = Long.SIZE / bits;
+      for (final int fullEnd = end - perWord + 1; destOffset < fullEnd; ++srcOffset) {
+        final long word = src[srcOffset];
+        for (int shift = 0; shift < Long.SIZE; shift += bits)
+          dest[destOffset++] = (int)((word >>> shift) & mask);
+      }
+    }
+
+    if (destOffset == end)
+      return next;
+
+    long word = src[srcOffset];
+    for (int shift = 0; destOffset < end; ++destOffset) {
+      long value = word >>> shift;
+      if ((shift += bits) >= Long.SIZE && ((shift -= Long.SIZE) > 0 || destOffset + 1 < end)) {
+        word = src[++srcOffset];
+        if (shift > 0)
+          value |= word << (bits - shift);
+      }
+
+      dest[destOffset] = (int)(value & mask);
+    }
+
+    return next;
+  }
+
+  /**
+   * Unpacks {@code length} values of {@code bits} bits each from the
+   * {@code src} array, starting at the least significant bit of
+   * {@code src[srcOffset]}, into the {@code dest} array, starting at
+   * {@code destOffset}.
+   *
+   * @param src The source {@code long} array of packed values.
+   * @param srcOffset The index of the first word in {@code src} to read.
+   * @param dest The destination {@code long} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to unpack.
+   * @param bits The number of bits of each value, between 0 and 64.
+   * @return The index in {@code src} after the last word that was read.
+   * @throws ArrayIndexOutOfBoundsException If the packed values are truncated
+   *           by the end of {@code src}.
+   * @throws IllegalArgumentException If {@code bits} is not between 0 and 64.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or {@code length}
+   *           is negative, or if the range of {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static int unpack(final long[] src, int srcOffset, final long[] dest, int destOffset, final int length, final int bits) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    assertBits(bits, Long.SIZE);
+    final int end = destOffset + length;
+    if (bits == 0) {
+      while (destOffset < end)
+        dest[destOffset++] = 0;
+
+      return srcOffset;
+    }
+
+    final int next = srcOffset + (int)(((long)length * bits + Long.SIZE - 1) >>> 6);
+    final long mask = -1L >>> (Long.SIZE - bits);
+    if ((Long.SIZE % bits) == 0) {
+      // No value straddles 2 words
+      final int perWord = Long.SIZE / bits;
+      for (final int fullEnd = end - perWord + 1; destOffset < fullEnd; ++srcOffset) {
+        final long word = src[srcOffset];
+        for (int shift = 0; shift < Long.SIZE; shift += bits)
+          dest[destOffset++] = (word >>> shift) & mask;
+      }
+    }
+
+    if (destOffset == end)
+      return next;
+
+    long word = src[srcOffset];
+    for (int shift = 0; destOffset < end; ++destOffset) {
+      long value = word >>> shift;
+      if ((shift += bits) >= Long.SIZE && ((shift -= Long.SIZE) > 0 || destOffset + 1 < end)) {
+        word = src[++srcOffset];
+        if (shift > 0)
+          value |= word << (bits - shift);
+      }
+
+      dest[destOffset] = value & mask;
+    }
+
+    return next;
+  }
+
+  /**
+   * Returns the value at the specified index of the values of {@code bits}
+   * bits each that are packed in the {@code src} array, starting at the least
+   * significant bit of {@code src[offset]}. At most 2 words are read.
+   *
+   * @param src The {@code long} array of packed values.
+   * @param offset The index of the first word of the packed values.
+   * @param bits The number of bits of each value, between 0 and 64.
+   * @param index The index of the value.
+   * @return The value at the specified index.
+   * @throws ArrayIndexOutOfBoundsException If the value is out of the bounds
+   *           of {@code src}.
+   * @throws IllegalArgumentException If {@code bits} is not between 0 and 64.
+   * @throws NullPointerException If {@code src} is null.
+   */
+  public static long get(final long[] src, final int offset, final int bits, final int index) {
+    assertBits(bits, Long.SIZE);
+    if (bits == 0)
+      return 0;
+
+    final long bit = (long)index * bits;
+    final int i = offset + (int)(bit >>> 6);
+    final int shift = (int)bit & 63;
+    long value = src[i] >>> shift;
+    if (shift + bits > Long.SIZE)
+      value |= src[i + 1] << (Long.SIZE - shift);
+
+    return value & (-1L >>> (Long.SIZE - bits));
+  }
+
+  /**
+   * Sets the value at the specified index of the values of {@code bits} bits
+   * each that are packed in the {@code dest} array, starting at the least
+   * significant bit of {@code dest[offset]}. The higher bits of the value are
+   * ignored, and the other packed values are not modified.
+   *
+   * @param dest The {@code long} array of packed values.
+   * @param offset The index of the first word of the packed values.
+   * @param bits The number of bits of each value, between 0 and 64.
+   * @param index The index of the value.
+   * @param value The value to set.
+   * @throws ArrayIndexOutOfBoundsException If the value is out of the bounds
+   *           of {@code dest}.
+   * @throws IllegalArgumentException If {@code bits} is not between 0 and 64.
+   * @throws NullPointerException If {@code dest} is null.
+   */
+  public static void set(final long[] dest, final int offset, final int bits, final int index, long value) {
+    assertBits(bits, Long.SIZE);
+    if (bits == 0)
+      return;
+
+    final long mask = -1L >>> (Long.SIZE - bits);
+    value &= mask;
+    final long bit = (long)index * bits;
+    final int i = offset + (int)(bit >>> 6);
+    final int shift = (int)bit & 63;
+    dest[i] = dest[i] & ~(mask << shift) | value << shift;
+    final int overflow = shift + bits - Long.SIZE;
+    if (overflow > 0)
+      dest[i + 1] = dest[i + 1] & ~(mask >>> (bits - overflow)) | value >>> (Long.SIZE - shift);
+  }
+
+  private static void assertBits(final int bits, final int max) {
+    if (bits < 0 || bits > max)
+      throw new IllegalArgumentException("bits (" + bits + ") must be between 0 and " + max);
+  }
+
+  private BitPacker() {
+  }
+}
@@ -16,10 +16,19 @@
 
 package org.libj.lang;
 
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
 /**
  * This utility class implements functions to {@code #set(...)},
  * {@code #clear(...)}, and {@code #get(...)} bit values from an argument
- * {@code byte[]}.
+ * {@code byte[]}. For {@code long[]} bitsets, it also implements bulk
+ * operations that work a full word at a time, such as
+ * {@link #and(long[],long[])}, {@link #cardinality(long[])} and
+ * {@link #nextSetBit(long[],int)}.
+ * <p>
+ * The methods in this class are not thread-safe. For a {@code long[]} bitset
+ * that is shared between threads, see {@link ConcurrentBitSet}.
  */
 public final class Buffers {
   /**
@@ -657,6 +666,263 @@ public final class Buffers {
     return trimmed;
   }
 
+  /**
+   * Sets the bits in {@code buf} from the specified {@code fromIndex}
+   * (inclusive) to the specified {@code toIndex} (exclusive) to {@code 1}, a
+   * full word at a time. If {@code toIndex - 1} is greater than the number of
+   * bits in the {@code buf} array, the array will be resized based on the
+   * {@code resize} argument, by the rules of
+   * {@link #set(long[],int,double)} for the bit at {@code toIndex - 1}.
+   *
+   * @param buf The {@code long[]} buffer.
+   * @param fromIndex The index of the first bit to be set.
+   * @param toIndex The index after the last bit to be set.
+   * @param resize The resize factor.
+   * @return The provided {@code long[]} buffer, or a resized copy.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} is negative,
+   *           or if {@code resize == 0} and {@code toIndex} is greater than the
+   *           number of bits in the {@code buf} array.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public static long[] set(long[] buf, final int fromIndex, final int toIndex, final double resize) {
+    Assertions.assertRangeArray(fromIndex, toIndex, Integer.MAX_VALUE);
+    if (fromIndex == toIndex)
+      return buf;
+
+    final int last = (toIndex - 1) / Long.SIZE;
+    if (last >= buf.length) {
+      if (resize == 0)
+        throw new ArrayIndexOutOfBoundsException(toIndex - 1);
+
+      final long[] resized = new long[resize < 0 ? last - (int)resize : (int)((last + 1) * resize)];
+      System.arraycopy(buf, 0, resized, 0, buf.length);
+      buf = resized;
+    }
+
+    final int first = fromIndex / Long.SIZE;
+    final long firstMask = -1L << fromIndex;
+    final long lastMask = -1L >>> -toIndex;
+    if (first == last) {
+      buf[first] |= firstMask & lastMask;
+    }
+    else {
+      buf[first] |= firstMask;
+      Arrays.fill(buf, first + 1, last, -1L);
+      buf[last] |= lastMask;
+    }
+
+    return buf;
+  }
+
+  /**
+   * Sets the bits in {@code buf} from the specified {@code fromIndex}
+   * (inclusive) to the specified {@code toIndex} (exclusive) to {@code 0}, a
+   * full word at a time. Bits beyond the end of the {@code buf} array are
+   * already clear, and are ignored.
+   *
+   * @param buf The {@code long[]} buffer.
+   * @param fromIndex The index of the first bit to be cleared.
+   * @param toIndex The index after the last bit to be cleared.
+   * @return The provided {@code long[]} buffer.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} is negative.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public static long[] clear(final long[] buf, final int fromIndex, int toIndex) {
+    Assertions.assertRangeArray(fromIndex, toIndex, Integer.MAX_VALUE);
+    final int first = fromIndex / Long.SIZE;
+    if (fromIndex == toIndex || first >= buf.length)
+      return buf;
+
+    int last = (toIndex - 1) / Long.SIZE;
+    if (last >= buf.length) {
+      last = buf.length - 1;
+      toIndex = 0;
+    }
+
+    final long firstMask = -1L << fromIndex;
+    final long lastMask = -1L >>> -toIndex;
+    if (first == last) {
+      buf[first] &= ~(firstMask & lastMask);
+    }
+    else {
+      buf[first] &= ~firstMask;
+      Arrays.fill(buf, first + 1, last, 0);
+      buf[last] &= ~lastMask;
+    }
+
+    return buf;
+  }
+
+  /**
+   * Performs a logical <b>AND</b> of {@code buf} with {@code other}, a full
+   * word at a time. The bits of {@code buf} beyond the end of {@code other}
+   * are cleared.
+   *
+   * @param buf The {@code long[]} buffer to be modified.
+   * @param other The {@code long[]} buffer with which to <b>AND</b>.
+   * @return The provided {@code buf} buffer.
+   * @throws NullPointerException If {@code buf} or {@code other} is null.
+   */
+  public static long[] and(final long[] buf, final long[] other) {
+    final int n = Math.min(buf.length, other.length);
+    for (int i = 0; i < n; ++i)
+      buf[i] &= other[i];
+
+    Arrays.fill(buf, n, buf.length, 0);
+    return buf;
+  }
+
+  /**
+   * Performs a logical <b>OR</b> of {@code buf} with {@code other}, a full
+   * word at a time. If {@code other} has set bits beyond the end of
+   * {@code buf}, the result is written to a copy of {@code buf} that is
+   * resized to the logical size of {@code other}.
+   *
+   * @param buf The {@code long[]} buffer to be modified.
+   * @param other The {@code long[]} buffer with which to <b>OR</b>.
+   * @return The provided {@code buf} buffer, or a resized copy.
+   * @throws NullPointerException If {@code buf} or {@code other} is null.
+   * @see #length(long[])
+   */
+  public static long[] or(long[] buf, final long[] other) {
+    final int n = other.length <= buf.length ? other.length : length(other);
+    if (n > buf.length)
+      buf = Arrays.copyOf(buf, n);
+
+    for (int i = 0; i < n; ++i)
+      buf[i] |= other[i];
+
+    return buf;
+  }
+
+  /**
+   * Performs a logical <b>XOR</b> of {@code buf} with {@code other}, a full
+   * word at a time. If {@code other} has set bits beyond the end of
+   * {@code buf}, the result is written to a copy of {@code buf} that is
+   * resized to the logical size of {@code other}.
+   *
+   * @param buf The {@code long[]} buffer to be modified.
+   * @param other The {@code long[]} buffer with which to <b>XOR</b>.
+   * @return The provided {@code buf} buffer, or a resized copy.
+   * @throws NullPointerException If {@code buf} or {@code other} is null.
+   * @see #length(long[])
+   */
+  public static long[] xor(long[] buf, final long[] other) {
+    final int n = other.length <= buf.length ? other.length : length(other);
+    if (n > buf.length)
+      buf = Arrays.copyOf(buf, n);
+
+    for (int i = 0; i < n; ++i)
+      buf[i] ^= other[i];
+
+    return buf;
+  }
+
+  /**
+   * Clears the bits of {@code buf} that are set in {@code other}, a full word
+   * at a time.
+   *
+   * @param buf The {@code long[]} buffer to be modified.
+   * @param other The {@code long[]} buffer of the bits to clear.
+   * @return The provided {@code buf} buffer.
+   * @throws NullPointerException If {@code buf} or {@code other} is null.
+   */
+  public static long[] andNot(final long[] buf, final long[] other) {
+    for (int i = 0, n = Math.min(buf.length, other.length); i < n; ++i)
+      buf[i] &= ~other[i];
+
+    return buf;
+  }
+
+  /**
+   * Returns the number of bits set to {@code 1} in {@code buf}.
+   *
+   * @param buf The {@code long[]} buffer.
+   * @return The number of bits set to {@code 1} in {@code buf}.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public static int cardinality(final long[] buf) {
+    int count = 0;
+    for (final long word : buf)
+      count += Long.bitCount(word);
+
+    return count;
+  }
+
+  /**
+   * Returns the index of the first bit that is set to {@code 1} in
+   * {@code buf} at or after the specified {@code fromIndex}, or {@code -1} if
+   * there is no such bit.
+   *
+   * @param buf The {@code long[]} buffer.
+   * @param fromIndex The index from which to start the search (inclusive).
+   * @return The index of the next set bit, or {@code -1} if there is no such
+   *         bit.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} is negative.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public static int nextSetBit(final long[] buf, final int fromIndex) {
+    if (fromIndex < 0)
+      throw new ArrayIndexOutOfBoundsException(fromIndex);
+
+    int i = fromIndex / Long.SIZE;
+    if (i >= buf.length)
+      return -1;
+
+    for (long word = buf[i] & (-1L << fromIndex);; word = buf[i]) {
+      if (word != 0)
+        return i * Long.SIZE + Long.numberOfTrailingZeros(word);
+
+      if (++i == buf.length)
+        return -1;
+    }
+  }
+
+  /**
+   * Returns the index of the first bit that is set to {@code 0} in
+   * {@code buf} at or after the specified {@code fromIndex}. The bits beyond
+   * the end of the {@code buf} array are clear.
+   *
+   * @param buf The {@code long[]} buffer.
+   * @param fromIndex The index from which to start the search (inclusive).
+   * @return The index of the next clear bit.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} is negative.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public static int nextClearBit(final long[] buf, final int fromIndex) {
+    if (fromIndex < 0)
+      throw new ArrayIndexOutOfBoundsException(fromIndex);
+
+    int i = fromIndex / Long.SIZE;
+    if (i >= buf.length)
+      return fromIndex;
+
+    for (long word = ~buf[i] & (-1L << fromIndex);; word = ~buf[i]) {
+      if (word != 0)
+        return i * Long.SIZE + Long.numberOfTrailingZeros(word);
+
+      if (++i == buf.length)
+        return i * Long.SIZE;
+    }
+  }
+
+  /**
+   * Performs the given action for the index of each bit that is set to
+   * {@code 1} in {@code buf}, in ascending order. Each word is visited once,
+   * and its set bits are extracted with {@link Long#numberOfTrailingZeros(long)}.
+   *
+   * @param buf The {@code long[]} buffer.
+   * @param action The action to be performed for the index of each set bit.
+   * @throws NullPointerException If {@code buf} or {@code action} is null.
+   */
+  public static void forEachSetBit(final long[] buf, final IntConsumer action) {
+    for (int i = 0; i < buf.length; ++i)
+      for (long word = buf[i]; word != 0; word &= word - 1)
+        action.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+  }
+
   private static final char[] digits = {
     '0', '1', '2', '3', '4', '5',
     '6', '7', '8', '9', 'a', 'b',
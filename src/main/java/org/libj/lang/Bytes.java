@@ -16,12 +16,25 @@
 
 package org.libj.lang;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * Functions implementing common operations on {@code byte[]} references.
  */
 public final class Bytes {
   /** The {@code double} constant log(2) */
   private static final double LOG_2 = 0.6931471805599453;
+  private static final int[] EMPTY_INDICES = {};
 
   /**
    * Returns the index of the first occurrence of the specified
@@ -54,11 +67,18 @@ public final class Bytes {
     if (sequence.length == 0 || bytes.length < sequence.length)
       return -1;
 
-    for (int i = offset; i < bytes.length; ++i) {
-      if (bytes[i] == sequence[0]) {
-        boolean match = true;
-        for (int j = 0; j < sequence.length && (match = bytes.length > i + j && sequence[j] == bytes[i + j]); ++j);
-        if (match)
+    // Over long inputs, the cost of the shift table is repaid by the skips
+    if (sequence.length > 2 && bytes.length - offset > 4096)
+      return new Searcher(sequence).indexOf0(bytes, offset, bytes.length);
+
+    final byte head = sequence[0];
+    for (int i = offset, end = bytes.length - sequence.length; i <= end; ++i) {
+      if (bytes[i] == head) {
+        int j = 1;
+        while (j < sequence.length && sequence[j] == bytes[i + j])
+          ++j;
+
+        if (j == sequence.length)
           return i;
       }
     }
@@ -66,6 +86,1160 @@ public final class Bytes {
     return -1;
   }
 
+  /**
+   * A compiled byte sequence searcher, created with {@link Bytes#compile(byte...)}.
+   * <p>
+   * The pattern is preprocessed once into the bad-character shift tables of the
+   * Boyer-Moore-Horspool algorithm, with which a search skips up to
+   * {@code pattern.length} bytes for each mismatch. Single-byte patterns are
+   * matched with a linear scan, which for buffers that are not backed by an
+   * array reads 8 bytes at a time.
+   * <p>
+   * Searches of a {@link ByteBuffer} are performed with absolute indices, and
+   * never modify the buffer's position or limit. This includes
+   * {@link java.nio.MappedByteBuffer}s, and {@link FileChannel}s of any size
+   * can be searched with {@link #indexOf(FileChannel,long)}.
+   * <p>
+   * A {@link Searcher} is immutable, and is safe for use by multiple threads.
+   */
+  public static final class Searcher {
+    /** The maximum size of each region mapped by {@link #indexOf(FileChannel,long)}. */
+    private static final int MAX_REGION = 1 << 30;
+
+    private final byte[] pattern;
+    private final int[] skip;
+    private final int[] skipBack;
+
+    private Searcher(final byte[] pattern) {
+      this.pattern = pattern;
+      final int m = pattern.length;
+      if (m == 1) {
+        skip = skipBack = null;
+        return;
+      }
+
+      // skip[b]: distance from the last occurrence of b in pattern[0, m - 1) to the end of the pattern
+      skip = new int[256];
+      Arrays.fill(skip, m);
+      for (int i = 0; i < m - 1; ++i)
+        skip[pattern[i] & 0xFF] = m - 1 - i;
+
+      // skipBack[b]: distance from the start of the pattern to the first occurrence of b in pattern[1, m)
+      skipBack = new int[256];
+      Arrays.fill(skipBack, m);
+      for (int i = m - 1; i > 0; --i)
+        skipBack[pattern[i] & 0xFF] = i;
+    }
+
+    /**
+     * Returns a copy of the pattern from which this {@link Searcher} was
+     * compiled.
+     *
+     * @return A copy of the pattern from which this {@link Searcher} was
+     *         compiled.
+     */
+    public byte[] getPattern() {
+      return pattern.clone();
+    }
+
+    /**
+     * Returns the index of the first occurrence of the pattern in the
+     * specified {@code byte[]}, or {@code -1} if there is no such occurrence.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @return The index of the first occurrence of the pattern in {@code src},
+     *         or {@code -1} if there is no such occurrence.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int indexOf(final byte[] src) {
+      return indexOf0(src, 0, src.length);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the pattern in the
+     * specified {@code byte[]}, starting the search at {@code fromIndex}, or
+     * {@code -1} if there is no such occurrence.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @param fromIndex The index from which to start the search.
+     * @return The index of the first occurrence of the pattern in {@code src}
+     *         at or after {@code fromIndex}, or {@code -1} if there is no such
+     *         occurrence.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} is negative,
+     *           or greater than {@code src.length}.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int indexOf(final byte[] src, final int fromIndex) {
+      Assertions.assertRangeArray(fromIndex, src.length, src.length);
+      return indexOf0(src, fromIndex, src.length);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the pattern that lies
+     * wholly within the range {@code [fromIndex, toIndex)} of the specified
+     * {@code byte[]}, or {@code -1} if there is no such occurrence.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @param fromIndex The index of the first byte to search (inclusive).
+     * @param toIndex The index of the last byte to search (exclusive).
+     * @return The index of the first occurrence of the pattern in the range of
+     *         {@code src}, or {@code -1} if there is no such occurrence.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int indexOf(final byte[] src, final int fromIndex, final int toIndex) {
+      Assertions.assertRangeArray(fromIndex, toIndex, src.length);
+      return indexOf0(src, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the pattern in the
+     * remaining bytes of the specified {@link ByteBuffer}, or {@code -1} if
+     * there is no such occurrence. The position of the buffer is not modified.
+     *
+     * @param buf The {@link ByteBuffer} in which to search.
+     * @return The absolute index of the first occurrence of the pattern
+     *         between the position and the limit of {@code buf}, or {@code -1}
+     *         if there is no such occurrence.
+     * @throws NullPointerException If {@code buf} is null.
+     */
+    public int indexOf(final ByteBuffer buf) {
+      return indexOf1(buf, buf.position(), buf.limit());
+    }
+
+    /**
+     * Returns the index of the first occurrence of the pattern that lies
+     * wholly within the absolute range {@code [fromIndex, toIndex)} of the
+     * specified {@link ByteBuffer}, or {@code -1} if there is no such
+     * occurrence. The position of the buffer is not modified.
+     *
+     * @param buf The {@link ByteBuffer} in which to search.
+     * @param fromIndex The absolute index of the first byte to search
+     *          (inclusive).
+     * @param toIndex The absolute index of the last byte to search
+     *          (exclusive).
+     * @return The absolute index of the first occurrence of the pattern in the
+     *         range of {@code buf}, or {@code -1} if there is no such
+     *         occurrence.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range of the limit of {@code buf}.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code buf} is null.
+     */
+    public int indexOf(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      Assertions.assertRangeArray(fromIndex, toIndex, buf.limit());
+      return indexOf1(buf, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern in the
+     * specified {@link FileChannel}, starting the search at
+     * {@code fromPosition}, or {@code -1} if there is no such occurrence.
+     * <p>
+     * The file is mapped into memory in read-only regions of up to 1GB, which
+     * overlap by {@code pattern.length - 1} bytes so that occurrences that
+     * straddle 2 regions are found. The position of the channel is not
+     * modified.
+     *
+     * @param channel The {@link FileChannel} in which to search.
+     * @param fromPosition The position in the file from which to start the
+     *          search.
+     * @return The position of the first occurrence of the pattern in the file
+     *         at or after {@code fromPosition}, or {@code -1} if there is no
+     *         such occurrence.
+     * @throws IllegalArgumentException If {@code fromPosition} is negative.
+     * @throws IOException If an I/O error has occurred.
+     * @throws java.nio.channels.NonReadableChannelException If
+     *           {@code channel} was not opened for reading.
+     * @throws NullPointerException If {@code channel} is null.
+     */
+    public long indexOf(final FileChannel channel, final long fromPosition) throws IOException {
+      if (fromPosition < 0)
+        throw new IllegalArgumentException("fromPosition (" + fromPosition + ") must be non-negative");
+
+      final int m = pattern.length;
+      final int maxRegion = Math.max(MAX_REGION, m);
+      final long size = channel.size();
+      for (long position = fromPosition; size - position >= m;) {
+        final int length = (int)Math.min(size - position, maxRegion);
+        final int index = indexOf1(channel.map(FileChannel.MapMode.READ_ONLY, position, length), 0, length);
+        if (index > -1)
+          return position + index;
+
+        if (position + length == size)
+          break;
+
+        position += length - m + 1;
+      }
+
+      return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the pattern in the specified
+     * {@code byte[]}, or {@code -1} if there is no such occurrence.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @return The index of the last occurrence of the pattern in {@code src},
+     *         or {@code -1} if there is no such occurrence.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int lastIndexOf(final byte[] src) {
+      return lastIndexOf0(src, 0, src.length);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the pattern that lies wholly
+     * within the range {@code [fromIndex, toIndex)} of the specified
+     * {@code byte[]}, or {@code -1} if there is no such occurrence.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @param fromIndex The index of the first byte to search (inclusive).
+     * @param toIndex The index of the last byte to search (exclusive).
+     * @return The index of the last occurrence of the pattern in the range of
+     *         {@code src}, or {@code -1} if there is no such occurrence.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int lastIndexOf(final byte[] src, final int fromIndex, final int toIndex) {
+      Assertions.assertRangeArray(fromIndex, toIndex, src.length);
+      return lastIndexOf0(src, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the pattern in the remaining
+     * bytes of the specified {@link ByteBuffer}, or {@code -1} if there is no
+     * such occurrence. The position of the buffer is not modified.
+     *
+     * @param buf The {@link ByteBuffer} in which to search.
+     * @return The absolute index of the last occurrence of the pattern between
+     *         the position and the limit of {@code buf}, or {@code -1} if there
+     *         is no such occurrence.
+     * @throws NullPointerException If {@code buf} is null.
+     */
+    public int lastIndexOf(final ByteBuffer buf) {
+      return lastIndexOf1(buf, buf.position(), buf.limit());
+    }
+
+    /**
+     * Returns the index of the last occurrence of the pattern that lies wholly
+     * within the absolute range {@code [fromIndex, toIndex)} of the specified
+     * {@link ByteBuffer}, or {@code -1} if there is no such occurrence. The
+     * position of the buffer is not modified.
+     *
+     * @param buf The {@link ByteBuffer} in which to search.
+     * @param fromIndex The absolute index of the first byte to search
+     *          (inclusive).
+     * @param toIndex The absolute index of the last byte to search
+     *          (exclusive).
+     * @return The absolute index of the last occurrence of the pattern in the
+     *         range of {@code buf}, or {@code -1} if there is no such
+     *         occurrence.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range of the limit of {@code buf}.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code buf} is null.
+     */
+    public int lastIndexOf(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      Assertions.assertRangeArray(fromIndex, toIndex, buf.limit());
+      return lastIndexOf1(buf, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the indices of all non-overlapping occurrences of the pattern in
+     * the specified {@code byte[]}, in ascending order.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @return The indices of all non-overlapping occurrences of the pattern in
+     *         {@code src}, in ascending order.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int[] indexOfAll(final byte[] src) {
+      return indexOfAll0(src, 0, src.length);
+    }
+
+    /**
+     * Returns the indices of all non-overlapping occurrences of the pattern
+     * that lie wholly within the range {@code [fromIndex, toIndex)} of the
+     * specified {@code byte[]}, in ascending order.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @param fromIndex The index of the first byte to search (inclusive).
+     * @param toIndex The index of the last byte to search (exclusive).
+     * @return The indices of all non-overlapping occurrences of the pattern in
+     *         the range of {@code src}, in ascending order.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int[] indexOfAll(final byte[] src, final int fromIndex, final int toIndex) {
+      Assertions.assertRangeArray(fromIndex, toIndex, src.length);
+      return indexOfAll0(src, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the absolute indices of all non-overlapping occurrences of the
+     * pattern in the remaining bytes of the specified {@link ByteBuffer}, in
+     * ascending order. The position of the buffer is not modified.
+     *
+     * @param buf The {@link ByteBuffer} in which to search.
+     * @return The absolute indices of all non-overlapping occurrences of the
+     *         pattern between the position and the limit of {@code buf}, in
+     *         ascending order.
+     * @throws NullPointerException If {@code buf} is null.
+     */
+    public int[] indexOfAll(final ByteBuffer buf) {
+      return indexOfAll1(buf, buf.position(), buf.limit());
+    }
+
+    /**
+     * Returns the absolute indices of all non-overlapping occurrences of the
+     * pattern that lie wholly within the absolute range
+     * {@code [fromIndex, toIndex)} of the specified {@link ByteBuffer}, in
+     * ascending order. The position of the buffer is not modified.
+     *
+     * @param buf The {@link ByteBuffer} in which to search.
+     * @param fromIndex The absolute index of the first byte to search
+     *          (inclusive).
+     * @param toIndex The absolute index of the last byte to search
+     *          (exclusive).
+     * @return The absolute indices of all non-overlapping occurrences of the
+     *         pattern in the range of {@code buf}, in ascending order.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range of the limit of {@code buf}.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code buf} is null.
+     */
+    public int[] indexOfAll(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      Assertions.assertRangeArray(fromIndex, toIndex, buf.limit());
+      return indexOfAll1(buf, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a copy of the specified {@code byte[]} in which all
+     * non-overlapping occurrences of the pattern are replaced with the
+     * specified {@code replacement}, which may be of a different length than
+     * the pattern. If there are no occurrences, {@code src} itself is returned.
+     *
+     * @param src The {@code byte[]} in which to perform the replacement.
+     * @param replacement The {@code byte[]} with which to replace each
+     *          occurrence.
+     * @return A copy of {@code src} in which all non-overlapping occurrences of
+     *         the pattern are replaced with {@code replacement}, or {@code src}
+     *         if there are no occurrences.
+     * @throws NullPointerException If {@code src} or {@code replacement} is
+     *           null.
+     */
+    public byte[] replaceAll(final byte[] src, final byte[] replacement) {
+      Objects.requireNonNull(replacement);
+      final int[] indices = indexOfAll0(src, 0, src.length);
+      if (indices.length == 0)
+        return src;
+
+      final int m = pattern.length;
+      final int r = replacement.length;
+      final byte[] dest = new byte[Math.addExact(src.length, Math.multiplyExact(indices.length, r - m))];
+      int from = 0, to = 0;
+      for (final int index : indices) {
+        final int length = index - from;
+        System.arraycopy(src, from, dest, to, length);
+        System.arraycopy(replacement, 0, dest, to += length, r);
+        to += r;
+        from = index + m;
+      }
+
+      System.arraycopy(src, from, dest, to, src.length - from);
+      return dest;
+    }
+
+    /**
+     * Copies the bytes of the specified {@link InputStream} to the specified
+     * {@link OutputStream}, replacing all non-overlapping occurrences of the
+     * pattern with the specified {@code replacement}, which may be of a
+     * different length than the pattern.
+     * <p>
+     * The input is read in chunks into a buffer of
+     * {@code max(8192, 2 * pattern.length)} bytes, of which only the last
+     * {@code pattern.length - 1} bytes are retained between reads, so that
+     * occurrences that are split across chunks are replaced. The memory used
+     * is therefore constant, regardless of the length of the input. Neither
+     * stream is closed.
+     *
+     * @param in The {@link InputStream} from which to read.
+     * @param out The {@link OutputStream} to which to write.
+     * @param replacement The {@code byte[]} with which to replace each
+     *          occurrence.
+     * @return The number of occurrences that were replaced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code in}, {@code out}, or
+     *           {@code replacement} is null.
+     */
+    public long replaceAll(final InputStream in, final OutputStream out, final byte[] replacement) throws IOException {
+      Objects.requireNonNull(in);
+      Objects.requireNonNull(out);
+      Objects.requireNonNull(replacement);
+      final int m = pattern.length;
+      final byte[] buf = new byte[Math.max(8192, m << 1)];
+      long count = 0;
+      for (int len = 0, n = 0; n != -1;) {
+        if ((n = in.read(buf, len, buf.length - len)) > 0)
+          len += n;
+
+        int from = 0;
+        for (int i; (i = indexOf0(buf, from, len)) > -1; from = i + m, ++count) {
+          out.write(buf, from, i - from);
+          out.write(replacement);
+        }
+
+        // Retain the bytes that may start an occurrence that is split across reads
+        final int keep = n == -1 ? len : Math.max(from, len - m + 1);
+        out.write(buf, from, keep - from);
+        System.arraycopy(buf, keep, buf, 0, len -= keep);
+      }
+
+      return count;
+    }
+
+    /**
+     * Copies the bytes of the specified {@link ReadableByteChannel} to the
+     * specified {@link WritableByteChannel}, replacing all non-overlapping
+     * occurrences of the pattern with the specified {@code replacement}, which
+     * may be of a different length than the pattern. The memory used is
+     * constant, regardless of the length of the input, as described in
+     * {@link #replaceAll(InputStream,OutputStream,byte[])}. Neither channel is
+     * closed.
+     *
+     * @param in The {@link ReadableByteChannel} from which to read.
+     * @param out The {@link WritableByteChannel} to which to write.
+     * @param replacement The {@code byte[]} with which to replace each
+     *          occurrence.
+     * @return The number of occurrences that were replaced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws java.nio.channels.IllegalBlockingModeException If either
+     *           channel is in non-blocking mode.
+     * @throws NullPointerException If {@code in}, {@code out}, or
+     *           {@code replacement} is null.
+     */
+    public long replaceAll(final ReadableByteChannel in, final WritableByteChannel out, final byte[] replacement) throws IOException {
+      return replaceAll(Channels.newInputStream(in), Channels.newOutputStream(out), replacement);
+    }
+
+    private int indexOf0(final byte[] src, final int fromIndex, final int toIndex) {
+      final byte[] pattern = this.pattern;
+      final int last = pattern.length - 1;
+      if (last == 0) {
+        final byte b = pattern[0];
+        for (int i = fromIndex; i < toIndex; ++i)
+          if (src[i] == b)
+            return i;
+
+        return -1;
+      }
+
+      final int[] skip = this.skip;
+      final byte tail = pattern[last];
+      for (int i = fromIndex + last; i < toIndex;) {
+        final byte b = src[i];
+        if (b == tail) {
+          final int start = i - last;
+          for (int j = 0; src[start + j] == pattern[j];)
+            if (++j == last)
+              return start;
+        }
+
+        i += skip[b & 0xFF];
+      }
+
+      return -1;
+    }
+
+    private int indexOf0(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      final byte[] pattern = this.pattern;
+      final int last = pattern.length - 1;
+      if (last == 0)
+        return indexOfByte(buf, fromIndex, toIndex, pattern[0]);
+
+      final int[] skip = this.skip;
+      final byte tail = pattern[last];
+      for (int i = fromIndex + last; i < toIndex;) {
+        final byte b = buf.get(i);
+        if (b == tail) {
+          final int start = i - last;
+          for (int j = 0; buf.get(start + j) == pattern[j];)
+            if (++j == last)
+              return start;
+        }
+
+        i += skip[b & 0xFF];
+      }
+
+      return -1;
+    }
+
+    private int indexOf1(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      if (!buf.hasArray())
+        return indexOf0(buf, fromIndex, toIndex);
+
+      final int offset = buf.arrayOffset();
+      final int index = indexOf0(buf.array(), offset + fromIndex, offset + toIndex);
+      return index < 0 ? -1 : index - offset;
+    }
+
+    private int lastIndexOf0(final byte[] src, final int fromIndex, final int toIndex) {
+      final byte[] pattern = this.pattern;
+      final int m = pattern.length;
+      final byte head = pattern[0];
+      if (m == 1) {
+        for (int i = toIndex - 1; i >= fromIndex; --i)
+          if (src[i] == head)
+            return i;
+
+        return -1;
+      }
+
+      final int[] skipBack = this.skipBack;
+      for (int i = toIndex - m; i >= fromIndex;) {
+        final byte b = src[i];
+        if (b == head) {
+          for (int j = 1; src[i + j] == pattern[j];)
+            if (++j == m)
+              return i;
+        }
+
+        i -= skipBack[b & 0xFF];
+      }
+
+      return -1;
+    }
+
+    private int lastIndexOf0(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      final byte[] pattern = this.pattern;
+      final int m = pattern.length;
+      final byte head = pattern[0];
+      if (m == 1) {
+        for (int i = toIndex - 1; i >= fromIndex; --i)
+          if (buf.get(i) == head)
+            return i;
+
+        return -1;
+      }
+
+      final int[] skipBack = this.skipBack;
+      for (int i = toIndex - m; i >= fromIndex;) {
+        final byte b = buf.get(i);
+        if (b == head) {
+          for (int j = 1; buf.get(i + j) == pattern[j];)
+            if (++j == m)
+              return i;
+        }
+
+        i -= skipBack[b & 0xFF];
+      }
+
+      return -1;
+    }
+
+    private int lastIndexOf1(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      if (!buf.hasArray())
+        return lastIndexOf0(buf, fromIndex, toIndex);
+
+      final int offset = buf.arrayOffset();
+      final int index = lastIndexOf0(buf.array(), offset + fromIndex, offset + toIndex);
+      return index < 0 ? -1 : index - offset;
+    }
+
+    private int[] indexOfAll0(final byte[] src, final int fromIndex, final int toIndex) {
+      int[] indices = null;
+      int size = 0;
+      for (int i = fromIndex; (i = indexOf0(src, i, toIndex)) > -1; i += pattern.length) {
+        if (indices == null)
+          indices = new int[4];
+        else if (size == indices.length)
+          indices = Arrays.copyOf(indices, size * 2);
+
+        indices[size++] = i;
+      }
+
+      return indices == null ? EMPTY_INDICES : size == indices.length ? indices : Arrays.copyOf(indices, size);
+    }
+
+    private int[] indexOfAll1(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+      if (buf.hasArray()) {
+        final int offset = buf.arrayOffset();
+        final int[] indices = indexOfAll0(buf.array(), offset + fromIndex, offset + toIndex);
+        if (offset != 0)
+          for (int i = 0; i < indices.length; ++i)
+            indices[i] -= offset;
+
+        return indices;
+      }
+
+      int[] indices = null;
+      int size = 0;
+      for (int i = fromIndex; (i = indexOf0(buf, i, toIndex)) > -1; i += pattern.length) {
+        if (indices == null)
+          indices = new int[4];
+        else if (size == indices.length)
+          indices = Arrays.copyOf(indices, size * 2);
+
+        indices[size++] = i;
+      }
+
+      return indices == null ? EMPTY_INDICES : size == indices.length ? indices : Arrays.copyOf(indices, size);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code b} in the range
+     * {@code [fromIndex, toIndex)} of the specified {@link ByteBuffer},
+     * comparing 8 bytes at a time with a SWAR (SIMD within a register) test
+     * for a zero byte.
+     */
+    private static int indexOfByte(final ByteBuffer buf, final int fromIndex, final int toIndex, final byte b) {
+      final long pattern = (b & 0xFFL) * 0x0101010101010101L;
+      final boolean isBigEndian = buf.order() == ByteOrder.BIG_ENDIAN;
+      int i = fromIndex;
+      for (final int end = toIndex - 7; i < end; i += 8) {
+        final long word = buf.getLong(i) ^ pattern;
+        // The high bit of each byte of zeros is set iff the byte of word is 0
+        final long zeros = ~(((word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL) | word | 0x7F7F7F7F7F7F7F7FL);
+        if (zeros != 0)
+          return i + ((isBigEndian ? Long.numberOfLeadingZeros(zeros) : Long.numberOfTrailingZeros(zeros)) >>> 3);
+      }
+
+      for (; i < toIndex; ++i)
+        if (buf.get(i) == b)
+          return i;
+
+      return -1;
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(pattern);
+    }
+  }
+
+  /**
+   * Returns a compiled {@link Searcher} of the specified {@code byte[]}
+   * pattern, for the search of its occurrences in {@code byte[]},
+   * {@link ByteBuffer} and {@link FileChannel} sources.
+   * <p>
+   * A compiled {@link Searcher} skips ahead by up to {@code pattern.length}
+   * bytes at each mismatch, and is therefore recommended over
+   * {@link #indexOf(byte[],int,byte...)} when the same pattern is searched
+   * repeatedly, or in large sources.
+   * <p>
+   * <blockquote>
+   * <b>Example:</b>
+   * <p>
+   * <pre>{@code
+   * Bytes.Searcher boundary = Bytes.compile("--boundary".getBytes(StandardCharsets.US_ASCII));
+   * for (int i = 0; (i = boundary.indexOf(bytes, i)) > -1; ++i)
+   *   ...
+   * }</pre>
+   * </blockquote>
+   *
+   * @param pattern The {@code byte[]} pattern for which to search.
+   * @return A compiled {@link Searcher} of the specified {@code byte[]}
+   *         pattern.
+   * @throws IllegalArgumentException If {@code pattern} is empty.
+   * @throws NullPointerException If {@code pattern} is null.
+   */
+  public static Searcher compile(final byte ... pattern) {
+    if (pattern.length == 0)
+      throw new IllegalArgumentException("pattern is empty");
+
+    return new Searcher(pattern.clone());
+  }
+
+  /**
+   * Callback for the matches reported by a {@link MultiSearcher}.
+   */
+  @FunctionalInterface
+  public interface MatchListener {
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param pattern The index of the matched pattern, in the order of the
+     *          patterns provided to {@link Bytes#compileAll(byte[][])}.
+     * @param index The index of the first byte of the match.
+     * @return Whether the search should continue.
+     */
+    boolean onMatch(int pattern, long index);
+  }
+
+  /**
+   * A compiled multi-pattern searcher, created with
+   * {@link Bytes#compileAll(byte[][])}.
+   * <p>
+   * The patterns are compiled into an Aho-Corasick automaton, in which the
+   * transitions of each state are expanded for all 256 byte values, so that
+   * the input is scanned exactly once, with a single table lookup per byte,
+   * regardless of the number of patterns. The transition table occupies
+   * {@code 1KB} for each distinct prefix of the patterns.
+   * <p>
+   * All matches are reported, including overlapping matches, in the order of
+   * the index of their last byte. Matches that end at the same index are
+   * reported from the longest to the shortest.
+   * <p>
+   * A {@link MultiSearcher} is immutable, and is safe for use by multiple
+   * threads. To search input that arrives in successive buffers, such as from
+   * a stream or channel, each thread creates its own {@link Session} with
+   * {@link #newSession()}, which carries the state of the automaton across the
+   * buffer boundaries.
+   */
+  public static final class MultiSearcher {
+    /**
+     * A stateful search of a {@link MultiSearcher}'s patterns in input that is
+     * fed in successive buffers. Matches that straddle the boundary of 2 buffers
+     * are reported at the index of their first byte relative to the start of
+     * the input.
+     * <p>
+     * A {@link Session} is not thread safe.
+     */
+    public final class Session {
+      private int state;
+      private long position;
+
+      private Session() {
+      }
+
+      /**
+       * Returns the number of bytes that have been fed to this {@link Session}
+       * since its creation, or since the last call to {@link #reset()}.
+       *
+       * @return The number of bytes that have been fed to this
+       *         {@link Session}.
+       */
+      public long getPosition() {
+        return position;
+      }
+
+      /**
+       * Resets this {@link Session} to the start of new input.
+       */
+      public void reset() {
+        state = 0;
+        position = 0;
+      }
+
+      /**
+       * Feeds the specified range of bytes to this {@link Session}, reporting
+       * the matches that end in the range to the provided
+       * {@link MatchListener}.
+       *
+       * @param src The {@code byte[]} with the input.
+       * @param offset The offset of the first byte to be fed.
+       * @param length The number of bytes to be fed.
+       * @param listener The {@link MatchListener} to which matches are to be
+       *          reported.
+       * @return The number of bytes consumed, which is {@code length} unless
+       *         {@code listener} returned {@code false}, in which case the
+       *         bytes up to and including the last byte of the final match
+       *         are consumed, and any other matches that end at that byte are
+       *         not reported.
+       * @throws ArrayIndexOutOfBoundsException If {@code offset} or
+       *           {@code length} is out of range.
+       * @throws NullPointerException If {@code src} or {@code listener} is
+       *           null.
+       */
+      public int feed(final byte[] src, final int offset, final int length, final MatchListener listener) {
+        Assertions.assertRangeArray(offset, offset + length, src.length);
+        Objects.requireNonNull(listener);
+        return consume(scan(src, offset, offset + length, state, position - offset, listener), offset, 0);
+      }
+
+      /**
+       * Feeds the remaining bytes of the specified {@link ByteBuffer} to this
+       * {@link Session}, reporting the matches that end in them to the
+       * provided {@link MatchListener}. The position of the buffer is advanced
+       * by the number of bytes consumed.
+       *
+       * @param buf The {@link ByteBuffer} with the input.
+       * @param listener The {@link MatchListener} to which matches are to be
+       *          reported.
+       * @return The number of bytes consumed, which is the number of bytes
+       *         remaining in {@code buf} unless {@code listener} returned
+       *         {@code false}, in which case the bytes up to and including the
+       *         last byte of the final match are consumed, and any other
+       *         matches that end at that byte are not reported.
+       * @throws NullPointerException If {@code buf} or {@code listener} is
+       *           null.
+       */
+      public int feed(final ByteBuffer buf, final MatchListener listener) {
+        Objects.requireNonNull(listener);
+        final int from = buf.position();
+        final int to = buf.limit();
+        final int consumed;
+        if (buf.hasArray()) {
+          final int offset = buf.arrayOffset();
+          consumed = consume(scan(buf.array(), offset + from, offset + to, state, position - offset - from, listener), from, offset);
+        }
+        else {
+          consumed = consume(scan(buf, from, to, state, position - from, listener), from, 0);
+        }
+
+        buf.position(from + consumed);
+        return consumed;
+      }
+
+      private int consume(final long result, final int from, final int offset) {
+        state = (int)result;
+        final int consumed = (int)(result >>> 32) - offset - from;
+        position += consumed;
+        return consumed;
+      }
+    }
+
+    private final int[] lengths;
+    private final int maxLength;
+    private final int[] delta;
+    private final int[] output;
+    private final int[] dictLink;
+    private final int[] firstPattern;
+    private final int[] nextPattern;
+
+    private MultiSearcher(final byte[][] patterns) {
+      final int n = patterns.length;
+      lengths = new int[n];
+      nextPattern = new int[n];
+      int total = 1, maxLength = 0;
+      for (int i = 0; i < n; ++i) {
+        final int length = patterns[i].length;
+        if (length == 0)
+          throw new IllegalArgumentException("patterns[" + i + "] is empty");
+
+        lengths[i] = length;
+        if (length > maxLength)
+          maxLength = length;
+
+        if ((total += length) > (Integer.MAX_VALUE >> 8))
+          throw new IllegalArgumentException("Total length of patterns exceeds " + (Integer.MAX_VALUE >> 8));
+      }
+
+      this.maxLength = maxLength;
+
+      // Build the trie, with -1 for absent transitions
+      int[] delta = new int[total << 8];
+      Arrays.fill(delta, -1);
+      final int[] firstPattern = new int[total];
+      Arrays.fill(firstPattern, -1);
+      Arrays.fill(nextPattern, -1);
+      int states = 1;
+      for (int i = 0; i < n; ++i) {
+        int state = 0;
+        for (final byte b : patterns[i]) {
+          final int t = (state << 8) | (b & 0xFF);
+          state = delta[t] != -1 ? delta[t] : (delta[t] = states++);
+        }
+
+        if (firstPattern[state] == -1) {
+          firstPattern[state] = i;
+        }
+        else {
+          int last = firstPattern[state];
+          while (nextPattern[last] != -1)
+            last = nextPattern[last];
+
+          nextPattern[last] = i;
+        }
+      }
+
+      // Complete the transitions in breadth-first order, with the failure links
+      final int[] fail = new int[states];
+      final int[] dictLink = new int[states];
+      final int[] output = new int[states];
+      final int[] queue = new int[states];
+      dictLink[0] = -1;
+      output[0] = -1;
+      for (int head = 0, tail = 1; head < tail; ++head) {
+        final int state = queue[head];
+        final int row = state << 8;
+        final int failRow = fail[state] << 8;
+        for (int c = 0; c < 256; ++c) {
+          final int child = delta[row | c];
+          if (child == -1) {
+            delta[row | c] = state == 0 ? 0 : delta[failRow | c];
+          }
+          else {
+            final int f = state == 0 ? 0 : delta[failRow | c];
+            fail[child] = f;
+            dictLink[child] = output[f];
+            output[child] = firstPattern[child] != -1 ? child : output[f];
+            queue[tail++] = child;
+          }
+        }
+      }
+
+      if (states < total)
+        delta = Arrays.copyOf(delta, states << 8);
+
+      // Store the row of each target state, complemented if the state has an output
+      for (int i = 0; i < delta.length; ++i) {
+        final int state = delta[i];
+        delta[i] = output[state] == -1 ? state << 8 : ~(state << 8);
+      }
+
+      this.delta = delta;
+      this.output = output;
+      this.dictLink = dictLink;
+      this.firstPattern = firstPattern.length == states ? firstPattern : Arrays.copyOf(firstPattern, states);
+    }
+
+    /**
+     * Returns the number of patterns of this {@link MultiSearcher}.
+     *
+     * @return The number of patterns of this {@link MultiSearcher}.
+     */
+    public int size() {
+      return lengths.length;
+    }
+
+    /**
+     * Returns the length of the pattern at the specified index.
+     *
+     * @param pattern The index of the pattern.
+     * @return The length of the pattern at the specified index.
+     * @throws ArrayIndexOutOfBoundsException If {@code pattern} is out of
+     *           range.
+     */
+    public int getLength(final int pattern) {
+      return lengths[pattern];
+    }
+
+    /**
+     * Returns a new {@link Session} for the search of this
+     * {@link MultiSearcher}'s patterns in input that is fed in successive
+     * buffers.
+     *
+     * @return A new {@link Session}.
+     */
+    public Session newSession() {
+      return new Session();
+    }
+
+    /**
+     * Returns the index of the leftmost occurrence of any of the patterns in
+     * the specified {@code byte[]}, or {@code -1} if there is no such
+     * occurrence.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @return The index of the leftmost occurrence of any of the patterns in
+     *         {@code src}, or {@code -1} if there is no such occurrence.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int indexOf(final byte[] src) {
+      return indexOf0(src, 0, src.length);
+    }
+
+    /**
+     * Returns the index of the leftmost occurrence of any of the patterns that
+     * lies wholly within the range {@code [fromIndex, toIndex)} of the
+     * specified {@code byte[]}, or {@code -1} if there is no such occurrence.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @param fromIndex The index of the first byte to search (inclusive).
+     * @param toIndex The index of the last byte to search (exclusive).
+     * @return The index of the leftmost occurrence of any of the patterns in
+     *         the range of {@code src}, or {@code -1} if there is no such
+     *         occurrence.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public int indexOf(final byte[] src, final int fromIndex, final int toIndex) {
+      Assertions.assertRangeArray(fromIndex, toIndex, src.length);
+      return indexOf0(src, fromIndex, toIndex);
+    }
+
+    /**
+     * Reports all occurrences of the patterns in the specified {@code byte[]}
+     * to the provided {@link MatchListener}, until the listener returns
+     * {@code false}.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @param listener The {@link MatchListener} to which matches are to be
+     *          reported.
+     * @return Whether the search reached the end of {@code src}, which is
+     *         {@code false} if {@code listener} returned {@code false}.
+     * @throws NullPointerException If {@code src} or {@code listener} is
+     *           null.
+     */
+    public boolean search(final byte[] src, final MatchListener listener) {
+      return search(src, 0, src.length, listener);
+    }
+
+    /**
+     * Reports all occurrences of the patterns that lie wholly within the range
+     * {@code [fromIndex, toIndex)} of the specified {@code byte[]} to the
+     * provided {@link MatchListener}, until the listener returns
+     * {@code false}.
+     *
+     * @param src The {@code byte[]} in which to search.
+     * @param fromIndex The index of the first byte to search (inclusive).
+     * @param toIndex The index of the last byte to search (exclusive).
+     * @param listener The {@link MatchListener} to which matches are to be
+     *          reported.
+     * @return Whether the search reached {@code toIndex}, which is
+     *         {@code false} if {@code listener} returned {@code false}.
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex} or
+     *           {@code toIndex} is out of range.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code src} or {@code listener} is
+     *           null.
+     */
+    public boolean search(final byte[] src, final int fromIndex, final int toIndex, final MatchListener listener) {
+      Assertions.assertRangeArray(fromIndex, toIndex, src.length);
+      return (int)(scan(src, fromIndex, toIndex, 0, 0, Objects.requireNonNull(listener)) >>> 32) == toIndex;
+    }
+
+    /**
+     * Reports all occurrences of the patterns in the remaining bytes of the
+     * specified {@link ByteBuffer} to the provided {@link MatchListener}, at
+     * their absolute index in the buffer, until the listener returns
+     * {@code false}. The position of the buffer is not modified.
+     *
+     * @param buf The {@link ByteBuffer} in which to search.
+     * @param listener The {@link MatchListener} to which matches are to be
+     *          reported.
+     * @return Whether the search reached the limit of {@code buf}, which is
+     *         {@code false} if {@code listener} returned {@code false}.
+     * @throws NullPointerException If {@code buf} or {@code listener} is
+     *           null.
+     */
+    public boolean search(final ByteBuffer buf, final MatchListener listener) {
+      Objects.requireNonNull(listener);
+      final int from = buf.position();
+      final int to = buf.limit();
+      if (!buf.hasArray())
+        return (int)(scan(buf, from, to, 0, 0, listener) >>> 32) == to;
+
+      final int offset = buf.arrayOffset();
+      return (int)(scan(buf.array(), offset + from, offset + to, 0, -offset, listener) >>> 32) == offset + to;
+    }
+
+    /**
+     * Reports all occurrences of the patterns in the bytes read from the
+     * specified {@link InputStream} to the provided {@link MatchListener}, at
+     * their index relative to the first byte read, until the listener returns
+     * {@code false} or the end of the stream is reached. The stream is not
+     * closed.
+     *
+     * @param in The {@link InputStream} in which to search.
+     * @param listener The {@link MatchListener} to which matches are to be
+     *          reported.
+     * @return Whether the search reached the end of the stream, which is
+     *         {@code false} if {@code listener} returned {@code false}.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code in} or {@code listener} is null.
+     */
+    public boolean search(final InputStream in, final MatchListener listener) throws IOException {
+      Objects.requireNonNull(listener);
+      final Session session = new Session();
+      final byte[] buf = new byte[8192];
+      for (int len; (len = in.read(buf)) != -1;)
+        if (session.feed(buf, 0, len, listener) < len)
+          return false;
+
+      return true;
+    }
+
+    private int indexOf0(final byte[] src, final int fromIndex, final int toIndex) {
+      final int[] delta = this.delta;
+      int index = -1;
+      int end = toIndex;
+      for (int i = fromIndex, row = 0; i < end; ++i) {
+        if ((row = delta[row | (src[i] & 0xFF)]) < 0) {
+          row = ~row;
+          // The longest pattern ending here is the leftmost one ending here
+          final int start = i + 1 - lengths[firstPattern[output[row >>> 8]]];
+          if (index == -1 || start < index) {
+            index = start;
+            // Matches that end at or after index + maxLength start after index
+            end = (int)Math.min(toIndex, (long)index + maxLength);
+          }
+        }
+      }
+
+      return index;
+    }
+
+    /**
+     * Scans the range of {@code src} from the specified state, and returns the
+     * index at which the scan stopped in the high 32 bits, and the state at
+     * which it stopped in the low 32 bits.
+     */
+    private long scan(final byte[] src, final int fromIndex, final int toIndex, final int state, final long base, final MatchListener listener) {
+      final int[] delta = this.delta;
+      int row = state << 8;
+      for (int i = fromIndex; i < toIndex; ++i)
+        if ((row = delta[row | (src[i] & 0xFF)]) < 0 && !report((row = ~row) >>> 8, base + i + 1, listener))
+          return (long)(i + 1) << 32 | row >>> 8;
+
+      return (long)toIndex << 32 | row >>> 8;
+    }
+
+    private long scan(final ByteBuffer buf, final int fromIndex, final int toIndex, final int state, final long base, final MatchListener listener) {
+      final int[] delta = this.delta;
+      int row = state << 8;
+      for (int i = fromIndex; i < toIndex; ++i)
+        if ((row = delta[row | (buf.get(i) & 0xFF)]) < 0 && !report((row = ~row) >>> 8, base + i + 1, listener))
+          return (long)(i + 1) << 32 | row >>> 8;
+
+      return (long)toIndex << 32 | row >>> 8;
+    }
+
+    private boolean report(final int state, final long end, final MatchListener listener) {
+      for (int s = output[state]; s != -1; s = dictLink[s])
+        for (int p = firstPattern[s]; p != -1; p = nextPattern[p])
+          if (!listener.onMatch(p, end - lengths[p]))
+            return false;
+
+      return true;
+    }
+  }
+
+  /**
+   * Returns a compiled {@link MultiSearcher} of the specified {@code byte[]}
+   * patterns, for the search of all of their occurrences in a single pass of
+   * the input.
+   * <p>
+   * Each pattern is identified by its index in the provided array. Duplicate
+   * patterns are permitted, and are reported separately.
+   * <p>
+   * <blockquote>
+   * <b>Example:</b>
+   * <p>
+   * <pre>{@code
+   * Bytes.MultiSearcher delimiters = Bytes.compileAll(CRLF, LF, NUL);
+   * delimiters.search(bytes, (pattern, index) -> {
+   *   ...
+   *   return true;
+   * });
+   * }</pre>
+   * </blockquote>
+   *
+   * @param patterns The {@code byte[]} patterns for which to search.
+   * @return A compiled {@link MultiSearcher} of the specified {@code byte[]}
+   *         patterns.
+   * @throws IllegalArgumentException If {@code patterns} is empty, or if any
+   *           of the patterns is empty.
+   * @throws NullPointerException If {@code patterns}, or any of the patterns
+   *           is null.
+   */
+  public static MultiSearcher compileAll(final byte[] ... patterns) {
+    if (patterns.length == 0)
+      throw new IllegalArgumentException("patterns is empty");
+
+    return new MultiSearcher(patterns);
+  }
+
   /**
    * Replace {@code target} with {@code replacement} in {@code bytes}.
    *
@@ -103,6 +1277,52 @@ public final class Bytes {
     for (int index = -1; (index = indexOf(bytes, index + 1, target)) > -1; System.arraycopy(replacement, 0, bytes, index, replacement.length));
   }
 
+  /**
+   * Copies the bytes of the specified {@link InputStream} to the specified
+   * {@link OutputStream}, replacing all non-overlapping occurrences of
+   * {@code target} with {@code replacement}, which may be of a different
+   * length than {@code target}. The memory used is constant, regardless of the
+   * length of the input. Neither stream is closed.
+   *
+   * @param in The {@link InputStream} from which to read.
+   * @param out The {@link OutputStream} to which to write.
+   * @param target The {@code byte[]} to search for.
+   * @param replacement The {@code byte[]} to replace with.
+   * @return The number of occurrences that were replaced.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalArgumentException If {@code target} is empty.
+   * @throws NullPointerException If {@code in}, {@code out}, {@code target},
+   *           or {@code replacement} is null.
+   * @see Searcher#replaceAll(InputStream,OutputStream,byte[])
+   */
+  public static long replaceAll(final InputStream in, final OutputStream out, final byte[] target, final byte[] replacement) throws IOException {
+    return compile(target).replaceAll(in, out, replacement);
+  }
+
+  /**
+   * Copies the bytes of the specified {@link ReadableByteChannel} to the
+   * specified {@link WritableByteChannel}, replacing all non-overlapping
+   * occurrences of {@code target} with {@code replacement}, which may be of a
+   * different length than {@code target}. The memory used is constant,
+   * regardless of the length of the input. Neither channel is closed.
+   *
+   * @param in The {@link ReadableByteChannel} from which to read.
+   * @param out The {@link WritableByteChannel} to which to write.
+   * @param target The {@code byte[]} to search for.
+   * @param replacement The {@code byte[]} to replace with.
+   * @return The number of occurrences that were replaced.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalArgumentException If {@code target} is empty.
+   * @throws java.nio.channels.IllegalBlockingModeException If either channel
+   *           is in non-blocking mode.
+   * @throws NullPointerException If {@code in}, {@code out}, {@code target},
+   *           or {@code replacement} is null.
+   * @see Searcher#replaceAll(ReadableByteChannel,WritableByteChannel,byte[])
+   */
+  public static long replaceAll(final ReadableByteChannel in, final WritableByteChannel out, final byte[] target, final byte[] replacement) throws IOException {
+    return compile(target).replaceAll(in, out, replacement);
+  }
+
   /**
    * Create a {@code byte} array representation of a {@code short} value with
    * big- or little- endian encoding.
@@ -297,6 +1517,171 @@ public final class Bytes {
     }
   }
 
+  /**
+   * Encodes {@code length} {@code short} values of the {@code src} array,
+   * starting at {@code srcOffset}, into {@code length * 2} bytes of the
+   * {@code dest} array, starting at {@code destOffset}, with big- or
+   * little-endian encoding.
+   * <p>
+   * The values are encoded in bulk through a {@link java.nio.ShortBuffer} view
+   * of {@code dest}, rather than with a call to
+   * {@link #toBytes(short,byte[],int,boolean)} for each value.
+   *
+   * @param src The source {@code short} array.
+   * @param srcOffset The index of the first value in {@code src} to encode.
+   * @param dest The destination {@code byte} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @param length The number of values to encode.
+   * @param isBigEndian Whether to encode the values in big-endian encoding.
+   * @throws ArithmeticException If {@code length * 2} overflows an
+   *           {@code int}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset},
+   *           {@code destOffset} or {@code length} is negative, or if the
+   *           range of {@code src} or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toBytes(final short[] src, final int srcOffset, final byte[] dest, final int destOffset, final int length, final boolean isBigEndian) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    final int size = Math.multiplyExact(length, Short.BYTES);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length * 2", size);
+    ByteBuffer.wrap(dest, destOffset, size).order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN).asShortBuffer().put(src, srcOffset, length);
+  }
+
+  /**
+   * Encodes {@code length} {@code short} values of the {@code src} array,
+   * starting at {@code srcOffset}, into the {@code dest} buffer at its
+   * position, with the byte order of the buffer. The position of the buffer is
+   * advanced by {@code length * 2}.
+   *
+   * @param src The source {@code short} array.
+   * @param srcOffset The index of the first value in {@code src} to encode.
+   * @param dest The destination {@link ByteBuffer}.
+   * @param length The number of values to encode.
+   * @throws java.nio.BufferOverflowException If there are fewer than
+   *           {@code length * 2} bytes remaining in {@code dest}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or
+   *           {@code length} is negative, or if the range of {@code src} is
+   *           out of bounds.
+   * @throws java.nio.ReadOnlyBufferException If {@code dest} is read-only.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toBytes(final short[] src, final int srcOffset, final ByteBuffer dest, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    dest.asShortBuffer().put(src, srcOffset, length);
+    dest.position(dest.position() + length * Short.BYTES);
+  }
+
+  /**
+   * Encodes {@code length} {@code int} values of the {@code src} array,
+   * starting at {@code srcOffset}, into {@code length * 4} bytes of the
+   * {@code dest} array, starting at {@code destOffset}, with big- or
+   * little-endian encoding.
+   * <p>
+   * The values are encoded in bulk through a {@link java.nio.IntBuffer} view
+   * of {@code dest}, rather than with a call to
+   * {@link #toBytes(int,byte[],int,boolean)} for each value.
+   *
+   * @param src The source {@code int} array.
+   * @param srcOffset The index of the first value in {@code src} to encode.
+   * @param dest The destination {@code byte} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @param length The number of values to encode.
+   * @param isBigEndian Whether to encode the values in big-endian encoding.
+   * @throws ArithmeticException If {@code length * 4} overflows an
+   *           {@code int}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset},
+   *           {@code destOffset} or {@code length} is negative, or if the
+   *           range of {@code src} or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toBytes(final int[] src, final int srcOffset, final byte[] dest, final int destOffset, final int length, final boolean isBigEndian) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    final int size = Math.multiplyExact(length, Integer.BYTES);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length * 4", size);
+    ByteBuffer.wrap(dest, destOffset, size).order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(src, srcOffset, length);
+  }
+
+  /**
+   * Encodes {@code length} {@code int} values of the {@code src} array,
+   * starting at {@code srcOffset}, into the {@code dest} buffer at its
+   * position, with the byte order of the buffer. The position of the buffer is
+   * advanced by {@code length * 4}.
+   *
+   * @param src The source {@code int} array.
+   * @param srcOffset The index of the first value in {@code src} to encode.
+   * @param dest The destination {@link ByteBuffer}.
+   * @param length The number of values to encode.
+   * @throws java.nio.BufferOverflowException If there are fewer than
+   *           {@code length * 4} bytes remaining in {@code dest}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or
+   *           {@code length} is negative, or if the range of {@code src} is
+   *           out of bounds.
+   * @throws java.nio.ReadOnlyBufferException If {@code dest} is read-only.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toBytes(final int[] src, final int srcOffset, final ByteBuffer dest, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    dest.asIntBuffer().put(src, srcOffset, length);
+    dest.position(dest.position() + length * Integer.BYTES);
+  }
+
+  /**
+   * Encodes {@code length} {@code long} values of the {@code src} array,
+   * starting at {@code srcOffset}, into {@code length * 8} bytes of the
+   * {@code dest} array, starting at {@code destOffset}, with big- or
+   * little-endian encoding.
+   * <p>
+   * The values are encoded in bulk through a {@link java.nio.LongBuffer} view
+   * of {@code dest}, rather than with a call to
+   * {@link #toBytes(long,byte[],int,boolean)} for each value.
+   *
+   * @param src The source {@code long} array.
+   * @param srcOffset The index of the first value in {@code src} to encode.
+   * @param dest The destination {@code byte} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @param length The number of values to encode.
+   * @param isBigEndian Whether to encode the values in big-endian encoding.
+   * @throws ArithmeticException If {@code length * 8} overflows an
+   *           {@code int}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset},
+   *           {@code destOffset} or {@code length} is negative, or if the
+   *           range of {@code src} or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toBytes(final long[] src, final int srcOffset, final byte[] dest, final int destOffset, final int length, final boolean isBigEndian) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    final int size = Math.multiplyExact(length, Long.BYTES);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length * 8", size);
+    ByteBuffer.wrap(dest, destOffset, size).order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(src, srcOffset, length);
+  }
+
+  /**
+   * Encodes {@code length} {@code long} values of the {@code src} array,
+   * starting at {@code srcOffset}, into the {@code dest} buffer at its
+   * position, with the byte order of the buffer. The position of the buffer is
+   * advanced by {@code length * 8}.
+   *
+   * @param src The source {@code long} array.
+   * @param srcOffset The index of the first value in {@code src} to encode.
+   * @param dest The destination {@link ByteBuffer}.
+   * @param length The number of values to encode.
+   * @throws java.nio.BufferOverflowException If there are fewer than
+   *           {@code length * 8} bytes remaining in {@code dest}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or
+   *           {@code length} is negative, or if the range of {@code src} is
+   *           out of bounds.
+   * @throws java.nio.ReadOnlyBufferException If {@code dest} is read-only.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toBytes(final long[] src, final int srcOffset, final ByteBuffer dest, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    dest.asLongBuffer().put(src, srcOffset, length);
+    dest.position(dest.position() + length * Long.BYTES);
+  }
+
   /**
    * Create a signed {@code short} representation of a source {@code byte} array
    * with big- or little-endian encoding.
@@ -513,6 +1898,168 @@ public final class Bytes {
     return value;
   }
 
+  /**
+   * Decodes {@code length} {@code short} values from {@code length * 2}
+   * bytes of the {@code src} array, starting at {@code srcOffset}, into the
+   * {@code dest} array, starting at {@code destOffset}, with big- or
+   * little-endian encoding.
+   * <p>
+   * The values are decoded in bulk through a {@link java.nio.ShortBuffer} view
+   * of {@code src}, rather than with a call for each value.
+   *
+   * @param src The source {@code byte} array.
+   * @param srcOffset The index in {@code src} of the first byte to decode.
+   * @param dest The destination {@code short} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to decode.
+   * @param isBigEndian Whether the values are in big-endian encoding.
+   * @throws ArithmeticException If {@code length * 2} overflows an
+   *           {@code int}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset},
+   *           {@code destOffset} or {@code length} is negative, or if the
+   *           range of {@code src} or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toShorts(final byte[] src, final int srcOffset, final short[] dest, final int destOffset, final int length, final boolean isBigEndian) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    final int size = Math.multiplyExact(length, Short.BYTES);
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length * 2", size);
+    ByteBuffer.wrap(src, srcOffset, size).order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(dest, destOffset, length);
+  }
+
+  /**
+   * Decodes {@code length} {@code short} values from the {@code src} buffer
+   * at its position, with the byte order of the buffer, into the {@code dest}
+   * array, starting at {@code destOffset}. The position of the buffer is
+   * advanced by {@code length * 2}.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @param dest The destination {@code short} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to decode.
+   * @throws java.nio.BufferUnderflowException If there are fewer than
+   *           {@code length * 2} bytes remaining in {@code src}.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or
+   *           {@code length} is negative, or if the range of {@code dest}
+   *           is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toShorts(final ByteBuffer src, final short[] dest, final int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    src.asShortBuffer().get(dest, destOffset, length);
+    src.position(src.position() + length * Short.BYTES);
+  }
+
+  /**
+   * Decodes {@code length} {@code int} values from {@code length * 4}
+   * bytes of the {@code src} array, starting at {@code srcOffset}, into the
+   * {@code dest} array, starting at {@code destOffset}, with big- or
+   * little-endian encoding.
+   * <p>
+   * The values are decoded in bulk through a {@link java.nio.IntBuffer} view
+   * of {@code src}, rather than with a call for each value.
+   *
+   * @param src The source {@code byte} array.
+   * @param srcOffset The index in {@code src} of the first byte to decode.
+   * @param dest The destination {@code int} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to decode.
+   * @param isBigEndian Whether the values are in big-endian encoding.
+   * @throws ArithmeticException If {@code length * 4} overflows an
+   *           {@code int}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset},
+   *           {@code destOffset} or {@code length} is negative, or if the
+   *           range of {@code src} or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toInts(final byte[] src, final int srcOffset, final int[] dest, final int destOffset, final int length, final boolean isBigEndian) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    final int size = Math.multiplyExact(length, Integer.BYTES);
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length * 4", size);
+    ByteBuffer.wrap(src, srcOffset, size).order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(dest, destOffset, length);
+  }
+
+  /**
+   * Decodes {@code length} {@code int} values from the {@code src} buffer
+   * at its position, with the byte order of the buffer, into the {@code dest}
+   * array, starting at {@code destOffset}. The position of the buffer is
+   * advanced by {@code length * 4}.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @param dest The destination {@code int} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to decode.
+   * @throws java.nio.BufferUnderflowException If there are fewer than
+   *           {@code length * 4} bytes remaining in {@code src}.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or
+   *           {@code length} is negative, or if the range of {@code dest}
+   *           is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toInts(final ByteBuffer src, final int[] dest, final int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    src.asIntBuffer().get(dest, destOffset, length);
+    src.position(src.position() + length * Integer.BYTES);
+  }
+
+  /**
+   * Decodes {@code length} {@code long} values from {@code length * 8}
+   * bytes of the {@code src} array, starting at {@code srcOffset}, into the
+   * {@code dest} array, starting at {@code destOffset}, with big- or
+   * little-endian encoding.
+   * <p>
+   * The values are decoded in bulk through a {@link java.nio.LongBuffer} view
+   * of {@code src}, rather than with a call for each value.
+   *
+   * @param src The source {@code byte} array.
+   * @param srcOffset The index in {@code src} of the first byte to decode.
+   * @param dest The destination {@code long} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to decode.
+   * @param isBigEndian Whether the values are in big-endian encoding.
+   * @throws ArithmeticException If {@code length * 8} overflows an
+   *           {@code int}.
+   * @throws IndexOutOfBoundsException If {@code srcOffset},
+   *           {@code destOffset} or {@code length} is negative, or if the
+   *           range of {@code src} or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toLongs(final byte[] src, final int srcOffset, final long[] dest, final int destOffset, final int length, final boolean isBigEndian) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    final int size = Math.multiplyExact(length, Long.BYTES);
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length * 8", size);
+    ByteBuffer.wrap(src, srcOffset, size).order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(dest, destOffset, length);
+  }
+
+  /**
+   * Decodes {@code length} {@code long} values from the {@code src} buffer
+   * at its position, with the byte order of the buffer, into the {@code dest}
+   * array, starting at {@code destOffset}. The position of the buffer is
+   * advanced by {@code length * 8}.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @param dest The destination {@code long} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to decode.
+   * @throws java.nio.BufferUnderflowException If there are fewer than
+   *           {@code length * 8} bytes remaining in {@code src}.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or
+   *           {@code length} is negative, or if the range of {@code dest}
+   *           is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static void toLongs(final ByteBuffer src, final long[] dest, final int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    src.asLongBuffer().get(dest, destOffset, length);
+    src.position(src.position() + length * Long.BYTES);
+  }
+
   /**
    * Returns a {@code short} representing the base-8 value of the specified
    * {@code byte}.
@@ -770,6 +2317,555 @@ public final class Bytes {
     return (byte)(1 + StrictMath.log(value) / LOG_2);
   }
 
+  /**
+   * Returns the number of bytes of the unsigned LEB128 (varint) encoding of
+   * the specified value, which is between 1 and 5. Negative values are
+   * encoded in 5 bytes, and should be encoded with
+   * {@link #encodeZigZag(int)} if they are frequent.
+   *
+   * @param value The value.
+   * @return The number of bytes of the unsigned LEB128 (varint) encoding of
+   *         the specified value.
+   */
+  public static int getVarIntSize(final int value) {
+    return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  /**
+   * Returns the number of bytes of the unsigned LEB128 (varint) encoding of
+   * the specified value, which is between 1 and 10. Negative values are
+   * encoded in 10 bytes, and should be encoded with
+   * {@link #encodeZigZag(long)} if they are frequent.
+   *
+   * @param value The value.
+   * @return The number of bytes of the unsigned LEB128 (varint) encoding of
+   *         the specified value.
+   */
+  public static int getVarLongSize(final long value) {
+    return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  /**
+   * Returns the ZigZag encoding of the specified value, which maps signed
+   * values to unsigned values so that values of small magnitude have a short
+   * varint encoding: {@code 0 -> 0, -1 -> 1, 1 -> 2, -2 -> 3, ...}
+   *
+   * @param value The value to encode.
+   * @return The ZigZag encoding of the specified value.
+   */
+  public static int encodeZigZag(final int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  /**
+   * Returns the ZigZag encoding of the specified value, which maps signed
+   * values to unsigned values so that values of small magnitude have a short
+   * varint encoding: {@code 0 -> 0, -1 -> 1, 1 -> 2, -2 -> 3, ...}
+   *
+   * @param value The value to encode.
+   * @return The ZigZag encoding of the specified value.
+   */
+  public static long encodeZigZag(final long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * Returns the value of the specified ZigZag encoding.
+   *
+   * @param value The ZigZag encoding to decode.
+   * @return The value of the specified ZigZag encoding.
+   * @see #encodeZigZag(int)
+   */
+  public static int decodeZigZag(final int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Returns the value of the specified ZigZag encoding.
+   *
+   * @param value The ZigZag encoding to decode.
+   * @return The value of the specified ZigZag encoding.
+   * @see #encodeZigZag(long)
+   */
+  public static long decodeZigZag(final long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Writes the unsigned LEB128 (varint) encoding of the specified value to the
+   * destination {@code byte} array at an offset. Each byte holds 7 bits of the
+   * value, least significant first, with the high bit set on all but the last
+   * byte.
+   *
+   * @param dest The destination {@code byte} array.
+   * @param offset The offset into the destination {@code byte} array where to
+   *          begin writing.
+   * @param value The value to write.
+   * @return The new offset adjusted by the written bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encoding does not fit in
+   *           {@code dest} at the offset.
+   * @throws NullPointerException If {@code dest} is null.
+   * @see #getVarIntSize(int)
+   */
+  public static int writeVarInt(final byte[] dest, int offset, int value) {
+    for (; (value & ~0x7F) != 0; value >>>= 7)
+      dest[offset++] = (byte)(value | 0x80);
+
+    dest[offset++] = (byte)value;
+    return offset;
+  }
+
+  /**
+   * Writes the unsigned LEB128 (varint) encoding of the specified value to the
+   * destination {@code byte} array at an offset. Each byte holds 7 bits of the
+   * value, least significant first, with the high bit set on all but the last
+   * byte.
+   *
+   * @param dest The destination {@code byte} array.
+   * @param offset The offset into the destination {@code byte} array where to
+   *          begin writing.
+   * @param value The value to write.
+   * @return The new offset adjusted by the written bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encoding does not fit in
+   *           {@code dest} at the offset.
+   * @throws NullPointerException If {@code dest} is null.
+   * @see #getVarLongSize(long)
+   */
+  public static int writeVarLong(final byte[] dest, int offset, long value) {
+    for (; (value & ~0x7FL) != 0; value >>>= 7)
+      dest[offset++] = (byte)(value | 0x80);
+
+    dest[offset++] = (byte)value;
+    return offset;
+  }
+
+  /**
+   * Writes the unsigned LEB128 (varint) encoding of the specified value to the
+   * destination {@link ByteBuffer} at its position, and advances the position
+   * by the number of written bytes.
+   *
+   * @param dest The destination {@link ByteBuffer}.
+   * @param value The value to write.
+   * @throws java.nio.BufferOverflowException If the encoding does not fit in
+   *           the remaining bytes of {@code dest}.
+   * @throws java.nio.ReadOnlyBufferException If {@code dest} is read-only.
+   * @throws NullPointerException If {@code dest} is null.
+   * @see #writeVarInt(byte[],int,int)
+   */
+  public static void writeVarInt(final ByteBuffer dest, int value) {
+    for (; (value & ~0x7F) != 0; value >>>= 7)
+      dest.put((byte)(value | 0x80));
+
+    dest.put((byte)value);
+  }
+
+  /**
+   * Writes the unsigned LEB128 (varint) encoding of the specified value to the
+   * destination {@link ByteBuffer} at its position, and advances the position
+   * by the number of written bytes.
+   *
+   * @param dest The destination {@link ByteBuffer}.
+   * @param value The value to write.
+   * @throws java.nio.BufferOverflowException If the encoding does not fit in
+   *           the remaining bytes of {@code dest}.
+   * @throws java.nio.ReadOnlyBufferException If {@code dest} is read-only.
+   * @throws NullPointerException If {@code dest} is null.
+   * @see #writeVarLong(byte[],int,long)
+   */
+  public static void writeVarLong(final ByteBuffer dest, long value) {
+    for (; (value & ~0x7FL) != 0; value >>>= 7)
+      dest.put((byte)(value | 0x80));
+
+    dest.put((byte)value);
+  }
+
+  /**
+   * Reads an {@code int} from its unsigned LEB128 (varint) encoding in the
+   * source {@code byte} array at an offset. The number of bytes read is
+   * {@link #getVarIntSize(int) getVarIntSize(value)}.
+   *
+   * @param src The source {@code byte} array.
+   * @param offset The offset into the source {@code byte} array where to begin
+   *          reading.
+   * @return The {@code int} value of the encoding.
+   * @throws ArrayIndexOutOfBoundsException If the encoding is truncated by the
+   *           end of {@code src}.
+   * @throws IllegalArgumentException If the encoding is longer than 5 bytes,
+   *           has bits beyond the 32 bits of an {@code int}, or is not
+   *           minimal.
+   * @throws NullPointerException If {@code src} is null.
+   */
+  public static int readVarInt(final byte[] src, int offset) {
+    int b = src[offset];
+    if (b >= 0)
+      return b;
+
+    int value = b & 0x7F;
+    for (int shift = 7; shift < 28; shift += 7) {
+      if ((b = src[++offset]) > 0)
+        return value | b << shift;
+
+      if (b == 0)
+        throw new IllegalArgumentException("Malformed varint at offset " + offset);
+
+      value |= (b & 0x7F) << shift;
+    }
+
+    if ((b = src[++offset]) <= 0 || b > 0x0F)
+      throw new IllegalArgumentException("Malformed varint at offset " + offset);
+
+    return value | b << 28;
+  }
+
+  /**
+   * Reads a {@code long} from its unsigned LEB128 (varint) encoding in the
+   * source {@code byte} array at an offset. The number of bytes read is
+   * {@link #getVarLongSize(long) getVarLongSize(value)}.
+   *
+   * @param src The source {@code byte} array.
+   * @param offset The offset into the source {@code byte} array where to begin
+   *          reading.
+   * @return The {@code long} value of the encoding.
+   * @throws ArrayIndexOutOfBoundsException If the encoding is truncated by the
+   *           end of {@code src}.
+   * @throws IllegalArgumentException If the encoding is longer than 10 bytes,
+   *           has bits beyond the 64 bits of a {@code long}, or is not
+   *           minimal.
+   * @throws NullPointerException If {@code src} is null.
+   */
+  public static long readVarLong(final byte[] src, int offset) {
+    long b = src[offset];
+    if (b >= 0)
+      return b;
+
+    long value = b & 0x7F;
+    for (int shift = 7; shift < 63; shift += 7) {
+      if ((b = src[++offset]) > 0)
+        return value | b << shift;
+
+      if (b == 0)
+        throw new IllegalArgumentException("Malformed varint at offset " + offset);
+
+      value |= (b & 0x7F) << shift;
+    }
+
+    if ((b = src[++offset]) != 1)
+      throw new IllegalArgumentException("Malformed varint at offset " + offset);
+
+    return value | b << 63;
+  }
+
+  /**
+   * Reads an {@code int} from its unsigned LEB128 (varint) encoding in the
+   * source {@link ByteBuffer} at its position, and advances the position by
+   * the number of read bytes.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @return The {@code int} value of the encoding.
+   * @throws java.nio.BufferUnderflowException If the encoding is truncated by
+   *           the limit of {@code src}.
+   * @throws IllegalArgumentException If the encoding is longer than 5 bytes,
+   *           has bits beyond the 32 bits of an {@code int}, or is not
+   *           minimal.
+   * @throws NullPointerException If {@code src} is null.
+   */
+  public static int readVarInt(final ByteBuffer src) {
+    int b = src.get();
+    if (b >= 0)
+      return b;
+
+    int value = b & 0x7F;
+    for (int shift = 7; shift < 28; shift += 7) {
+      if ((b = src.get()) > 0)
+        return value | b << shift;
+
+      if (b == 0)
+        throw new IllegalArgumentException("Malformed varint at position " + (src.position() - 1));
+
+      value |= (b & 0x7F) << shift;
+    }
+
+    if ((b = src.get()) <= 0 || b > 0x0F)
+      throw new IllegalArgumentException("Malformed varint at position " + (src.position() - 1));
+
+    return value | b << 28;
+  }
+
+  /**
+   * Reads a {@code long} from its unsigned LEB128 (varint) encoding in the
+   * source {@link ByteBuffer} at its position, and advances the position by
+   * the number of read bytes.
+   *
+   * @param src The source {@link ByteBuffer}.
+   * @return The {@code long} value of the encoding.
+   * @throws java.nio.BufferUnderflowException If the encoding is truncated by
+   *           the limit of {@code src}.
+   * @throws IllegalArgumentException If the encoding is longer than 10 bytes,
+   *           has bits beyond the 64 bits of a {@code long}, or is not
+   *           minimal.
+   * @throws NullPointerException If {@code src} is null.
+   */
+  public static long readVarLong(final ByteBuffer src) {
+    long b = src.get();
+    if (b >= 0)
+      return b;
+
+    long value = b & 0x7F;
+    for (int shift = 7; shift < 63; shift += 7) {
+      if ((b = src.get()) > 0)
+        return value | b << shift;
+
+      if (b == 0)
+        throw new IllegalArgumentException("Malformed varint at position " + (src.position() - 1));
+
+      value |= (b & 0x7F) << shift;
+    }
+
+    if ((b = src.get()) != 1)
+      throw new IllegalArgumentException("Malformed varint at position " + (src.position() - 1));
+
+    return value | b << 63;
+  }
+
+  /**
+   * Writes the unsigned LEB128 (varint) encodings of {@code length} values of
+   * the {@code src} array, starting at {@code srcOffset}, to the destination
+   * {@code byte} array at an offset. The destination needs at most
+   * {@code 5 * length} bytes.
+   *
+   * @param src The source {@code int} array.
+   * @param srcOffset The index of the first value in {@code src} to write.
+   * @param dest The destination {@code byte} array.
+   * @param destOffset The offset into the destination {@code byte} array where
+   *          to begin writing.
+   * @param length The number of values to write.
+   * @return The new offset adjusted by the written bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encodings do not fit in
+   *           {@code dest} at the offset.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or {@code length}
+   *           is negative, or if the range of {@code src} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   * @see #writeVarInt(byte[],int,int)
+   */
+  public static int writeVarInts(final int[] src, int srcOffset, final byte[] dest, int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    for (final int end = srcOffset + length; srcOffset < end; ++srcOffset)
+      destOffset = writeVarInt(dest, destOffset, src[srcOffset]);
+
+    return destOffset;
+  }
+
+  /**
+   * Writes the unsigned LEB128 (varint) encodings of {@code length} values of
+   * the {@code src} array, starting at {@code srcOffset}, to the destination
+   * {@code byte} array at an offset. The destination needs at most
+   * {@code 10 * length} bytes.
+   *
+   * @param src The source {@code long} array.
+   * @param srcOffset The index of the first value in {@code src} to write.
+   * @param dest The destination {@code byte} array.
+   * @param destOffset The offset into the destination {@code byte} array where
+   *          to begin writing.
+   * @param length The number of values to write.
+   * @return The new offset adjusted by the written bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encodings do not fit in
+   *           {@code dest} at the offset.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or {@code length}
+   *           is negative, or if the range of {@code src} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   * @see #writeVarLong(byte[],int,long)
+   */
+  public static int writeVarLongs(final long[] src, int srcOffset, final byte[] dest, int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    for (final int end = srcOffset + length; srcOffset < end; ++srcOffset)
+      destOffset = writeVarLong(dest, destOffset, src[srcOffset]);
+
+    return destOffset;
+  }
+
+  /**
+   * Reads {@code length} {@code int} values from their unsigned LEB128
+   * (varint) encodings in the source {@code byte} array at an offset, into the
+   * {@code dest} array, starting at {@code destOffset}.
+   *
+   * @param src The source {@code byte} array.
+   * @param srcOffset The offset into the source {@code byte} array where to
+   *          begin reading.
+   * @param dest The destination {@code int} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to read.
+   * @return The new offset adjusted by the read bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encodings are truncated by
+   *           the end of {@code src}.
+   * @throws IllegalArgumentException If an encoding is malformed.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or {@code length}
+   *           is negative, or if the range of {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   * @see #readVarInt(byte[],int)
+   */
+  public static int readVarInts(final byte[] src, int srcOffset, final int[] dest, int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    for (final int end = destOffset + length; destOffset < end; ++destOffset) {
+      final int b = src[srcOffset];
+      if (b >= 0) {
+        dest[destOffset] = b;
+        ++srcOffset;
+      }
+      else {
+        final int value = dest[destOffset] = readVarInt(src, srcOffset);
+        srcOffset += getVarIntSize(value);
+      }
+    }
+
+    return srcOffset;
+  }
+
+  /**
+   * Reads {@code length} {@code long} values from their unsigned LEB128
+   * (varint) encodings in the source {@code byte} array at an offset, into the
+   * {@code dest} array, starting at {@code destOffset}.
+   *
+   * @param src The source {@code byte} array.
+   * @param srcOffset The offset into the source {@code byte} array where to
+   *          begin reading.
+   * @param dest The destination {@code long} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to read.
+   * @return The new offset adjusted by the read bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encodings are truncated by
+   *           the end of {@code src}.
+   * @throws IllegalArgumentException If an encoding is malformed.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or {@code length}
+   *           is negative, or if the range of {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   * @see #readVarLong(byte[],int)
+   */
+  public static int readVarLongs(final byte[] src, int srcOffset, final long[] dest, int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    for (final int end = destOffset + length; destOffset < end; ++destOffset) {
+      final int b = src[srcOffset];
+      if (b >= 0) {
+        dest[destOffset] = b;
+        ++srcOffset;
+      }
+      else {
+        final long value = dest[destOffset] = readVarLong(src, srcOffset);
+        srcOffset += getVarLongSize(value);
+      }
+    }
+
+    return srcOffset;
+  }
+
+  /**
+   * Writes {@code length} values of the {@code src} array, starting at
+   * {@code srcOffset}, to the destination {@code byte} array at an offset, in
+   * the group varint encoding.
+   * <p>
+   * Each group of 4 values is encoded as a tag byte, followed by each value in
+   * 1 to 4 little-endian bytes. The tag holds 2 bits for the byte length of
+   * each value, minus 1, with the first value in the least significant bits.
+   * The last group holds the remaining {@code length % 4} values, if any. The
+   * destination needs at most {@code (length + 3) / 4 + 4 * length} bytes.
+   * <p>
+   * Compared to {@link #writeVarInts(int[],int,byte[],int,int) varint}
+   * encoding, group varint decodes 4 values per branch on the tag, rather than
+   * branching on each byte.
+   *
+   * @param src The source {@code int} array.
+   * @param srcOffset The index of the first value in {@code src} to write.
+   * @param dest The destination {@code byte} array.
+   * @param destOffset The offset into the destination {@code byte} array where
+   *          to begin writing.
+   * @param length The number of values to write.
+   * @return The new offset adjusted by the written bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encoding does not fit in
+   *           {@code dest} at the offset.
+   * @throws IndexOutOfBoundsException If {@code srcOffset} or {@code length}
+   *           is negative, or if the range of {@code src} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   */
+  public static int writeGroupVarInts(final int[] src, int srcOffset, final byte[] dest, int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+    for (final int end = srcOffset + length; srcOffset < end;) {
+      final int tagOffset = destOffset++;
+      int tag = 0;
+      for (int i = 0, n = Math.min(4, end - srcOffset); i < n; ++i) {
+        final int value = src[srcOffset++];
+        final int size = Math.max(1, 4 - (Integer.numberOfLeadingZeros(value) >>> 3));
+        tag |= (size - 1) << (i << 1);
+        for (int shift = 0; shift < size << 3; shift += 8)
+          dest[destOffset++] = (byte)(value >>> shift);
+      }
+
+      dest[tagOffset] = (byte)tag;
+    }
+
+    return destOffset;
+  }
+
+  /** The masks of the low 1, 2, 3 and 4 bytes of an {@code int}. */
+  private static final int[] GROUP_VARINT_MASKS = {0xFF, 0xFFFF, 0xFFFFFF, 0xFFFFFFFF};
+
+  /**
+   * Reads {@code length} values from their group varint encoding in the
+   * source {@code byte} array at an offset, into the {@code dest} array,
+   * starting at {@code destOffset}.
+   * <p>
+   * Groups that are followed by at least 16 bytes of {@code src} are decoded
+   * with a masked 4-byte read of each value, with no branches on the byte
+   * lengths of the values.
+   *
+   * @param src The source {@code byte} array.
+   * @param srcOffset The offset into the source {@code byte} array where to
+   *          begin reading.
+   * @param dest The destination {@code int} array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to read.
+   * @return The new offset adjusted by the read bytes.
+   * @throws ArrayIndexOutOfBoundsException If the encoding is truncated by the
+   *           end of {@code src}.
+   * @throws IndexOutOfBoundsException If {@code destOffset} or {@code length}
+   *           is negative, or if the range of {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code src} or {@code dest} is null.
+   * @see #writeGroupVarInts(int[],int,byte[],int,int)
+   */
+  public static int readGroupVarInts(final byte[] src, int srcOffset, final int[] dest, int destOffset, final int length) {
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+    final int[] masks = GROUP_VARINT_MASKS;
+    final int end = destOffset + length;
+    for (final int fastEnd = end - 3, fastLimit = src.length - 17; destOffset < fastEnd && srcOffset <= fastLimit; destOffset += 4) {
+      final int tag = src[srcOffset++];
+      final int size0 = tag & 3, size1 = (tag >>> 2) & 3, size2 = (tag >>> 4) & 3;
+      dest[destOffset] = getIntLE(src, srcOffset) & masks[size0];
+      dest[destOffset + 1] = getIntLE(src, srcOffset += size0 + 1) & masks[size1];
+      dest[destOffset + 2] = getIntLE(src, srcOffset += size1 + 1) & masks[size2];
+      dest[destOffset + 3] = getIntLE(src, srcOffset += size2 + 1) & masks[(tag >>> 6) & 3];
+      srcOffset += ((tag >>> 6) & 3) + 1;
+    }
+
+    while (destOffset < end) {
+      final int tag = src[srcOffset++];
+      for (int i = 0, n = Math.min(4, end - destOffset); i < n; ++i) {
+        final int size = ((tag >>> (i << 1)) & 3) + 1;
+        int value = 0;
+        for (int j = 0; j < size; ++j)
+          value |= (src[srcOffset++] & 0xFF) << (j << 3);
+
+        dest[destOffset++] = value;
+      }
+    }
+
+    return srcOffset;
+  }
+
+  private static int getIntLE(final byte[] src, final int offset) {
+    return src[offset] & 0xFF | (src[offset + 1] & 0xFF) << 8 | (src[offset + 2] & 0xFF) << 16 | src[offset + 3] << 24;
+  }
+
   private Bytes() {
   }
 }
\ No newline at end of file
@@ -0,0 +1,1170 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed bitmap of non-negative {@code int} bit indices, in the manner
+ * of <a href="https://roaringbitmap.org/">Roaring</a> bitmaps.
+ * <p>
+ * The bit indices are partitioned into chunks of {@code 2^16} by their high
+ * 16 bits, and only the chunks that have set bits are stored. Each chunk is
+ * stored in the smallest of 3 kinds of container:
+ * <ul>
+ * <li>An <b>array</b> container of the sorted low 16 bits of each set bit,
+ * for chunks with at most 4096 set bits.</li>
+ * <li>A <b>bitmap</b> container of {@code 1024} words, for chunks with more
+ * than 4096 set bits.</li>
+ * <li>A <b>run</b> container of the sorted runs of consecutive set bits,
+ * which is created by {@link #set(int,int)} for fully set chunks, and by
+ * {@link #runOptimize()}.</li>
+ * </ul>
+ * A sparse set with a few bits near {@link Integer#MAX_VALUE} therefore takes
+ * a few bytes, rather than the {@code 256MB} of a dense {@code long[]}, and
+ * {@link #or(CompressedBitmap)}, {@link #and(CompressedBitmap)} and
+ * {@link #andNot(CompressedBitmap)} skip the chunks that are absent on either
+ * side.
+ * <p>
+ * {@link #valueOf(long[])} and {@link #toLongArray()} convert from and to the
+ * dense {@code long[]} representation of {@link Buffers}, and
+ * {@link #serialize(ByteBuffer)} and {@link #deserialize(ByteBuffer)} convert
+ * to and from a compact binary form.
+ * <p>
+ * This class is not thread safe.
+ */
+public class CompressedBitmap implements Serializable {
+  private static final long serialVersionUID = 6013271848425359125L;
+
+  /** The maximum cardinality of an array container. */
+  private static final int ARRAY_MAX = 4096;
+  /** The number of bits in a chunk. */
+  private static final int CHUNK = 1 << 16;
+  /** The number of words of a bitmap container. */
+  private static final int WORDS = CHUNK / Long.SIZE;
+
+  private static final byte ARRAY = 0;
+  private static final byte BITMAP = 1;
+  private static final byte RUN = 2;
+
+  /**
+   * Sets the bits from {@code from} (inclusive) to {@code to} (exclusive) of
+   * the chunk at {@code offset} in {@code words}.
+   */
+  private static void setRange(final long[] words, final int offset, final int from, final int to) {
+    if (from == to)
+      return;
+
+    final int first = offset + (from >>> 6);
+    final int last = offset + ((to - 1) >>> 6);
+    final long firstMask = -1L << from;
+    final long lastMask = -1L >>> -to;
+    if (first == last) {
+      words[first] |= firstMask & lastMask;
+    }
+    else {
+      words[first] |= firstMask;
+      Arrays.fill(words, first + 1, last, -1L);
+      words[last] |= lastMask;
+    }
+  }
+
+  private static int cardinality(final long[] words) {
+    int cardinality = 0;
+    for (final long word : words)
+      cardinality += Long.bitCount(word);
+
+    return cardinality;
+  }
+
+  /**
+   * A container of the set bits of a chunk, as their low 16 bits. Mutating
+   * methods return the container that holds the result, which is this
+   * container, or a new container of another kind.
+   */
+  private abstract static class Container implements Serializable {
+    private static final long serialVersionUID = -3207466284302497001L;
+
+    abstract byte type();
+    abstract int cardinality();
+    abstract boolean contains(int x);
+    abstract Container add(int x);
+    abstract Container remove(int x);
+    abstract int nextSetBit(int from);
+    abstract int last();
+    abstract void forEach(int high, IntConsumer action);
+    /** Sets the bits of this container in the chunk at {@code offset} in {@code words}, which may end within the chunk after the last set bit. */
+    abstract void toWords(long[] words, int offset);
+    abstract int serializedSize();
+    abstract void write(ByteBuffer buf);
+    abstract Container copy();
+
+    /** Returns the words of this container, which must not be modified. */
+    long[] words() {
+      final long[] words = new long[WORDS];
+      toWords(words, 0);
+      return words;
+    }
+
+    BitmapContainer toBitmap() {
+      final long[] words = new long[WORDS];
+      toWords(words, 0);
+      return new BitmapContainer(words, cardinality());
+    }
+
+    Container runOptimize() {
+      final int runs = countRuns();
+      return RunContainer.sizeOf(runs) < serializedSize() ? RunContainer.valueOf(words(), runs) : this;
+    }
+
+    abstract int countRuns();
+  }
+
+  private static final class ArrayContainer extends Container {
+    private static final long serialVersionUID = 3860262718040426245L;
+
+    private char[] values;
+    private int size;
+
+    private ArrayContainer(final char[] values, final int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    private ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    @Override
+    byte type() {
+      return ARRAY;
+    }
+
+    @Override
+    int cardinality() {
+      return size;
+    }
+
+    @Override
+    boolean contains(final int x) {
+      return Arrays.binarySearch(values, 0, size, (char)x) >= 0;
+    }
+
+    @Override
+    Container add(final int x) {
+      int i = Arrays.binarySearch(values, 0, size, (char)x);
+      if (i >= 0)
+        return this;
+
+      if (size == ARRAY_MAX)
+        return toBitmap().add(x);
+
+      i = -i - 1;
+      if (size == values.length)
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+
+      System.arraycopy(values, i, values, i + 1, size - i);
+      values[i] = (char)x;
+      ++size;
+      return this;
+    }
+
+    @Override
+    Container remove(final int x) {
+      final int i = Arrays.binarySearch(values, 0, size, (char)x);
+      if (i >= 0)
+        System.arraycopy(values, i + 1, values, i, --size - i);
+
+      return this;
+    }
+
+    @Override
+    int nextSetBit(final int from) {
+      int i = Arrays.binarySearch(values, 0, size, (char)from);
+      if (i < 0)
+        i = -i - 1;
+
+      return i < size ? values[i] : -1;
+    }
+
+    @Override
+    int last() {
+      return values[size - 1];
+    }
+
+    @Override
+    void forEach(final int high, final IntConsumer action) {
+      for (int i = 0; i < size; ++i)
+        action.accept(high | values[i]);
+    }
+
+    @Override
+    void toWords(final long[] words, final int offset) {
+      for (int i = 0; i < size; ++i)
+        words[offset + (values[i] >>> 6)] |= 1L << values[i];
+    }
+
+    @Override
+    int serializedSize() {
+      return 2 * size;
+    }
+
+    @Override
+    void write(final ByteBuffer buf) {
+      for (int i = 0; i < size; ++i)
+        buf.putChar(values[i]);
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+    }
+
+    @Override
+    int countRuns() {
+      int runs = 0;
+      for (int i = 0; i < size; ++i)
+        if (i == 0 || values[i] != values[i - 1] + 1)
+          ++runs;
+
+      return runs;
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+    private static final long serialVersionUID = -4934364405380108380L;
+
+    private final long[] words;
+    private int cardinality;
+
+    private BitmapContainer(final long[] words, final int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    byte type() {
+      return BITMAP;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(final int x) {
+      return (words[x >>> 6] & 1L << x) != 0;
+    }
+
+    @Override
+    Container add(final int x) {
+      final long bit = 1L << x;
+      if ((words[x >>> 6] & bit) == 0) {
+        words[x >>> 6] |= bit;
+        ++cardinality;
+      }
+
+      return this;
+    }
+
+    @Override
+    Container remove(final int x) {
+      final long bit = 1L << x;
+      if ((words[x >>> 6] & bit) != 0) {
+        words[x >>> 6] &= ~bit;
+        if (--cardinality <= ARRAY_MAX)
+          return toArray();
+      }
+
+      return this;
+    }
+
+    @Override
+    int nextSetBit(final int from) {
+      return Buffers.nextSetBit(words, from);
+    }
+
+    @Override
+    int last() {
+      int i = WORDS - 1;
+      while (words[i] == 0)
+        --i;
+
+      return i * Long.SIZE + 63 - Long.numberOfLeadingZeros(words[i]);
+    }
+
+    @Override
+    void forEach(final int high, final IntConsumer action) {
+      for (int i = 0; i < WORDS; ++i)
+        for (long word = words[i]; word != 0; word &= word - 1)
+          action.accept(high | i * Long.SIZE + Long.numberOfTrailingZeros(word));
+    }
+
+    @Override
+    void toWords(final long[] words, final int offset) {
+      for (int i = 0, n = Math.min(WORDS, words.length - offset); i < n; ++i)
+        words[offset + i] |= this.words[i];
+    }
+
+    @Override
+    long[] words() {
+      return words;
+    }
+
+    @Override
+    BitmapContainer toBitmap() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    int serializedSize() {
+      return WORDS * Long.BYTES;
+    }
+
+    @Override
+    void write(final ByteBuffer buf) {
+      Bytes.toBytes(words, 0, buf, WORDS);
+    }
+
+    @Override
+    Container copy() {
+      return toBitmap();
+    }
+
+    @Override
+    int countRuns() {
+      int runs = 0;
+      for (int i = 0, carry = 0; i < WORDS; ++i) {
+        final long word = words[i];
+        runs += Long.bitCount(word & ~(word << 1 | carry));
+        carry = (int)(word >>> 63);
+      }
+
+      return runs;
+    }
+
+    private ArrayContainer toArray() {
+      final char[] values = new char[Math.max(cardinality, 1)];
+      int size = 0;
+      for (int i = 0; i < WORDS; ++i)
+        for (long word = words[i]; word != 0; word &= word - 1)
+          values[size++] = (char)(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+
+      return new ArrayContainer(values, size);
+    }
+
+    /** Returns the container of the smallest kind for the bits of this container. */
+    private Container normalize() {
+      return cardinality <= ARRAY_MAX ? toArray() : this;
+    }
+  }
+
+  private static final class RunContainer extends Container {
+    private static final long serialVersionUID = 4574981768232271305L;
+
+    /** The start and the length minus one of each run, in pairs. */
+    private final char[] runs;
+    private final int count;
+    private final int cardinality;
+
+    private static int sizeOf(final int runs) {
+      return 2 + 4 * runs;
+    }
+
+    private static RunContainer valueOf(final long[] words, final int count) {
+      final char[] runs = new char[2 * count];
+      int cardinality = 0;
+      for (int i = 0, start = Buffers.nextSetBit(words, 0), end; start >= 0; start = end < CHUNK ? Buffers.nextSetBit(words, end) : -1) {
+        end = Buffers.nextClearBit(words, start);
+        runs[i++] = (char)start;
+        runs[i++] = (char)(end - start - 1);
+        cardinality += end - start;
+      }
+
+      return new RunContainer(runs, count, cardinality);
+    }
+
+    private RunContainer(final char[] runs, final int count, final int cardinality) {
+      this.runs = runs;
+      this.count = count;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    byte type() {
+      return RUN;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    /** Returns the index of the last run that starts at or before {@code x}, or {@code -1}. */
+    private int floorRun(final int x) {
+      int low = 0, high = count - 1;
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+        if (runs[2 * mid] <= x)
+          low = mid + 1;
+        else
+          high = mid - 1;
+      }
+
+      return high;
+    }
+
+    @Override
+    boolean contains(final int x) {
+      final int i = floorRun(x);
+      return i >= 0 && x <= runs[2 * i] + runs[2 * i + 1];
+    }
+
+    @Override
+    Container add(final int x) {
+      final int i = floorRun(x);
+      if (i >= 0 && x <= runs[2 * i] + runs[2 * i + 1])
+        return this;
+
+      final boolean left = i >= 0 && runs[2 * i] + runs[2 * i + 1] + 1 == x;
+      final boolean right = i + 1 < count && runs[2 * i + 2] == x + 1;
+      final char[] runs;
+      final int count;
+      if (left && right) {
+        runs = new char[2 * (count = this.count - 1)];
+        System.arraycopy(this.runs, 0, runs, 0, 2 * i + 2);
+        runs[2 * i + 1] = (char)(this.runs[2 * i + 2] + this.runs[2 * i + 3] - this.runs[2 * i]);
+        System.arraycopy(this.runs, 2 * i + 4, runs, 2 * i + 2, 2 * count - 2 * i - 2);
+      }
+      else if (left) {
+        runs = this.runs.clone();
+        count = this.count;
+        ++runs[2 * i + 1];
+      }
+      else if (right) {
+        runs = this.runs.clone();
+        count = this.count;
+        runs[2 * i + 2] = (char)x;
+        ++runs[2 * i + 3];
+      }
+      else {
+        if (sizeOf(this.count + 1) > (cardinality < ARRAY_MAX ? 2 * (cardinality + 1) : WORDS * Long.BYTES))
+          return (cardinality < ARRAY_MAX ? toArray() : toBitmap()).add(x);
+
+        runs = new char[2 * (count = this.count + 1)];
+        System.arraycopy(this.runs, 0, runs, 0, 2 * i + 2);
+        runs[2 * i + 2] = (char)x;
+        System.arraycopy(this.runs, 2 * i + 2, runs, 2 * i + 4, 2 * count - 2 * i - 4);
+      }
+
+      return new RunContainer(runs, count, cardinality + 1);
+    }
+
+    @Override
+    Container remove(final int x) {
+      return !contains(x) ? this : (cardinality <= ARRAY_MAX ? toArray() : toBitmap()).remove(x);
+    }
+
+    @Override
+    int nextSetBit(final int from) {
+      int i = floorRun(from);
+      if (i >= 0 && from <= runs[2 * i] + runs[2 * i + 1])
+        return from;
+
+      return ++i < count ? runs[2 * i] : -1;
+    }
+
+    @Override
+    int last() {
+      return runs[2 * count - 2] + runs[2 * count - 1];
+    }
+
+    @Override
+    void forEach(final int high, final IntConsumer action) {
+      for (int i = 0; i < count; ++i)
+        for (int x = runs[2 * i], end = x + runs[2 * i + 1]; x <= end; ++x)
+          action.accept(high | x);
+    }
+
+    @Override
+    void toWords(final long[] words, final int offset) {
+      for (int i = 0; i < count; ++i)
+        setRange(words, offset, runs[2 * i], runs[2 * i] + runs[2 * i + 1] + 1);
+    }
+
+    @Override
+    int serializedSize() {
+      return sizeOf(count);
+    }
+
+    @Override
+    void write(final ByteBuffer buf) {
+      buf.putChar((char)count);
+      for (int i = 0; i < 2 * count; ++i)
+        buf.putChar(runs[i]);
+    }
+
+    @Override
+    Container copy() {
+      return this;
+    }
+
+    @Override
+    int countRuns() {
+      return count;
+    }
+
+    @Override
+    Container runOptimize() {
+      return this;
+    }
+
+    private ArrayContainer toArray() {
+      final char[] values = new char[cardinality];
+      int size = 0;
+      for (int i = 0; i < count; ++i)
+        for (int x = runs[2 * i], end = x + runs[2 * i + 1]; x <= end; ++x)
+          values[size++] = (char)x;
+
+      return new ArrayContainer(values, size);
+    }
+  }
+
+  private static Container full() {
+    return new RunContainer(new char[] {0, (char)(CHUNK - 1)}, 1, CHUNK);
+  }
+
+  private static Container or(final Container a, final Container b) {
+    if (a.cardinality() == CHUNK)
+      return a;
+
+    if (b.cardinality() == CHUNK)
+      return b.copy();
+
+    if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+      final ArrayContainer x = (ArrayContainer)a, y = (ArrayContainer)b;
+      final char[] values = new char[x.size + y.size];
+      int i = 0, j = 0, size = 0;
+      while (i < x.size && j < y.size) {
+        final char v = x.values[i], w = y.values[j];
+        values[size++] = v <= w ? v : w;
+        if (v <= w)
+          ++i;
+
+        if (w <= v)
+          ++j;
+      }
+
+      while (i < x.size)
+        values[size++] = x.values[i++];
+
+      while (j < y.size)
+        values[size++] = y.values[j++];
+
+      if (size <= ARRAY_MAX)
+        return new ArrayContainer(values, size);
+    }
+
+    final BitmapContainer result = a instanceof BitmapContainer ? (BitmapContainer)a : a.toBitmap();
+    b.toWords(result.words, 0);
+    result.cardinality = cardinality(result.words);
+    return result.normalize();
+  }
+
+  private static Container and(final Container a, final Container b) {
+    if (a instanceof ArrayContainer || b instanceof ArrayContainer) {
+      final ArrayContainer x = a instanceof ArrayContainer ? (ArrayContainer)a : (ArrayContainer)b;
+      final Container y = x == a ? b : a;
+      final char[] values = new char[Math.max(x.size, 1)];
+      int size = 0;
+      for (int i = 0; i < x.size; ++i)
+        if (y.contains(x.values[i]))
+          values[size++] = x.values[i];
+
+      return new ArrayContainer(values, size);
+    }
+
+    final BitmapContainer result = a instanceof BitmapContainer ? (BitmapContainer)a : a.toBitmap();
+    final long[] words = b.words();
+    for (int i = 0; i < WORDS; ++i)
+      result.words[i] &= words[i];
+
+    result.cardinality = cardinality(result.words);
+    return result.normalize();
+  }
+
+  private static Container andNot(final Container a, final Container b) {
+    if (a instanceof ArrayContainer) {
+      final ArrayContainer x = (ArrayContainer)a;
+      int size = 0;
+      for (int i = 0; i < x.size; ++i)
+        if (!b.contains(x.values[i]))
+          x.values[size++] = x.values[i];
+
+      x.size = size;
+      return x;
+    }
+
+    final BitmapContainer result = a instanceof BitmapContainer ? (BitmapContainer)a : a.toBitmap();
+    final long[] words = b.words();
+    for (int i = 0; i < WORDS; ++i)
+      result.words[i] &= ~words[i];
+
+    result.cardinality = cardinality(result.words);
+    return result.normalize();
+  }
+
+  /**
+   * Returns a new {@link CompressedBitmap} with the set bits of the specified
+   * {@code long[]} bitset, in the representation of {@link Buffers}: bit
+   * {@code n} is bit {@code n % 64} of {@code buf[n / 64]}.
+   *
+   * @param buf The {@code long[]} bitset.
+   * @return A new {@link CompressedBitmap} with the set bits of {@code buf}.
+   * @throws IllegalArgumentException If {@code buf} has a set bit whose index
+   *           is greater than {@link Integer#MAX_VALUE}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static CompressedBitmap valueOf(final long[] buf) {
+    final int length = Buffers.length(buf);
+    if (length > (Integer.MAX_VALUE >> 6) + 1)
+      throw new IllegalArgumentException("Bit index exceeds Integer.MAX_VALUE: buf.length = " + buf.length);
+
+    final CompressedBitmap bitmap = new CompressedBitmap();
+    for (int offset = 0; offset < length; offset += WORDS) {
+      final long[] words = Arrays.copyOfRange(buf, offset, offset + WORDS);
+      final int cardinality = cardinality(words);
+      if (cardinality > 0)
+        bitmap.append((char)(offset / WORDS), new BitmapContainer(words, cardinality).normalize());
+    }
+
+    return bitmap;
+  }
+
+  /**
+   * Returns a new {@link CompressedBitmap} that is deserialized from the
+   * specified {@link ByteBuffer}, as written by {@link #serialize(ByteBuffer)}.
+   * The position of {@code buf} is advanced past the serialized form.
+   *
+   * @param buf The {@link ByteBuffer} from which to read the serialized form.
+   * @return A new {@link CompressedBitmap} that is deserialized from
+   *         {@code buf}.
+   * @throws java.nio.BufferUnderflowException If {@code buf} ends before the
+   *           end of the serialized form.
+   * @throws IllegalArgumentException If {@code buf} does not contain a valid
+   *           serialized form.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static CompressedBitmap deserialize(final ByteBuffer buf) {
+    final int size = buf.getInt();
+    if (size < 0 || size > CHUNK / 2)
+      throw new IllegalArgumentException("Illegal number of containers: " + size);
+
+    final CompressedBitmap bitmap = new CompressedBitmap();
+    for (int i = 0; i < size; ++i) {
+      final char key = buf.getChar();
+      if (key >= CHUNK / 2 || i > 0 && key <= bitmap.keys[i - 1])
+        throw new IllegalArgumentException("Illegal container key: " + (int)key);
+
+      final byte type = buf.get();
+      final Container container;
+      if (type == ARRAY) {
+        final int cardinality = buf.getChar() + 1;
+        if (cardinality > ARRAY_MAX)
+          throw new IllegalArgumentException("Illegal array container cardinality: " + cardinality);
+
+        final char[] values = new char[cardinality];
+        for (int j = 0; j < cardinality; ++j)
+          if ((values[j] = buf.getChar()) <= (j == 0 ? -1 : values[j - 1]))
+            throw new IllegalArgumentException("Unsorted array container");
+
+        container = new ArrayContainer(values, cardinality);
+      }
+      else if (type == BITMAP) {
+        final long[] words = new long[WORDS];
+        Bytes.toLongs(buf, words, 0, WORDS);
+        container = new BitmapContainer(words, cardinality(words));
+      }
+      else if (type == RUN) {
+        final int count = buf.getChar();
+        final char[] runs = new char[2 * count];
+        int cardinality = 0;
+        for (int j = 0, end = -1; j < count; ++j) {
+          final int start = runs[2 * j] = buf.getChar();
+          final int length = (runs[2 * j + 1] = buf.getChar()) + 1;
+          if (start <= end || start + length > CHUNK)
+            throw new IllegalArgumentException("Illegal run container");
+
+          end = start + length;
+          cardinality += length;
+        }
+
+        container = new RunContainer(runs, count, cardinality);
+      }
+      else {
+        throw new IllegalArgumentException("Illegal container type: " + type);
+      }
+
+      if (container.cardinality() == 0)
+        throw new IllegalArgumentException("Empty container");
+
+      bitmap.append(key, container);
+    }
+
+    return bitmap;
+  }
+
+  private static void assertIndex(final int bitIndex) {
+    if (bitIndex < 0)
+      throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+  }
+
+  /** The high 16 bits of the bit indices of each container, in ascending order. */
+  private char[] keys = new char[4];
+  private Container[] containers = new Container[4];
+  private int size;
+
+  /**
+   * Creates a new, empty {@link CompressedBitmap}.
+   */
+  public CompressedBitmap() {
+  }
+
+  private int indexOf(final char key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  private void insert(final int index, final char key, final Container container) {
+    if (size == keys.length) {
+      final int length = Math.max(4, size * 2);
+      keys = Arrays.copyOf(keys, length);
+      containers = Arrays.copyOf(containers, length);
+    }
+
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = key;
+    containers[index] = container;
+    ++size;
+  }
+
+  private void append(final char key, final Container container) {
+    insert(size, key, container);
+  }
+
+  private void removeAt(final int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+    containers[--size] = null;
+  }
+
+  /**
+   * Returns the value of the bit with the specified index.
+   *
+   * @param bitIndex The bit index.
+   * @return The value of the bit with the specified index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative.
+   */
+  public boolean get(final int bitIndex) {
+    assertIndex(bitIndex);
+    final int i = indexOf((char)(bitIndex >>> 16));
+    return i >= 0 && containers[i].contains(bitIndex & 0xFFFF);
+  }
+
+  /**
+   * Sets the bit at the specified index to {@code 1}.
+   *
+   * @param bitIndex The bit index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative.
+   */
+  public void set(final int bitIndex) {
+    assertIndex(bitIndex);
+    final char key = (char)(bitIndex >>> 16);
+    final int i = indexOf(key);
+    if (i >= 0)
+      containers[i] = containers[i].add(bitIndex & 0xFFFF);
+    else
+      insert(-i - 1, key, new ArrayContainer().add(bitIndex & 0xFFFF));
+  }
+
+  /**
+   * Sets the bits from the specified {@code fromIndex} (inclusive) to the
+   * specified {@code toIndex} (exclusive) to {@code 1}. Each chunk of
+   * {@code 2^16} bits that is fully covered by the range is stored as a
+   * single run, and each partially covered chunk is stored as runs if that is
+   * smaller.
+   *
+   * @param fromIndex The index of the first bit to be set.
+   * @param toIndex The index after the last bit to be set.
+   * @throws IndexOutOfBoundsException If {@code fromIndex} is negative.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   */
+  public void set(final int fromIndex, final int toIndex) {
+    assertIndex(fromIndex);
+    if (fromIndex > toIndex)
+      throw new IllegalArgumentException("fromIndex (" + fromIndex + ") > toIndex (" + toIndex + ")");
+
+    if (fromIndex == toIndex)
+      return;
+
+    final int firstKey = fromIndex >>> 16;
+    final int lastKey = (toIndex - 1) >>> 16;
+    for (int key = firstKey; key <= lastKey; ++key) {
+      final int from = key == firstKey ? fromIndex & 0xFFFF : 0;
+      final int to = key == lastKey ? ((toIndex - 1) & 0xFFFF) + 1 : CHUNK;
+      final int i = indexOf((char)key);
+      final Container container;
+      if (from == 0 && to == CHUNK) {
+        container = full();
+      }
+      else {
+        final BitmapContainer bitmap = i >= 0 ? containers[i].toBitmap() : new BitmapContainer(new long[WORDS], 0);
+        setRange(bitmap.words, 0, from, to);
+        bitmap.cardinality = cardinality(bitmap.words);
+        container = bitmap.normalize().runOptimize();
+      }
+
+      if (i >= 0)
+        containers[i] = container;
+      else
+        insert(-i - 1, (char)key, container);
+    }
+  }
+
+  /**
+   * Sets the bit at the specified index to {@code 0}.
+   *
+   * @param bitIndex The bit index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative.
+   */
+  public void clear(final int bitIndex) {
+    assertIndex(bitIndex);
+    final int i = indexOf((char)(bitIndex >>> 16));
+    if (i < 0)
+      return;
+
+    final Container container = containers[i].remove(bitIndex & 0xFFFF);
+    if (container.cardinality() == 0)
+      removeAt(i);
+    else
+      containers[i] = container;
+  }
+
+  /**
+   * Sets all of the bits to {@code 0}.
+   */
+  public void clear() {
+    Arrays.fill(containers, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Returns {@code true} if no bits are set to {@code 1}.
+   *
+   * @return {@code true} if no bits are set to {@code 1}.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of bits set to {@code 1}. The number is a
+   * {@code long}, because all {@code 2^31} non-negative {@code int} indices
+   * may be set.
+   *
+   * @return The number of bits set to {@code 1}.
+   */
+  public long cardinality() {
+    long cardinality = 0;
+    for (int i = 0; i < size; ++i)
+      cardinality += containers[i].cardinality();
+
+    return cardinality;
+  }
+
+  /**
+   * Returns the index of the highest set bit, plus one, or {@code 0} if no
+   * bits are set.
+   *
+   * @return The index of the highest set bit, plus one, or {@code 0} if no
+   *         bits are set.
+   */
+  public long length() {
+    return size == 0 ? 0 : ((long)keys[size - 1] << 16 | containers[size - 1].last()) + 1;
+  }
+
+  /**
+   * Returns the index of the first bit that is set to {@code 1} at or after
+   * the specified {@code fromIndex}, or {@code -1} if there is no such bit.
+   *
+   * @param fromIndex The index from which to start the search (inclusive).
+   * @return The index of the next set bit, or {@code -1} if there is no such
+   *         bit.
+   * @throws IndexOutOfBoundsException If {@code fromIndex} is negative.
+   */
+  public int nextSetBit(final int fromIndex) {
+    assertIndex(fromIndex);
+    int i = indexOf((char)(fromIndex >>> 16));
+    if (i >= 0) {
+      final int bit = containers[i].nextSetBit(fromIndex & 0xFFFF);
+      if (bit >= 0)
+        return keys[i] << 16 | bit;
+
+      ++i;
+    }
+    else {
+      i = -i - 1;
+    }
+
+    return i < size ? keys[i] << 16 | containers[i].nextSetBit(0) : -1;
+  }
+
+  /**
+   * Performs the given action for the index of each bit that is set to
+   * {@code 1}, in ascending order.
+   *
+   * @param action The action to be performed for the index of each set bit.
+   * @throws NullPointerException If {@code action} is null.
+   */
+  public void forEach(final IntConsumer action) {
+    for (int i = 0; i < size; ++i)
+      containers[i].forEach(keys[i] << 16, action);
+  }
+
+  /**
+   * Performs a logical <b>OR</b> of this bitmap with the specified bitmap.
+   * The chunks of {@code other} that are absent from this bitmap are copied.
+   *
+   * @param other The {@link CompressedBitmap} with which to <b>OR</b>.
+   * @throws NullPointerException If {@code other} is null.
+   */
+  public void or(final CompressedBitmap other) {
+    if (other == this)
+      return;
+
+    final char[] keys = new char[Math.max(4, size + other.size)];
+    final Container[] containers = new Container[keys.length];
+    int i = 0, j = 0, n = 0;
+    while (i < size && j < other.size) {
+      final char x = this.keys[i], y = other.keys[j];
+      if (x < y) {
+        keys[n] = x;
+        containers[n++] = this.containers[i++];
+      }
+      else if (y < x) {
+        keys[n] = y;
+        containers[n++] = other.containers[j++].copy();
+      }
+      else {
+        keys[n] = x;
+        containers[n++] = or(this.containers[i++], other.containers[j++]);
+      }
+    }
+
+    for (; i < size; ++i, ++n) {
+      keys[n] = this.keys[i];
+      containers[n] = this.containers[i];
+    }
+
+    for (; j < other.size; ++j, ++n) {
+      keys[n] = other.keys[j];
+      containers[n] = other.containers[j].copy();
+    }
+
+    this.keys = keys;
+    this.containers = containers;
+    this.size = n;
+  }
+
+  /**
+   * Performs a logical <b>AND</b> of this bitmap with the specified bitmap.
+   * Only the chunks that are present in both bitmaps are intersected.
+   *
+   * @param other The {@link CompressedBitmap} with which to <b>AND</b>.
+   * @throws NullPointerException If {@code other} is null.
+   */
+  public void and(final CompressedBitmap other) {
+    if (other == this)
+      return;
+
+    int n = 0;
+    for (int i = 0, j = 0; i < size && j < other.size;) {
+      final char x = keys[i], y = other.keys[j];
+      if (x < y) {
+        ++i;
+      }
+      else if (y < x) {
+        ++j;
+      }
+      else {
+        final Container container = and(containers[i++], other.containers[j++]);
+        if (container.cardinality() > 0) {
+          keys[n] = x;
+          containers[n++] = container;
+        }
+      }
+    }
+
+    Arrays.fill(containers, n, size, null);
+    size = n;
+  }
+
+  /**
+   * Clears the bits of this bitmap that are set in the specified bitmap. Only
+   * the chunks that are present in both bitmaps are modified.
+   *
+   * @param other The {@link CompressedBitmap} of the bits to clear.
+   * @throws NullPointerException If {@code other} is null.
+   */
+  public void andNot(final CompressedBitmap other) {
+    if (other == this) {
+      clear();
+      return;
+    }
+
+    int n = 0;
+    for (int i = 0, j = 0; i < size; ++i) {
+      final char x = keys[i];
+      while (j < other.size && other.keys[j] < x)
+        ++j;
+
+      final Container container = j < other.size && other.keys[j] == x ? andNot(containers[i], other.containers[j]) : containers[i];
+      if (container.cardinality() > 0) {
+        keys[n] = x;
+        containers[n++] = container;
+      }
+    }
+
+    Arrays.fill(containers, n, size, null);
+    size = n;
+  }
+
+  /**
+   * Converts each container to a run container, if that is smaller. This is
+   * beneficial for bitmaps with long runs of consecutive set bits.
+   */
+  public void runOptimize() {
+    for (int i = 0; i < size; ++i)
+      containers[i] = containers[i].runOptimize();
+  }
+
+  /**
+   * Returns a new {@code long[]} bitset with the set bits of this bitmap, in
+   * the representation of {@link Buffers}. The length of the array is its
+   * logical size, as per {@link Buffers#length(long[])}.
+   *
+   * @return A new {@code long[]} bitset with the set bits of this bitmap.
+   */
+  public long[] toLongArray() {
+    final long[] words = new long[(int)((length() + 63) >>> 6)];
+    for (int i = 0; i < size; ++i)
+      containers[i].toWords(words, keys[i] * WORDS);
+
+    return words;
+  }
+
+  /**
+   * Returns the number of bytes written by {@link #serialize(ByteBuffer)}.
+   *
+   * @return The number of bytes written by {@link #serialize(ByteBuffer)}.
+   */
+  public int serializedSize() {
+    int bytes = Integer.BYTES;
+    for (int i = 0; i < size; ++i)
+      bytes += 3 + (containers[i].type() == ARRAY ? 2 : 0) + containers[i].serializedSize();
+
+    return bytes;
+  }
+
+  /**
+   * Writes the serialized form of this bitmap to the specified
+   * {@link ByteBuffer} at its position, in the byte order of the buffer, and
+   * advances the position by {@link #serializedSize()}.
+   * <p>
+   * The serialized form is the number of containers as an {@code int}, and,
+   * for each container: its key as a {@code char}, its type as a
+   * {@code byte}, and its contents. The contents of an array container are
+   * its cardinality minus one and its values, as {@code char}s; of a bitmap
+   * container, its {@code 1024} words; and of a run container, its number of
+   * runs, and the start and the length minus one of each run, as
+   * {@code char}s.
+   *
+   * @param buf The {@link ByteBuffer} to which to write the serialized form.
+   * @throws BufferOverflowException If there are fewer than
+   *           {@link #serializedSize()} bytes remaining in {@code buf}.
+   * @throws java.nio.ReadOnlyBufferException If {@code buf} is read-only.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public void serialize(final ByteBuffer buf) {
+    if (buf.remaining() < serializedSize())
+      throw new BufferOverflowException();
+
+    buf.putInt(size);
+    for (int i = 0; i < size; ++i) {
+      final Container container = containers[i];
+      buf.putChar(keys[i]);
+      buf.put(container.type());
+      if (container.type() == ARRAY)
+        buf.putChar((char)(container.cardinality() - 1));
+
+      container.write(buf);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof CompressedBitmap))
+      return false;
+
+    final CompressedBitmap that = (CompressedBitmap)obj;
+    if (size != that.size)
+      return false;
+
+    for (int i = 0; i < size; ++i)
+      if (keys[i] != that.keys[i] || containers[i].cardinality() != that.containers[i].cardinality() || !Arrays.equals(containers[i].words(), that.containers[i].words()))
+        return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    final int[] hashCode = {1};
+    forEach(bit -> hashCode[0] = 31 * hashCode[0] + bit);
+    return hashCode[0];
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("{");
+    forEach(bit -> {
+      if (builder.length() > 1)
+        builder.append(", ");
+
+      builder.append(bit);
+    });
+    return builder.append('}').toString();
+  }
+}
@@ -0,0 +1,277 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * A fixed-size bitset of {@code long} words that is safe for concurrent use,
+ * with the {@code set/clear/get} vocabulary of {@link Buffers}. The bits are
+ * stored in an {@link AtomicLongArray}, and all modifications are
+ * compare-and-set loops on the word of the bit, so concurrent modifications
+ * are never lost.
+ * <p>
+ * The words may be striped: with {@code n} stripes, word {@code w} is stored
+ * in stripe {@code w % n}, and each stripe is padded to at least 8 words (64
+ * bytes), so that threads that modify bits that are close to each other
+ * modify words on different cache lines, which avoids false sharing.
+ * <p>
+ * The bulk methods, such as {@link #cardinality()} and
+ * {@link #nextSetBit(int)}, read each word atomically, but are not atomic
+ * with respect to concurrent modifications of the bitset.
+ */
+public class ConcurrentBitSet {
+  private final AtomicLongArray words;
+  private final int nwords;
+  private final int stripeMask;
+  private final int stripeShift;
+  private final int rows;
+
+  /**
+   * Creates a new {@link ConcurrentBitSet} of the specified number of bits,
+   * with contiguous words. All bits are initially {@code 0}.
+   *
+   * @param nbits The number of bits, which is rounded up to a multiple of 64.
+   * @throws IllegalArgumentException If {@code nbits} is negative.
+   */
+  public ConcurrentBitSet(final int nbits) {
+    this(nbits, 1);
+  }
+
+  /**
+   * Creates a new {@link ConcurrentBitSet} of the specified number of bits,
+   * with the words striped over the specified number of stripes. All bits are
+   * initially {@code 0}.
+   *
+   * @param nbits The number of bits, which is rounded up to a multiple of 64.
+   * @param stripes The number of stripes, which must be a power of two. A
+   *          value of {@code 1} stores the words contiguously, and a value of
+   *          {@code 2} or more pads each stripe to at least 8 words, which
+   *          places adjacent words on different cache lines.
+   * @throws IllegalArgumentException If {@code nbits} is negative, if
+   *           {@code stripes} is not a positive power of two, or if the padded
+   *           stripes would exceed the maximum array length.
+   */
+  public ConcurrentBitSet(final int nbits, final int stripes) {
+    if (nbits < 0)
+      throw new IllegalArgumentException("nbits (" + nbits + ") must be non-negative");
+
+    if (stripes <= 0 || (stripes & (stripes - 1)) != 0)
+      throw new IllegalArgumentException("stripes (" + stripes + ") must be a positive power of two");
+
+    this.nwords = (int)((nbits + (long)Long.SIZE - 1) >>> 6);
+    this.stripeMask = stripes - 1;
+    this.stripeShift = Integer.numberOfTrailingZeros(stripes);
+    final int rows = (nwords + stripeMask) >>> stripeShift;
+    this.rows = stripes > 1 ? Math.max(8, rows) : rows;
+    if ((long)this.rows << stripeShift > Integer.MAX_VALUE - 8)
+      throw new IllegalArgumentException("stripes (" + stripes + ") is too large for nbits (" + nbits + ")");
+
+    this.words = new AtomicLongArray(this.rows << stripeShift);
+  }
+
+  private int index(final int word) {
+    return (word & stripeMask) * rows + (word >>> stripeShift);
+  }
+
+  private int assertIndex(final int bitIndex) {
+    if (bitIndex < 0 || bitIndex >>> 6 >= nwords)
+      throw new IndexOutOfBoundsException("Index: " + bitIndex + ", Size: " + size());
+
+    return index(bitIndex >>> 6);
+  }
+
+  /**
+   * Returns the number of bits in this bitset, which is a multiple of 64.
+   *
+   * @return The number of bits in this bitset.
+   */
+  public int size() {
+    return (int)Math.min(Integer.MAX_VALUE, (long)nwords * Long.SIZE);
+  }
+
+  /**
+   * Returns the value of the bit at the specified index.
+   *
+   * @param bitIndex The bit index.
+   * @return The value of the bit at the specified index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public boolean get(final int bitIndex) {
+    return (words.get(assertIndex(bitIndex)) & 1L << bitIndex) != 0;
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 1}.
+   *
+   * @param bitIndex The bit index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public void set(final int bitIndex) {
+    getAndSet(bitIndex);
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 0}.
+   *
+   * @param bitIndex The bit index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public void clear(final int bitIndex) {
+    getAndClear(bitIndex);
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 1}, and returns
+   * its previous value. Of any number of threads that concurrently call this
+   * method for a bit that is {@code 0}, exactly one observes {@code false}.
+   *
+   * @param bitIndex The bit index.
+   * @return The previous value of the bit at the specified index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public boolean getAndSet(final int bitIndex) {
+    final int i = assertIndex(bitIndex);
+    final long bit = 1L << bitIndex;
+    long word;
+    do {
+      word = words.get(i);
+      if ((word & bit) != 0)
+        return true;
+    }
+    while (!words.compareAndSet(i, word, word | bit));
+    return false;
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 0}, and returns
+   * its previous value.
+   *
+   * @param bitIndex The bit index.
+   * @return The previous value of the bit at the specified index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public boolean getAndClear(final int bitIndex) {
+    final int i = assertIndex(bitIndex);
+    final long bit = 1L << bitIndex;
+    long word;
+    do {
+      word = words.get(i);
+      if ((word & bit) == 0)
+        return false;
+    }
+    while (!words.compareAndSet(i, word, word & ~bit));
+    return true;
+  }
+
+  /**
+   * Sets all of the bits in this bitset to {@code 0}.
+   */
+  public void clear() {
+    for (int i = 0, len = words.length(); i < len; ++i)
+      words.set(i, 0);
+  }
+
+  /**
+   * Returns the number of bits set to {@code 1} in this bitset.
+   *
+   * @return The number of bits set to {@code 1} in this bitset.
+   */
+  public int cardinality() {
+    int cardinality = 0;
+    for (int i = 0, len = words.length(); i < len; ++i)
+      cardinality += Long.bitCount(words.get(i));
+
+    return cardinality;
+  }
+
+  /**
+   * Returns the "logical size" of this bitset: the index of the highest set
+   * bit, plus one. Returns zero if this bitset contains no set bits.
+   *
+   * @return The logical size of this bitset.
+   */
+  public int length() {
+    for (int w = nwords - 1; w >= 0; --w) {
+      final long word = words.get(index(w));
+      if (word != 0)
+        return w * Long.SIZE + Long.SIZE - Long.numberOfLeadingZeros(word);
+    }
+
+    return 0;
+  }
+
+  /**
+   * Returns the index of the first bit that is set to {@code 1} at or after
+   * the specified {@code fromIndex}, or {@code -1} if there is no such bit.
+   *
+   * @param fromIndex The index from which to start the search (inclusive).
+   * @return The index of the next set bit, or {@code -1} if there is no such
+   *         bit.
+   * @throws IndexOutOfBoundsException If {@code fromIndex} is negative.
+   */
+  public int nextSetBit(final int fromIndex) {
+    if (fromIndex < 0)
+      throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+
+    int w = fromIndex >>> 6;
+    if (w >= nwords)
+      return -1;
+
+    for (long word = words.get(index(w)) & (-1L << fromIndex);; word = words.get(index(w))) {
+      if (word != 0)
+        return w * Long.SIZE + Long.numberOfTrailingZeros(word);
+
+      if (++w == nwords)
+        return -1;
+    }
+  }
+
+  /**
+   * Performs the specified action for the index of each bit that is set to
+   * {@code 1} in this bitset, in ascending order.
+   *
+   * @param action The action to be performed for each set bit index.
+   * @throws NullPointerException If {@code action} is null.
+   */
+  public void forEachSetBit(final IntConsumer action) {
+    for (int w = 0; w < nwords; ++w)
+      for (long word = words.get(index(w)); word != 0; word &= word - 1)
+        action.accept(w * Long.SIZE + Long.numberOfTrailingZeros(word));
+  }
+
+  /**
+   * Returns a snapshot of the words of this bitset, in the layout of
+   * {@link java.util.BitSet#toLongArray()} and of the {@code long[]} methods
+   * of {@link Buffers}, with trailing zero words trimmed.
+   *
+   * @return A snapshot of the words of this bitset.
+   */
+  public long[] toLongArray() {
+    final long[] array = new long[(length() + Long.SIZE - 1) >>> 6];
+    for (int w = 0; w < array.length; ++w)
+      array[w] = words.get(index(w));
+
+    return array;
+  }
+}
@@ -17,12 +17,45 @@
 package org.libj.lang;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Utility functions for operations pertaining to {@code enum} and {@link Enum}.
  */
 public final class Enums {
+  private static final ClassValue<Enum<?>[]> values = new ClassValue<Enum<?>[]>() {
+    @Override
+    protected Enum<?>[] computeValue(final Class<?> type) {
+      return (Enum<?>[])type.getEnumConstants();
+    }
+  };
+
+  /**
+   * Returns a new array of the constants of the specified {@code enum} class,
+   * in the order of their ordinals. The constants are cached per class, and
+   * each invocation returns a copy of the cached array, so the returned array
+   * may be modified by the caller. Callers that decode masks repeatedly with
+   * {@link Mask} should retain the returned array instead of invoking this
+   * method for each mask.
+   *
+   * @param <T> The type parameter of the specified {@link Enum}.
+   * @param type The class for the type {@code <T>}.
+   * @return A new array of the constants of the specified {@code enum} class.
+   * @throws IllegalArgumentException If the specified class object does not
+   *           represent an enum type.
+   * @throws NullPointerException If {@code type} is null.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Enum<T>>T[] values(final Class<T> type) {
+    final T[] values = (T[])Enums.values.get(type);
+    if (values == null)
+      throw new IllegalArgumentException(type.getName() + " is not an enum type");
+
+    return values.clone();
+  }
+
   @SuppressWarnings("unchecked")
   private static <T extends Enum<T>>T[] recurseValueOf(final Class<T> type, final int index, final int depth, final String[] names) {
     if (index == names.length)
@@ -100,9 +133,46 @@ public final class Enums {
    * A utility class that provides functions to encode and decode {@code enum}
    * instances to and from {@code int} or {@code long} values, whereby the bits
    * of the {@code int} or {@code long} values represent the ordinal numbers of
-   * the {@code enum} instances.
+   * the {@code enum} instances. Masks of {@code enum} classes with more than 64
+   * constants are represented by {@code long[]} values, whereby bit
+   * {@code ordinal % 64} of element {@code ordinal / 64} represents the
+   * ordinal.
+   * <p>
+   * The {@code toggle}, {@code set} and {@code unset} functions have overloads
+   * for one and two {@code enum} instances, which do not allocate a varargs
+   * array.
    */
   public static final class Mask {
+    /**
+     * Toggles the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to toggle the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static byte toggle(final byte mask, final Enum<?> enm) {
+      return (byte)(mask ^ 1 << enm.ordinal());
+    }
+
+    /**
+     * Toggles the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to toggle the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static byte toggle(final byte mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return (byte)(mask ^ 1 << enm1.ordinal() ^ 1 << enm2.ordinal());
+    }
+
     /**
      * Toggles the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -123,6 +193,36 @@ public final class Enums {
       return mask;
     }
 
+    /**
+     * Toggles the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to toggle the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static short toggle(final short mask, final Enum<?> enm) {
+      return (short)(mask ^ 1 << enm.ordinal());
+    }
+
+    /**
+     * Toggles the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to toggle the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static short toggle(final short mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return (short)(mask ^ 1 << enm1.ordinal() ^ 1 << enm2.ordinal());
+    }
+
     /**
      * Toggles the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -143,6 +243,36 @@ public final class Enums {
       return mask;
     }
 
+    /**
+     * Toggles the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to toggle the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static int toggle(final int mask, final Enum<?> enm) {
+      return mask ^ 1 << enm.ordinal();
+    }
+
+    /**
+     * Toggles the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to toggle the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static int toggle(final int mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return mask ^ 1 << enm1.ordinal() ^ 1 << enm2.ordinal();
+    }
+
     /**
      * Toggles the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -163,6 +293,36 @@ public final class Enums {
       return mask;
     }
 
+    /**
+     * Toggles the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to toggle the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static long toggle(final long mask, final Enum<?> enm) {
+      return mask ^ 1L << enm.ordinal();
+    }
+
+    /**
+     * Toggles the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to toggle the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static long toggle(final long mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return mask ^ 1L << enm1.ordinal() ^ 1L << enm2.ordinal();
+    }
+
     /**
      * Toggles the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -178,14 +338,103 @@ public final class Enums {
     @SafeVarargs
     public static <E extends Enum<?>>long toggle(long mask, final E ... enums) {
       for (int i = 0; i < enums.length; ++i)
-        mask ^= 1 << enums[i].ordinal();
+        mask ^= 1L << enums[i].ordinal();
+
+      return mask;
+    }
+
+    /**
+     * Toggles the bit in the specified {@code long[]} {@code mask} at the
+     * ordinal value of the specified {@code enum} instance.
+     *
+     * @param mask The {@code long[]} mask in which to toggle the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of {@code enm} is
+     *           not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask} or {@code enm} is null.
+     */
+    public static long[] toggle(final long[] mask, final Enum<?> enm) {
+      final int ordinal = enm.ordinal();
+      mask[ordinal >>> 6] ^= 1L << ordinal;
+      return mask;
+    }
+
+    /**
+     * Toggles the bits in the specified {@code long[]} {@code mask} at the
+     * ordinal values of the two specified {@code enum} instances.
+     *
+     * @param mask The {@code long[]} mask in which to toggle the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of {@code enm1} or
+     *           {@code enm2} is not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask}, {@code enm1} or
+     *           {@code enm2} is null.
+     */
+    public static long[] toggle(final long[] mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return toggle(toggle(mask, enm1), enm2);
+    }
+
+    /**
+     * Toggles the bits in the specified {@code long[]} {@code mask} at the
+     * ordinal values of the specified {@code enum} instances.
+     *
+     * @param <E> The type of the {@link Enum}.
+     * @param mask The {@code long[]} mask in which to toggle the bits.
+     * @param enums The {@code enum} instances at ordinals of which the bits in
+     *          {@code mask} will be toggled.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of a member of
+     *           {@code enums} is not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask}, {@code enums} or a member
+     *           of {@code enums} is null.
+     */
+    @SafeVarargs
+    public static <E extends Enum<?>>long[] toggle(final long[] mask, final E ... enums) {
+      for (int i = 0; i < enums.length; ++i)
+        toggle(mask, enums[i]);
 
       return mask;
     }
 
     /**
-     * Sets the bits in the specified {@code mask} at the ordinal values of the
-     * specified {@code enum} instances.
+     * Sets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to set the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static byte set(final byte mask, final Enum<?> enm) {
+      return (byte)(mask | 1 << enm.ordinal());
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to set the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static byte set(final byte mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return (byte)(mask | 1 << enm1.ordinal() | 1 << enm2.ordinal());
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the specified {@code enum} instances.
      *
      * @param <E> The type of the {@link Enum}.
      * @param mask The mask in which to set the bits.
@@ -204,8 +453,38 @@ public final class Enums {
     }
 
     /**
-     * Sets the bits in the specified {@code mask} at the ordinal values of the
-     * specified {@code enum} instances.
+     * Sets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to set the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static short set(final short mask, final Enum<?> enm) {
+      return (short)(mask | 1 << enm.ordinal());
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to set the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static short set(final short mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return (short)(mask | 1 << enm1.ordinal() | 1 << enm2.ordinal());
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the specified {@code enum} instances.
      *
      * @param <E> The type of the {@link Enum}.
      * @param mask The mask in which to set the bits.
@@ -224,8 +503,38 @@ public final class Enums {
     }
 
     /**
-     * Sets the bits in the specified {@code mask} at the ordinal values of the
-     * specified {@code enum} instances.
+     * Sets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to set the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static int set(final int mask, final Enum<?> enm) {
+      return mask | 1 << enm.ordinal();
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to set the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static int set(final int mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return mask | 1 << enm1.ordinal() | 1 << enm2.ordinal();
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the specified {@code enum} instances.
      *
      * @param <E> The type of the {@link Enum}.
      * @param mask The mask in which to set the bits.
@@ -244,8 +553,38 @@ public final class Enums {
     }
 
     /**
-     * Sets the bits in the specified {@code mask} at the ordinal values of the
-     * specified {@code enum} instances.
+     * Sets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to set the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static long set(final long mask, final Enum<?> enm) {
+      return mask | 1L << enm.ordinal();
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to set the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static long set(final long mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return mask | 1L << enm1.ordinal() | 1L << enm2.ordinal();
+    }
+
+    /**
+     * Sets the bits in the specified {@code mask} at the ordinal values of
+     * the specified {@code enum} instances.
      *
      * @param <E> The type of the {@link Enum}.
      * @param mask The mask in which to set the bits.
@@ -258,11 +597,100 @@ public final class Enums {
     @SafeVarargs
     public static <E extends Enum<?>>long set(long mask, final E ... enums) {
       for (int i = 0; i < enums.length; ++i)
-        mask |= 1 << enums[i].ordinal();
+        mask |= 1L << enums[i].ordinal();
+
+      return mask;
+    }
+
+    /**
+     * Sets the bit in the specified {@code long[]} {@code mask} at the
+     * ordinal value of the specified {@code enum} instance.
+     *
+     * @param mask The {@code long[]} mask in which to set the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of {@code enm} is
+     *           not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask} or {@code enm} is null.
+     */
+    public static long[] set(final long[] mask, final Enum<?> enm) {
+      final int ordinal = enm.ordinal();
+      mask[ordinal >>> 6] |= 1L << ordinal;
+      return mask;
+    }
+
+    /**
+     * Sets the bits in the specified {@code long[]} {@code mask} at the
+     * ordinal values of the two specified {@code enum} instances.
+     *
+     * @param mask The {@code long[]} mask in which to set the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of {@code enm1} or
+     *           {@code enm2} is not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask}, {@code enm1} or
+     *           {@code enm2} is null.
+     */
+    public static long[] set(final long[] mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return set(set(mask, enm1), enm2);
+    }
+
+    /**
+     * Sets the bits in the specified {@code long[]} {@code mask} at the
+     * ordinal values of the specified {@code enum} instances.
+     *
+     * @param <E> The type of the {@link Enum}.
+     * @param mask The {@code long[]} mask in which to set the bits.
+     * @param enums The {@code enum} instances at ordinals of which the bits in
+     *          {@code mask} will be set.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of a member of
+     *           {@code enums} is not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask}, {@code enums} or a member
+     *           of {@code enums} is null.
+     */
+    @SafeVarargs
+    public static <E extends Enum<?>>long[] set(final long[] mask, final E ... enums) {
+      for (int i = 0; i < enums.length; ++i)
+        set(mask, enums[i]);
 
       return mask;
     }
 
+    /**
+     * Unsets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to unset the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static byte unset(final byte mask, final Enum<?> enm) {
+      return (byte)(mask & ~(1 << enm.ordinal()));
+    }
+
+    /**
+     * Unsets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to unset the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static byte unset(final byte mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return (byte)(mask & ~(1 << enm1.ordinal() | 1 << enm2.ordinal()));
+    }
+
     /**
      * Unsets the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -278,11 +706,41 @@ public final class Enums {
     @SafeVarargs
     public static <E extends Enum<?>>byte unset(byte mask, final E ... enums) {
       for (int i = 0; i < enums.length; ++i)
-        mask &= 1 << enums[i].ordinal();
+        mask &= ~(1 << enums[i].ordinal());
 
       return mask;
     }
 
+    /**
+     * Unsets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to unset the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static short unset(final short mask, final Enum<?> enm) {
+      return (short)(mask & ~(1 << enm.ordinal()));
+    }
+
+    /**
+     * Unsets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to unset the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static short unset(final short mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return (short)(mask & ~(1 << enm1.ordinal() | 1 << enm2.ordinal()));
+    }
+
     /**
      * Unsets the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -298,11 +756,41 @@ public final class Enums {
     @SafeVarargs
     public static <E extends Enum<?>>short unset(short mask, final E ... enums) {
       for (int i = 0; i < enums.length; ++i)
-        mask &= 1 << enums[i].ordinal();
+        mask &= ~(1 << enums[i].ordinal());
 
       return mask;
     }
 
+    /**
+     * Unsets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to unset the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static int unset(final int mask, final Enum<?> enm) {
+      return mask & ~(1 << enm.ordinal());
+    }
+
+    /**
+     * Unsets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to unset the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static int unset(final int mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return mask & ~(1 << enm1.ordinal() | 1 << enm2.ordinal());
+    }
+
     /**
      * Unsets the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -318,11 +806,41 @@ public final class Enums {
     @SafeVarargs
     public static <E extends Enum<?>>int unset(int mask, final E ... enums) {
       for (int i = 0; i < enums.length; ++i)
-        mask &= 1 << enums[i].ordinal();
+        mask &= ~(1 << enums[i].ordinal());
 
       return mask;
     }
 
+    /**
+     * Unsets the bit in the specified {@code mask} at the ordinal value of
+     * the specified {@code enum} instance.
+     *
+     * @param mask The mask in which to unset the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm} is null.
+     */
+    public static long unset(final long mask, final Enum<?> enm) {
+      return mask & ~(1L << enm.ordinal());
+    }
+
+    /**
+     * Unsets the bits in the specified {@code mask} at the ordinal values of
+     * the two specified {@code enum} instances.
+     *
+     * @param mask The mask in which to unset the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws NullPointerException If {@code enm1} or {@code enm2} is null.
+     */
+    public static long unset(final long mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return mask & ~(1L << enm1.ordinal() | 1L << enm2.ordinal());
+    }
+
     /**
      * Unsets the bits in the specified {@code mask} at the ordinal values of
      * the specified {@code enum} instances.
@@ -338,7 +856,66 @@ public final class Enums {
     @SafeVarargs
     public static <E extends Enum<?>>long unset(long mask, final E ... enums) {
       for (int i = 0; i < enums.length; ++i)
-        mask &= 1 << enums[i].ordinal();
+        mask &= ~(1L << enums[i].ordinal());
+
+      return mask;
+    }
+
+    /**
+     * Unsets the bit in the specified {@code long[]} {@code mask} at the
+     * ordinal value of the specified {@code enum} instance.
+     *
+     * @param mask The {@code long[]} mask in which to unset the bit.
+     * @param enm The {@code enum} instance at the ordinal of which the bit in
+     *          {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of {@code enm} is
+     *           not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask} or {@code enm} is null.
+     */
+    public static long[] unset(final long[] mask, final Enum<?> enm) {
+      final int ordinal = enm.ordinal();
+      mask[ordinal >>> 6] &= ~(1L << ordinal);
+      return mask;
+    }
+
+    /**
+     * Unsets the bits in the specified {@code long[]} {@code mask} at the
+     * ordinal values of the two specified {@code enum} instances.
+     *
+     * @param mask The {@code long[]} mask in which to unset the bits.
+     * @param enm1 The first {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @param enm2 The second {@code enum} instance at the ordinal of which the
+     *          bit in {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of {@code enm1} or
+     *           {@code enm2} is not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask}, {@code enm1} or
+     *           {@code enm2} is null.
+     */
+    public static long[] unset(final long[] mask, final Enum<?> enm1, final Enum<?> enm2) {
+      return unset(unset(mask, enm1), enm2);
+    }
+
+    /**
+     * Unsets the bits in the specified {@code long[]} {@code mask} at the
+     * ordinal values of the specified {@code enum} instances.
+     *
+     * @param <E> The type of the {@link Enum}.
+     * @param mask The {@code long[]} mask in which to unset the bits.
+     * @param enums The {@code enum} instances at ordinals of which the bits in
+     *          {@code mask} will be unset.
+     * @return The {@code mask}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of a member of
+     *           {@code enums} is not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask}, {@code enums} or a member
+     *           of {@code enums} is null.
+     */
+    @SafeVarargs
+    public static <E extends Enum<?>>long[] unset(final long[] mask, final E ... enums) {
+      for (int i = 0; i < enums.length; ++i)
+        unset(mask, enums[i]);
 
       return mask;
     }
@@ -400,7 +977,25 @@ public final class Enums {
      *         ordinal is set in the specified mask, otherwise {@code false}.
      */
     public static boolean check(final long mask, final int ordinal) {
-      return (mask & (1 << ordinal)) != 0;
+      return (mask & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Checks whether the bit position represented by the specified ordinal is
+     * set in the specified {@code long[]} mask.
+     *
+     * @param mask The {@code long[]} mask in which to check the bit
+     *          represented by {@code ordinal}.
+     * @param ordinal The ordinal representing the bit to check in the
+     *          {@code mask}.
+     * @return {@code true} if the bit position represented by the specified
+     *         ordinal is set in the specified mask, otherwise {@code false}.
+     * @throws ArrayIndexOutOfBoundsException If {@code ordinal} is negative, or
+     *           not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask} is null.
+     */
+    public static boolean check(final long[] mask, final int ordinal) {
+      return (mask[ordinal >>> 6] & (1L << ordinal)) != 0;
     }
 
     /**
@@ -471,13 +1066,34 @@ public final class Enums {
       return check(mask, enm.ordinal());
     }
 
+    /**
+     * Checks whether the bit position represented by the ordinal of the
+     * specified {@code enum} is set in the specified {@code long[]} mask.
+     *
+     * @param mask The {@code long[]} mask in which to check the bit
+     *          represented by {@code ordinal}.
+     * @param enm The {@code enum} with ordinal representing the bit to check in
+     *          the {@code mask}.
+     * @return {@code true} if the bit position represented by the specified
+     *         {@code enum} is set in the specified mask, otherwise
+     *         {@code false}.
+     * @throws ArrayIndexOutOfBoundsException If the ordinal of {@code enm} is
+     *           not less than {@code mask.length * 64}.
+     * @throws NullPointerException If {@code mask} or {@link Enum enm} is
+     *           null.
+     */
+    public static boolean check(final long[] mask, final Enum<?> enm) {
+      return check(mask, enm.ordinal());
+    }
+
     /**
      * Returns an array of instances of the specified {@code enum} whose
      * ordinals are set in the specified mask.
      *
      * @param <E> The type parameter representing the {@code enum} class.
      * @param values The array of {@code enum} values returned by the
-     *          {@code MyEnum.values()} method, where {@code MyEnum} is the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
      *          {@code enum} of interest.
      * @param mask The mask with bits representing ordinal values of the
      *          specified {@code enum}.
@@ -490,7 +1106,7 @@ public final class Enums {
      */
     @SafeVarargs
     public static <E extends Enum<?>>E[] toArray(final byte mask, final E ... values) {
-      return toArray(values, mask, Byte.SIZE, 0, 0);
+      return toArray(values, mask & 0xFFL);
     }
 
     /**
@@ -499,7 +1115,8 @@ public final class Enums {
      *
      * @param <E> The type parameter representing the {@code enum} class.
      * @param values The array of {@code enum} values returned by the
-     *          {@code MyEnum.values()} method, where {@code MyEnum} is the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
      *          {@code enum} of interest.
      * @param mask The mask with bits representing ordinal values of the
      *          specified {@code enum}.
@@ -512,7 +1129,7 @@ public final class Enums {
      */
     @SafeVarargs
     public static <E extends Enum<?>>E[] toArray(final short mask, final E ... values) {
-      return toArray(values, mask, Short.SIZE, 0, 0);
+      return toArray(values, mask & 0xFFFFL);
     }
 
     /**
@@ -521,7 +1138,8 @@ public final class Enums {
      *
      * @param <E> The type parameter representing the {@code enum} class.
      * @param values The array of {@code enum} values returned by the
-     *          {@code MyEnum.values()} method, where {@code MyEnum} is the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
      *          {@code enum} of interest.
      * @param mask The mask with bits representing ordinal values of the
      *          specified {@code enum}.
@@ -534,7 +1152,7 @@ public final class Enums {
      */
     @SafeVarargs
     public static <E extends Enum<?>>E[] toArray(final int mask, final E ... values) {
-      return toArray(values, mask, Integer.SIZE, 0, 0);
+      return toArray(values, mask & 0xFFFFFFFFL);
     }
 
     /**
@@ -543,7 +1161,8 @@ public final class Enums {
      *
      * @param <E> The type parameter representing the {@code enum} class.
      * @param values The array of {@code enum} values returned by the
-     *          {@code MyEnum.values()} method, where {@code MyEnum} is the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
      *          {@code enum} of interest.
      * @param mask The mask with bits representing ordinal values of the
      *          specified {@code enum}.
@@ -556,35 +1175,163 @@ public final class Enums {
      */
     @SafeVarargs
     public static <E extends Enum<?>>E[] toArray(final long mask, final E ... values) {
-      return toArray(values, mask, 0, 0);
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <E extends Enum<?>>E[] toArray(final E[] values, final int mask, final int size, final int index, final int depth) {
-      for (int i = index; i < size; ++i) {
-        if ((mask & (1 << i)) != 0) {
-          final E enm = values[i];
-          final E[] array = toArray(values, mask, size, index + 1, depth + 1);
-          array[depth] = enm;
-          return array;
-        }
-      }
-
-      return (E[])Array.newInstance(values.getClass().getComponentType(), depth);
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <E extends Enum<?>>E[] toArray(final E[] values, final long mask, final int index, final int depth) {
-      for (int i = index; i < Long.SIZE; ++i) {
-        if ((mask & (1 << i)) != 0) {
-          final E enm = values[i];
-          final E[] array = toArray(values, mask, index + 1, depth + 1);
-          array[depth] = enm;
-          return array;
-        }
-      }
-
-      return (E[])Array.newInstance(values.getClass().getComponentType(), depth);
+      return toArray(values, mask);
+    }
+
+    /**
+     * Returns an array of instances of the specified {@code enum} whose
+     * ordinals are set in the specified {@code long[]} mask.
+     *
+     * @param <E> The type parameter representing the {@code enum} class.
+     * @param values The array of {@code enum} values returned by the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
+     *          {@code enum} of interest.
+     * @param mask The {@code long[]} mask with bits representing ordinal
+     *          values of the specified {@code enum}.
+     * @return An array of instances of the specified {@code enum} values whose
+     *         ordinals are set in the specified mask.
+     * @throws ArrayIndexOutOfBoundsException If the mask defines an ordinal
+     *           that is out of bounds of the values array of the {@code enum}
+     *           of interest.
+     * @throws NullPointerException If {@code mask} or {@code values} is null.
+     */
+    public static <E extends Enum<?>>E[] toArray(final long[] mask, final E[] values) {
+      int size = 0;
+      for (int i = 0; i < mask.length; ++i)
+        size += Long.bitCount(mask[i]);
+
+      final E[] array = Arrays.copyOf(values, size);
+      for (int i = 0, j = 0; i < mask.length; ++i)
+        for (long word = mask[i]; word != 0; word &= word - 1)
+          array[j++] = values[i * Long.SIZE + Long.numberOfTrailingZeros(word)];
+
+      return array;
+    }
+
+    private static <E extends Enum<?>>E[] toArray(final E[] values, long mask) {
+      final E[] array = Arrays.copyOf(values, Long.bitCount(mask));
+      for (int j = 0; mask != 0; mask &= mask - 1)
+        array[j++] = values[Long.numberOfTrailingZeros(mask)];
+
+      return array;
+    }
+
+    /**
+     * Performs the specified action for each instance of the specified
+     * {@code enum} whose ordinal is set in the specified mask, in ascending
+     * order of ordinal.
+     *
+     * @param <E> The type parameter representing the {@code enum} class.
+     * @param mask The mask with bits representing ordinal values of the
+     *          specified {@code enum}.
+     * @param values The array of {@code enum} values returned by the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
+     *          {@code enum} of interest.
+     * @param action The action to be performed for each {@code enum} instance.
+     * @throws ArrayIndexOutOfBoundsException If the mask defines an ordinal
+     *           that is out of bounds of the values array of the {@code enum}
+     *           of interest.
+     * @throws NullPointerException If {@code values} or {@code action} is null.
+     */
+    public static <E extends Enum<?>>void forEach(final byte mask, final E[] values, final Consumer<? super E> action) {
+      forEach(values, mask & 0xFFL, 0, action);
+    }
+
+    /**
+     * Performs the specified action for each instance of the specified
+     * {@code enum} whose ordinal is set in the specified mask, in ascending
+     * order of ordinal.
+     *
+     * @param <E> The type parameter representing the {@code enum} class.
+     * @param mask The mask with bits representing ordinal values of the
+     *          specified {@code enum}.
+     * @param values The array of {@code enum} values returned by the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
+     *          {@code enum} of interest.
+     * @param action The action to be performed for each {@code enum} instance.
+     * @throws ArrayIndexOutOfBoundsException If the mask defines an ordinal
+     *           that is out of bounds of the values array of the {@code enum}
+     *           of interest.
+     * @throws NullPointerException If {@code values} or {@code action} is null.
+     */
+    public static <E extends Enum<?>>void forEach(final short mask, final E[] values, final Consumer<? super E> action) {
+      forEach(values, mask & 0xFFFFL, 0, action);
+    }
+
+    /**
+     * Performs the specified action for each instance of the specified
+     * {@code enum} whose ordinal is set in the specified mask, in ascending
+     * order of ordinal.
+     *
+     * @param <E> The type parameter representing the {@code enum} class.
+     * @param mask The mask with bits representing ordinal values of the
+     *          specified {@code enum}.
+     * @param values The array of {@code enum} values returned by the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
+     *          {@code enum} of interest.
+     * @param action The action to be performed for each {@code enum} instance.
+     * @throws ArrayIndexOutOfBoundsException If the mask defines an ordinal
+     *           that is out of bounds of the values array of the {@code enum}
+     *           of interest.
+     * @throws NullPointerException If {@code values} or {@code action} is null.
+     */
+    public static <E extends Enum<?>>void forEach(final int mask, final E[] values, final Consumer<? super E> action) {
+      forEach(values, mask & 0xFFFFFFFFL, 0, action);
+    }
+
+    /**
+     * Performs the specified action for each instance of the specified
+     * {@code enum} whose ordinal is set in the specified mask, in ascending
+     * order of ordinal.
+     *
+     * @param <E> The type parameter representing the {@code enum} class.
+     * @param mask The mask with bits representing ordinal values of the
+     *          specified {@code enum}.
+     * @param values The array of {@code enum} values returned by the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
+     *          {@code enum} of interest.
+     * @param action The action to be performed for each {@code enum} instance.
+     * @throws ArrayIndexOutOfBoundsException If the mask defines an ordinal
+     *           that is out of bounds of the values array of the {@code enum}
+     *           of interest.
+     * @throws NullPointerException If {@code values} or {@code action} is null.
+     */
+    public static <E extends Enum<?>>void forEach(final long mask, final E[] values, final Consumer<? super E> action) {
+      forEach(values, mask, 0, action);
+    }
+
+    /**
+     * Performs the specified action for each instance of the specified
+     * {@code enum} whose ordinal is set in the specified {@code long[]} mask,
+     * in ascending order of ordinal.
+     *
+     * @param <E> The type parameter representing the {@code enum} class.
+     * @param mask The {@code long[]} mask with bits representing ordinal
+     *          values of the specified {@code enum}.
+     * @param values The array of {@code enum} values returned by the
+     *          {@code MyEnum.values()} method, or by
+     *          {@link Enums#values(Class)}, where {@code MyEnum} is the
+     *          {@code enum} of interest.
+     * @param action The action to be performed for each {@code enum} instance.
+     * @throws ArrayIndexOutOfBoundsException If the mask defines an ordinal
+     *           that is out of bounds of the values array of the {@code enum}
+     *           of interest.
+     * @throws NullPointerException If {@code mask}, {@code values} or
+     *           {@code action} is null.
+     */
+    public static <E extends Enum<?>>void forEach(final long[] mask, final E[] values, final Consumer<? super E> action) {
+      for (int i = 0; i < mask.length; ++i)
+        forEach(values, mask[i], i * Long.SIZE, action);
+    }
+
+    private static <E extends Enum<?>>void forEach(final E[] values, long mask, final int offset, final Consumer<? super E> action) {
+      for (; mask != 0; mask &= mask - 1)
+        action.accept(values[offset + Long.numberOfTrailingZeros(mask)]);
     }
 
     private Mask() {
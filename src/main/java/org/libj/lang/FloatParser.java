@@ -0,0 +1,622 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exception-free parser of decimal floating point representations, as per the
+ * specification of {@link Double#parseDouble(String)} and
+ * {@link Float#parseFloat(String)}.
+ * <p>
+ * Decimal representations with up to 19 significant digits are converted with
+ * Clinger's fast path if the value is exactly representable, and otherwise
+ * with the Eisel-Lemire algorithm. Inputs for which neither algorithm can
+ * guarantee correct rounding (i.e. subnormal values, more than 19 significant
+ * digits that are near a rounding boundary, or hexadecimal representations)
+ * are first validated, and then delegated to the JDK.
+ *
+ * @see <a href="https://arxiv.org/abs/2101.11408">Number Parsing at a Gigabyte
+ *      per Second</a>
+ */
+final class FloatParser {
+  /** The result of a parse of an invalid representation. */
+  static final long INVALID = 0x7FF8000000000001L;
+
+  /** The result of a conversion that must be delegated to the JDK. */
+  static final long FAILED = -1;
+
+  private static final double[] doublePowersOfTen = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+  private static final float[] floatPowersOfTen = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+  /**
+   * The most significant 128 bits of {@code 5^q} for {@code q} in
+   * {@code [-342, 308]}, which are computed lazily on first use.
+   */
+  private static final class PowersOfFive {
+    private static final int MIN_Q = -342;
+    private static final int MAX_Q = 308;
+    private static final long[] hi = new long[MAX_Q - MIN_Q + 1];
+    private static final long[] lo = new long[MAX_Q - MIN_Q + 1];
+
+    static {
+      final BigInteger five = BigInteger.valueOf(5);
+      BigInteger power = BigInteger.ONE;
+      for (int q = 0; q <= MAX_Q; ++q, power = power.multiply(five)) {
+        final int bits = power.bitLength();
+        set(q, bits < 128 ? power.shiftLeft(128 - bits) : power.shiftRight(bits - 128));
+      }
+
+      // Negative powers are the reciprocals of 5^-q, rounded up
+      power = five;
+      for (int q = -1; q >= MIN_Q; --q, power = power.multiply(five)) {
+        final int z = power.bitLength();
+        final int b = q >= -27 ? z + 127 : 2 * z + 128;
+        BigInteger c = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+        final int bits = c.bitLength();
+        if (bits > 128)
+          c = c.shiftRight(bits - 128);
+
+        set(q, c);
+      }
+    }
+
+    private static void set(final int q, final BigInteger value) {
+      hi[q - MIN_Q] = value.shiftRight(64).longValue();
+      lo[q - MIN_Q] = value.longValue();
+    }
+  }
+
+  static long unsignedMultiplyHigh(final long x, final long y) {
+    final long x0 = x & 0xFFFFFFFFL;
+    final long x1 = x >>> 32;
+    final long y0 = y & 0xFFFFFFFFL;
+    final long y1 = y >>> 32;
+    final long p01 = x0 * y1;
+    final long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+    return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+  }
+
+  /**
+   * Returns the bits of the binary floating point value nearest to
+   * {@code w * 10^q} with the Eisel-Lemire algorithm, or {@link #FAILED} if
+   * the algorithm cannot guarantee correct rounding.
+   *
+   * @param w The non-zero decimal significand, as an unsigned {@code long}.
+   * @param q The decimal exponent, in {@code [-342, 308]}.
+   * @param mantissaBits The number of explicit mantissa bits of the format.
+   * @param bias The exponent bias of the format.
+   * @return The bits of the binary floating point value nearest to
+   *         {@code w * 10^q}, or {@link #FAILED}.
+   */
+  private static long eiselLemire(final long w, final int q, final int mantissaBits, final int bias) {
+    final int index = q - PowersOfFive.MIN_Q;
+    int lz = Long.numberOfLeadingZeros(w);
+    final long x = w << lz;
+    final long mask = -1L >>> (mantissaBits + 3);
+    final long factor = PowersOfFive.hi[index];
+    long hi = unsignedMultiplyHigh(x, factor);
+    final long lo = x * factor;
+    if ((hi & mask) == mask && Long.compareUnsigned(lo + x, lo) < 0) {
+      // The product may be inexact, so refine it with the next 64 bits of 5^q
+      final long factorLo = PowersOfFive.lo[index];
+      final long secondHi = unsignedMultiplyHigh(x, factorLo);
+      final long secondLo = x * factorLo;
+      final long middle = lo + secondHi;
+      if (Long.compareUnsigned(middle, lo) < 0)
+        ++hi;
+
+      if ((hi & mask) == mask && middle + 1 == 0 && Long.compareUnsigned(secondLo + x, secondLo) < 0)
+        return FAILED;
+    }
+
+    final int upperBit = (int)(hi >>> 63);
+    long mantissa = hi >>> (upperBit + 64 - mantissaBits - 3);
+    lz += 1 ^ upperBit;
+
+    // Possibly halfway between two values, which requires round-to-even
+    if ((hi & mask) == mask || (hi & mask) == 0 && (mantissa & 3) == 1)
+      return FAILED;
+
+    mantissa = (mantissa + 1) >>> 1;
+    if (mantissa >= 1L << (mantissaBits + 1)) {
+      mantissa = 1L << mantissaBits;
+      --lz;
+    }
+
+    mantissa &= ~(1L << mantissaBits);
+    final long exponent = (((152170L + 65536L) * q) >> 16) + 63 + bias + 1 - lz;
+    if (exponent < 1)
+      return FAILED;
+
+    if (exponent > 2 * bias)
+      return (2L * bias + 1) << mantissaBits;
+
+    return mantissa | exponent << mantissaBits;
+  }
+
+  private static long toDoubleBits(final long w, final int q) {
+    if (-22 <= q && q <= 22 && Long.compareUnsigned(w, 1L << 53) <= 0)
+      return Double.doubleToRawLongBits(q < 0 ? w / doublePowersOfTen[-q] : w * doublePowersOfTen[q]);
+
+    if (q < -342)
+      return 0;
+
+    if (q > 308)
+      return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    return eiselLemire(w, q, 52, 1023);
+  }
+
+  private static long toFloatBits(final long w, final int q) {
+    if (-10 <= q && q <= 10 && Long.compareUnsigned(w, 1L << 24) <= 0)
+      return Float.floatToRawIntBits(q < 0 ? w / floatPowersOfTen[-q] : w * floatPowersOfTen[q]);
+
+    if (q < -65)
+      return 0;
+
+    if (q > 38)
+      return Float.floatToRawIntBits(Float.POSITIVE_INFINITY);
+
+    return eiselLemire(w, q, 23, 127);
+  }
+
+  /**
+   * Returns the bits of the value {@code w * 10^q} as a {@code double}, or as
+   * a {@code float} in the low 32 bits if {@code isFloat} is {@code true}, or
+   * {@link #FAILED} if the value must be parsed by the JDK.
+   */
+  static long toBits(final boolean negative, final long w, final int q, final boolean truncated, final boolean isFloat) {
+    long bits;
+    if (w == 0) {
+      bits = 0;
+    }
+    else {
+      bits = isFloat ? toFloatBits(w, q) : toDoubleBits(w, q);
+      // With truncated digits, the value is between w and w + 1, so both must round the same
+      if (truncated && bits != FAILED && bits != (isFloat ? toFloatBits(w + 1, q) : toDoubleBits(w + 1, q)))
+        return FAILED;
+
+      if (bits == FAILED)
+        return FAILED;
+    }
+
+    return !negative ? bits : isFloat ? bits | 0x80000000L : bits | 0x8000000000000000L;
+  }
+
+  private static long parseJdk(final String s, final boolean isFloat) {
+    return isFloat ? Float.floatToRawIntBits(Float.parseFloat(s)) & 0xFFFFFFFFL : Double.doubleToRawLongBits(Double.parseDouble(s));
+  }
+
+  private static long special(final boolean negative, final boolean isNaN, final boolean isFloat) {
+    if (isNaN)
+      return isFloat ? Float.floatToRawIntBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+
+    if (isFloat)
+      return Float.floatToRawIntBits(negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY) & 0xFFFFFFFFL;
+
+    return Double.doubleToRawLongBits(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+  }
+
+  private static boolean isHexDigit(final char ch) {
+    return '0' <= ch && ch <= '9' || 'a' <= ch && ch <= 'f' || 'A' <= ch && ch <= 'F';
+  }
+
+  private static boolean isSuffix(final char ch) {
+    return ch == 'f' || ch == 'F' || ch == 'd' || ch == 'D';
+  }
+
+  /**
+   * Parses the specified range of the {@link CharSequence}, and returns the
+   * bits of the value as a {@code double}, or as a {@code float} in the low 32
+   * bits if {@code isFloat} is {@code true}, or {@link #INVALID} if the range
+   * does not contain a parsable value.
+   *
+   * @param s The {@link CharSequence}.
+   * @param fromIndex The index from which to start parsing (inclusive).
+   * @param toIndex The index at which to end parsing (exclusive).
+   * @param isFloat Whether to parse a {@code float}, as opposed to a
+   *          {@code double}.
+   * @return The bits of the parsed value, or {@link #INVALID}.
+   */
+  static long parse(final CharSequence s, int fromIndex, int toIndex, final boolean isFloat) {
+    while (fromIndex < toIndex && s.charAt(fromIndex) <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && s.charAt(toIndex - 1) <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return INVALID;
+
+    int i = fromIndex;
+    char ch = s.charAt(i);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+') {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = s.charAt(i);
+    }
+
+    if (ch == 'N' || ch == 'I') {
+      final String special = ch == 'N' ? "NaN" : "Infinity";
+      if (toIndex - i != special.length())
+        return INVALID;
+
+      for (int j = 0; j < special.length(); ++j)
+        if (s.charAt(i + j) != special.charAt(j))
+          return INVALID;
+
+      return special(negative, ch == 'N', isFloat);
+    }
+
+    if (ch == '0' && i + 1 < toIndex && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+      boolean digits = false;
+      for (i += 2; i < toIndex && isHexDigit(ch = s.charAt(i)); ++i)
+        digits = true;
+
+      if (i < toIndex && ch == '.')
+        for (++i; i < toIndex && isHexDigit(ch = s.charAt(i)); ++i)
+          digits = true;
+
+      if (!digits || i == toIndex || (ch != 'p' && ch != 'P') || ++i == toIndex)
+        return INVALID;
+
+      if (((ch = s.charAt(i)) == '-' || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      for (; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i);
+      if (i == start || i < toIndex && (!isSuffix(ch) || i + 1 != toIndex))
+        return INVALID;
+
+      return parseJdk(s.subSequence(fromIndex, toIndex).toString(), isFloat);
+    }
+
+    long w = 0;
+    int digits = 0;
+    int q = 0;
+    boolean truncated = false;
+    boolean anyDigit = false;
+    for (; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i) {
+      anyDigit = true;
+      if (digits < 19) {
+        if ((w = w * 10 + (ch - '0')) != 0)
+          ++digits;
+      }
+      else {
+        ++q;
+        truncated |= ch != '0';
+      }
+    }
+
+    if (i < toIndex && ch == '.') {
+      for (++i; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i) {
+        anyDigit = true;
+        if (digits < 19) {
+          --q;
+          if ((w = w * 10 + (ch - '0')) != 0)
+            ++digits;
+        }
+        else {
+          truncated |= ch != '0';
+        }
+      }
+    }
+
+    if (!anyDigit)
+      return INVALID;
+
+    if (i < toIndex && (ch == 'e' || ch == 'E')) {
+      if (++i == toIndex)
+        return INVALID;
+
+      final boolean negativeExponent = (ch = s.charAt(i)) == '-';
+      if ((negativeExponent || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      int exponent = 0;
+      for (; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i)
+        if (exponent < 100000)
+          exponent = exponent * 10 + (ch - '0');
+
+      if (i == start)
+        return INVALID;
+
+      q += negativeExponent ? -exponent : exponent;
+    }
+
+    if (i < toIndex && isSuffix(ch))
+      ++i;
+
+    if (i != toIndex)
+      return INVALID;
+
+    final long bits = toBits(negative, w, q, truncated, isFloat);
+    return bits != FAILED ? bits : parseJdk(s.subSequence(fromIndex, toIndex).toString(), isFloat);
+  }
+
+  /**
+   * Parses the specified range of the {@code char[]}, and returns the bits of
+   * the value as a {@code double}, or as a {@code float} in the low 32 bits if
+   * {@code isFloat} is {@code true}, or {@link #INVALID} if the range does not
+   * contain a parsable value.
+   *
+   * @param cbuf The {@code char[]}.
+   * @param fromIndex The index from which to start parsing (inclusive).
+   * @param toIndex The index at which to end parsing (exclusive).
+   * @param isFloat Whether to parse a {@code float}, as opposed to a
+   *          {@code double}.
+   * @return The bits of the parsed value, or {@link #INVALID}.
+   */
+  static long parse(final char[] cbuf, int fromIndex, int toIndex, final boolean isFloat) {
+    while (fromIndex < toIndex && cbuf[fromIndex] <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && cbuf[toIndex - 1] <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return INVALID;
+
+    int i = fromIndex;
+    char ch = cbuf[i];
+    final boolean negative = ch == '-';
+    if (negative || ch == '+') {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = cbuf[i];
+    }
+
+    if (ch == 'N' || ch == 'I') {
+      final String special = ch == 'N' ? "NaN" : "Infinity";
+      if (toIndex - i != special.length())
+        return INVALID;
+
+      for (int j = 0; j < special.length(); ++j)
+        if (cbuf[i + j] != special.charAt(j))
+          return INVALID;
+
+      return special(negative, ch == 'N', isFloat);
+    }
+
+    if (ch == '0' && i + 1 < toIndex && (cbuf[i + 1] == 'x' || cbuf[i + 1] == 'X')) {
+      boolean digits = false;
+      for (i += 2; i < toIndex && isHexDigit(ch = cbuf[i]); ++i)
+        digits = true;
+
+      if (i < toIndex && ch == '.')
+        for (++i; i < toIndex && isHexDigit(ch = cbuf[i]); ++i)
+          digits = true;
+
+      if (!digits || i == toIndex || (ch != 'p' && ch != 'P') || ++i == toIndex)
+        return INVALID;
+
+      if (((ch = cbuf[i]) == '-' || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      for (; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i);
+      if (i == start || i < toIndex && (!isSuffix(ch) || i + 1 != toIndex))
+        return INVALID;
+
+      return parseJdk(new String(cbuf, fromIndex, toIndex - fromIndex), isFloat);
+    }
+
+    long w = 0;
+    int digits = 0;
+    int q = 0;
+    boolean truncated = false;
+    boolean anyDigit = false;
+    for (; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i) {
+      anyDigit = true;
+      if (digits < 19) {
+        if ((w = w * 10 + (ch - '0')) != 0)
+          ++digits;
+      }
+      else {
+        ++q;
+        truncated |= ch != '0';
+      }
+    }
+
+    if (i < toIndex && ch == '.') {
+      for (++i; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i) {
+        anyDigit = true;
+        if (digits < 19) {
+          --q;
+          if ((w = w * 10 + (ch - '0')) != 0)
+            ++digits;
+        }
+        else {
+          truncated |= ch != '0';
+        }
+      }
+    }
+
+    if (!anyDigit)
+      return INVALID;
+
+    if (i < toIndex && (ch == 'e' || ch == 'E')) {
+      if (++i == toIndex)
+        return INVALID;
+
+      final boolean negativeExponent = (ch = cbuf[i]) == '-';
+      if ((negativeExponent || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      int exponent = 0;
+      for (; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i)
+        if (exponent < 100000)
+          exponent = exponent * 10 + (ch - '0');
+
+      if (i == start)
+        return INVALID;
+
+      q += negativeExponent ? -exponent : exponent;
+    }
+
+    if (i < toIndex && isSuffix(ch))
+      ++i;
+
+    if (i != toIndex)
+      return INVALID;
+
+    final long bits = toBits(negative, w, q, truncated, isFloat);
+    return bits != FAILED ? bits : parseJdk(new String(cbuf, fromIndex, toIndex - fromIndex), isFloat);
+  }
+
+  /**
+   * Parses the specified range of the {@code byte[]} of ASCII characters, and
+   * returns the bits of the value as a {@code double}, or as a {@code float} in
+   * the low 32 bits if {@code isFloat} is {@code true}, or {@link #INVALID} if
+   * the range does not contain a parsable value.
+   *
+   * @param buf The {@code byte[]} of ASCII characters.
+   * @param fromIndex The index from which to start parsing (inclusive).
+   * @param toIndex The index at which to end parsing (exclusive).
+   * @param isFloat Whether to parse a {@code float}, as opposed to a
+   *          {@code double}.
+   * @return The bits of the parsed value, or {@link #INVALID}.
+   */
+  static long parse(final byte[] buf, int fromIndex, int toIndex, final boolean isFloat) {
+    while (fromIndex < toIndex && (char)(buf[fromIndex] & 0xFF) <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && (char)(buf[toIndex - 1] & 0xFF) <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return INVALID;
+
+    int i = fromIndex;
+    char ch = (char)(buf[i] & 0xFF);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+') {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = (char)(buf[i] & 0xFF);
+    }
+
+    if (ch == 'N' || ch == 'I') {
+      final String special = ch == 'N' ? "NaN" : "Infinity";
+      if (toIndex - i != special.length())
+        return INVALID;
+
+      for (int j = 0; j < special.length(); ++j)
+        if ((char)(buf[i + j] & 0xFF) != special.charAt(j))
+          return INVALID;
+
+      return special(negative, ch == 'N', isFloat);
+    }
+
+    if (ch == '0' && i + 1 < toIndex && ((char)(buf[i + 1] & 0xFF) == 'x' || (char)(buf[i + 1] & 0xFF) == 'X')) {
+      boolean digits = false;
+      for (i += 2; i < toIndex && isHexDigit(ch = (char)(buf[i] & 0xFF)); ++i)
+        digits = true;
+
+      if (i < toIndex && ch == '.')
+        for (++i; i < toIndex && isHexDigit(ch = (char)(buf[i] & 0xFF)); ++i)
+          digits = true;
+
+      if (!digits || i == toIndex || (ch != 'p' && ch != 'P') || ++i == toIndex)
+        return INVALID;
+
+      if (((ch = (char)(buf[i] & 0xFF)) == '-' || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      for (; i < toIndex && '0' <= (ch = (char)(buf[i] & 0xFF)) && ch <= '9'; ++i);
+      if (i == start || i < toIndex && (!isSuffix(ch) || i + 1 != toIndex))
+        return INVALID;
+
+      return parseJdk(new String(buf, fromIndex, toIndex - fromIndex, StandardCharsets.ISO_8859_1), isFloat);
+    }
+
+    long w = 0;
+    int digits = 0;
+    int q = 0;
+    boolean truncated = false;
+    boolean anyDigit = false;
+    for (; i < toIndex && '0' <= (ch = (char)(buf[i] & 0xFF)) && ch <= '9'; ++i) {
+      anyDigit = true;
+      if (digits < 19) {
+        if ((w = w * 10 + (ch - '0')) != 0)
+          ++digits;
+      }
+      else {
+        ++q;
+        truncated |= ch != '0';
+      }
+    }
+
+    if (i < toIndex && ch == '.') {
+      for (++i; i < toIndex && '0' <= (ch = (char)(buf[i] & 0xFF)) && ch <= '9'; ++i) {
+        anyDigit = true;
+        if (digits < 19) {
+          --q;
+          if ((w = w * 10 + (ch - '0')) != 0)
+            ++digits;
+        }
+        else {
+          truncated |= ch != '0';
+        }
+      }
+    }
+
+    if (!anyDigit)
+      return INVALID;
+
+    if (i < toIndex && (ch == 'e' || ch == 'E')) {
+      if (++i == toIndex)
+        return INVALID;
+
+      final boolean negativeExponent = (ch = (char)(buf[i] & 0xFF)) == '-';
+      if ((negativeExponent || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      int exponent = 0;
+      for (; i < toIndex && '0' <= (ch = (char)(buf[i] & 0xFF)) && ch <= '9'; ++i)
+        if (exponent < 100000)
+          exponent = exponent * 10 + (ch - '0');
+
+      if (i == start)
+        return INVALID;
+
+      q += negativeExponent ? -exponent : exponent;
+    }
+
+    if (i < toIndex && isSuffix(ch))
+      ++i;
+
+    if (i != toIndex)
+      return INVALID;
+
+    final long bits = toBits(negative, w, q, truncated, isFloat);
+    return bits != FAILED ? bits : parseJdk(new String(buf, fromIndex, toIndex - fromIndex, StandardCharsets.ISO_8859_1), isFloat);
+  }
+
+  private FloatParser() {
+  }
+}
@@ -16,31 +16,47 @@
 
 package org.libj.lang;
 
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Encodes and decodes Hexadecimal.
  */
 public class Hexadecimal extends DataEncoding<byte[],String> {
   private static final long serialVersionUID = -8974679223643455922L;
-  private static final char[] hexChar = {
-    '0', '1', '2', '3',
-    '4', '5', '6', '7',
-    '8', '9', 'a', 'b',
-    'c', 'd', 'e', 'f'
-  };
 
-  private static int charToNibble(final char ch) {
-    if ('0' <= ch && ch <= '9')
-      return ch - '0';
-
-    if ('a' <= ch && ch <= 'f')
-      return ch - 'a' + 0xa;
+  /** The lowercase hex digit pair of each {@code byte} value, at {@code 2 * (b & 0xFF)}. */
+  private static final char[] lowerPairs = new char[512];
+  /** The uppercase hex digit pair of each {@code byte} value, at {@code 2 * (b & 0xFF)}. */
+  private static final char[] upperPairs = new char[512];
+  /** The nibble value of each hex digit, or {@code -1} for each other character. */
+  private static final byte[] nibbles = new byte[256];
 
-    if ('A' <= ch && ch <= 'F')
-      return ch - 'A' + 0xa;
+  static {
+    final String lower = "0123456789abcdef";
+    final String upper = "0123456789ABCDEF";
+    for (int b = 0; b < 256; ++b) {
+      lowerPairs[b << 1] = lower.charAt(b >>> 4);
+      lowerPairs[(b << 1) + 1] = lower.charAt(b & 0xf);
+      upperPairs[b << 1] = upper.charAt(b >>> 4);
+      upperPairs[(b << 1) + 1] = upper.charAt(b & 0xf);
+    }
 
-    throw new IllegalArgumentException("Illegal hexadecimal character: " + ch);
+    Arrays.fill(nibbles, (byte)-1);
+    for (int i = 0; i < 16; ++i) {
+      nibbles[lower.charAt(i)] = (byte)i;
+      nibbles[upper.charAt(i)] = (byte)i;
+    }
   }
 
   /**
@@ -64,21 +80,274 @@ public class Hexadecimal extends DataEncoding<byte[],String> {
    * @throws NullPointerException If {@code bytes} is null.
    */
   public static String encode(final byte[] bytes, final int offset, final int len) {
-    final StringBuilder builder = new StringBuilder(len * 2);
-    for (int i = offset; i < len + offset; ++i) {
-      builder.append(hexChar[(bytes[i] & 0xf0) >>> 4]);
-      builder.append(hexChar[bytes[i] & 0x0f]);
+    return encode(bytes, offset, len, false);
+  }
+
+  /**
+   * Returns the hexadecimal encoding of the provided {@code bytes} array, with
+   * lowercase or uppercase digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param upperCase Whether to encode with uppercase digits.
+   * @return The hexadecimal encoding of the provided {@code bytes} array.
+   * @throws NullPointerException If {@code bytes} is null.
+   */
+  public static String encode(final byte[] bytes, final boolean upperCase) {
+    return encode(bytes, 0, bytes.length, upperCase);
+  }
+
+  /**
+   * Returns the hexadecimal encoding of the provided {@code bytes} array, with
+   * lowercase or uppercase digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param upperCase Whether to encode with uppercase digits.
+   * @return The hexadecimal encoding of the provided {@code bytes} array.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code len} is
+   *           negative, or if the range of {@code bytes} is out of bounds.
+   * @throws NullPointerException If {@code bytes} is null.
+   */
+  public static String encode(final byte[] bytes, final int offset, final int len, final boolean upperCase) {
+    final char[] chars = new char[len << 1];
+    encode(bytes, offset, len, chars, 0, upperCase);
+    return new String(chars);
+  }
+
+  /**
+   * Writes the hexadecimal encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} array, starting at
+   * {@code destOffset}. Each byte is encoded with a single lookup of its 2
+   * digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@code char[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          digit.
+   * @param upperCase Whether to encode with uppercase digits.
+   * @return The index in {@code dest} after the last written digit.
+   * @throws IndexOutOfBoundsException If {@code offset}, {@code len} or
+   *           {@code destOffset} is negative, or if the range of {@code bytes}
+   *           or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code bytes} or {@code dest} is null.
+   */
+  public static int encode(final byte[] bytes, final int offset, final int len, final char[] dest, int destOffset, final boolean upperCase) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "len * 2", len << 1);
+    final char[] pairs = upperCase ? upperPairs : lowerPairs;
+    for (int i = offset, end = offset + len; i < end; ++i) {
+      final int j = (bytes[i] & 0xff) << 1;
+      dest[destOffset++] = pairs[j];
+      dest[destOffset++] = pairs[j + 1];
+    }
+
+    return destOffset;
+  }
+
+  /**
+   * Writes the hexadecimal encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} array as ASCII
+   * characters, starting at {@code destOffset}. Each byte is encoded with a
+   * single lookup of its 2 digits.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          digit.
+   * @param upperCase Whether to encode with uppercase digits.
+   * @return The index in {@code dest} after the last written digit.
+   * @throws IndexOutOfBoundsException If {@code offset}, {@code len} or
+   *           {@code destOffset} is negative, or if the range of {@code bytes}
+   *           or {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code bytes} or {@code dest} is null.
+   */
+  public static int encode(final byte[] bytes, final int offset, final int len, final byte[] dest, int destOffset, final boolean upperCase) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "len * 2", len << 1);
+    final char[] pairs = upperCase ? upperPairs : lowerPairs;
+    for (int i = offset, end = offset + len; i < end; ++i) {
+      final int j = (bytes[i] & 0xff) << 1;
+      dest[destOffset++] = (byte)pairs[j];
+      dest[destOffset++] = (byte)pairs[j + 1];
+    }
+
+    return destOffset;
+  }
+
+  /**
+   * Writes the hexadecimal encoding of {@code len} bytes of the {@code bytes}
+   * array, starting at {@code offset}, to the {@code dest} buffer as ASCII
+   * characters at its position, and advances the position by {@code len * 2}.
+   *
+   * @param bytes The bytes to encode.
+   * @param offset The initial offset.
+   * @param len The length.
+   * @param dest The destination {@link ByteBuffer}.
+   * @param upperCase Whether to encode with uppercase digits.
+   * @throws java.nio.BufferOverflowException If there are fewer than
+   *           {@code len * 2} bytes remaining in {@code dest}.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code len} is
+   *           negative, or if the range of {@code bytes} is out of bounds.
+   * @throws java.nio.ReadOnlyBufferException If {@code dest} is read-only.
+   * @throws NullPointerException If {@code bytes} or {@code dest} is null.
+   */
+  public static void encode(final byte[] bytes, final int offset, final int len, final ByteBuffer dest, final boolean upperCase) {
+    Assertions.assertBoundsOffsetCount("bytes.length", bytes.length, "offset", offset, "len", len);
+    final int position = dest.position();
+    if (dest.remaining() < len << 1)
+      throw new BufferOverflowException();
+
+    if (dest.hasArray()) {
+      encode(bytes, offset, len, dest.array(), dest.arrayOffset() + position, upperCase);
+    }
+    else {
+      final char[] pairs = upperCase ? upperPairs : lowerPairs;
+      for (int i = offset, end = offset + len, k = position; i < end; ++i) {
+        final int j = (bytes[i] & 0xff) << 1;
+        dest.put(k++, (byte)pairs[j]);
+        dest.put(k++, (byte)pairs[j + 1]);
+      }
+    }
+
+    dest.position(position + (len << 1));
+  }
+
+  /**
+   * Decodes the hexadecimal characters in the range {@code [fromIndex, toIndex)}
+   * of the {@link CharSequence} into the {@code dest} array, starting at
+   * {@code destOffset}. Uppercase and lowercase digits are accepted.
+   * <p>
+   * The characters are validated in bulk, with a single check at the end of
+   * the range. If an illegal character is found, the contents of the decoded
+   * range of {@code dest} are unspecified.
+   *
+   * @param hex The hexadecimal characters.
+   * @param fromIndex The index of the first character to decode (inclusive).
+   * @param toIndex The index of the last character to decode (exclusive).
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @return The index in {@code dest} after the last written byte.
+   * @throws IllegalArgumentException If the range has an odd length, or if it
+   *           contains a character that is not a hexadecimal digit.
+   * @throws IndexOutOfBoundsException If the range of {@code hex} or of
+   *           {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code hex} or {@code dest} is null.
+   */
+  public static int decode(final CharSequence hex, final int fromIndex, final int toIndex, final byte[] dest, int destOffset) {
+    checkRange(hex.length(), fromIndex, toIndex, dest.length, destOffset);
+    int error = 0;
+    for (int i = fromIndex; i < toIndex; i += 2) {
+      final char ch0 = hex.charAt(i), ch1 = hex.charAt(i + 1);
+      final int high = nibbles[ch0 & 0xff], low = nibbles[ch1 & 0xff];
+      error |= high | low | (ch0 | ch1) & 0xff00;
+      dest[destOffset++] = (byte)(high << 4 | low);
     }
 
-    return builder.toString();
+    if ((error & ~0xf) != 0)
+      for (int i = fromIndex; i < toIndex; ++i)
+        charToNibble(hex.charAt(i));
+
+    return destOffset;
   }
 
-  private static void decode0(final String hex, final byte[] bytes, final int offset) {
-    for (int i = 0, len = hex.length(), j = offset; i < len; i += 2, ++j) {
-      final int high = charToNibble(hex.charAt(i));
-      final int low = charToNibble(hex.charAt(i + 1));
-      bytes[j] = (byte)((high << 4) | low);
+  /**
+   * Decodes {@code len} hexadecimal characters of the {@code hex} array,
+   * starting at {@code offset}, into the {@code dest} array, starting at
+   * {@code destOffset}. Uppercase and lowercase digits are accepted.
+   * <p>
+   * The characters are validated in bulk, with a single check at the end of
+   * the range. If an illegal character is found, the contents of the decoded
+   * range of {@code dest} are unspecified.
+   *
+   * @param hex The hexadecimal characters.
+   * @param offset The index of the first character to decode.
+   * @param len The number of characters to decode.
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @return The index in {@code dest} after the last written byte.
+   * @throws IllegalArgumentException If {@code len} is odd, or if the range
+   *           contains a character that is not a hexadecimal digit.
+   * @throws IndexOutOfBoundsException If the range of {@code hex} or of
+   *           {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code hex} or {@code dest} is null.
+   */
+  public static int decode(final char[] hex, final int offset, final int len, final byte[] dest, int destOffset) {
+    checkRange(hex.length, offset, offset + len, dest.length, destOffset);
+    int error = 0;
+    for (int i = offset, end = offset + len; i < end; i += 2) {
+      final char ch0 = hex[i], ch1 = hex[i + 1];
+      final int high = nibbles[ch0 & 0xff], low = nibbles[ch1 & 0xff];
+      error |= high | low | (ch0 | ch1) & 0xff00;
+      dest[destOffset++] = (byte)(high << 4 | low);
     }
+
+    if ((error & ~0xf) != 0)
+      for (int i = offset, end = offset + len; i < end; ++i)
+        charToNibble(hex[i]);
+
+    return destOffset;
+  }
+
+  /**
+   * Decodes {@code len} hexadecimal ASCII characters of the {@code hex} array,
+   * starting at {@code offset}, into the {@code dest} array, starting at
+   * {@code destOffset}. Uppercase and lowercase digits are accepted.
+   * <p>
+   * The characters are validated in bulk, with a single check at the end of
+   * the range. If an illegal character is found, the contents of the decoded
+   * range of {@code dest} are unspecified.
+   *
+   * @param hex The hexadecimal ASCII characters.
+   * @param offset The index of the first character to decode.
+   * @param len The number of characters to decode.
+   * @param dest The destination {@code byte[]}.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          byte.
+   * @return The index in {@code dest} after the last written byte.
+   * @throws IllegalArgumentException If {@code len} is odd, or if the range
+   *           contains a character that is not a hexadecimal digit.
+   * @throws IndexOutOfBoundsException If the range of {@code hex} or of
+   *           {@code dest} is out of bounds.
+   * @throws NullPointerException If {@code hex} or {@code dest} is null.
+   */
+  public static int decode(final byte[] hex, final int offset, final int len, final byte[] dest, int destOffset) {
+    checkRange(hex.length, offset, offset + len, dest.length, destOffset);
+    int error = 0;
+    for (int i = offset, end = offset + len; i < end; i += 2) {
+      final int high = nibbles[hex[i] & 0xff], low = nibbles[hex[i + 1] & 0xff];
+      error |= high | low;
+      dest[destOffset++] = (byte)(high << 4 | low);
+    }
+
+    if ((error & ~0xf) != 0)
+      for (int i = offset, end = offset + len; i < end; ++i)
+        charToNibble((char)(hex[i] & 0xff));
+
+    return destOffset;
+  }
+
+  private static void checkRange(final int length, final int fromIndex, final int toIndex, final int destLength, final int destOffset) {
+    Assertions.assertBoundsOffsetCount("length", length, "fromIndex", fromIndex, "toIndex - fromIndex", toIndex - fromIndex);
+    final int len = toIndex - fromIndex;
+    if ((len & 1) != 0)
+      throw new IllegalArgumentException("Odd hex length: " + len);
+
+    Assertions.assertBoundsOffsetCount("dest.length", destLength, "destOffset", destOffset, "length / 2", len >> 1);
+  }
+
+  private static int charToNibble(final char ch) {
+    final int nibble = ch < 256 ? nibbles[ch] : -1;
+    if (nibble < 0)
+      throw new IllegalArgumentException("Illegal hexadecimal character: " + ch);
+
+    return nibble;
   }
 
   /**
@@ -97,10 +366,13 @@ public class Hexadecimal extends DataEncoding<byte[],String> {
     if (length == 0)
       return;
 
-    if (hex.length() % 2 != 0)
-      throw new IllegalArgumentException("Odd hex length: " + hex.length());
+    if (length % 2 != 0)
+      throw new IllegalArgumentException("Odd hex length: " + length);
+
+    if (offset < 0 || bytes.length - offset < length >> 1)
+      throw new ArrayIndexOutOfBoundsException("Index: " + (offset < 0 ? offset : offset + (length >> 1) - 1) + ", Length: " + bytes.length);
 
-    decode0(hex, bytes, offset);
+    decode(hex, 0, length, bytes, offset);
   }
 
   /**
@@ -120,6 +392,216 @@ public class Hexadecimal extends DataEncoding<byte[],String> {
     return bytes;
   }
 
+  private static final class EncoderOutputStream extends FilterOutputStream {
+    private final byte[] buf = new byte[8192];
+    private final boolean upperCase;
+    private int count;
+
+    private EncoderOutputStream(final OutputStream out, final boolean upperCase) {
+      super(out);
+      this.upperCase = upperCase;
+    }
+
+    private void flushBuffer() throws IOException {
+      if (count > 0) {
+        out.write(buf, 0, count);
+        count = 0;
+      }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      if (count > buf.length - 2)
+        flushBuffer();
+
+      final int j = (b & 0xff) << 1;
+      final char[] pairs = upperCase ? upperPairs : lowerPairs;
+      buf[count++] = (byte)pairs[j];
+      buf[count++] = (byte)pairs[j + 1];
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "off", off, "len", len);
+      while (len > 0) {
+        final int n = Math.min(len, (buf.length - count) >> 1);
+        if (n == 0) {
+          flushBuffer();
+          continue;
+        }
+
+        count = encode(b, off, n, buf, count, upperCase);
+        off += n;
+        len -= n;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      flushBuffer();
+      out.flush();
+    }
+  }
+
+  private static final class DecoderInputStream extends FilterInputStream {
+    private final byte[] buf = new byte[8192];
+    private final byte[] one = new byte[1];
+    private int pos;
+    private int limit;
+
+    private DecoderInputStream(final InputStream in) {
+      super(in);
+    }
+
+    private boolean fill() throws IOException {
+      if (pos > 0) {
+        System.arraycopy(buf, pos, buf, 0, limit -= pos);
+        pos = 0;
+      }
+
+      final int n = in.read(buf, limit, buf.length - limit);
+      if (n == -1)
+        return false;
+
+      limit += n;
+      return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "off", off, "len", len);
+      if (len == 0)
+        return 0;
+
+      while (limit - pos < 2) {
+        if (!fill()) {
+          if (pos < limit)
+            throw new IOException("Odd hex length");
+
+          return -1;
+        }
+      }
+
+      final int n = Math.min(len, (limit - pos) >> 1);
+      try {
+        decode(buf, pos, n << 1, b, off);
+      }
+      catch (final IllegalArgumentException e) {
+        throw new IOException(e.getMessage(), e);
+      }
+
+      pos += n << 1;
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final byte[] b = new byte[(int)Math.min(n, 512)];
+      long skipped = 0;
+      for (int r; skipped < n && (r = read(b, 0, (int)Math.min(n - skipped, b.length))) != -1; skipped += r);
+      return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (limit - pos + in.available()) >> 1;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void mark(final int readlimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+    }
+  }
+
+  /**
+   * Returns an {@link OutputStream} that writes the hexadecimal encoding of
+   * the bytes written to it to the specified {@link OutputStream}, as ASCII
+   * characters.
+   * <p>
+   * The encoding is buffered in a fixed-size buffer, which is written to
+   * {@code out} when it is full, and when the returned stream is flushed or
+   * closed. Closing the returned stream closes {@code out}.
+   *
+   * @param out The {@link OutputStream} to which the encoding is to be
+   *          written.
+   * @param upperCase Whether to encode with uppercase digits.
+   * @return An {@link OutputStream} that writes the hexadecimal encoding of
+   *         the bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public static OutputStream newEncoder(final OutputStream out, final boolean upperCase) {
+    return new EncoderOutputStream(Objects.requireNonNull(out), upperCase);
+  }
+
+  /**
+   * Returns a {@link WritableByteChannel} that writes the hexadecimal encoding
+   * of the bytes written to it to the specified {@link WritableByteChannel},
+   * as ASCII characters. Closing the returned channel flushes the encoding,
+   * and closes {@code out}.
+   *
+   * @param out The {@link WritableByteChannel} to which the encoding is to be
+   *          written.
+   * @param upperCase Whether to encode with uppercase digits.
+   * @return A {@link WritableByteChannel} that writes the hexadecimal encoding
+   *         of the bytes written to it to {@code out}.
+   * @throws NullPointerException If {@code out} is null.
+   * @see #newEncoder(OutputStream,boolean)
+   */
+  public static WritableByteChannel newEncoder(final WritableByteChannel out, final boolean upperCase) {
+    return Channels.newChannel(newEncoder(Channels.newOutputStream(out), upperCase));
+  }
+
+  /**
+   * Returns an {@link InputStream} that reads the bytes decoded from the
+   * hexadecimal ASCII characters of the specified {@link InputStream}.
+   * Uppercase and lowercase digits are accepted. The characters are read from
+   * {@code in} into a fixed-size buffer. Closing the returned stream closes
+   * {@code in}.
+   * <p>
+   * The {@code read} methods of the returned stream throw an
+   * {@link IOException} if a character that is not a hexadecimal digit is
+   * read, or if {@code in} ends with an odd number of characters.
+   *
+   * @param in The {@link InputStream} from which the encoding is to be read.
+   * @return An {@link InputStream} that reads the bytes decoded from the
+   *         hexadecimal ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public static InputStream newDecoder(final InputStream in) {
+    return new DecoderInputStream(Objects.requireNonNull(in));
+  }
+
+  /**
+   * Returns a {@link ReadableByteChannel} that reads the bytes decoded from
+   * the hexadecimal ASCII characters of the specified
+   * {@link ReadableByteChannel}. Closing the returned channel closes
+   * {@code in}.
+   *
+   * @param in The {@link ReadableByteChannel} from which the encoding is to be
+   *          read.
+   * @return A {@link ReadableByteChannel} that reads the bytes decoded from
+   *         the hexadecimal ASCII characters of {@code in}.
+   * @throws NullPointerException If {@code in} is null.
+   * @see #newDecoder(InputStream)
+   */
+  public static ReadableByteChannel newDecoder(final ReadableByteChannel in) {
+    return Channels.newChannel(newDecoder(Channels.newInputStream(in)));
+  }
+
   /**
    * Create a new {@link Hexadecimal} object with the provided raw bytes.
    *
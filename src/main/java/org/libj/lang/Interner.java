@@ -0,0 +1,482 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of canonical instances, whereby for any two instances {@code a} and
+ * {@code b} for which {@code a.equals(b)}, {@code intern(a) == intern(b)}
+ * holds for as long as the canonical instance is retained by the pool.
+ * <p>
+ * Two implementations are provided:
+ * <ul>
+ * <li>{@link #newWeakInterner()}: Retains canonical instances only while they
+ * are strongly reachable elsewhere, whereupon they become eligible for garbage
+ * collection.</li>
+ * <li>{@link #newBoundedInterner(int)}: Retains a bounded number of canonical
+ * instances, evicting existing instances to make room for new ones.</li>
+ * </ul>
+ * Each {@link Interner} maintains hit and miss counters, which can be used to
+ * assess the effectiveness of interning for a particular domain of values.
+ * <p>
+ * All implementations are safe for use by multiple threads. Other
+ * implementations can be provided by extending this class, and can be
+ * installed with {@link Strings#setInterner(Interner)},
+ * {@link BigIntegers#setInterner(Interner)} and
+ * {@link BigDecimals#setInterner(Interner)}.
+ *
+ * @param <T> The type parameter of the interned instances.
+ */
+public abstract class Interner<T> {
+  /**
+   * Strategy for the lookup of canonical instances with a key that is not
+   * itself an instance of {@code T}, such as a range of a {@code char[]}.
+   *
+   * @param <T> The type parameter of the interned instances.
+   */
+  protected interface Matcher<T> {
+    /**
+     * Returns whether the specified canonical instance is equal to the
+     * instance that would be created for the specified key.
+     *
+     * @param value The canonical instance.
+     * @param key The key.
+     * @param offset The offset into the key.
+     * @param length The length of the key.
+     * @return Whether the specified canonical instance is equal to the
+     *         instance that would be created for the specified key.
+     */
+    boolean matches(T value, Object key, int offset, int length);
+
+    /**
+     * Returns a new instance for the specified key.
+     *
+     * @param key The key.
+     * @param offset The offset into the key.
+     * @param length The length of the key.
+     * @return A new instance for the specified key.
+     */
+    T create(Object key, int offset, int length);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static final Matcher equalsMatcher = new Matcher<Object>() {
+    @Override
+    public boolean matches(final Object value, final Object key, final int offset, final int length) {
+      return value.equals(key);
+    }
+
+    @Override
+    public Object create(final Object key, final int offset, final int length) {
+      return key;
+    }
+  };
+
+  /**
+   * Returns a new {@link Interner} that retains canonical instances only while
+   * they are strongly reachable outside of the {@link Interner}.
+   *
+   * @param <T> The type parameter of the interned instances.
+   * @return A new {@link Interner} that retains canonical instances only while
+   *         they are strongly reachable outside of the {@link Interner}.
+   */
+  public static <T>Interner<T> newWeakInterner() {
+    return new Weak<>();
+  }
+
+  /**
+   * Returns a new {@link Interner} that retains at most (approximately)
+   * {@code capacity} canonical instances. When the {@link Interner} is full,
+   * interning a new instance evicts an existing canonical instance of a
+   * similar hash code. Thereafter, the evicted instance is no longer
+   * canonical, and an equal instance may be returned from a subsequent
+   * {@link #intern(Object)}.
+   *
+   * @param <T> The type parameter of the interned instances.
+   * @param capacity The maximum number of canonical instances to retain, which
+   *          is rounded up to the next power of 2.
+   * @return A new {@link Interner} that retains at most (approximately)
+   *         {@code capacity} canonical instances.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  public static <T>Interner<T> newBoundedInterner(final int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") must be positive");
+
+    return new Bounded<>(capacity);
+  }
+
+  private static int spread(final int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a new {@link Interner}. Subclasses implement the lookup and
+   * retention of canonical instances with
+   * {@link #get(int,Object,int,int,Matcher)} and
+   * {@link #put(int,Object,int,int,Matcher)}.
+   */
+  protected Interner() {
+  }
+
+  /**
+   * Returns the canonical instance that is equal to the specified value. If
+   * this {@link Interner} does not retain an instance equal to the specified
+   * value, the specified value is retained as the canonical instance, and is
+   * returned.
+   *
+   * @param value The value to intern.
+   * @return The canonical instance that is equal to the specified value.
+   * @throws NullPointerException If {@code value} is null.
+   */
+  @SuppressWarnings("unchecked")
+  public T intern(final T value) {
+    return intern(value.hashCode(), value, 0, 0, (Matcher<T>)equalsMatcher);
+  }
+
+  /**
+   * Returns the canonical instance for the specified key, as determined by the
+   * provided {@link Matcher}. If this {@link Interner} does not retain a
+   * canonical instance for the specified key, an instance is created with
+   * {@link Matcher#create(Object,int,int)}, is retained as the canonical
+   * instance, and is returned.
+   *
+   * @param hash The hash code of the instance for the specified key, which
+   *          must be equal to the {@link Object#hashCode()} of the instance.
+   * @param key The key.
+   * @param offset The offset into the key.
+   * @param length The length of the key.
+   * @param matcher The {@link Matcher}.
+   * @return The canonical instance for the specified key.
+   */
+  final T intern(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+    final T value = get(spread(hash), key, offset, length, matcher);
+    (value != null ? hits : misses).increment();
+    return value != null ? value : put(spread(hash), key, offset, length, matcher);
+  }
+
+  /**
+   * Returns the retained canonical instance that matches the specified key, or
+   * {@code null} if no such instance is retained.
+   *
+   * @param hash The spread hash code.
+   * @param key The key.
+   * @param offset The offset into the key.
+   * @param length The length of the key.
+   * @param matcher The {@link Matcher}.
+   * @return The retained canonical instance that matches the specified key, or
+   *         {@code null} if no such instance is retained.
+   */
+  protected abstract T get(int hash, Object key, int offset, int length, Matcher<T> matcher);
+
+  /**
+   * Retains and returns a new canonical instance for the specified key, unless
+   * a matching instance has been retained concurrently, in which case the
+   * concurrently retained instance is returned.
+   *
+   * @param hash The spread hash code.
+   * @param key The key.
+   * @param offset The offset into the key.
+   * @param length The length of the key.
+   * @param matcher The {@link Matcher}.
+   * @return The canonical instance for the specified key.
+   */
+  protected abstract T put(int hash, Object key, int offset, int length, Matcher<T> matcher);
+
+  /**
+   * Returns the number of canonical instances currently retained by this
+   * {@link Interner}. For a weak {@link Interner}, the returned value may
+   * include instances that have been garbage collected but not yet expunged.
+   *
+   * @return The number of canonical instances currently retained by this
+   *         {@link Interner}.
+   */
+  public abstract int size();
+
+  /**
+   * Removes all canonical instances from this {@link Interner}. The hit and
+   * miss counters are not affected.
+   */
+  public abstract void clear();
+
+  /**
+   * Returns the number of calls to {@code intern} that returned a previously
+   * retained canonical instance.
+   *
+   * @return The number of calls to {@code intern} that returned a previously
+   *         retained canonical instance.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of calls to {@code intern} that did not find a
+   * previously retained canonical instance.
+   *
+   * @return The number of calls to {@code intern} that did not find a
+   *         previously retained canonical instance.
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * {@link Interner} of {@link WeakReference}s, organized as a fixed number of
+   * segments of chained hash tables. Lookups are lock-free, and modifications
+   * are locked per segment. Chains are immutable, so that a lookup never
+   * observes a chain that is being modified.
+   */
+  private static final class Weak<T> extends Interner<T> {
+    private static final int SEGMENTS = 16;
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+
+    private static final class Entry<T> extends WeakReference<T> {
+      private final int hash;
+      private final Entry<T> next;
+
+      private Entry(final T referent, final int hash, final Entry<T> next, final ReferenceQueue<T> queue) {
+        super(referent, queue);
+        this.hash = hash;
+        this.next = next;
+      }
+    }
+
+    private static final class Segment<T> extends ReferenceQueue<T> {
+      private volatile AtomicReferenceArray<Entry<T>> table = new AtomicReferenceArray<>(16);
+      private int count;
+
+      private T get(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+        final AtomicReferenceArray<Entry<T>> table = this.table;
+        for (Entry<T> entry = table.get(hash & (table.length() - 1)); entry != null; entry = entry.next) {
+          if (entry.hash == hash) {
+            final T value = entry.get();
+            if (value != null && matcher.matches(value, key, offset, length))
+              return value;
+          }
+        }
+
+        return null;
+      }
+
+      private synchronized T put(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+        final T existing = get(hash, key, offset, length, matcher);
+        if (existing != null)
+          return existing;
+
+        expunge();
+        final T value = matcher.create(key, offset, length);
+        final AtomicReferenceArray<Entry<T>> table = this.table;
+        final int index = hash & (table.length() - 1);
+        table.set(index, new Entry<>(value, hash, table.get(index), this));
+        if (++count > table.length() * 3 / 4)
+          resize();
+
+        return value;
+      }
+
+      /**
+       * Replaces the table with one of twice the length, in which the chains
+       * are rebuilt from the entries whose referents have not been collected.
+       */
+      private void resize() {
+        final AtomicReferenceArray<Entry<T>> table = this.table;
+        final AtomicReferenceArray<Entry<T>> resized = new AtomicReferenceArray<>(table.length() * 2);
+        final int mask = resized.length() - 1;
+        int count = 0;
+        for (int i = 0, len = table.length(); i < len; ++i) {
+          for (Entry<T> entry = table.get(i); entry != null; entry = entry.next) {
+            final T value = entry.get();
+            if (value != null) {
+              final int index = entry.hash & mask;
+              resized.set(index, new Entry<>(value, entry.hash, resized.get(index), this));
+              ++count;
+            }
+          }
+        }
+
+        this.count = count;
+        this.table = resized;
+      }
+
+      /**
+       * Rebuilds the chains that contain entries whose referents have been
+       * collected. The rebuilt chain of a bucket omits all collected entries
+       * of the bucket, so an entry that is polled thereafter is not found, and
+       * is skipped.
+       */
+      @SuppressWarnings("unchecked")
+      private void expunge() {
+        final AtomicReferenceArray<Entry<T>> table = this.table;
+        for (Entry<T> stale; (stale = (Entry<T>)poll()) != null;) {
+          final int index = stale.hash & (table.length() - 1);
+          final Entry<T> head = table.get(index);
+          Entry<T> entry = head;
+          while (entry != null && entry != stale)
+            entry = entry.next;
+
+          if (entry == null)
+            continue;
+
+          Entry<T> rebuilt = null;
+          for (entry = head; entry != null; entry = entry.next) {
+            final T value = entry.get();
+            if (value != null)
+              rebuilt = new Entry<>(value, entry.hash, rebuilt, this);
+            else
+              --count;
+          }
+
+          table.set(index, rebuilt);
+        }
+      }
+
+      private synchronized int size() {
+        expunge();
+        return count;
+      }
+
+      private synchronized void clear() {
+        while (poll() != null);
+        table = new AtomicReferenceArray<>(16);
+        count = 0;
+      }
+    }
+
+    private final Segment<T>[] segments;
+
+    @SuppressWarnings("unchecked")
+    private Weak() {
+      segments = (Segment<T>[])new Segment<?>[SEGMENTS];
+      for (int i = 0; i < SEGMENTS; ++i)
+        segments[i] = new Segment<>();
+    }
+
+    private Segment<T> segmentFor(final int hash) {
+      return segments[(hash * 0x9E3779B9) >>> SEGMENT_SHIFT];
+    }
+
+    @Override
+    protected T get(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+      return segmentFor(hash).get(hash, key, offset, length, matcher);
+    }
+
+    @Override
+    protected T put(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+      return segmentFor(hash).put(hash, key, offset, length, matcher);
+    }
+
+    @Override
+    public int size() {
+      int size = 0;
+      for (final Segment<T> segment : segments)
+        size += segment.size();
+
+      return size;
+    }
+
+    @Override
+    public void clear() {
+      for (final Segment<T> segment : segments)
+        segment.clear();
+    }
+  }
+
+  /**
+   * {@link Interner} of a fixed-size, 4-way set-associative cache. Lookups are
+   * lock-free, and a miss in a full set evicts the entry of the set in
+   * rotation.
+   */
+  private static final class Bounded<T> extends Interner<T> {
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<T> values;
+    private final int[] hashes;
+    private final int mask;
+
+    private Bounded(final int capacity) {
+      final int size = capacity <= WAYS ? WAYS : Integer.highestOneBit(Math.min(capacity, 1 << 30) - 1) << 1;
+      this.values = new AtomicReferenceArray<>(size);
+      this.hashes = new int[size];
+      this.mask = size / WAYS - 1;
+    }
+
+    @Override
+    protected T get(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+      for (int i = (hash & mask) * WAYS, end = i + WAYS; i < end; ++i) {
+        final T value = values.get(i);
+        if (value != null && hashes[i] == hash && matcher.matches(value, key, offset, length))
+          return value;
+      }
+
+      return null;
+    }
+
+    @Override
+    protected T put(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+      final int set = (hash & mask) * WAYS;
+      final T value = matcher.create(key, offset, length);
+      synchronized (values) {
+        final T existing = get(hash, key, offset, length, matcher);
+        if (existing != null)
+          return existing;
+
+        int index = -1;
+        for (int i = set; i < set + WAYS; ++i) {
+          if (values.get(i) == null) {
+            index = i;
+            break;
+          }
+        }
+
+        // The set is full, so evict an entry in rotation of the miss count
+        if (index < 0)
+          index = set + (int)(getMissCount() & (WAYS - 1));
+
+        hashes[index] = hash;
+        values.set(index, value);
+      }
+
+      return value;
+    }
+
+    @Override
+    public int size() {
+      int size = 0;
+      for (int i = 0, len = values.length(); i < len; ++i)
+        if (values.get(i) != null)
+          ++size;
+
+      return size;
+    }
+
+    @Override
+    public void clear() {
+      synchronized (values) {
+        for (int i = 0, len = values.length(); i < len; ++i)
+          values.set(i, null);
+      }
+    }
+  }
+}
@@ -0,0 +1,963 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Allocation-free writer of decimal representations of {@code int},
+ * {@code long} and {@code double} values to a {@code char[]}, a
+ * {@code byte[]} of ASCII characters, or an {@link Appendable}.
+ * <p>
+ * The shortest decimal that rounds to a {@code double} is determined with the
+ * Schubfach algorithm, and is laid out as per {@link Double#toString(double)}.
+ * Digits are extracted left-to-right in groups of 8 with multiplications only.
+ *
+ * @see <a href="https://github.com/c4f7fcce9cb06515/Schubfach">The Schubfach
+ *      way to render doubles</a>
+ */
+final class NumberFormatter {
+  private static final int Q_MIN = -1074;
+  private static final long C_MIN = 1L << 52;
+  private static final int C_TINY = 3;
+  private static final int K_MIN = -324;
+  private static final int K_MAX = 292;
+  private static final long MASK_63 = 0x7FFFFFFFFFFFFFFFL;
+
+  private static final long[] longPowersOfTen = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L};
+  private static final int[] intPowersOfTen = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000};
+
+  /**
+   * The 126-bit approximations {@code g = g1 2^63 + g0} of {@code 10^-k} for
+   * {@code k} in {@code [-324, 292]}, such that {@code (g - 1) 2^r <= 10^-k < g
+   * 2^r} with {@code 2^125 <= g < 2^126}, which are computed lazily on first
+   * use.
+   */
+  private static final class PowersOfTen {
+    private static final long[] g1 = new long[K_MAX - K_MIN + 1];
+    private static final long[] g0 = new long[K_MAX - K_MIN + 1];
+
+    static {
+      for (int k = K_MIN; k <= K_MAX; ++k) {
+        final BigInteger power = BigInteger.TEN.pow(Math.abs(k));
+        final int bits = power.bitLength();
+        final BigInteger g;
+        if (k > 0)
+          g = BigInteger.ONE.shiftLeft(125 + bits).divide(power);
+        else if (bits > 126)
+          g = power.shiftRight(bits - 126);
+        else
+          g = power.shiftLeft(126 - bits);
+
+        final BigInteger g1g0 = g.add(BigInteger.ONE);
+        g1[k - K_MIN] = g1g0.shiftRight(63).longValue();
+        g0[k - K_MIN] = g1g0.longValue() & MASK_63;
+      }
+    }
+  }
+
+  private static int flog10pow2(final int e) {
+    return (int)(e * 661971961083L >> 41);
+  }
+
+  private static int flog10threeQuartersPow2(final int e) {
+    return (int)(e * 661971961083L + -274743187321L >> 41);
+  }
+
+  private static int flog2pow10(final int e) {
+    return (int)(e * 913124641741L >> 38);
+  }
+
+  /**
+   * Returns the decimal exponent {@code k} of the result of
+   * {@link #decimal(int,long,int)} for the specified arguments.
+   */
+  private static int exponent(final int q, final long c) {
+    return c != C_MIN || q == Q_MIN ? flog10pow2(q) : flog10threeQuartersPow2(q);
+  }
+
+  /**
+   * Computes {@code rop(cp g 2^-127)}, where {@code g = g1 2^63 + g0}.
+   */
+  private static long rop(final long g1, final long g0, final long cp) {
+    final long x1 = FloatParser.unsignedMultiplyHigh(g0, cp);
+    final long y0 = g1 * cp;
+    final long y1 = FloatParser.unsignedMultiplyHigh(g1, cp);
+    final long z = (y0 >>> 1) + x1;
+    final long vbp = y1 + (z >>> 63);
+    return vbp | (z & MASK_63) + MASK_63 >>> 63;
+  }
+
+  /**
+   * Returns the significand {@code f} of the shortest decimal
+   * {@code f 10^(k + dk)} that rounds to {@code c 2^q}, where {@code k} is
+   * {@link #exponent(int,long) exponent(q, c)}.
+   *
+   * @param q The binary exponent.
+   * @param c The binary significand.
+   * @param dk The adjustment of the decimal exponent, which is {@code -1} if
+   *          {@code c} has been multiplied by 10.
+   * @return The significand {@code f} of the shortest decimal
+   *         {@code f 10^(k + dk)} that rounds to {@code c 2^q}.
+   */
+  private static long decimal(final int q, final long c, final int dk) {
+    final int out = (int)c & 1;
+    final long cb = c << 2;
+    final long cbr = cb + 2;
+    final long cbl;
+    final int k;
+    if (c != C_MIN || q == Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    }
+    else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+
+    final int h = q + flog2pow10(-k) + 2;
+    final long g1 = PowersOfTen.g1[k - K_MIN];
+    final long g0 = PowersOfTen.g0[k - K_MIN];
+    final long vb = rop(g1, g0, cb << h);
+    final long vbl = rop(g1, g0, cbl << h);
+    final long vbr = rop(g1, g0, cbr << h);
+
+    final long s = vb >> 2;
+    if (s >= 100) {
+      // floor(s / 10) = floor(s 115_292_150_460_684_698 / 2^64)
+      final long sp10 = 10 * FloatParser.unsignedMultiplyHigh(s, 115292150460684698L << 4);
+      final long tp10 = sp10 + 10;
+      final boolean upin = vbl + out <= sp10 << 2;
+      final boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin)
+        return (upin ? sp10 : tp10) * longPowersOfTen[-dk];
+    }
+
+    final long t = s + 1;
+    final boolean uin = vbl + out <= s << 2;
+    final boolean win = (t << 2) + out <= vbr;
+    if (uin != win)
+      return uin ? s : t;
+
+    final long cmp = vb - (s + t << 1);
+    return cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t;
+  }
+
+  /**
+   * Returns {@code f} rounded half-up to the specified number of fraction
+   * digits, given its current number of fraction digits {@code scale}.
+   */
+  private static long round(final long f, final int scale, final int decimals) {
+    final int drop = scale - decimals;
+    final int len = Numbers.precision(f);
+    if (drop > len)
+      return 0;
+
+    if (drop == len)
+      return f >= 5 * longPowersOfTen[len - 1] ? 1 : 0;
+
+    final long p = longPowersOfTen[drop];
+    final long q = f / p;
+    return f - q * p >= p / 2 ? q + 1 : q;
+  }
+
+  private static int putZeros(final char[] cbuf, int i, int count) {
+    while (count-- > 0)
+      cbuf[i++] = '0';
+
+    return i;
+  }
+
+  /**
+   * Puts the {@code k} digits of {@code a}, for {@code 1 <= k <= 8} and
+   * {@code 0 <= a < 10^k}.
+   */
+  private static int putDigits(final char[] cbuf, int i, final int a, final int k) {
+    int y = (int)((((long)a * intPowersOfTen[8 - k] + 1) << 28) / 100000000) - 1;
+    for (int j = 0; j < k; ++j) {
+      final int t = 10 * y;
+      cbuf[i++] = (char)('0' + (t >>> 28));
+      y = t & 0xFFFFFFF;
+    }
+
+    return i;
+  }
+
+  /**
+   * Puts the {@code len} digits of {@code f}, for {@code 1 <= len <= 19} and
+   * {@code 0 <= f < 10^len}.
+   */
+  private static int putDigits(final char[] cbuf, int i, long f, int len) {
+    if (len > 16) {
+      final long hi = f / 10000000000000000L;
+      i = putDigits(cbuf, i, (int)hi, len - 16);
+      f -= hi * 10000000000000000L;
+      len = 16;
+    }
+
+    if (len > 8) {
+      final int hi = (int)(f / 100000000);
+      i = putDigits(cbuf, i, hi, len - 8);
+      f -= hi * 100000000L;
+      len = 8;
+    }
+
+    return putDigits(cbuf, i, (int)f, len);
+  }
+
+  static int put(final char[] cbuf, int i, final int n) {
+    final long u;
+    if (n < 0) {
+      cbuf[i++] = '-';
+      u = -(long)n;
+    }
+    else {
+      u = n;
+    }
+
+    if (u < 100000000)
+      return putDigits(cbuf, i, (int)u, Numbers.precision((int)u));
+
+    final int hi = (int)(u / 100000000);
+    i = putDigits(cbuf, i, hi, hi < 10 ? 1 : 2);
+    return putDigits(cbuf, i, (int)(u - hi * 100000000L), 8);
+  }
+
+  static int put(final char[] cbuf, int i, long n) {
+    if (n < 0) {
+      cbuf[i++] = '-';
+      if (n == Long.MIN_VALUE) {
+        i = putDigits(cbuf, i, 922, 3);
+        return putDigits(cbuf, i, 3372036854775808L, 16);
+      }
+
+      n = -n;
+    }
+
+    return putDigits(cbuf, i, n, Numbers.precision(n));
+  }
+
+  /**
+   * Puts the decimal {@code f 10^e} as per {@link Double#toString(double)}.
+   */
+  private static int putShortest(final char[] cbuf, int i, long f, int e) {
+    while (f % 10 == 0) {
+      f /= 10;
+      ++e;
+    }
+
+    final int len = Numbers.precision(f);
+    final int exp = e + len;
+    if (0 < exp && exp <= 7) {
+      // Plain format without leading zeros
+      if (len <= exp) {
+        i = putDigits(cbuf, i, f, len);
+        i = putZeros(cbuf, i, exp - len);
+        cbuf[i++] = '.';
+        cbuf[i++] = '0';
+        return i;
+      }
+
+      final long p = longPowersOfTen[len - exp];
+      i = putDigits(cbuf, i, f / p, exp);
+      cbuf[i++] = '.';
+      return putDigits(cbuf, i, f % p, len - exp);
+    }
+
+    if (-3 < exp && exp <= 0) {
+      // Plain format with leading zeros
+      cbuf[i++] = '0';
+      cbuf[i++] = '.';
+      i = putZeros(cbuf, i, -exp);
+      return putDigits(cbuf, i, f, len);
+    }
+
+    // Computerized scientific notation
+    final long p = longPowersOfTen[len - 1];
+    final long d = f / p;
+    cbuf[i++] = (char)('0' + (int)d);
+    cbuf[i++] = '.';
+    if (len == 1)
+      cbuf[i++] = '0';
+    else
+      i = putDigits(cbuf, i, f - d * p, len - 1);
+
+    cbuf[i++] = 'E';
+    int x = exp - 1;
+    if (x < 0) {
+      cbuf[i++] = '-';
+      x = -x;
+    }
+
+    return putDigits(cbuf, i, x, x < 10 ? 1 : x < 100 ? 2 : 3);
+  }
+
+  /**
+   * Puts the decimal {@code f 10^e} rounded half-up to {@code decimals}
+   * fraction digits in plain format.
+   */
+  private static int putFixed(final char[] cbuf, int i, final boolean negative, long f, final int e, final int decimals) {
+    int scale = -e;
+    if (scale > decimals) {
+      f = round(f, scale, decimals);
+      scale = decimals;
+    }
+
+    if (f == 0) {
+      cbuf[i++] = '0';
+      if (decimals > 0) {
+        cbuf[i++] = '.';
+        i = putZeros(cbuf, i, decimals);
+      }
+
+      return i;
+    }
+
+    if (negative)
+      cbuf[i++] = '-';
+
+    final int len = Numbers.precision(f);
+    final int point = len - scale;
+    if (point <= 0) {
+      cbuf[i++] = '0';
+    }
+    else if (point >= len) {
+      i = putDigits(cbuf, i, f, len);
+      i = putZeros(cbuf, i, point - len);
+    }
+    else {
+      i = putDigits(cbuf, i, f / longPowersOfTen[scale], point);
+    }
+
+    if (decimals > 0) {
+      cbuf[i++] = '.';
+      if (point < 0) {
+        i = putZeros(cbuf, i, -point);
+        i = putDigits(cbuf, i, f, len);
+      }
+      else if (point < len) {
+        i = putDigits(cbuf, i, f % longPowersOfTen[scale], scale);
+      }
+
+      i = putZeros(cbuf, i, decimals - Math.max(scale, 0));
+    }
+
+    return i;
+  }
+
+  /**
+   * Puts the shortest decimal representation of {@code v} as per
+   * {@link Double#toString(double)} if {@code decimals} is negative, or
+   * otherwise its plain decimal representation rounded half-up to
+   * {@code decimals} fraction digits.
+   */
+  static int put(final char[] cbuf, int i, final double v, final int decimals) {
+    final long bits = Double.doubleToRawLongBits(v);
+    final long t = bits & (C_MIN - 1);
+    final int bq = (int)(bits >>> 52) & 0x7FF;
+    if (bq == 0x7FF) {
+      if (t != 0) {
+        cbuf[i++] = 'N';
+        cbuf[i++] = 'a';
+        cbuf[i++] = 'N';
+        return i;
+      }
+
+      if (bits < 0)
+        cbuf[i++] = '-';
+
+      cbuf[i++] = 'I';
+      cbuf[i++] = 'n';
+      cbuf[i++] = 'f';
+      cbuf[i++] = 'i';
+      cbuf[i++] = 'n';
+      cbuf[i++] = 'i';
+      cbuf[i++] = 't';
+      cbuf[i++] = 'y';
+      return i;
+    }
+
+    final long f;
+    final int e;
+    if (bq != 0) {
+      final int mq = -Q_MIN + 1 - bq;
+      final long c = C_MIN | t;
+      if (0 < mq && mq < 53 && c >> mq << mq == c) {
+        // Integer values are exact
+        f = c >> mq;
+        e = 0;
+      }
+      else {
+        f = decimal(-mq, c, 0);
+        e = exponent(-mq, c);
+      }
+    }
+    else if (t == 0) {
+      f = 0;
+      e = 0;
+    }
+    else if (t < C_TINY) {
+      f = decimal(Q_MIN, 10 * t, -1);
+      e = exponent(Q_MIN, 10 * t) - 1;
+    }
+    else {
+      f = decimal(Q_MIN, t, 0);
+      e = exponent(Q_MIN, t);
+    }
+
+    if (decimals >= 0)
+      return putFixed(cbuf, i, bits < 0, f, e, decimals);
+
+    if (bits < 0)
+      cbuf[i++] = '-';
+
+    if (f != 0)
+      return putShortest(cbuf, i, f, e);
+
+    cbuf[i++] = '0';
+    cbuf[i++] = '.';
+    cbuf[i++] = '0';
+    return i;
+  }
+
+  private static int putZeros(final byte[] buf, int i, int count) {
+    while (count-- > 0)
+      buf[i++] = '0';
+
+    return i;
+  }
+
+  /**
+   * Puts the {@code k} digits of {@code a}, for {@code 1 <= k <= 8} and
+   * {@code 0 <= a < 10^k}.
+   */
+  private static int putDigits(final byte[] buf, int i, final int a, final int k) {
+    int y = (int)((((long)a * intPowersOfTen[8 - k] + 1) << 28) / 100000000) - 1;
+    for (int j = 0; j < k; ++j) {
+      final int t = 10 * y;
+      buf[i++] = (byte)('0' + (t >>> 28));
+      y = t & 0xFFFFFFF;
+    }
+
+    return i;
+  }
+
+  /**
+   * Puts the {@code len} digits of {@code f}, for {@code 1 <= len <= 19} and
+   * {@code 0 <= f < 10^len}.
+   */
+  private static int putDigits(final byte[] buf, int i, long f, int len) {
+    if (len > 16) {
+      final long hi = f / 10000000000000000L;
+      i = putDigits(buf, i, (int)hi, len - 16);
+      f -= hi * 10000000000000000L;
+      len = 16;
+    }
+
+    if (len > 8) {
+      final int hi = (int)(f / 100000000);
+      i = putDigits(buf, i, hi, len - 8);
+      f -= hi * 100000000L;
+      len = 8;
+    }
+
+    return putDigits(buf, i, (int)f, len);
+  }
+
+  static int put(final byte[] buf, int i, final int n) {
+    final long u;
+    if (n < 0) {
+      buf[i++] = '-';
+      u = -(long)n;
+    }
+    else {
+      u = n;
+    }
+
+    if (u < 100000000)
+      return putDigits(buf, i, (int)u, Numbers.precision((int)u));
+
+    final int hi = (int)(u / 100000000);
+    i = putDigits(buf, i, hi, hi < 10 ? 1 : 2);
+    return putDigits(buf, i, (int)(u - hi * 100000000L), 8);
+  }
+
+  static int put(final byte[] buf, int i, long n) {
+    if (n < 0) {
+      buf[i++] = '-';
+      if (n == Long.MIN_VALUE) {
+        i = putDigits(buf, i, 922, 3);
+        return putDigits(buf, i, 3372036854775808L, 16);
+      }
+
+      n = -n;
+    }
+
+    return putDigits(buf, i, n, Numbers.precision(n));
+  }
+
+  /**
+   * Puts the decimal {@code f 10^e} as per {@link Double#toString(double)}.
+   */
+  private static int putShortest(final byte[] buf, int i, long f, int e) {
+    while (f % 10 == 0) {
+      f /= 10;
+      ++e;
+    }
+
+    final int len = Numbers.precision(f);
+    final int exp = e + len;
+    if (0 < exp && exp <= 7) {
+      // Plain format without leading zeros
+      if (len <= exp) {
+        i = putDigits(buf, i, f, len);
+        i = putZeros(buf, i, exp - len);
+        buf[i++] = '.';
+        buf[i++] = '0';
+        return i;
+      }
+
+      final long p = longPowersOfTen[len - exp];
+      i = putDigits(buf, i, f / p, exp);
+      buf[i++] = '.';
+      return putDigits(buf, i, f % p, len - exp);
+    }
+
+    if (-3 < exp && exp <= 0) {
+      // Plain format with leading zeros
+      buf[i++] = '0';
+      buf[i++] = '.';
+      i = putZeros(buf, i, -exp);
+      return putDigits(buf, i, f, len);
+    }
+
+    // Computerized scientific notation
+    final long p = longPowersOfTen[len - 1];
+    final long d = f / p;
+    buf[i++] = (byte)('0' + (int)d);
+    buf[i++] = '.';
+    if (len == 1)
+      buf[i++] = '0';
+    else
+      i = putDigits(buf, i, f - d * p, len - 1);
+
+    buf[i++] = 'E';
+    int x = exp - 1;
+    if (x < 0) {
+      buf[i++] = '-';
+      x = -x;
+    }
+
+    return putDigits(buf, i, x, x < 10 ? 1 : x < 100 ? 2 : 3);
+  }
+
+  /**
+   * Puts the decimal {@code f 10^e} rounded half-up to {@code decimals}
+   * fraction digits in plain format.
+   */
+  private static int putFixed(final byte[] buf, int i, final boolean negative, long f, final int e, final int decimals) {
+    int scale = -e;
+    if (scale > decimals) {
+      f = round(f, scale, decimals);
+      scale = decimals;
+    }
+
+    if (f == 0) {
+      buf[i++] = '0';
+      if (decimals > 0) {
+        buf[i++] = '.';
+        i = putZeros(buf, i, decimals);
+      }
+
+      return i;
+    }
+
+    if (negative)
+      buf[i++] = '-';
+
+    final int len = Numbers.precision(f);
+    final int point = len - scale;
+    if (point <= 0) {
+      buf[i++] = '0';
+    }
+    else if (point >= len) {
+      i = putDigits(buf, i, f, len);
+      i = putZeros(buf, i, point - len);
+    }
+    else {
+      i = putDigits(buf, i, f / longPowersOfTen[scale], point);
+    }
+
+    if (decimals > 0) {
+      buf[i++] = '.';
+      if (point < 0) {
+        i = putZeros(buf, i, -point);
+        i = putDigits(buf, i, f, len);
+      }
+      else if (point < len) {
+        i = putDigits(buf, i, f % longPowersOfTen[scale], scale);
+      }
+
+      i = putZeros(buf, i, decimals - Math.max(scale, 0));
+    }
+
+    return i;
+  }
+
+  /**
+   * Puts the shortest decimal representation of {@code v} as per
+   * {@link Double#toString(double)} if {@code decimals} is negative, or
+   * otherwise its plain decimal representation rounded half-up to
+   * {@code decimals} fraction digits.
+   */
+  static int put(final byte[] buf, int i, final double v, final int decimals) {
+    final long bits = Double.doubleToRawLongBits(v);
+    final long t = bits & (C_MIN - 1);
+    final int bq = (int)(bits >>> 52) & 0x7FF;
+    if (bq == 0x7FF) {
+      if (t != 0) {
+        buf[i++] = 'N';
+        buf[i++] = 'a';
+        buf[i++] = 'N';
+        return i;
+      }
+
+      if (bits < 0)
+        buf[i++] = '-';
+
+      buf[i++] = 'I';
+      buf[i++] = 'n';
+      buf[i++] = 'f';
+      buf[i++] = 'i';
+      buf[i++] = 'n';
+      buf[i++] = 'i';
+      buf[i++] = 't';
+      buf[i++] = 'y';
+      return i;
+    }
+
+    final long f;
+    final int e;
+    if (bq != 0) {
+      final int mq = -Q_MIN + 1 - bq;
+      final long c = C_MIN | t;
+      if (0 < mq && mq < 53 && c >> mq << mq == c) {
+        // Integer values are exact
+        f = c >> mq;
+        e = 0;
+      }
+      else {
+        f = decimal(-mq, c, 0);
+        e = exponent(-mq, c);
+      }
+    }
+    else if (t == 0) {
+      f = 0;
+      e = 0;
+    }
+    else if (t < C_TINY) {
+      f = decimal(Q_MIN, 10 * t, -1);
+      e = exponent(Q_MIN, 10 * t) - 1;
+    }
+    else {
+      f = decimal(Q_MIN, t, 0);
+      e = exponent(Q_MIN, t);
+    }
+
+    if (decimals >= 0)
+      return putFixed(buf, i, bits < 0, f, e, decimals);
+
+    if (bits < 0)
+      buf[i++] = '-';
+
+    if (f != 0)
+      return putShortest(buf, i, f, e);
+
+    buf[i++] = '0';
+    buf[i++] = '.';
+    buf[i++] = '0';
+    return i;
+  }
+
+  private static int putChar(final Appendable out, final int i, final char ch) throws IOException {
+    out.append(ch);
+    return i + 1;
+  }
+
+  private static int putZeros(final Appendable out, int i, int count) throws IOException {
+    while (count-- > 0)
+      i = putChar(out, i, '0');
+
+    return i;
+  }
+
+  /**
+   * Puts the {@code k} digits of {@code a}, for {@code 1 <= k <= 8} and
+   * {@code 0 <= a < 10^k}.
+   */
+  private static int putDigits(final Appendable out, int i, final int a, final int k) throws IOException {
+    int y = (int)((((long)a * intPowersOfTen[8 - k] + 1) << 28) / 100000000) - 1;
+    for (int j = 0; j < k; ++j) {
+      final int t = 10 * y;
+      i = putChar(out, i, (char)('0' + (t >>> 28)));
+      y = t & 0xFFFFFFF;
+    }
+
+    return i;
+  }
+
+  /**
+   * Puts the {@code len} digits of {@code f}, for {@code 1 <= len <= 19} and
+   * {@code 0 <= f < 10^len}.
+   */
+  private static int putDigits(final Appendable out, int i, long f, int len) throws IOException {
+    if (len > 16) {
+      final long hi = f / 10000000000000000L;
+      i = putDigits(out, i, (int)hi, len - 16);
+      f -= hi * 10000000000000000L;
+      len = 16;
+    }
+
+    if (len > 8) {
+      final int hi = (int)(f / 100000000);
+      i = putDigits(out, i, hi, len - 8);
+      f -= hi * 100000000L;
+      len = 8;
+    }
+
+    return putDigits(out, i, (int)f, len);
+  }
+
+  static int put(final Appendable out, int i, final int n) throws IOException {
+    final long u;
+    if (n < 0) {
+      i = putChar(out, i, '-');
+      u = -(long)n;
+    }
+    else {
+      u = n;
+    }
+
+    if (u < 100000000)
+      return putDigits(out, i, (int)u, Numbers.precision((int)u));
+
+    final int hi = (int)(u / 100000000);
+    i = putDigits(out, i, hi, hi < 10 ? 1 : 2);
+    return putDigits(out, i, (int)(u - hi * 100000000L), 8);
+  }
+
+  static int put(final Appendable out, int i, long n) throws IOException {
+    if (n < 0) {
+      i = putChar(out, i, '-');
+      if (n == Long.MIN_VALUE) {
+        i = putDigits(out, i, 922, 3);
+        return putDigits(out, i, 3372036854775808L, 16);
+      }
+
+      n = -n;
+    }
+
+    return putDigits(out, i, n, Numbers.precision(n));
+  }
+
+  /**
+   * Puts the decimal {@code f 10^e} as per {@link Double#toString(double)}.
+   */
+  private static int putShortest(final Appendable out, int i, long f, int e) throws IOException {
+    while (f % 10 == 0) {
+      f /= 10;
+      ++e;
+    }
+
+    final int len = Numbers.precision(f);
+    final int exp = e + len;
+    if (0 < exp && exp <= 7) {
+      // Plain format without leading zeros
+      if (len <= exp) {
+        i = putDigits(out, i, f, len);
+        i = putZeros(out, i, exp - len);
+        i = putChar(out, i, '.');
+        i = putChar(out, i, '0');
+        return i;
+      }
+
+      final long p = longPowersOfTen[len - exp];
+      i = putDigits(out, i, f / p, exp);
+      i = putChar(out, i, '.');
+      return putDigits(out, i, f % p, len - exp);
+    }
+
+    if (-3 < exp && exp <= 0) {
+      // Plain format with leading zeros
+      i = putChar(out, i, '0');
+      i = putChar(out, i, '.');
+      i = putZeros(out, i, -exp);
+      return putDigits(out, i, f, len);
+    }
+
+    // Computerized scientific notation
+    final long p = longPowersOfTen[len - 1];
+    final long d = f / p;
+    i = putChar(out, i, (char)('0' + (int)d));
+    i = putChar(out, i, '.');
+    if (len == 1)
+      i = putChar(out, i, '0');
+    else
+      i = putDigits(out, i, f - d * p, len - 1);
+
+    i = putChar(out, i, 'E');
+    int x = exp - 1;
+    if (x < 0) {
+      i = putChar(out, i, '-');
+      x = -x;
+    }
+
+    return putDigits(out, i, x, x < 10 ? 1 : x < 100 ? 2 : 3);
+  }
+
+  /**
+   * Puts the decimal {@code f 10^e} rounded half-up to {@code decimals}
+   * fraction digits in plain format.
+   */
+  private static int putFixed(final Appendable out, int i, final boolean negative, long f, final int e, final int decimals) throws IOException {
+    int scale = -e;
+    if (scale > decimals) {
+      f = round(f, scale, decimals);
+      scale = decimals;
+    }
+
+    if (f == 0) {
+      i = putChar(out, i, '0');
+      if (decimals > 0) {
+        i = putChar(out, i, '.');
+        i = putZeros(out, i, decimals);
+      }
+
+      return i;
+    }
+
+    if (negative)
+      i = putChar(out, i, '-');
+
+    final int len = Numbers.precision(f);
+    final int point = len - scale;
+    if (point <= 0) {
+      i = putChar(out, i, '0');
+    }
+    else if (point >= len) {
+      i = putDigits(out, i, f, len);
+      i = putZeros(out, i, point - len);
+    }
+    else {
+      i = putDigits(out, i, f / longPowersOfTen[scale], point);
+    }
+
+    if (decimals > 0) {
+      i = putChar(out, i, '.');
+      if (point < 0) {
+        i = putZeros(out, i, -point);
+        i = putDigits(out, i, f, len);
+      }
+      else if (point < len) {
+        i = putDigits(out, i, f % longPowersOfTen[scale], scale);
+      }
+
+      i = putZeros(out, i, decimals - Math.max(scale, 0));
+    }
+
+    return i;
+  }
+
+  /**
+   * Puts the shortest decimal representation of {@code v} as per
+   * {@link Double#toString(double)} if {@code decimals} is negative, or
+   * otherwise its plain decimal representation rounded half-up to
+   * {@code decimals} fraction digits.
+   */
+  static int put(final Appendable out, int i, final double v, final int decimals) throws IOException {
+    final long bits = Double.doubleToRawLongBits(v);
+    final long t = bits & (C_MIN - 1);
+    final int bq = (int)(bits >>> 52) & 0x7FF;
+    if (bq == 0x7FF) {
+      if (t != 0) {
+        i = putChar(out, i, 'N');
+        i = putChar(out, i, 'a');
+        i = putChar(out, i, 'N');
+        return i;
+      }
+
+      if (bits < 0)
+        i = putChar(out, i, '-');
+
+      i = putChar(out, i, 'I');
+      i = putChar(out, i, 'n');
+      i = putChar(out, i, 'f');
+      i = putChar(out, i, 'i');
+      i = putChar(out, i, 'n');
+      i = putChar(out, i, 'i');
+      i = putChar(out, i, 't');
+      i = putChar(out, i, 'y');
+      return i;
+    }
+
+    final long f;
+    final int e;
+    if (bq != 0) {
+      final int mq = -Q_MIN + 1 - bq;
+      final long c = C_MIN | t;
+      if (0 < mq && mq < 53 && c >> mq << mq == c) {
+        // Integer values are exact
+        f = c >> mq;
+        e = 0;
+      }
+      else {
+        f = decimal(-mq, c, 0);
+        e = exponent(-mq, c);
+      }
+    }
+    else if (t == 0) {
+      f = 0;
+      e = 0;
+    }
+    else if (t < C_TINY) {
+      f = decimal(Q_MIN, 10 * t, -1);
+      e = exponent(Q_MIN, 10 * t) - 1;
+    }
+    else {
+      f = decimal(Q_MIN, t, 0);
+      e = exponent(Q_MIN, t);
+    }
+
+    if (decimals >= 0)
+      return putFixed(out, i, bits < 0, f, e, decimals);
+
+    if (bits < 0)
+      i = putChar(out, i, '-');
+
+    if (f != 0)
+      return putShortest(out, i, f, e);
+
+    i = putChar(out, i, '0');
+    i = putChar(out, i, '.');
+    i = putChar(out, i, '0');
+    return i;
+  }
+
+  private NumberFormatter() {
+  }
+}
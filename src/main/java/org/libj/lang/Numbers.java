@@ -16,9 +16,12 @@
 
 package org.libj.lang;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Comparator;
 
 /**
@@ -1857,7 +1860,7 @@ public final class Numbers {
       return defaultValue;
 
     Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
-    return parseLong0(cbuf, fromIndex, toIndex, radix);
+    return parseLong0(cbuf, fromIndex, toIndex, radix, defaultValue);
   }
 
   private static long parseLong0(final char[] cbuf, final int fromIndex, final int toIndex, final int radix, final long defaultValue) {
@@ -1908,209 +1911,2424 @@ public final class Numbers {
   }
 
   /**
-   * Parses the string argument as per the specification of
-   * {@link Float#parseFloat(String)}, but returns {@code null} if the string
-   * does not contain a parsable {@code float}.
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Short#parseShort(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code short}.
    *
-   * @param s A {@link String} containing the {@link Float} representation to be
-   *          parsed.
-   * @return The {@code float} value represented by the argument, or
-   *         {@code null} if the string does not contain a parsable
-   *         {@code float}.
-   * @see Float#parseFloat(String)
+   * @param buf A {@code byte} array containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param defaultValue The {@code short} value to be returned if the byte array
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code short}.
+   * @see Short#parseShort(String)
    */
-  public static Float parseFloat(final String s) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? null : Float.parseFloat(s);
-    }
-    catch (final NumberFormatException e) {
+  public static short parseShort(final byte[] buf, final short defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    final int i = parseInt0(buf, 0, buf.length, 10, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Short#parseShort(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code short}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code short} value to be returned if the byte array
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code short}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Short#parseShort(String)
+   */
+  public static short parseShort(final byte[] buf, final int fromIndex, final int toIndex, final short defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final int i = parseInt0(buf, fromIndex, toIndex, 10, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code short}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Short}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code short}.
+   * @see Short#parseShort(String,int)
+   */
+  public static Short parseShort(final byte[] buf, final int radix) {
+    if (buf == null)
       return null;
-    }
+
+    final int i = parseInt0(buf, 0, buf.length, radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? null : (short)i;
   }
 
   /**
-   * Parses the string argument as per the specification of
-   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the
-   * string does not contain a parsable {@code float}.
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code short}.
    *
-   * @param s A {@link String} containing the {@link Float} representation to be
-   *          parsed.
-   * @param defaultValue The {@code float} value to be returned if the string
-   *          does not contain a parsable {@code float}.
-   * @return The {@code float} value represented by the argument, or
-   *         {@code defaultValue} if the string does not contain a parsable
-   *         {@code float}.
-   * @see Float#parseFloat(String)
+   * @param buf A {@code byte} array containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code short} value to be returned if the byte array
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code short}.
+   * @see Short#parseShort(String,int)
    */
-  public static float parseFloat(final String s, final float defaultValue) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? defaultValue : Float.parseFloat(s);
-    }
-    catch (final NumberFormatException e) {
+  public static short parseShort(final byte[] buf, final int radix, final short defaultValue) {
+    if (buf == null)
       return defaultValue;
-    }
+
+    final int i = parseInt0(buf, 0, buf.length, radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
   }
 
   /**
-   * Parses the string argument as per the specification of
-   * {@link Double#parseDouble(String)}, but returns {@code null} if the string
-   * does not contain a parsable {@code double}.
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code short}.
    *
-   * @param s A {@link String} containing the {@link Double} representation to
-   *          be parsed.
-   * @return The {@code double} value represented by the argument, or
-   *         {@code null} if the string does not contain a parsable
-   *         {@code double}.
-   * @see Double#parseDouble(String)
+   * @param buf A {@code byte} array containing the ASCII {@link Short}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code short}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Short#parseShort(String,int)
    */
-  public static Double parseDouble(final String s) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? null : Double.parseDouble(s);
-    }
-    catch (final NumberFormatException e) {
+  public static Short parseShort(final byte[] buf, final int fromIndex, final int toIndex, final int radix) {
+    if (buf == null)
       return null;
-    }
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final int i = parseInt0(buf, fromIndex, toIndex, radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? null : (short)i;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code short}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code short} value to be returned if the byte array
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code short}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Short#parseShort(String,int)
+   */
+  public static short parseShort(final byte[] buf, final int fromIndex, final int toIndex, final int radix, final short defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final int i = parseInt0(buf, fromIndex, toIndex, radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code int}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param defaultValue The {@code int} value to be returned if the byte array
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final byte[] buf, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseInt0(buf, 0, buf.length, 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code int}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code int} value to be returned if the byte array
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final byte[] buf, final int fromIndex, final int toIndex, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    return parseInt0(buf, fromIndex, toIndex, 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code int}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Integer}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String,int)
+   */
+  public static Integer parseInteger(final byte[] buf, final int radix) {
+    if (buf == null)
+      return null;
+
+    final int value = parseInt0(buf, 0, buf.length, radix, Integer.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Integer.MIN_VALUE || parseInt0(buf, 0, buf.length, radix, Integer.MAX_VALUE) == value ? Integer.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code int}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code int} value to be returned if the byte array
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String,int)
+   */
+  public static int parseInt(final byte[] buf, final int radix, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseInt0(buf, 0, buf.length, radix, defaultValue);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code int}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Integer}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String,int)
+   */
+  public static Integer parseInteger(final byte[] buf, final int fromIndex, final int toIndex, final int radix) {
+    if (buf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final int value = parseInt0(buf, fromIndex, toIndex, radix, Integer.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Integer.MIN_VALUE || parseInt0(buf, fromIndex, toIndex, radix, Integer.MAX_VALUE) == value ? Integer.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code int}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code int} value to be returned if the byte array
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String,int)
+   */
+  public static int parseInt(final byte[] buf, final int fromIndex, final int toIndex, final int radix, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    return parseInt0(buf, fromIndex, toIndex, radix, defaultValue);
   }
 
-  /**
-   * Parses the string argument as per the specification of
-   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
-   * string does not contain a parsable {@code double}.
-   *
-   * @param s A {@link String} containing the {@link Double} representation to
-   *          be parsed.
-   * @param defaultValue The {@code double} value to be returned if the string
-   *          does not contain a parsable {@code double}.
-   * @return The {@code double} value represented by the argument, or
-   *         {@code defaultValue} if the string does not contain a parsable
-   *         {@code double}.
-   * @see Double#parseDouble(String)
-   */
-  public static double parseDouble(final String s, final double defaultValue) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? defaultValue : Double.parseDouble(s);
-    }
-    catch (final NumberFormatException e) {
-      return defaultValue;
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code long}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param defaultValue The {@code long} value to be returned if the byte array
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final byte[] buf, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseLong0(buf, 0, buf.length, 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code long}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code long} value to be returned if the byte array
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final byte[] buf, final int fromIndex, final int toIndex, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    return parseLong0(buf, fromIndex, toIndex, 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code long}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Long}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String,int)
+   */
+  public static Long parseLong(final byte[] buf, final int radix) {
+    if (buf == null)
+      return null;
+
+    final long value = parseLong0(buf, 0, buf.length, radix, Long.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Long.MIN_VALUE || parseLong0(buf, 0, buf.length, radix, Long.MAX_VALUE) == value ? Long.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code long}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code long} value to be returned if the byte array
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String,int)
+   */
+  public static long parseLong(final byte[] buf, final int radix, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseLong0(buf, 0, buf.length, radix, defaultValue);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code long}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String,int)
+   */
+  public static Long parseLong(final byte[] buf, final int fromIndex, final int toIndex, final int radix) {
+    if (buf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final long value = parseLong0(buf, fromIndex, toIndex, radix, Long.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Long.MIN_VALUE || parseLong0(buf, fromIndex, toIndex, radix, Long.MAX_VALUE) == value ? Long.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code long}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code long} value to be returned if the byte array
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String,int)
+   */
+  public static long parseLong(final byte[] buf, final int fromIndex, final int toIndex, final int radix, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    return parseLong0(buf, fromIndex, toIndex, radix, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Short#parseShort(String)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code short}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param defaultValue The {@code short} value to be returned if the buffer
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code short}.
+   * @see Short#parseShort(String)
+   */
+  public static short parseShort(final ByteBuffer buf, final short defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    final int i = parseInt0(buf, buf.position(), buf.limit(), 10, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Short#parseShort(String)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code short}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code short} value to be returned if the buffer
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code short}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Short#parseShort(String)
+   */
+  public static short parseShort(final ByteBuffer buf, final int fromIndex, final int toIndex, final short defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    final int i = parseInt0(buf, fromIndex, toIndex, 10, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code null} if the buffer
+   * does not contain a parsable {@code short}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@link Short}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code null} if the buffer does not contain a parsable
+   *         {@code short}.
+   * @see Short#parseShort(String,int)
+   */
+  public static Short parseShort(final ByteBuffer buf, final int radix) {
+    if (buf == null)
+      return null;
+
+    final int i = parseInt0(buf, buf.position(), buf.limit(), radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? null : (short)i;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code short}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code short} value to be returned if the buffer
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code short}.
+   * @see Short#parseShort(String,int)
+   */
+  public static short parseShort(final ByteBuffer buf, final int radix, final short defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    final int i = parseInt0(buf, buf.position(), buf.limit(), radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code null} if the buffer
+   * does not contain a parsable {@code short}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@link Short}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code null} if the buffer does not contain a parsable
+   *         {@code short}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Short#parseShort(String,int)
+   */
+  public static Short parseShort(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix) {
+    if (buf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    final int i = parseInt0(buf, fromIndex, toIndex, radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? null : (short)i;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Short#parseShort(String,int)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code short}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code short}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code short} value to be returned if the buffer
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code short}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Short#parseShort(String,int)
+   */
+  public static short parseShort(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix, final short defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    final int i = parseInt0(buf, fromIndex, toIndex, radix, Integer.MIN_VALUE);
+    return i < Short.MIN_VALUE || i > Short.MAX_VALUE ? defaultValue : (short)i;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code int}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param defaultValue The {@code int} value to be returned if the buffer
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final ByteBuffer buf, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseInt0(buf, buf.position(), buf.limit(), 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code int}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code int} value to be returned if the buffer
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final ByteBuffer buf, final int fromIndex, final int toIndex, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    return parseInt0(buf, fromIndex, toIndex, 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code null} if the buffer
+   * does not contain a parsable {@code int}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@link Integer}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code null} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String,int)
+   */
+  public static Integer parseInteger(final ByteBuffer buf, final int radix) {
+    if (buf == null)
+      return null;
+
+    final int value = parseInt0(buf, buf.position(), buf.limit(), radix, Integer.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Integer.MIN_VALUE || parseInt0(buf, buf.position(), buf.limit(), radix, Integer.MAX_VALUE) == value ? Integer.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code int}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code int} value to be returned if the buffer
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String,int)
+   */
+  public static int parseInt(final ByteBuffer buf, final int radix, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseInt0(buf, buf.position(), buf.limit(), radix, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code null} if the buffer
+   * does not contain a parsable {@code int}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@link Integer}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code null} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String,int)
+   */
+  public static Integer parseInteger(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix) {
+    if (buf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    final int value = parseInt0(buf, fromIndex, toIndex, radix, Integer.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Integer.MIN_VALUE || parseInt0(buf, fromIndex, toIndex, radix, Integer.MAX_VALUE) == value ? Integer.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Integer#parseInt(String,int)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code int}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code int} value to be returned if the buffer
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String,int)
+   */
+  public static int parseInt(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    return parseInt0(buf, fromIndex, toIndex, radix, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code long}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param defaultValue The {@code long} value to be returned if the buffer
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final ByteBuffer buf, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseLong0(buf, buf.position(), buf.limit(), 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code long}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code long} value to be returned if the buffer
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final ByteBuffer buf, final int fromIndex, final int toIndex, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    return parseLong0(buf, fromIndex, toIndex, 10, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code null} if the buffer
+   * does not contain a parsable {@code long}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@link Long}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code null} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String,int)
+   */
+  public static Long parseLong(final ByteBuffer buf, final int radix) {
+    if (buf == null)
+      return null;
+
+    final long value = parseLong0(buf, buf.position(), buf.limit(), radix, Long.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Long.MIN_VALUE || parseLong0(buf, buf.position(), buf.limit(), radix, Long.MAX_VALUE) == value ? Long.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code long}.
+   * <p>
+   * The bytes from the buffer's position to its limit are parsed, and the
+   * position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code long} value to be returned if the buffer
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String,int)
+   */
+  public static long parseLong(final ByteBuffer buf, final int radix, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    return parseLong0(buf, buf.position(), buf.limit(), radix, defaultValue);
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code null} if the buffer
+   * does not contain a parsable {@code long}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@link Long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code null} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String,int)
+   */
+  public static Long parseLong(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix) {
+    if (buf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    final long value = parseLong0(buf, fromIndex, toIndex, radix, Long.MIN_VALUE);
+    // MIN_VALUE is ambiguous, so it is confirmed with a different default value
+    return value != Long.MIN_VALUE || parseLong0(buf, fromIndex, toIndex, radix, Long.MAX_VALUE) == value ? Long.valueOf(value) : null;
+  }
+
+  /**
+   * Parses the {@link ByteBuffer} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code defaultValue} if the buffer
+   * does not contain a parsable {@code long}.
+   * <p>
+   * The position of the buffer is not modified.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param radix The radix to be used while parsing {@code buf}.
+   * @param defaultValue The {@code long} value to be returned if the buffer
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String,int)
+   */
+  public static long parseLong(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    return parseLong0(buf, fromIndex, toIndex, radix, defaultValue);
+  }
+
+  /**
+   * Returns the value of the ASCII digit {@code ch} in the specified radix, or
+   * {@code -1} if {@code ch} is not a digit in the radix.
+   *
+   * @param ch The ASCII character.
+   * @param radix The radix.
+   * @return The value of the ASCII digit {@code ch} in the specified radix, or
+   *         {@code -1} if {@code ch} is not a digit in the radix.
+   */
+  private static int digit(final int ch, final int radix) {
+    int digit = ch - '0';
+    if (digit > 9 && (digit = (ch | 0x20) - 'a' + 10) < 10)
+      return -1;
+
+    return 0 <= digit && digit < radix ? digit : -1;
+  }
+
+  /**
+   * Returns whether each of the 8 bytes of the specified little-endian word is
+   * an ASCII decimal digit.
+   *
+   * @param word The 8 bytes, with the first in the least significant position.
+   * @return Whether each of the 8 bytes of the word is an ASCII decimal digit.
+   */
+  private static boolean isEightDigits(final long word) {
+    return ((word & 0xF0F0F0F0F0F0F0F0L) | (((word + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) == 0x3333333333333333L;
+  }
+
+  /**
+   * Returns the value of the 8 ASCII decimal digits of the specified
+   * little-endian word, combining pairs, then quads, then octets of digits with
+   * 3 multiplications.
+   *
+   * @param word The 8 bytes, with the first in the least significant position.
+   * @return The value of the 8 ASCII decimal digits of the word.
+   */
+  private static int parseEightDigits(long word) {
+    word -= 0x3030303030303030L;
+    word = word * 10 + (word >>> 8);
+    return (int)(((word & 0x000000FF000000FFL) * (100 + (1000000L << 32)) + ((word >>> 16) & 0x000000FF000000FFL) * (1 + (10000L << 32))) >>> 32);
+  }
+
+  private static long getLongLE(final byte[] buf, final int i) {
+    return buf[i] & 0xFFL | (buf[i + 1] & 0xFFL) << 8 | (buf[i + 2] & 0xFFL) << 16 | (buf[i + 3] & 0xFFL) << 24 | (buf[i + 4] & 0xFFL) << 32 | (buf[i + 5] & 0xFFL) << 40 | (buf[i + 6] & 0xFFL) << 48 | (long)buf[i + 7] << 56;
+  }
+
+  private static long getLongLE(final ByteBuffer buf, final int i) {
+    final long word = buf.getLong(i);
+    return buf.order() == ByteOrder.LITTLE_ENDIAN ? word : Long.reverseBytes(word);
+  }
+
+  private static int parseInt0(final byte[] buf, final int fromIndex, final int toIndex, final int radix, final int defaultValue) {
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      return defaultValue;
+
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    int limit = -Integer.MAX_VALUE;
+
+    final byte firstChar = buf[i];
+    if (firstChar < '0') { // Possible leading "+" or "-"
+      if (firstChar == '-') {
+        negative = true;
+        limit = Integer.MIN_VALUE;
+      }
+      else if (firstChar != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    if (radix == 10 && toIndex - i < 10) { // Up to 9 decimal digits cannot overflow
+      int result = 0;
+      if (toIndex - i >= 8) {
+        final long word = getLongLE(buf, i);
+        if (!isEightDigits(word))
+          return defaultValue;
+
+        result = parseEightDigits(word);
+        i += 8;
+      }
+
+      while (i < toIndex) {
+        final int digit = buf[i++] - '0';
+        if (digit < 0 || digit > 9)
+          return defaultValue;
+
+        result = result * 10 + digit;
+      }
+
+      return negative ? -result : result;
+    }
+
+    final int multmin = limit / radix;
+    int result = 0;
+    while (i < toIndex) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digit = digit(buf[i++], radix);
+      if (digit < 0 || result < multmin)
+        return defaultValue;
+
+      result *= radix;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  private static int parseInt0(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix, final int defaultValue) {
+    if (buf.hasArray())
+      return parseInt0(buf.array(), buf.arrayOffset() + fromIndex, buf.arrayOffset() + toIndex, radix, defaultValue);
+
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      return defaultValue;
+
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    int limit = -Integer.MAX_VALUE;
+
+    final byte firstChar = buf.get(i);
+    if (firstChar < '0') { // Possible leading "+" or "-"
+      if (firstChar == '-') {
+        negative = true;
+        limit = Integer.MIN_VALUE;
+      }
+      else if (firstChar != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    if (radix == 10 && toIndex - i < 10) { // Up to 9 decimal digits cannot overflow
+      int result = 0;
+      if (toIndex - i >= 8) {
+        final long word = getLongLE(buf, i);
+        if (!isEightDigits(word))
+          return defaultValue;
+
+        result = parseEightDigits(word);
+        i += 8;
+      }
+
+      while (i < toIndex) {
+        final int digit = buf.get(i++) - '0';
+        if (digit < 0 || digit > 9)
+          return defaultValue;
+
+        result = result * 10 + digit;
+      }
+
+      return negative ? -result : result;
+    }
+
+    final int multmin = limit / radix;
+    int result = 0;
+    while (i < toIndex) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digit = digit(buf.get(i++), radix);
+      if (digit < 0 || result < multmin)
+        return defaultValue;
+
+      result *= radix;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  private static long parseLong0(final byte[] buf, final int fromIndex, final int toIndex, final int radix, final long defaultValue) {
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      return defaultValue;
+
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    long limit = -Long.MAX_VALUE;
+
+    final byte firstChar = buf[i];
+    if (firstChar < '0') { // Possible leading "+" or "-"
+      if (firstChar == '-') {
+        negative = true;
+        limit = Long.MIN_VALUE;
+      }
+      else if (firstChar != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    if (radix == 10 && toIndex - i < 19) { // Up to 18 decimal digits cannot overflow
+      long result = 0;
+      for (; toIndex - i >= 8; i += 8) {
+        final long word = getLongLE(buf, i);
+        if (!isEightDigits(word))
+          return defaultValue;
+
+        result = result * 100000000 + parseEightDigits(word);
+      }
+
+      while (i < toIndex) {
+        final int digit = buf[i++] - '0';
+        if (digit < 0 || digit > 9)
+          return defaultValue;
+
+        result = result * 10 + digit;
+      }
+
+      return negative ? -result : result;
+    }
+
+    final long multmin = limit / radix;
+    long result = 0;
+    while (i < toIndex) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digit = digit(buf[i++], radix);
+      if (digit < 0 || result < multmin)
+        return defaultValue;
+
+      result *= radix;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  private static long parseLong0(final ByteBuffer buf, final int fromIndex, final int toIndex, final int radix, final long defaultValue) {
+    if (buf.hasArray())
+      return parseLong0(buf.array(), buf.arrayOffset() + fromIndex, buf.arrayOffset() + toIndex, radix, defaultValue);
+
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      return defaultValue;
+
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    long limit = -Long.MAX_VALUE;
+
+    final byte firstChar = buf.get(i);
+    if (firstChar < '0') { // Possible leading "+" or "-"
+      if (firstChar == '-') {
+        negative = true;
+        limit = Long.MIN_VALUE;
+      }
+      else if (firstChar != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    if (radix == 10 && toIndex - i < 19) { // Up to 18 decimal digits cannot overflow
+      long result = 0;
+      for (; toIndex - i >= 8; i += 8) {
+        final long word = getLongLE(buf, i);
+        if (!isEightDigits(word))
+          return defaultValue;
+
+        result = result * 100000000 + parseEightDigits(word);
+      }
+
+      while (i < toIndex) {
+        final int digit = buf.get(i++) - '0';
+        if (digit < 0 || digit > 9)
+          return defaultValue;
+
+        result = result * 10 + digit;
+      }
+
+      return negative ? -result : result;
+    }
+
+    final long multmin = limit / radix;
+    long result = 0;
+    while (i < toIndex) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digit = digit(buf.get(i++), radix);
+      if (digit < 0 || result < multmin)
+        return defaultValue;
+
+      result *= radix;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code null} if the string
+   * does not contain a parsable {@code float}.
+   *
+   * @param s A {@link String} containing the {@link Float} representation to be
+   *          parsed.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code null} if the string does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static Float parseFloat(final String s) {
+    return parseFloat((CharSequence)s);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code null} if the string
+   * does not contain a parsable {@code float}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Float} representation to
+   *          be parsed.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code null} if the string does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static Float parseFloat(final CharSequence s) {
+    if (s == null)
+      return null;
+
+    final long bits = FloatParser.parse(s, 0, s.length(), true);
+    return bits == FloatParser.INVALID ? null : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the string
+   * does not contain a parsable {@code float}.
+   *
+   * @param s A {@link String} containing the {@link Float} representation to be
+   *          parsed.
+   * @param defaultValue The {@code float} value to be returned if the string
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the string does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final String s, final float defaultValue) {
+    return parseFloat((CharSequence)s, defaultValue);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the string
+   * does not contain a parsable {@code float}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Float} representation to
+   *          be parsed.
+   * @param defaultValue The {@code float} value to be returned if the string
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the string does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final CharSequence s, final float defaultValue) {
+    if (s == null)
+      return defaultValue;
+
+    final long bits = FloatParser.parse(s, 0, s.length(), true);
+    return bits == FloatParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code null} if the string
+   * does not contain a parsable {@code float}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Float} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing
+   *          (exclusive).
+   * @return The {@code float} value represented by the argument, or
+   *         {@code null} if the string does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static Float parseFloat(final CharSequence s, final int fromIndex, final int toIndex) {
+    if (s == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    final long bits = FloatParser.parse(s, fromIndex, toIndex, true);
+    return bits == FloatParser.INVALID ? null : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the string
+   * does not contain a parsable {@code float}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Float} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code float} value to be returned if the string
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the string does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final CharSequence s, final int fromIndex, final int toIndex, final float defaultValue) {
+    if (s == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    final long bits = FloatParser.parse(s, fromIndex, toIndex, true);
+    return bits == FloatParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the char array
+   * does not contain a parsable {@code float}.
+   *
+   * @param cbuf A {@code char} array containing the {@link Float} representation to
+   *          be parsed.
+   * @param defaultValue The {@code float} value to be returned if the char array
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final char[] cbuf, final float defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    final long bits = FloatParser.parse(cbuf, 0, cbuf.length, true);
+    return bits == FloatParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code null} if the char array
+   * does not contain a parsable {@code float}.
+   *
+   * @param cbuf A {@code char} array containing the {@link Float} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code cbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end parsing
+   *          (exclusive).
+   * @return The {@code float} value represented by the argument, or
+   *         {@code null} if the char array does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static Float parseFloat(final char[] cbuf, final int fromIndex, final int toIndex) {
+    if (cbuf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    final long bits = FloatParser.parse(cbuf, fromIndex, toIndex, true);
+    return bits == FloatParser.INVALID ? null : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the char array
+   * does not contain a parsable {@code float}.
+   *
+   * @param cbuf A {@code char} array containing the {@link Float} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code cbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code float} value to be returned if the char array
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final char[] cbuf, final int fromIndex, final int toIndex, final float defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    final long bits = FloatParser.parse(cbuf, fromIndex, toIndex, true);
+    return bits == FloatParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code float}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Float}
+   *          representation to be parsed.
+   * @param defaultValue The {@code float} value to be returned if the byte array
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final byte[] buf, final float defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    final long bits = FloatParser.parse(buf, 0, buf.length, true);
+    return bits == FloatParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code float}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Float}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @return The {@code float} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static Float parseFloat(final byte[] buf, final int fromIndex, final int toIndex) {
+    if (buf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final long bits = FloatParser.parse(buf, fromIndex, toIndex, true);
+    return bits == FloatParser.INVALID ? null : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code float}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Float}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code float} value to be returned if the byte array
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final byte[] buf, final int fromIndex, final int toIndex, final float defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final long bits = FloatParser.parse(buf, fromIndex, toIndex, true);
+    return bits == FloatParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code null} if the string
+   * does not contain a parsable {@code double}.
+   *
+   * @param s A {@link String} containing the {@link Double} representation to be
+   *          parsed.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code null} if the string does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static Double parseDouble(final String s) {
+    return parseDouble((CharSequence)s);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code null} if the string
+   * does not contain a parsable {@code double}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Double} representation to
+   *          be parsed.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code null} if the string does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static Double parseDouble(final CharSequence s) {
+    if (s == null)
+      return null;
+
+    final long bits = FloatParser.parse(s, 0, s.length(), false);
+    return bits == FloatParser.INVALID ? null : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the string
+   * does not contain a parsable {@code double}.
+   *
+   * @param s A {@link String} containing the {@link Double} representation to be
+   *          parsed.
+   * @param defaultValue The {@code double} value to be returned if the string
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the string does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final String s, final double defaultValue) {
+    return parseDouble((CharSequence)s, defaultValue);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the string
+   * does not contain a parsable {@code double}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Double} representation to
+   *          be parsed.
+   * @param defaultValue The {@code double} value to be returned if the string
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the string does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final CharSequence s, final double defaultValue) {
+    if (s == null)
+      return defaultValue;
+
+    final long bits = FloatParser.parse(s, 0, s.length(), false);
+    return bits == FloatParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code null} if the string
+   * does not contain a parsable {@code double}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Double} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing
+   *          (exclusive).
+   * @return The {@code double} value represented by the argument, or
+   *         {@code null} if the string does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static Double parseDouble(final CharSequence s, final int fromIndex, final int toIndex) {
+    if (s == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    final long bits = FloatParser.parse(s, fromIndex, toIndex, false);
+    return bits == FloatParser.INVALID ? null : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the string argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the string
+   * does not contain a parsable {@code double}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Double} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code double} value to be returned if the string
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the string does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final CharSequence s, final int fromIndex, final int toIndex, final double defaultValue) {
+    if (s == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    final long bits = FloatParser.parse(s, fromIndex, toIndex, false);
+    return bits == FloatParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the char array
+   * does not contain a parsable {@code double}.
+   *
+   * @param cbuf A {@code char} array containing the {@link Double} representation to
+   *          be parsed.
+   * @param defaultValue The {@code double} value to be returned if the char array
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final char[] cbuf, final double defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    final long bits = FloatParser.parse(cbuf, 0, cbuf.length, false);
+    return bits == FloatParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code null} if the char array
+   * does not contain a parsable {@code double}.
+   *
+   * @param cbuf A {@code char} array containing the {@link Double} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code cbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end parsing
+   *          (exclusive).
+   * @return The {@code double} value represented by the argument, or
+   *         {@code null} if the char array does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static Double parseDouble(final char[] cbuf, final int fromIndex, final int toIndex) {
+    if (cbuf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    final long bits = FloatParser.parse(cbuf, fromIndex, toIndex, false);
+    return bits == FloatParser.INVALID ? null : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the char array
+   * does not contain a parsable {@code double}.
+   *
+   * @param cbuf A {@code char} array containing the {@link Double} representation to
+   *          be parsed.
+   * @param fromIndex The index in {@code cbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code double} value to be returned if the char array
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final char[] cbuf, final int fromIndex, final int toIndex, final double defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    final long bits = FloatParser.parse(cbuf, fromIndex, toIndex, false);
+    return bits == FloatParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code double}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Double}
+   *          representation to be parsed.
+   * @param defaultValue The {@code double} value to be returned if the byte array
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final byte[] buf, final double defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    final long bits = FloatParser.parse(buf, 0, buf.length, false);
+    return bits == FloatParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code null} if the byte array
+   * does not contain a parsable {@code double}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Double}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @return The {@code double} value represented by the argument, or
+   *         {@code null} if the byte array does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static Double parseDouble(final byte[] buf, final int fromIndex, final int toIndex) {
+    if (buf == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final long bits = FloatParser.parse(buf, fromIndex, toIndex, false);
+    return bits == FloatParser.INVALID ? null : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code byte[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the byte array
+   * does not contain a parsable {@code double}.
+   *
+   * @param buf A {@code byte} array containing the ASCII {@link Double}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code double} value to be returned if the byte array
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final byte[] buf, final int fromIndex, final int toIndex, final double defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    final long bits = FloatParser.parse(buf, fromIndex, toIndex, false);
+    return bits == FloatParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Returns an {@code int} array representation of the values in the specified
+   * {@link String} array.
+   *
+   * @param s The {@link String} array.
+   * @return An {@code int} array representation of the values in the specified
+   *         {@link String} array.
+   * @throws NumberFormatException If a string in the specified array does not
+   *           contain a parsable integer.
+   */
+  public static int[] parseInt(final String ... s) {
+    final int[] values = new int[s.length];
+    for (int i = 0; i < s.length; ++i)
+      values[i] = Integer.parseInt(s[i]);
+
+    return values;
+  }
+
+  /**
+   * Returns a {@code double} array representation of the values in the
+   * specified {@link String} array.
+   *
+   * @param s The {@link String} array.
+   * @return An {@code int} array representation of the values in the specified
+   *         {@link String} array.
+   * @throws NumberFormatException If a string in the specified array does not
+   *           contain a parsable double.
+   */
+  public static double[] parseDouble(final String ... s) {
+    final double[] values = new double[s.length];
+    for (int i = 0; i < s.length; ++i)
+      values[i] = Double.parseDouble(s[i]);
+
+    return values;
+  }
+
+  /**
+   * Returns a {@link Number} of type {@code <T>} of the value for the provided
+   * string.
+   *
+   * @param <T> The type of {@link Number} to be returned.
+   * @param s The number to get the value of.
+   * @param as The class representing the type of {@link Number} to be returned.
+   * @return a {@link Number} of type {@code <T>} of the value for the provided
+   *         string.
+   * @throws NumberFormatException If the string does not contain a parsable
+   *           {@link Number} of type {@code <T>}.
+   * @throws UnsupportedOperationException If the specified {@link Class}
+   *           represents a type that is not one of: <br>
+   *           <blockquote>{@code byte}, {@link Byte},<br>
+   *           {@code short}, {@link Short},<br>
+   *           {@code char}, {@link Character},<br>
+   *           {@code int}, {@link Integer},<br>
+   *           {@code long}, {@link Long},<br>
+   *           {@code double}, {@link Double},<br>
+   *           {@code float}, {@link Float},<br>
+   *           {@code short}, {@link Short},<br>
+   *           {@link BigInteger}, {@link BigDecimal}</blockquote>
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Number>T parseNumber(final String s, final Class<T> as) {
+    if (float.class == as || Float.class == as)
+      return (T)Float.valueOf(s);
+
+    if (double.class == as || Double.class == as)
+      return (T)Double.valueOf(s);
+
+    if (byte.class == as || Byte.class == as)
+      return (T)Byte.valueOf(s);
+
+    if (short.class == as || Short.class == as)
+      return (T)Short.valueOf(s);
+
+    if (int.class == as || Integer.class == as)
+      return (T)Integer.valueOf(s);
+
+    if (long.class == as || Long.class == as)
+      return (T)Long.valueOf(s);
+
+    if (BigInteger.class.isAssignableFrom(as))
+      return (T)new BigInteger(s);
+
+    if (BigDecimal.class.isAssignableFrom(as))
+      return (T)new BigDecimal(s);
+
+    throw new UnsupportedOperationException("Unsupported Number type: " + as.getName());
+  }
+
+  /**
+   * Returns the {@code double} value of the specified string representing a
+   * number, or a number with a fraction of two numbers (i.e. {@code 23 3/4}),
+   * or {@link Double#NaN} if the string does not represent a number as per
+   * {@link #isNumber(String)}.
+   *
+   * @param s The string to parse.
+   * @return The {@code double} value of the specified string, or
+   *         {@link Double#NaN} if the string does not represent a number.
+   * @see #parseNumber(CharSequence)
+   */
+  public static double parseNumber(final String s) {
+    return parseNumber((CharSequence)s);
+  }
+
+  /**
+   * Returns the {@code double} value of the specified string representing a
+   * number, or a number with a fraction of two numbers (i.e. {@code 23 3/4}),
+   * or {@link Double#NaN} if the string does not represent a number as per
+   * {@link #isNumber(CharSequence)}.
+   * <p>
+   * The string is parsed in a single pass without allocation, and the sign of
+   * a mixed number applies to its fraction as well (i.e. {@code -1 1/2} is
+   * {@code -1.5}).
+   *
+   * @param s The string to parse.
+   * @return The {@code double} value of the specified string, or
+   *         {@link Double#NaN} if the string does not represent a number.
+   */
+  public static double parseNumber(final CharSequence s) {
+    return s == null ? Double.NaN : parseNumber0(s, 0, s.length(), true);
+  }
+
+  /**
+   * Returns the {@code double} value of the specified range of the string
+   * representing a number, or a number with a fraction of two numbers (i.e.
+   * {@code 23 3/4}), or {@link Double#NaN} if the range does not represent a
+   * number as per {@link #isNumber(CharSequence)}.
+   *
+   * @param s The string to parse.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing
+   *          (exclusive).
+   * @return The {@code double} value of the specified range, or
+   *         {@link Double#NaN} if the range does not represent a number.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static double parseNumber(final CharSequence s, final int fromIndex, final int toIndex) {
+    if (s == null)
+      return Double.NaN;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    return parseNumber0(s, fromIndex, toIndex, true);
+  }
+
+  /**
+   * Returns the {@code double} value of the specified range of the char array
+   * representing a number, or a number with a fraction of two numbers (i.e.
+   * {@code 23 3/4}), or {@link Double#NaN} if the range does not represent a
+   * number as per {@link #isNumber(CharSequence)}.
+   *
+   * @param cbuf The {@code char[]} to parse.
+   * @param fromIndex The index in {@code cbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end parsing
+   *          (exclusive).
+   * @return The {@code double} value of the specified range, or
+   *         {@link Double#NaN} if the range does not represent a number.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static double parseNumber(final char[] cbuf, final int fromIndex, final int toIndex) {
+    if (cbuf == null)
+      return Double.NaN;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    return parseNumber0(cbuf, fromIndex, toIndex, true);
+  }
+
+  /**
+   * Returns the {@code double} value of the specified range of the byte array
+   * representing a number, or a number with a fraction of two numbers (i.e.
+   * {@code 23 3/4}), or {@link Double#NaN} if the range does not represent a
+   * number as per {@link #isNumber(CharSequence)}.
+   *
+   * @param buf The {@code byte[]} of ASCII characters to parse.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @return The {@code double} value of the specified range, or
+   *         {@link Double#NaN} if the range does not represent a number.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static double parseNumber(final byte[] buf, final int fromIndex, final int toIndex) {
+    if (buf == null)
+      return Double.NaN;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    return parseNumber0(buf, fromIndex, toIndex, true);
+  }
+
+  /**
+   * Parses the specified range of the string in a single pass, and returns the
+   * {@code double} value of the number it represents, or {@link Double#NaN} if
+   * the range does not represent a number as per
+   * {@link #isNumber(CharSequence)}. If {@code parse} is {@code false}, the
+   * range is only validated, and {@code 0} is returned if it represents a
+   * number.
+   */
+  private static double parseNumber0(final CharSequence s, int fromIndex, int toIndex, final boolean parse) {
+    while (fromIndex < toIndex && s.charAt(fromIndex) <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && s.charAt(toIndex - 1) <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return Double.NaN;
+
+    int i = fromIndex;
+    char ch = s.charAt(i);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+')
+      ++i;
+
+    // 0: decimal or numerator, 1: denominator, 2: numerator of mixed number, 3: denominator of mixed number
+    int part = 0;
+    double whole = 0;
+    double numerator = 0;
+    while (true) {
+      final int start = i;
+      long w = 0;
+      int digits = 0;
+      int q = 0;
+      boolean truncated = false;
+      for (; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i) {
+        if (digits < 19) {
+          if ((w = w * 10 + (ch - '0')) != 0)
+            ++digits;
+        }
+        else {
+          ++q;
+          truncated |= ch != '0';
+        }
+      }
+
+      boolean decimal = false;
+      if (part == 0 && i < toIndex && ch == '.') {
+        decimal = true;
+        for (++i; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i) {
+          if (digits < 19) {
+            --q;
+            if ((w = w * 10 + (ch - '0')) != 0)
+              ++digits;
+          }
+          else {
+            truncated |= ch != '0';
+          }
+        }
+      }
+
+      if (i == start || decimal && i == start + 1)
+        return Double.NaN;
+
+      if (part == 0 && i < toIndex && ch == 'E') {
+        decimal = true;
+        if (++i == toIndex)
+          return Double.NaN;
+
+        final boolean negativeExponent = (ch = s.charAt(i)) == '-';
+        if ((negativeExponent || ch == '+') && ++i == toIndex)
+          return Double.NaN;
+
+        final int exponentStart = i;
+        int exponent = 0;
+        for (; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i)
+          if (exponent < 100000)
+            exponent = exponent * 10 + (ch - '0');
+
+        if (i == exponentStart)
+          return Double.NaN;
+
+        q += negativeExponent ? -exponent : exponent;
+      }
+
+      double value = 0;
+      if (parse) {
+        final long bits = FloatParser.toBits(false, w, q, truncated, false);
+        value = Double.longBitsToDouble(bits != FloatParser.FAILED ? bits : FloatParser.parse(s, start, i, false));
+      }
+
+      if (i == toIndex) {
+        if (part == 2)
+          return Double.NaN;
+
+        if (!parse)
+          return 0;
+
+        if (part == 1)
+          value = numerator / value;
+        else if (part == 3)
+          value = whole + numerator / value;
+
+        return negative ? -value : value;
+      }
+
+      if (ch == '/' && (part == 0 && !decimal || part == 2)) {
+        numerator = value;
+        ++part;
+      }
+      else if (ch == ' ' && part == 0) {
+        whole = value;
+        part = 2;
+      }
+      else {
+        return Double.NaN;
+      }
+
+      ++i;
+    }
+  }
+
+  /**
+   * Parses the specified range of the char array in a single pass, and returns the
+   * {@code double} value of the number it represents, or {@link Double#NaN} if
+   * the range does not represent a number as per
+   * {@link #isNumber(CharSequence)}. If {@code parse} is {@code false}, the
+   * range is only validated, and {@code 0} is returned if it represents a
+   * number.
+   */
+  private static double parseNumber0(final char[] cbuf, int fromIndex, int toIndex, final boolean parse) {
+    while (fromIndex < toIndex && cbuf[fromIndex] <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && cbuf[toIndex - 1] <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return Double.NaN;
+
+    int i = fromIndex;
+    char ch = cbuf[i];
+    final boolean negative = ch == '-';
+    if (negative || ch == '+')
+      ++i;
+
+    // 0: decimal or numerator, 1: denominator, 2: numerator of mixed number, 3: denominator of mixed number
+    int part = 0;
+    double whole = 0;
+    double numerator = 0;
+    while (true) {
+      final int start = i;
+      long w = 0;
+      int digits = 0;
+      int q = 0;
+      boolean truncated = false;
+      for (; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i) {
+        if (digits < 19) {
+          if ((w = w * 10 + (ch - '0')) != 0)
+            ++digits;
+        }
+        else {
+          ++q;
+          truncated |= ch != '0';
+        }
+      }
+
+      boolean decimal = false;
+      if (part == 0 && i < toIndex && ch == '.') {
+        decimal = true;
+        for (++i; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i) {
+          if (digits < 19) {
+            --q;
+            if ((w = w * 10 + (ch - '0')) != 0)
+              ++digits;
+          }
+          else {
+            truncated |= ch != '0';
+          }
+        }
+      }
+
+      if (i == start || decimal && i == start + 1)
+        return Double.NaN;
+
+      if (part == 0 && i < toIndex && ch == 'E') {
+        decimal = true;
+        if (++i == toIndex)
+          return Double.NaN;
+
+        final boolean negativeExponent = (ch = cbuf[i]) == '-';
+        if ((negativeExponent || ch == '+') && ++i == toIndex)
+          return Double.NaN;
+
+        final int exponentStart = i;
+        int exponent = 0;
+        for (; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i)
+          if (exponent < 100000)
+            exponent = exponent * 10 + (ch - '0');
+
+        if (i == exponentStart)
+          return Double.NaN;
+
+        q += negativeExponent ? -exponent : exponent;
+      }
+
+      double value = 0;
+      if (parse) {
+        final long bits = FloatParser.toBits(false, w, q, truncated, false);
+        value = Double.longBitsToDouble(bits != FloatParser.FAILED ? bits : FloatParser.parse(cbuf, start, i, false));
+      }
+
+      if (i == toIndex) {
+        if (part == 2)
+          return Double.NaN;
+
+        if (!parse)
+          return 0;
+
+        if (part == 1)
+          value = numerator / value;
+        else if (part == 3)
+          value = whole + numerator / value;
+
+        return negative ? -value : value;
+      }
+
+      if (ch == '/' && (part == 0 && !decimal || part == 2)) {
+        numerator = value;
+        ++part;
+      }
+      else if (ch == ' ' && part == 0) {
+        whole = value;
+        part = 2;
+      }
+      else {
+        return Double.NaN;
+      }
+
+      ++i;
     }
   }
 
   /**
-   * Returns an {@code int} array representation of the values in the specified
-   * {@link String} array.
-   *
-   * @param s The {@link String} array.
-   * @return An {@code int} array representation of the values in the specified
-   *         {@link String} array.
-   * @throws NumberFormatException If a string in the specified array does not
-   *           contain a parsable integer.
+   * Parses the specified range of the byte array in a single pass, and returns the
+   * {@code double} value of the number it represents, or {@link Double#NaN} if
+   * the range does not represent a number as per
+   * {@link #isNumber(CharSequence)}. If {@code parse} is {@code false}, the
+   * range is only validated, and {@code 0} is returned if it represents a
+   * number.
    */
-  public static int[] parseInt(final String ... s) {
-    final int[] values = new int[s.length];
-    for (int i = 0; i < s.length; ++i)
-      values[i] = Integer.parseInt(s[i]);
+  private static double parseNumber0(final byte[] buf, int fromIndex, int toIndex, final boolean parse) {
+    while (fromIndex < toIndex && (char)(buf[fromIndex] & 0xFF) <= ' ')
+      ++fromIndex;
 
-    return values;
-  }
+    while (toIndex > fromIndex && (char)(buf[toIndex - 1] & 0xFF) <= ' ')
+      --toIndex;
 
-  /**
-   * Returns a {@code double} array representation of the values in the
-   * specified {@link String} array.
-   *
-   * @param s The {@link String} array.
-   * @return An {@code int} array representation of the values in the specified
-   *         {@link String} array.
-   * @throws NumberFormatException If a string in the specified array does not
-   *           contain a parsable double.
-   */
-  public static double[] parseDouble(final String ... s) {
-    final double[] values = new double[s.length];
-    for (int i = 0; i < s.length; ++i)
-      values[i] = Double.parseDouble(s[i]);
+    if (fromIndex == toIndex)
+      return Double.NaN;
 
-    return values;
-  }
+    int i = fromIndex;
+    char ch = (char)(buf[i] & 0xFF);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+')
+      ++i;
 
-  /**
-   * Returns a {@link Number} of type {@code <T>} of the value for the provided
-   * string.
-   *
-   * @param <T> The type of {@link Number} to be returned.
-   * @param s The number to get the value of.
-   * @param as The class representing the type of {@link Number} to be returned.
-   * @return a {@link Number} of type {@code <T>} of the value for the provided
-   *         string.
-   * @throws NumberFormatException If the string does not contain a parsable
-   *           {@link Number} of type {@code <T>}.
-   * @throws UnsupportedOperationException If the specified {@link Class}
-   *           represents a type that is not one of: <br>
-   *           <blockquote>{@code byte}, {@link Byte},<br>
-   *           {@code short}, {@link Short},<br>
-   *           {@code char}, {@link Character},<br>
-   *           {@code int}, {@link Integer},<br>
-   *           {@code long}, {@link Long},<br>
-   *           {@code double}, {@link Double},<br>
-   *           {@code float}, {@link Float},<br>
-   *           {@code short}, {@link Short},<br>
-   *           {@link BigInteger}, {@link BigDecimal}</blockquote>
-   */
-  @SuppressWarnings("unchecked")
-  public static <T extends Number>T parseNumber(final String s, final Class<T> as) {
-    if (float.class == as || Float.class == as)
-      return (T)Float.valueOf(s);
+    // 0: decimal or numerator, 1: denominator, 2: numerator of mixed number, 3: denominator of mixed number
+    int part = 0;
+    double whole = 0;
+    double numerator = 0;
+    while (true) {
+      final int start = i;
+      long w = 0;
+      int digits = 0;
+      int q = 0;
+      boolean truncated = false;
+      for (; i < toIndex && '0' <= (ch = (char)(buf[i] & 0xFF)) && ch <= '9'; ++i) {
+        if (digits < 19) {
+          if ((w = w * 10 + (ch - '0')) != 0)
+            ++digits;
+        }
+        else {
+          ++q;
+          truncated |= ch != '0';
+        }
+      }
 
-    if (double.class == as || Double.class == as)
-      return (T)Double.valueOf(s);
+      boolean decimal = false;
+      if (part == 0 && i < toIndex && ch == '.') {
+        decimal = true;
+        for (++i; i < toIndex && '0' <= (ch = (char)(buf[i] & 0xFF)) && ch <= '9'; ++i) {
+          if (digits < 19) {
+            --q;
+            if ((w = w * 10 + (ch - '0')) != 0)
+              ++digits;
+          }
+          else {
+            truncated |= ch != '0';
+          }
+        }
+      }
 
-    if (byte.class == as || Byte.class == as)
-      return (T)Byte.valueOf(s);
+      if (i == start || decimal && i == start + 1)
+        return Double.NaN;
 
-    if (short.class == as || Short.class == as)
-      return (T)Short.valueOf(s);
+      if (part == 0 && i < toIndex && ch == 'E') {
+        decimal = true;
+        if (++i == toIndex)
+          return Double.NaN;
 
-    if (int.class == as || Integer.class == as)
-      return (T)Integer.valueOf(s);
+        final boolean negativeExponent = (ch = (char)(buf[i] & 0xFF)) == '-';
+        if ((negativeExponent || ch == '+') && ++i == toIndex)
+          return Double.NaN;
 
-    if (long.class == as || Long.class == as)
-      return (T)Long.valueOf(s);
+        final int exponentStart = i;
+        int exponent = 0;
+        for (; i < toIndex && '0' <= (ch = (char)(buf[i] & 0xFF)) && ch <= '9'; ++i)
+          if (exponent < 100000)
+            exponent = exponent * 10 + (ch - '0');
 
-    if (BigInteger.class.isAssignableFrom(as))
-      return (T)new BigInteger(s);
+        if (i == exponentStart)
+          return Double.NaN;
 
-    if (BigDecimal.class.isAssignableFrom(as))
-      return (T)new BigDecimal(s);
+        q += negativeExponent ? -exponent : exponent;
+      }
 
-    throw new UnsupportedOperationException("Unsupported Number type: " + as.getName());
-  }
+      double value = 0;
+      if (parse) {
+        final long bits = FloatParser.toBits(false, w, q, truncated, false);
+        value = Double.longBitsToDouble(bits != FloatParser.FAILED ? bits : FloatParser.parse(buf, start, i, false));
+      }
 
-  public static double parseNumber(String s) {
-    if (s == null || (s = s.trim()).length() == 0 || !isNumber(s))
-      return Double.NaN;
+      if (i == toIndex) {
+        if (part == 2)
+          return Double.NaN;
 
-    double scalar = 0;
-    final String[] parts = s.split(" ");
-    if (parts.length == 2) {
-      scalar += new BigDecimal(parts[0]).doubleValue();
-      s = parts[1];
-    }
+        if (!parse)
+          return 0;
+
+        if (part == 1)
+          value = numerator / value;
+        else if (part == 3)
+          value = whole + numerator / value;
 
-    final int slash = s.indexOf('/');
-    if (slash == 1)
-      scalar += (double)Integer.parseInt(s.substring(0, slash)) / Integer.parseInt(s.substring(slash + 1));
-    else
-      scalar += new BigDecimal(s).doubleValue();
+        return negative ? -value : value;
+      }
+
+      if (ch == '/' && (part == 0 && !decimal || part == 2)) {
+        numerator = value;
+        ++part;
+      }
+      else if (ch == ' ' && part == 0) {
+        whole = value;
+        part = 2;
+      }
+      else {
+        return Double.NaN;
+      }
 
-    return scalar;
+      ++i;
+    }
   }
 
+
   /**
    * Returns the specified {@link Number} cast to the provided {@link Class
    * Class&lt;T&gt;}.
@@ -2163,80 +4381,100 @@ public final class Numbers {
    * @param s The string to test.
    * @return {@code true} if the specified string represents a number, or a
    *         number with a fraction of two numbers.
+   * @see #isNumber(CharSequence)
    */
-  public static boolean isNumber(String s) {
-    if (s == null || (s = s.trim()).length() == 0)
-      return false;
-
-    final String[] parts = s.split(" ");
-    if (parts.length > 2)
-      return false;
-
-    if (parts.length == 2) {
-      final int slash = parts[1].indexOf('/');
-      if (slash < 0)
-        return false;
-
-      return isNumber(parts[0], false) && isNumber(parts[1], true);
-    }
+  public static boolean isNumber(final String s) {
+    return isNumber((CharSequence)s);
+  }
 
-    return isNumber(parts[0], true);
+  /**
+   * Tests whether the specified string represents a number, or a number with a
+   * fraction of two numbers (i.e. {@code 23 3/4}).
+   * <p>
+   * This method supports exponent form (i.e. {@code 3.2E-5}). A number is an
+   * optionally signed decimal with an optional exponent, a fraction of two
+   * integers (i.e. {@code -3/4}), or a decimal and a fraction separated by a
+   * single space (i.e. {@code 23 3/4}). Leading and trailing whitespace is
+   * ignored.
+   *
+   * @param s The string to test.
+   * @return {@code true} if the specified string represents a number, or a
+   *         number with a fraction of two numbers.
+   */
+  public static boolean isNumber(final CharSequence s) {
+    return s != null && !Double.isNaN(parseNumber0(s, 0, s.length(), false));
   }
 
-  private static boolean isNumber(String string, final boolean fraction) {
-    if (string == null || (string = string.trim()).length() == 0)
+  /**
+   * Tests whether the specified range of the string represents a number, or a
+   * number with a fraction of two numbers (i.e. {@code 23 3/4}).
+   * <p>
+   * This method supports exponent form (i.e. {@code 3.2E-5}).
+   *
+   * @param s The string to test.
+   * @param fromIndex The index in {@code s} from which to start testing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end testing
+   *          (exclusive).
+   * @return {@code true} if the specified range represents a number, or a
+   *         number with a fraction of two numbers.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static boolean isNumber(final CharSequence s, final int fromIndex, final int toIndex) {
+    if (s == null)
       return false;
 
-    boolean dotEncountered = false;
-    boolean expEncountered = false;
-    boolean minusEncountered = false;
-    boolean slashEncountered = false;
-    int factor = 0;
-    for (int i = string.length() - 1; i >= 0; --i) {
-      final char c = string.charAt(i);
-      if (c < '0') {
-        if (c == '/') {
-          if (!fraction || dotEncountered || expEncountered || minusEncountered || slashEncountered)
-            return false;
-
-          slashEncountered = true;
-        }
-        else if (c == '.') {
-          if (dotEncountered || slashEncountered)
-            return false;
-
-          dotEncountered = true;
-        }
-        else if (c == '-') {
-          if (minusEncountered)
-            return false;
-
-          minusEncountered = true;
-        }
-        else if (!expEncountered && c != '+') {
-          return false;
-        }
-      }
-      else if ('9' < c) {
-        if (c != 'E')
-          return false;
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    return !Double.isNaN(parseNumber0(s, fromIndex, toIndex, false));
+  }
 
-        if (factor == 0 || expEncountered)
-          return false;
+  /**
+   * Tests whether the specified range of the char array represents a number, or a
+   * number with a fraction of two numbers (i.e. {@code 23 3/4}).
+   * <p>
+   * This method supports exponent form (i.e. {@code 3.2E-5}).
+   *
+   * @param cbuf The {@code char[]} to test.
+   * @param fromIndex The index in {@code cbuf} from which to start testing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end testing
+   *          (exclusive).
+   * @return {@code true} if the specified range represents a number, or a
+   *         number with a fraction of two numbers.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static boolean isNumber(final char[] cbuf, final int fromIndex, final int toIndex) {
+    if (cbuf == null)
+      return false;
 
-        expEncountered = true;
-        factor = 0;
-        minusEncountered = false;
-      }
-      else {
-        if (minusEncountered)
-          return false;
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    return !Double.isNaN(parseNumber0(cbuf, fromIndex, toIndex, false));
+  }
 
-        ++factor;
-      }
-    }
+  /**
+   * Tests whether the specified range of the byte array represents a number, or a
+   * number with a fraction of two numbers (i.e. {@code 23 3/4}).
+   * <p>
+   * This method supports exponent form (i.e. {@code 3.2E-5}).
+   *
+   * @param buf The {@code byte[]} of ASCII characters to test.
+   * @param fromIndex The index in {@code buf} from which to start testing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end testing
+   *          (exclusive).
+   * @return {@code true} if the specified range represents a number, or a
+   *         number with a fraction of two numbers.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static boolean isNumber(final byte[] buf, final int fromIndex, final int toIndex) {
+    if (buf == null)
+      return false;
 
-    return true;
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.length", buf.length);
+    return !Double.isNaN(parseNumber0(buf, fromIndex, toIndex, false));
   }
 
   /**
@@ -2378,6 +4616,279 @@ public final class Numbers {
     return String.valueOf(Math.round(n * factor) / factor);
   }
 
+  /**
+   * Writes the decimal representation of the specified {@code int} as per
+   * {@link Integer#toString(int)} to the provided char array at the
+   * specified offset.
+   *
+   * @param n The {@code int} value.
+   * @param cbuf The char array to which to write.
+   * @param offset The index in {@code cbuf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code cbuf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public static int toChars(final int n, final char[] cbuf, final int offset) {
+    return NumberFormatter.put(cbuf, offset, n) - offset;
+  }
+
+  /**
+   * Writes the decimal representation of the specified {@code int} as per
+   * {@link Integer#toString(int)} as ASCII to the provided byte array at
+   * the specified offset.
+   *
+   * @param n The {@code int} value.
+   * @param buf The byte array to which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int toChars(final int n, final byte[] buf, final int offset) {
+    return NumberFormatter.put(buf, offset, n) - offset;
+  }
+
+  /**
+   * Writes the decimal representation of the specified {@code int} as per
+   * {@link Integer#toString(int)} to the provided
+   * {@link Appendable}.
+   *
+   * @param n The {@code int} value.
+   * @param out The {@link Appendable} to which to write.
+   * @return The number of characters written.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public static int toChars(final int n, final Appendable out) throws IOException {
+    return NumberFormatter.put(out, 0, n);
+  }
+
+  /**
+   * Writes the decimal representation of the specified {@code long} as per
+   * {@link Long#toString(long)} to the provided char array at the
+   * specified offset.
+   *
+   * @param n The {@code long} value.
+   * @param cbuf The char array to which to write.
+   * @param offset The index in {@code cbuf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code cbuf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public static int toChars(final long n, final char[] cbuf, final int offset) {
+    return NumberFormatter.put(cbuf, offset, n) - offset;
+  }
+
+  /**
+   * Writes the decimal representation of the specified {@code long} as per
+   * {@link Long#toString(long)} as ASCII to the provided byte array at
+   * the specified offset.
+   *
+   * @param n The {@code long} value.
+   * @param buf The byte array to which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int toChars(final long n, final byte[] buf, final int offset) {
+    return NumberFormatter.put(buf, offset, n) - offset;
+  }
+
+  /**
+   * Writes the decimal representation of the specified {@code long} as per
+   * {@link Long#toString(long)} to the provided
+   * {@link Appendable}.
+   *
+   * @param n The {@code long} value.
+   * @param out The {@link Appendable} to which to write.
+   * @return The number of characters written.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public static int toChars(final long n, final Appendable out) throws IOException {
+    return NumberFormatter.put(out, 0, n);
+  }
+
+  /**
+   * Writes the shortest decimal representation of the specified
+   * {@code double} that rounds to {@code n} to the provided char array at the
+   * specified offset.
+   * <p>
+   * The digits are those of the shortest decimal that rounds to {@code n},
+   * or, if that decimal has a single digit, of the closest decimal of one or
+   * two digits that rounds to {@code n}, so that
+   * {@link Double#parseDouble(String)} of the output is equal to {@code n}.
+   * They are written in the plain or computerized scientific notation of
+   * {@link Double#toString(double)}. This is the representation that
+   * {@link Double#toString(double)} specifies as of Java 19. Earlier versions
+   * of {@link Double#toString(double)} write more digits for some values,
+   * such as {@code 9.999999999999999E22} instead of {@code 1.0E23}.
+   *
+   * @param n The {@code double} value.
+   * @param cbuf The char array to which to write.
+   * @param offset The index in {@code cbuf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code cbuf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public static int toChars(final double n, final char[] cbuf, final int offset) {
+    return NumberFormatter.put(cbuf, offset, n, -1) - offset;
+  }
+
+  /**
+   * Writes the shortest decimal representation of the specified
+   * {@code double} that rounds to {@code n} as ASCII to the provided byte
+   * array at the specified offset.
+   * <p>
+   * The digits are those of the shortest decimal that rounds to {@code n},
+   * or, if that decimal has a single digit, of the closest decimal of one or
+   * two digits that rounds to {@code n}, so that
+   * {@link Double#parseDouble(String)} of the output is equal to {@code n}.
+   * They are written in the plain or computerized scientific notation of
+   * {@link Double#toString(double)}. This is the representation that
+   * {@link Double#toString(double)} specifies as of Java 19. Earlier versions
+   * of {@link Double#toString(double)} write more digits for some values,
+   * such as {@code 9.999999999999999E22} instead of {@code 1.0E23}.
+   *
+   * @param n The {@code double} value.
+   * @param buf The byte array to which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int toChars(final double n, final byte[] buf, final int offset) {
+    return NumberFormatter.put(buf, offset, n, -1) - offset;
+  }
+
+  /**
+   * Writes the shortest decimal representation of the specified
+   * {@code double} that rounds to {@code n} to the provided {@link Appendable}.
+   * <p>
+   * The digits are those of the shortest decimal that rounds to {@code n},
+   * or, if that decimal has a single digit, of the closest decimal of one or
+   * two digits that rounds to {@code n}, so that
+   * {@link Double#parseDouble(String)} of the output is equal to {@code n}.
+   * They are written in the plain or computerized scientific notation of
+   * {@link Double#toString(double)}. This is the representation that
+   * {@link Double#toString(double)} specifies as of Java 19. Earlier versions
+   * of {@link Double#toString(double)} write more digits for some values,
+   * such as {@code 9.999999999999999E22} instead of {@code 1.0E23}.
+   *
+   * @param n The {@code double} value.
+   * @param out The {@link Appendable} to which to write.
+   * @return The number of characters written.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public static int toChars(final double n, final Appendable out) throws IOException {
+    return NumberFormatter.put(out, 0, n, -1);
+  }
+
+  /**
+   * Writes the plain decimal representation of the specified {@code double},
+   * rounded {@link java.math.RoundingMode#HALF_UP half-up} to exactly
+   * {@code decimals} fraction digits, to the provided char array at the
+   * specified offset.
+   * <p>
+   * The rounding is applied to the shortest decimal {@code s} that rounds to
+   * {@code n}, as written by {@link #toChars(double,char[],int)}, so the result
+   * is equal to
+   * {@code new BigDecimal(s).setScale(decimals, RoundingMode.HALF_UP).toPlainString()},
+   * except that {@code NaN} and infinite values are written as per
+   * {@link Double#toString(double)}. This differs from the rounding of
+   * {@code BigDecimal.valueOf(n)} for the values for which
+   * {@link Double#toString(double)} writes more digits than the shortest
+   * decimal, which is the case for some values before Java 19.
+   *
+   * @param n The {@code double} value.
+   * @param decimals The number of fraction digits.
+   * @param cbuf The char array to which to write.
+   * @param offset The index in {@code cbuf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code cbuf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws IllegalArgumentException If {@code decimals} is negative.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public static int toChars(final double n, final int decimals, final char[] cbuf, final int offset) {
+    if (decimals < 0)
+      throw new IllegalArgumentException("decimals (" + decimals + ") must be non-negative");
+
+    return NumberFormatter.put(cbuf, offset, n, decimals) - offset;
+  }
+
+  /**
+   * Writes the plain decimal representation of the specified {@code double},
+   * rounded {@link java.math.RoundingMode#HALF_UP half-up} to exactly
+   * {@code decimals} fraction digits, as ASCII to the provided byte array at
+   * the specified offset.
+   * <p>
+   * The rounding is applied to the shortest decimal {@code s} that rounds to
+   * {@code n}, as written by {@link #toChars(double,char[],int)}, so the result
+   * is equal to
+   * {@code new BigDecimal(s).setScale(decimals, RoundingMode.HALF_UP).toPlainString()},
+   * except that {@code NaN} and infinite values are written as per
+   * {@link Double#toString(double)}. This differs from the rounding of
+   * {@code BigDecimal.valueOf(n)} for the values for which
+   * {@link Double#toString(double)} writes more digits than the shortest
+   * decimal, which is the case for some values before Java 19.
+   *
+   * @param n The {@code double} value.
+   * @param decimals The number of fraction digits.
+   * @param buf The byte array to which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The number of characters written.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have room
+   *           for the representation at {@code offset}.
+   * @throws IllegalArgumentException If {@code decimals} is negative.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static int toChars(final double n, final int decimals, final byte[] buf, final int offset) {
+    if (decimals < 0)
+      throw new IllegalArgumentException("decimals (" + decimals + ") must be non-negative");
+
+    return NumberFormatter.put(buf, offset, n, decimals) - offset;
+  }
+
+  /**
+   * Writes the plain decimal representation of the specified {@code double},
+   * rounded {@link java.math.RoundingMode#HALF_UP half-up} to exactly
+   * {@code decimals} fraction digits, to the provided
+   * {@link Appendable}.
+   * <p>
+   * The rounding is applied to the shortest decimal {@code s} that rounds to
+   * {@code n}, as written by {@link #toChars(double,char[],int)}, so the result
+   * is equal to
+   * {@code new BigDecimal(s).setScale(decimals, RoundingMode.HALF_UP).toPlainString()},
+   * except that {@code NaN} and infinite values are written as per
+   * {@link Double#toString(double)}. This differs from the rounding of
+   * {@code BigDecimal.valueOf(n)} for the values for which
+   * {@link Double#toString(double)} writes more digits than the shortest
+   * decimal, which is the case for some values before Java 19.
+   *
+   * @param n The {@code double} value.
+   * @param decimals The number of fraction digits.
+   * @param out The {@link Appendable} to which to write.
+   * @return The number of characters written.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalArgumentException If {@code decimals} is negative.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public static int toChars(final double n, final int decimals, final Appendable out) throws IOException {
+    if (decimals < 0)
+      throw new IllegalArgumentException("decimals (" + decimals + ") must be non-negative");
+
+    return NumberFormatter.put(out, 0, n, decimals);
+  }
+
   /**
    * Strips trailing zeroes after a decimal point in the specified string.
    * <p>
@@ -0,0 +1,380 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A fixed-size bitset with {@code long} bit indices that is stored off-heap,
+ * in direct or memory-mapped {@link ByteBuffer}s, with the
+ * {@code set/clear/get/length} vocabulary of {@link Buffers}.
+ * <p>
+ * The bits are stored in 64-bit little-endian words, so that bit {@code n} is
+ * bit {@code n % 8} of byte {@code n / 8}, which is the layout of
+ * {@link java.util.BitSet#toByteArray()}. The storage is split into segments
+ * of {@code 2^30} bytes, so that the number of bits is not limited by the
+ * {@code int} capacity of a single {@link ByteBuffer}.
+ * <p>
+ * A bitset that is {@linkplain #map(Path,long) mapped} to a file persists its
+ * bits in the file, and is reopened with {@link #map(Path)}. The bits are
+ * written to the file by the operating system, or explicitly with
+ * {@link #force()}.
+ * <p>
+ * The {@link #get(long)}, {@link #set(long)}, {@link #clear(long)},
+ * {@link #testAndSet(long)} and {@link #testAndClear(long)} methods are atomic
+ * only among the callers of <i>this</i> instance, with a lock per stripe of
+ * words that is held by the instance: concurrent modifications of bits of the
+ * same word through this instance are never lost, and are visible to
+ * subsequent calls of {@link #get(long)}. Modifications through another
+ * {@link OffHeapBitSet} that is backed by the same {@link ByteBuffer} or file,
+ * whether in this or another process, are not synchronized with those of this
+ * instance, and may be lost. The bulk methods, such as {@link #cardinality()},
+ * {@link #nextSetBit(long)} and {@link #clear()}, are not atomic with respect
+ * to concurrent modifications of the bitset.
+ */
+public final class OffHeapBitSet {
+  private static final int SEGMENT_SHIFT = 27;
+  /** The number of words in a segment of {@code 2^30} bytes. */
+  private static final long SEGMENT_WORDS = 1L << SEGMENT_SHIFT;
+  private static final int STRIPES = 64;
+
+  /**
+   * Returns a new {@link OffHeapBitSet} of the specified number of bits, in
+   * direct {@link ByteBuffer}s. All bits are initially {@code 0}.
+   *
+   * @param nbits The number of bits, which is rounded up to a multiple of 64.
+   * @return A new {@link OffHeapBitSet} of the specified number of bits.
+   * @throws IllegalArgumentException If {@code nbits} is negative.
+   * @throws OutOfMemoryError If the direct memory cannot be allocated.
+   */
+  public static OffHeapBitSet allocate(final long nbits) {
+    final long words = toWords(nbits);
+    final ByteBuffer[] segments = new ByteBuffer[(int)((words + SEGMENT_WORDS - 1) >>> SEGMENT_SHIFT)];
+    for (int i = 0; i < segments.length; ++i)
+      segments[i] = ByteBuffer.allocateDirect((int)(Math.min(SEGMENT_WORDS, words - i * SEGMENT_WORDS) * Long.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+
+    return new OffHeapBitSet(segments, words, null);
+  }
+
+  /**
+   * Returns a new {@link OffHeapBitSet} that is backed by the bytes from the
+   * position to the limit of the specified {@link ByteBuffer}, which may be
+   * direct or mapped. The number of bits is the number of remaining bytes,
+   * rounded down to a multiple of 8, times 8. The bits in {@code buf} are
+   * retained, and changes to the bitset are visible in {@code buf}, and vice
+   * versa.
+   * <p>
+   * <b>Note:</b> The returned bitset synchronizes only the modifications that
+   * are made through it. Modifications of {@code buf}, or of another bitset
+   * that is backed by {@code buf}, are not synchronized with those of the
+   * returned bitset, and may be lost.
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @return A new {@link OffHeapBitSet} that is backed by {@code buf}.
+   * @throws NullPointerException If {@code buf} is null.
+   */
+  public static OffHeapBitSet wrap(final ByteBuffer buf) {
+    final long words = buf.remaining() / Long.BYTES;
+    final ByteBuffer[] segments = new ByteBuffer[(int)((words + SEGMENT_WORDS - 1) >>> SEGMENT_SHIFT)];
+    for (int i = 0; i < segments.length; ++i) {
+      final ByteBuffer segment = buf.duplicate();
+      final int position = buf.position() + (int)(i * SEGMENT_WORDS * Long.BYTES);
+      segment.position(position);
+      segment.limit(position + (int)(Math.min(SEGMENT_WORDS, words - i * SEGMENT_WORDS) * Long.BYTES));
+      segments[i] = segment.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    return new OffHeapBitSet(segments, words, null);
+  }
+
+  /**
+   * Returns a new {@link OffHeapBitSet} of the specified number of bits that
+   * is mapped to the specified file. If the file does not exist, it is
+   * created, and if it is smaller than the bitset, it is extended with
+   * {@code 0} bits. The bits that are already in the file are retained.
+   * <p>
+   * <b>Note:</b> The returned bitset synchronizes only the modifications that
+   * are made through it. Modifications of the file through another bitset,
+   * whether in this or another process, are not synchronized with those of
+   * the returned bitset, and may be lost.
+   *
+   * @param path The path of the file.
+   * @param nbits The number of bits, which is rounded up to a multiple of 64.
+   * @return A new {@link OffHeapBitSet} of the specified number of bits that
+   *         is mapped to the specified file.
+   * @throws IllegalArgumentException If {@code nbits} is negative.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  public static OffHeapBitSet map(final Path path, final long nbits) throws IOException {
+    return map(path, toWords(nbits), true);
+  }
+
+  /**
+   * Returns a new {@link OffHeapBitSet} that is mapped to the specified
+   * existing file, such as one that was created with
+   * {@link #map(Path,long)}. The number of bits is the size of the file,
+   * rounded down to a multiple of 8 bytes, times 8.
+   * <p>
+   * <b>Note:</b> The returned bitset synchronizes only the modifications that
+   * are made through it. Modifications of the file through another bitset,
+   * whether in this or another process, are not synchronized with those of
+   * the returned bitset, and may be lost.
+   *
+   * @param path The path of the file.
+   * @return A new {@link OffHeapBitSet} that is mapped to the specified file.
+   * @throws IOException If an I/O error has occurred, or if the file does not
+   *           exist.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  public static OffHeapBitSet map(final Path path) throws IOException {
+    return map(path, -1, false);
+  }
+
+  private static OffHeapBitSet map(final Path path, long words, final boolean create) throws IOException {
+    try (final FileChannel channel = create ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE) : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      if (words < 0)
+        words = channel.size() / Long.BYTES;
+
+      final ByteBuffer[] segments = new ByteBuffer[(int)((words + SEGMENT_WORDS - 1) >>> SEGMENT_SHIFT)];
+      for (int i = 0; i < segments.length; ++i)
+        segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * SEGMENT_WORDS * Long.BYTES, Math.min(SEGMENT_WORDS, words - i * SEGMENT_WORDS) * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+      return new OffHeapBitSet(segments, words, path);
+    }
+  }
+
+  private static long toWords(final long nbits) {
+    if (nbits < 0)
+      throw new IllegalArgumentException("nbits (" + nbits + ") must be non-negative");
+
+    return (nbits + Long.SIZE - 1) >>> 6;
+  }
+
+  private final ByteBuffer[] segments;
+  private final long words;
+  private final Path path;
+  private final Object[] locks = new Object[STRIPES];
+
+  private OffHeapBitSet(final ByteBuffer[] segments, final long words, final Path path) {
+    this.segments = segments;
+    this.words = words;
+    this.path = path;
+    for (int i = 0; i < STRIPES; ++i)
+      locks[i] = new Object();
+  }
+
+  private Object lockFor(final long word) {
+    return locks[(int)(word & (STRIPES - 1))];
+  }
+
+  private long getWord(final long word) {
+    return segments[(int)(word >>> SEGMENT_SHIFT)].getLong((int)(word & (SEGMENT_WORDS - 1)) << 3);
+  }
+
+  private void putWord(final long word, final long value) {
+    segments[(int)(word >>> SEGMENT_SHIFT)].putLong((int)(word & (SEGMENT_WORDS - 1)) << 3, value);
+  }
+
+  private long assertIndex(final long bitIndex) {
+    if (bitIndex < 0 || bitIndex >>> 6 >= words)
+      throw new IndexOutOfBoundsException("Index: " + bitIndex + ", Size: " + size());
+
+    return bitIndex >>> 6;
+  }
+
+  /**
+   * Returns the number of bits in this bitset, which is a multiple of 64.
+   *
+   * @return The number of bits in this bitset.
+   */
+  public long size() {
+    return words * Long.SIZE;
+  }
+
+  /**
+   * Returns the path of the file to which this bitset is mapped, or
+   * {@code null} if it is not mapped by {@link #map(Path,long)} or
+   * {@link #map(Path)}.
+   *
+   * @return The path of the file to which this bitset is mapped, or
+   *         {@code null}.
+   */
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the value of the bit at the specified index, as last modified
+   * through this bitset.
+   *
+   * @param bitIndex The bit index.
+   * @return The value of the bit at the specified index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public boolean get(final long bitIndex) {
+    final long word = assertIndex(bitIndex);
+    synchronized (lockFor(word)) {
+      return (getWord(word) & 1L << bitIndex) != 0;
+    }
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 1}.
+   *
+   * @param bitIndex The bit index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public void set(final long bitIndex) {
+    testAndSet(bitIndex);
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 0}.
+   *
+   * @param bitIndex The bit index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public void clear(final long bitIndex) {
+    testAndClear(bitIndex);
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 1}, and returns
+   * its previous value.
+   *
+   * @param bitIndex The bit index.
+   * @return The previous value of the bit at the specified index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public boolean testAndSet(final long bitIndex) {
+    final long word = assertIndex(bitIndex);
+    final long bit = 1L << bitIndex;
+    synchronized (lockFor(word)) {
+      final long value = getWord(word);
+      if ((value & bit) != 0)
+        return true;
+
+      putWord(word, value | bit);
+      return false;
+    }
+  }
+
+  /**
+   * Atomically sets the bit at the specified index to {@code 0}, and returns
+   * its previous value.
+   *
+   * @param bitIndex The bit index.
+   * @return The previous value of the bit at the specified index.
+   * @throws IndexOutOfBoundsException If {@code bitIndex} is negative, or not
+   *           less than {@link #size()}.
+   */
+  public boolean testAndClear(final long bitIndex) {
+    final long word = assertIndex(bitIndex);
+    final long bit = 1L << bitIndex;
+    synchronized (lockFor(word)) {
+      final long value = getWord(word);
+      if ((value & bit) == 0)
+        return false;
+
+      putWord(word, value & ~bit);
+      return true;
+    }
+  }
+
+  /**
+   * Sets all of the bits in this bitset to {@code 0}.
+   */
+  public void clear() {
+    for (long i = 0; i < words; ++i)
+      putWord(i, 0);
+  }
+
+  /**
+   * Returns the "logical size" of this bitset: the index of the highest set
+   * bit, plus one. Returns zero if this bitset contains no set bits.
+   *
+   * @return The logical size of this bitset.
+   */
+  public long length() {
+    long i = words - 1;
+    while (i >= 0 && getWord(i) == 0)
+      --i;
+
+    return i < 0 ? 0 : i * Long.SIZE + Long.SIZE - Long.numberOfLeadingZeros(getWord(i));
+  }
+
+  /**
+   * Returns the number of bits set to {@code 1} in this bitset.
+   *
+   * @return The number of bits set to {@code 1} in this bitset.
+   */
+  public long cardinality() {
+    long cardinality = 0;
+    for (long i = 0; i < words; ++i)
+      cardinality += Long.bitCount(getWord(i));
+
+    return cardinality;
+  }
+
+  /**
+   * Returns the index of the first bit that is set to {@code 1} at or after
+   * the specified {@code fromIndex}, or {@code -1} if there is no such bit.
+   *
+   * @param fromIndex The index from which to start the search (inclusive).
+   * @return The index of the next set bit, or {@code -1} if there is no such
+   *         bit.
+   * @throws IndexOutOfBoundsException If {@code fromIndex} is negative.
+   */
+  public long nextSetBit(final long fromIndex) {
+    if (fromIndex < 0)
+      throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+
+    long i = fromIndex >>> 6;
+    if (i >= words)
+      return -1;
+
+    for (long word = getWord(i) & (-1L << fromIndex);; word = getWord(i)) {
+      if (word != 0)
+        return i * Long.SIZE + Long.numberOfTrailingZeros(word);
+
+      if (++i == words)
+        return -1;
+    }
+  }
+
+  /**
+   * Forces the bits of this bitset to be written to the file to which it is
+   * mapped. Does nothing if this bitset is not mapped by
+   * {@link #map(Path,long)} or {@link #map(Path)}.
+   */
+  public void force() {
+    if (path != null)
+      for (final ByteBuffer segment : segments)
+        ((MappedByteBuffer)segment).force();
+  }
+}
@@ -16,17 +16,20 @@
 
 package org.libj.lang;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.security.SecureRandom;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility functions that provide common operations pertaining to {@link String}
@@ -161,15 +164,225 @@ public final class Strings {
     return text.toString();
   }
 
+  private static String assertNotEmpty(final String str, final String name) {
+    if (str.length() == 0)
+      throw new IllegalArgumentException("Empty " + name);
+
+    return str;
+  }
+
+  private static int indexOfSuffix(final String str, int fromIndex, final int toIndex, final String prefix, final String suffix) {
+    for (int depth = 0; fromIndex < toIndex;) {
+      if (str.startsWith(suffix, fromIndex)) {
+        if (depth == 0)
+          return fromIndex + suffix.length() <= toIndex ? fromIndex : -1;
+
+        --depth;
+        fromIndex += suffix.length();
+      }
+      else if (str.startsWith(prefix, fromIndex)) {
+        ++depth;
+        fromIndex += prefix.length();
+      }
+      else {
+        ++fromIndex;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Resolves the values of a properties map in the topological order of the
+   * graph of references between its keys, whereby each value is interpolated
+   * exactly once. The graph is traversed depth-first with an explicit stack,
+   * so that long chains of references do not exhaust the call stack.
+   */
+  private static final class PropertyResolver {
+    private static final class Frame {
+      private final String key;
+      private final String value;
+      private int index;
+
+      private Frame(final String key, final String value) {
+        this.key = key;
+        this.value = value;
+      }
+    }
+
+    private final Map<String,String> properties;
+    private final String prefix;
+    private final String suffix;
+    private final HashMap<String,String> resolved;
+    private final LinkedHashSet<String> path = new LinkedHashSet<>();
+    private final ArrayList<Frame> stack = new ArrayList<>();
+
+    private PropertyResolver(final Map<String,String> properties, final String prefix, final String suffix) {
+      this.properties = properties;
+      this.prefix = prefix;
+      this.suffix = suffix;
+      this.resolved = new HashMap<>(properties.size() * 4 / 3 + 1);
+    }
+
+    private String resolve(final String key) {
+      if (!isUnresolved(key))
+        return resolved.get(key);
+
+      path.add(key);
+      stack.add(new Frame(key, properties.get(key)));
+      do {
+        final Frame frame = stack.get(stack.size() - 1);
+        final String dependency = nextDependency(frame);
+        if (dependency != null) {
+          if (!path.add(dependency))
+            throw loopDetected(dependency);
+
+          stack.add(new Frame(dependency, properties.get(dependency)));
+        }
+        else {
+          final StringBuilder builder = new StringBuilder(frame.value.length());
+          append(builder, frame.value, 0, frame.value.length());
+          resolved.put(frame.key, builder.toString());
+          path.remove(frame.key);
+          stack.remove(stack.size() - 1);
+        }
+      }
+      while (stack.size() > 0);
+
+      return resolved.get(key);
+    }
+
+    private IllegalArgumentException loopDetected(final String key) {
+      final StringBuilder message = new StringBuilder("Loop detected: ");
+      boolean inLoop = false;
+      for (final String member : path)
+        if (inLoop || (inLoop = key.equals(member)))
+          message.append(member).append(" -> ");
+
+      return new IllegalArgumentException(message.append(key).toString());
+    }
+
+    /**
+     * Returns whether the specified key has a value that has not yet been
+     * interpolated. Values without placeholders are resolved immediately.
+     */
+    private boolean isUnresolved(final String key) {
+      if (resolved.containsKey(key))
+        return false;
+
+      final String value = properties.get(key);
+      if (value == null)
+        return false;
+
+      if (value.indexOf(prefix) > -1)
+        return true;
+
+      resolved.put(key, value);
+      return false;
+    }
+
+    /**
+     * Returns the next key referenced by the value of the specified frame that
+     * has not yet been resolved, or {@code null} if all references have been
+     * resolved. The scan resumes from where the previous call left off.
+     */
+    private String nextDependency(final Frame frame) {
+      final String str = frame.value;
+      final int len = str.length();
+      for (int i = frame.index, start, end; (start = str.indexOf(prefix, i)) > -1;) {
+        final int keyStart = start + prefix.length();
+        if ((end = indexOfSuffix(str, keyStart, len, prefix, suffix)) < 0) {
+          i = keyStart;
+          continue;
+        }
+
+        final String dependency = dependencyOf(str, keyStart, end);
+        if (dependency != null) {
+          frame.index = start;
+          return dependency;
+        }
+
+        i = end + suffix.length();
+      }
+
+      frame.index = len;
+      return null;
+    }
+
+    private String dependencyOf(final String str, final int keyStart, final int keyEnd) {
+      final int nested = str.indexOf(prefix, keyStart);
+      if (nested < 0 || nested >= keyEnd) {
+        final String key = str.substring(keyStart, keyEnd);
+        return isUnresolved(key) ? key : null;
+      }
+
+      // The key is itself interpolated, so its own references come first
+      for (int i = keyStart, start, end; (start = str.indexOf(prefix, i)) > -1 && start < keyEnd;) {
+        final int innerStart = start + prefix.length();
+        if ((end = indexOfSuffix(str, innerStart, keyEnd, prefix, suffix)) < 0) {
+          i = innerStart;
+          continue;
+        }
+
+        final String dependency = dependencyOf(str, innerStart, end);
+        if (dependency != null)
+          return dependency;
+
+        i = end + suffix.length();
+      }
+
+      final StringBuilder builder = new StringBuilder(keyEnd - keyStart);
+      append(builder, str, keyStart, keyEnd);
+      final String key = builder.toString();
+      return isUnresolved(key) ? key : null;
+    }
+
+    private void append(final StringBuilder builder, final String str, final int fromIndex, final int toIndex) {
+      int literal = fromIndex;
+      for (int i = fromIndex, start, end; (start = str.indexOf(prefix, i)) > -1 && start < toIndex;) {
+        final int keyStart = start + prefix.length();
+        if ((end = indexOfSuffix(str, keyStart, toIndex, prefix, suffix)) < 0) {
+          i = keyStart;
+          continue;
+        }
+
+        builder.append(str, literal, start);
+        final int nested = str.indexOf(prefix, keyStart);
+        final String key;
+        if (nested < 0 || nested >= end) {
+          key = str.substring(keyStart, end);
+        }
+        else {
+          final StringBuilder keyBuilder = new StringBuilder(end - keyStart);
+          append(keyBuilder, str, keyStart, end);
+          key = keyBuilder.toString();
+        }
+
+        final String value = resolved.get(key);
+        if (value != null)
+          builder.append(value);
+        else
+          builder.append(prefix).append(key).append(suffix);
+
+        i = literal = end + suffix.length();
+      }
+
+      builder.append(str, literal, toIndex);
+    }
+  }
+
   /**
    * Interpolates all the <i>value</i> strings in the specified {@link Map} by
    * matching {@code prefix + value + suffix}, where <i>value</i> is a
    * <i>key</i> in the {@link Map}, and replacing it with the value from the
    * {@link Map}.
    * <p>
-   * This performance of this algorithm is {@code O(n^2)} by nature. If the
-   * specified {@link Map} has {@code key=value} entries that result in a loop,
-   * this method will throw a {@link IllegalArgumentException}.
+   * The values are resolved in the topological order of the graph of
+   * references between the keys of the {@link Map}, whereby each value is
+   * interpolated exactly once. If the specified {@link Map} has
+   * {@code key=value} entries that result in a loop, this method will throw a
+   * {@link IllegalArgumentException} with a message naming the keys in the
+   * loop.
    * <p>
    * <blockquote>
    * <b>Example:</b>
@@ -201,27 +414,16 @@ public final class Strings {
    * @return The specified map, with its values interpolated.
    * @see #interpolate(String,Map,String,String)
    * @throws IllegalArgumentException If the specified {@code properties} has
-   *           {@code key=value} entries that result in a loop.
+   *           {@code key=value} entries that result in a loop, or if
+   *           {@code prefix} or {@code suffix} is empty.
    * @throws NullPointerException If {@code properties}, {@code prefix}, or
    *           {@code suffix} is null.
    */
   public static Map<String,String> interpolate(final Map<String,String> properties, final String prefix, final String suffix) {
-    Objects.requireNonNull(properties);
-    Objects.requireNonNull(prefix);
-    Objects.requireNonNull(suffix);
-    StringBuilder builder = null;
-    for (final Map.Entry<String,String> entry : properties.entrySet()) {
-      final String value = entry.getValue();
-      if (value != null) {
-        if (builder == null)
-          builder = new StringBuilder(value.length());
-        else
-          builder.setLength(0);
-
-        builder.append(value);
-        entry.setValue(interpolateDeep(builder, properties, prefix, suffix));
-      }
-    }
+    final PropertyResolver resolver = new PropertyResolver(Objects.requireNonNull(properties), assertNotEmpty(prefix, "prefix"), assertNotEmpty(suffix, "suffix"));
+    for (final Map.Entry<String,String> entry : properties.entrySet())
+      if (entry.getValue() != null)
+        entry.setValue(resolver.resolve(entry.getKey()));
 
     return properties;
   }
@@ -260,6 +462,251 @@ public final class Strings {
     return interpolateDeep(new StringBuilder(Objects.requireNonNull(text)), Objects.requireNonNull(properties), Objects.requireNonNull(prefix), Objects.requireNonNull(suffix));
   }
 
+  /**
+   * A compiled interpolation template, created with
+   * {@link Strings#compileTemplate(String,String,String)}.
+   * <p>
+   * The template text is parsed once into a list of literal and placeholder
+   * segments, and is thereafter rendered in a single linear pass, appending
+   * directly to the output without intermediate substrings of the template
+   * text. Values of the properties map are interpolated deeply, as with
+   * {@link Strings#interpolate(String,Map,String,String)}. Placeholders whose
+   * key is not present in the properties map are rendered as-is.
+   * <p>
+   * A {@link Template} is immutable, and is safe for use by multiple threads.
+   */
+  public static final class Template {
+    private static final class Segment {
+      private final int start;
+      private final int end;
+      private final String key;
+      private final boolean placeholder;
+
+      private Segment(final int start, final int end, final String key, final boolean placeholder) {
+        this.start = start;
+        this.end = end;
+        this.key = key;
+        this.placeholder = placeholder;
+      }
+    }
+
+    private final String text;
+    private final String prefix;
+    private final String suffix;
+    private final Segment[] segments;
+
+    private Template(final String text, final String prefix, final String suffix) {
+      this.text = text;
+      this.prefix = prefix;
+      this.suffix = suffix;
+
+      final ArrayList<Segment> segments = new ArrayList<>();
+      final int len = text.length();
+      int literal = 0;
+      for (int i = 0, start, end; (start = text.indexOf(prefix, i)) > -1;) {
+        final int keyStart = start + prefix.length();
+        if ((end = indexOfSuffix(text, keyStart, len, prefix, suffix)) < 0) {
+          i = keyStart;
+          continue;
+        }
+
+        if (literal < start)
+          segments.add(new Segment(literal, start, null, false));
+
+        // A key with a nested placeholder is resolved at render time
+        final int nested = text.indexOf(prefix, keyStart);
+        segments.add(new Segment(keyStart, end, nested < 0 || nested >= end ? text.substring(keyStart, end) : null, true));
+        i = literal = end + suffix.length();
+      }
+
+      if (literal < len)
+        segments.add(new Segment(literal, len, null, false));
+
+      this.segments = segments.toArray(new Segment[segments.size()]);
+    }
+
+    /**
+     * Returns the template text from which this {@link Template} was compiled.
+     *
+     * @return The template text from which this {@link Template} was compiled.
+     */
+    public String getText() {
+      return text;
+    }
+
+    /**
+     * Renders this template with the provided properties, and returns the
+     * resulting string.
+     *
+     * @param properties The map with key=value entries for interpolation.
+     * @return The rendered string.
+     * @throws IllegalArgumentException If the specified {@code properties} has
+     *           {@code key=value} entries that result in a loop.
+     * @throws NullPointerException If {@code properties} is null.
+     */
+    public String render(final Map<String,String> properties) {
+      return render(properties, new StringBuilder(text.length())).toString();
+    }
+
+    /**
+     * Renders this template with the provided properties into the specified
+     * {@link StringBuilder}.
+     *
+     * @param properties The map with key=value entries for interpolation.
+     * @param builder The {@link StringBuilder} to which the rendered text is to
+     *          be appended.
+     * @return The specified {@link StringBuilder}.
+     * @throws IllegalArgumentException If the specified {@code properties} has
+     *           {@code key=value} entries that result in a loop.
+     * @throws NullPointerException If {@code properties} or {@code builder} is
+     *           null.
+     */
+    public StringBuilder render(final Map<String,String> properties, final StringBuilder builder) {
+      try {
+        render0(Objects.requireNonNull(properties), Objects.requireNonNull(builder));
+        return builder;
+      }
+      catch (final IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    /**
+     * Renders this template with the provided properties into the specified
+     * {@link Appendable}.
+     *
+     * @param <T> The type parameter of the {@link Appendable}.
+     * @param properties The map with key=value entries for interpolation.
+     * @param out The {@link Appendable} to which the rendered text is to be
+     *          appended.
+     * @return The specified {@link Appendable}.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the specified {@code properties} has
+     *           {@code key=value} entries that result in a loop.
+     * @throws NullPointerException If {@code properties} or {@code out} is
+     *           null.
+     */
+    public <T extends Appendable>T render(final Map<String,String> properties, final T out) throws IOException {
+      render0(Objects.requireNonNull(properties), Objects.requireNonNull(out));
+      return out;
+    }
+
+    private void render0(final Map<String,String> properties, final Appendable out) throws IOException {
+      for (final Segment segment : segments) {
+        if (!segment.placeholder)
+          out.append(text, segment.start, segment.end);
+        else if (segment.key != null)
+          appendValue(properties, out, segment.key, text, segment.start - prefix.length(), segment.end + suffix.length(), null, 0);
+        else
+          appendPlaceholder(properties, out, text, segment.start, segment.end, null, 0);
+      }
+    }
+
+    /**
+     * Appends the value of {@code key} in {@code properties} to {@code out},
+     * or the placeholder text at {@code str.substring(start, end)} if the key
+     * is absent.
+     */
+    private void appendValue(final Map<String,String> properties, final Appendable out, final String key, final CharSequence str, final int start, final int end, String[] stack, final int depth) throws IOException {
+      final String value = properties.get(key);
+      if (value == null) {
+        out.append(str, start, end);
+        return;
+      }
+
+      if (value.indexOf(prefix) < 0) {
+        out.append(value);
+        return;
+      }
+
+      if (stack == null)
+        stack = new String[8];
+
+      for (int i = 0; i < depth; ++i) {
+        if (key.equals(stack[i])) {
+          final StringBuilder message = new StringBuilder("Loop detected: ");
+          for (int j = i; j < depth; ++j)
+            message.append(stack[j]).append(" -> ");
+
+          throw new IllegalArgumentException(message.append(key).toString());
+        }
+      }
+
+      if (depth == stack.length)
+        stack = Arrays.copyOf(stack, depth * 2);
+
+      stack[depth] = key;
+      appendInterpolated(properties, out, value, 0, value.length(), stack, depth + 1);
+    }
+
+    private void appendPlaceholder(final Map<String,String> properties, final Appendable out, final String str, final int keyStart, final int keyEnd, final String[] stack, final int depth) throws IOException {
+      final int nested = str.indexOf(prefix, keyStart);
+      if (nested < 0 || nested >= keyEnd) {
+        appendValue(properties, out, str.substring(keyStart, keyEnd), str, keyStart - prefix.length(), keyEnd + suffix.length(), stack, depth);
+        return;
+      }
+
+      final StringBuilder builder = new StringBuilder(keyEnd - keyStart + prefix.length() + suffix.length()).append(prefix);
+      appendInterpolated(properties, builder, str, keyStart, keyEnd, stack, depth);
+      final String key = builder.substring(prefix.length());
+      appendValue(properties, out, key, builder.append(suffix), 0, builder.length(), stack, depth);
+    }
+
+    private void appendInterpolated(final Map<String,String> properties, final Appendable out, final String str, final int fromIndex, final int toIndex, final String[] stack, final int depth) throws IOException {
+      int literal = fromIndex;
+      for (int i = fromIndex, start, end; (start = str.indexOf(prefix, i)) > -1 && start < toIndex;) {
+        final int keyStart = start + prefix.length();
+        if ((end = indexOfSuffix(str, keyStart, toIndex, prefix, suffix)) < 0) {
+          i = keyStart;
+          continue;
+        }
+
+        out.append(str, literal, start);
+        appendPlaceholder(properties, out, str, keyStart, end, stack, depth);
+        i = literal = end + suffix.length();
+      }
+
+      out.append(str, literal, toIndex);
+    }
+
+    @Override
+    public String toString() {
+      return text;
+    }
+  }
+
+  /**
+   * Returns a compiled {@link Template} of the specified text, for the
+   * interpolation of {@code prefix + key + suffix} placeholders.
+   * <p>
+   * A compiled {@link Template} is rendered in a single linear pass of the
+   * template text, and is therefore recommended over
+   * {@link #interpolate(String,Map,String,String)} when the same text is to be
+   * interpolated repeatedly with different properties.
+   * <p>
+   * <blockquote>
+   * <b>Example:</b>
+   * <p>
+   * <pre>{@code
+   * Template template = Strings.compileTemplate("The ${subject} jumps over the ${object}", "${", "}");
+   * template.render(properties, builder);
+   * }</pre>
+   * </blockquote>
+   *
+   * @param text The template text.
+   * @param prefix String prefixing the key name.
+   * @param suffix String suffixing the key name.
+   * @return A compiled {@link Template} of the specified text.
+   * @throws IllegalArgumentException If {@code prefix} or {@code suffix} is
+   *           empty.
+   * @throws NullPointerException If {@code text}, {@code prefix}, or
+   *           {@code suffix} is null.
+   * @see #interpolate(String,Map,String,String)
+   */
+  public static Template compileTemplate(final String text, final String prefix, final String suffix) {
+    return new Template(Objects.requireNonNull(text), assertNotEmpty(prefix, "prefix"), assertNotEmpty(suffix, "suffix"));
+  }
+
   /**
    * Replaces each substring in the specified {@link StringBuilder} that matches
    * the literal target sequence with the specified literal replacement
@@ -2639,22 +3086,165 @@ public final class Strings {
     return UUID.fromString(str);
   }
 
-  private static final ConcurrentHashMap<String,String> interns = new ConcurrentHashMap<>();
+  private static volatile Interner<String> interner = Interner.newWeakInterner();
+
+  /**
+   * Returns the {@link Interner} used by the {@code intern} methods of this
+   * class, which by default is a {@linkplain Interner#newWeakInterner() weak}
+   * {@link Interner} that retains canonical strings only while they are
+   * strongly reachable elsewhere.
+   *
+   * @return The {@link Interner} used by the {@code intern} methods of this
+   *         class.
+   */
+  public static Interner<String> getInterner() {
+    return interner;
+  }
+
+  /**
+   * Sets the {@link Interner} to be used by the {@code intern} methods of this
+   * class, such as a {@linkplain Interner#newBoundedInterner(int) bounded}
+   * {@link Interner}. Strings that were interned with the previous
+   * {@link Interner} are not canonical in the specified {@link Interner}.
+   *
+   * @param interner The {@link Interner} to be used by the {@code intern}
+   *          methods of this class.
+   * @throws NullPointerException If {@code interner} is null.
+   */
+  public static void setInterner(final Interner<String> interner) {
+    Strings.interner = Objects.requireNonNull(interner);
+  }
 
   /**
    * Returns a canonical representation for the string object.
    * <p>
    * This method differentiates itself from {@link String#intern()} by
-   * maintaining a {@link ConcurrentHashMap} of strings that outperforms the
-   * native {@link String#intern()} implementation for large maps.
+   * maintaining a weak {@link Interner} of strings that outperforms the native
+   * {@link String#intern()} implementation for large pools. Canonical strings
+   * that are no longer strongly reachable are eligible for garbage collection.
    *
    * @param str The string to intern.
    * @return A string that has the same contents as the specified string, but is
    *         guaranteed to be from a pool of unique strings.
+   * @throws NullPointerException If {@code str} is null.
    */
   public static String intern(final String str) {
-    final String intern = interns.putIfAbsent(str, str);
-    return intern != null ? intern : str;
+    return interner.intern(str);
+  }
+
+  private static final Interner.Matcher<String> charArrayMatcher = new Interner.Matcher<String>() {
+    @Override
+    public boolean matches(final String value, final Object key, final int offset, final int length) {
+      if (value.length() != length)
+        return false;
+
+      final char[] chars = (char[])key;
+      for (int i = 0; i < length; ++i)
+        if (value.charAt(i) != chars[offset + i])
+          return false;
+
+      return true;
+    }
+
+    @Override
+    public String create(final Object key, final int offset, final int length) {
+      return new String((char[])key, offset, length);
+    }
+  };
+
+  private static final Interner.Matcher<String> charSequenceMatcher = new Interner.Matcher<String>() {
+    @Override
+    public boolean matches(final String value, final Object key, final int offset, final int length) {
+      if (value.length() != length)
+        return false;
+
+      final CharSequence str = (CharSequence)key;
+      for (int i = 0; i < length; ++i)
+        if (value.charAt(i) != str.charAt(offset + i))
+          return false;
+
+      return true;
+    }
+
+    @Override
+    public String create(final Object key, final int offset, final int length) {
+      return new StringBuilder(length).append((CharSequence)key, offset, offset + length).toString();
+    }
+  };
+
+  /**
+   * Returns a canonical representation for the string of the characters in
+   * the specified range of the provided {@code char[]}.
+   * <p>
+   * A new {@link String} is only allocated if the pool does not already have
+   * a canonical string with the same characters, which allows tokens to be
+   * deduplicated directly from a reused {@code char[]} buffer.
+   *
+   * @param chars The {@code char[]}.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * @return A string that has the same characters as the specified range of
+   *         the {@code char[]}, and is guaranteed to be from a pool of unique
+   *         strings.
+   * @throws IndexOutOfBoundsException If {@code offset} or {@code length} is
+   *           negative, or {@code offset + length} is greater than
+   *           {@code chars.length}.
+   * @throws NullPointerException If {@code chars} is null.
+   * @see #intern(String)
+   */
+  public static String intern(final char[] chars, final int offset, final int length) {
+    Assertions.assertBoundsOffsetCount("length", chars.length, "offset", offset, "count", length);
+    int hash = 0;
+    for (int i = offset, end = offset + length; i < end; ++i)
+      hash = 31 * hash + chars[i];
+
+    return interner.intern(hash, chars, offset, length, charArrayMatcher);
+  }
+
+  /**
+   * Returns a canonical representation for the string of the characters in
+   * the specified range of the provided {@link CharSequence}.
+   * <p>
+   * A new {@link String} is only allocated if the pool does not already have
+   * a canonical string with the same characters.
+   *
+   * @param str The {@link CharSequence}.
+   * @param fromIndex The index of the first character (inclusive).
+   * @param toIndex The index of the last character (exclusive).
+   * @return A string that has the same characters as the specified range of
+   *         the {@link CharSequence}, and is guaranteed to be from a pool of
+   *         unique strings.
+   * @throws IndexOutOfBoundsException If {@code fromIndex} is negative, or
+   *           {@code toIndex} is greater than {@code str.length()}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws NullPointerException If {@code str} is null.
+   * @see #intern(String)
+   */
+  public static String intern(final CharSequence str, final int fromIndex, final int toIndex) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "length", str.length());
+    int hash = 0;
+    for (int i = fromIndex; i < toIndex; ++i)
+      hash = 31 * hash + str.charAt(i);
+
+    return interner.intern(hash, str, fromIndex, toIndex - fromIndex, charSequenceMatcher);
+  }
+
+  /**
+   * Returns a canonical representation for the string of the characters in
+   * the provided {@link CharSequence}.
+   * <p>
+   * A new {@link String} is only allocated if the pool does not already have
+   * a canonical string with the same characters.
+   *
+   * @param str The {@link CharSequence}.
+   * @return A string that has the same characters as the provided
+   *         {@link CharSequence}, and is guaranteed to be from a pool of
+   *         unique strings.
+   * @throws NullPointerException If {@code str} is null.
+   * @see #intern(String)
+   */
+  public static String intern(final CharSequence str) {
+    return str instanceof String ? intern((String)str) : intern(str, 0, str.length());
   }
 
   private Strings() {
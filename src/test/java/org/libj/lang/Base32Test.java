@@ -18,6 +18,19 @@ package org.libj.lang;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Test;
 
 public class Base32Test {
@@ -30,4 +43,174 @@ public class Base32Test {
       assertArrayEquals(arg, decoded);
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testStreams() throws IOException {
+    final Random random = new Random(7);
+    for (int i = 0; i < 300; ++i) {
+      final byte[] data = new byte[random.nextInt(i * 70 + 1)];
+      random.nextBytes(data);
+      final String expected = Base32.encode(data);
+
+      final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+      try (final OutputStream out = Base32.newEncoder(buf)) {
+        for (int off = 0, n; off < data.length; off += n) {
+          n = Math.min(data.length - off, random.nextInt(12));
+          if (n == 1)
+            out.write(data[off]);
+          else
+            out.write(data, off, n);
+
+          if (random.nextInt(8) == 0)
+            out.flush();
+        }
+      }
+
+      assertEquals(expected, new String(buf.toByteArray(), StandardCharsets.US_ASCII));
+
+      final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+      try (final InputStream in = Base32.newDecoder(new ByteArrayInputStream(expected.toLowerCase().getBytes(StandardCharsets.US_ASCII)))) {
+        final byte[] b = new byte[13];
+        for (int n;;) {
+          if (random.nextInt(4) == 0) {
+            if ((n = in.read()) == -1)
+              break;
+
+            decoded.write(n);
+          }
+          else {
+            if ((n = in.read(b, 0, 1 + random.nextInt(b.length))) == -1)
+              break;
+
+            decoded.write(b, 0, n);
+          }
+        }
+      }
+
+      assertArrayEquals(data, decoded.toByteArray());
+    }
+  }
+
+  @Test
+  public void testChannels() throws IOException {
+    final byte[] data = new byte[100003];
+    new Random(11).nextBytes(data);
+    final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+    try (final WritableByteChannel out = Base32.newEncoder(Channels.newChannel(buf))) {
+      out.write(ByteBuffer.wrap(data));
+    }
+
+    assertEquals(Base32.encode(data), new String(buf.toByteArray(), StandardCharsets.US_ASCII));
+
+    final ByteBuffer decoded = ByteBuffer.allocate(data.length + 1);
+    try (final ReadableByteChannel in = Base32.newDecoder(Channels.newChannel(new ByteArrayInputStream(buf.toByteArray())))) {
+      while (in.read(decoded) != -1);
+    }
+
+    assertEquals(data.length, decoded.position());
+    assertArrayEquals(data, Arrays.copyOf(decoded.array(), data.length));
+  }
+
+  private static final String[] rfc4648 = {"", "f", "fo", "foo", "foob", "fooba", "foobar"};
+
+  @Test
+  public void testRfc4648() {
+    final String[] standard = {"", "MY======", "MZXQ====", "MZXW6===", "MZXW6YQ=", "MZXW6YTB", "MZXW6YTBOI======"};
+    final String[] hex = {"", "CO======", "CPNG====", "CPNMU===", "CPNMUOG=", "CPNMUOJ1", "CPNMUOJ1E8======"};
+    for (int i = 0; i < rfc4648.length; ++i) {
+      final byte[] data = rfc4648[i].getBytes(StandardCharsets.US_ASCII);
+      assertEquals(standard[i], Base32.encode(data, Base32.Alphabet.STANDARD, true));
+      assertEquals(standard[i].replace("=", ""), Base32.encode(data));
+      assertEquals(hex[i], Base32.encode(data, Base32.Alphabet.HEX, true));
+      assertEquals(standard[i].length(), Base32.getEncodedLength(data.length, true));
+      assertEquals(standard[i].replace("=", "").length(), Base32.getEncodedLength(data.length, false));
+
+      assertArrayEquals(data, Base32.decode(standard[i], Base32.Alphabet.STANDARD));
+      assertArrayEquals(data, Base32.decode(standard[i].replace("=", "").toLowerCase(), Base32.Alphabet.STANDARD));
+      assertArrayEquals(data, Base32.decode(hex[i], Base32.Alphabet.HEX));
+      assertArrayEquals(data, Base32.decode(standard[i]));
+    }
+  }
+
+  @Test
+  public void testCrockford() {
+    final byte[] data = "foobar".getBytes(StandardCharsets.US_ASCII);
+    assertEquals("CSQPYRK1E8", Base32.encode(data, Base32.Alphabet.CROCKFORD, false));
+    assertArrayEquals(data, Base32.decode("csqp-yrk1-e8", Base32.Alphabet.CROCKFORD));
+    assertArrayEquals(data, Base32.decode("CSQPYRKlE8", Base32.Alphabet.CROCKFORD));
+    assertArrayEquals(data, Base32.decode("CSQPYRKIE8", Base32.Alphabet.CROCKFORD));
+    assertArrayEquals(new byte[] {0, 0}, Base32.decode("oOo0", Base32.Alphabet.CROCKFORD));
+
+    try {
+      Base32.decode("CSQPYRKUE8", Base32.Alphabet.CROCKFORD);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testInto() {
+    final Random random = new Random(13);
+    for (final Base32.Alphabet alphabet : Base32.Alphabet.values()) {
+      for (int i = 0; i < 500; ++i) {
+        final byte[] data = new byte[random.nextInt(64)];
+        random.nextBytes(data);
+        final int offset = data.length == 0 ? 0 : random.nextInt(data.length);
+        final int len = random.nextInt(data.length - offset + 1);
+        final boolean padding = random.nextBoolean();
+        final byte[] range = Arrays.copyOfRange(data, offset, offset + len);
+
+        final String expected = Base32.encode(range, alphabet, padding);
+        assertEquals(expected, Base32.encode(data, offset, len, alphabet, padding));
+
+        final char[] chars = new char[expected.length() + 3];
+        assertEquals(expected.length() + 2, Base32.encode(data, offset, len, chars, 2, alphabet, padding));
+        assertEquals(expected, new String(chars, 2, expected.length()));
+
+        final byte[] ascii = new byte[expected.length() + 3];
+        assertEquals(expected.length() + 1, Base32.encode(data, offset, len, ascii, 1, alphabet, padding));
+        assertEquals(expected, new String(ascii, 1, expected.length(), StandardCharsets.US_ASCII));
+
+        final byte[] decoded = new byte[len + 2];
+        final String text = "x" + expected + "x";
+        assertEquals(len + 1, Base32.decode(text, 1, text.length() - 1, decoded, 1, alphabet));
+        assertArrayEquals(range, Arrays.copyOfRange(decoded, 1, len + 1));
+      }
+    }
+
+    try {
+      Base32.encode(new byte[5], 0, 5, new char[7], 0, Base32.Alphabet.STANDARD, false);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testSubrange() {
+    // Bytes outside of the range must not leak into the final digit
+    final byte[] data = {(byte)0xFF, (byte)0xFF, (byte)0xFF};
+    assertEquals("74", Base32.encode(data, 0, 1));
+    assertEquals("74", Base32.encode(data, 1, 1));
+  }
+
+  @Test
+  public void testIllegal() {
+    for (final String illegal : new String[] {"M", "MZX", "MZXW6Y", "MY=", "MY=======", "MY==A===", "========", "M1", "MY\u0100"}) {
+      try {
+        Base32.decode(illegal, Base32.Alphabet.STANDARD);
+        fail("Expected IllegalArgumentException: " + illegal);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    try {
+      Base32.decode("MZXW6YTB", 0, 8, new byte[4], 0, Base32.Alphabet.STANDARD);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Base58Test {
+  private static final String digits = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+
+  private static String naive(final byte[] bytes) {
+    final StringBuilder builder = new StringBuilder();
+    final BigInteger base = BigInteger.valueOf(58);
+    for (BigInteger n = new BigInteger(1, bytes); n.signum() > 0; n = n.divide(base))
+      builder.append(digits.charAt(n.mod(base).intValue()));
+
+    for (int i = 0; i < bytes.length && bytes[i] == 0; ++i)
+      builder.append('1');
+
+    return builder.reverse().toString();
+  }
+
+  @Test
+  public void testVectors() {
+    assertEquals("", Base58.encode(new byte[0]));
+    assertEquals("2NEpo7TZRRrLZSi2U", Base58.encode("Hello World!".getBytes(StandardCharsets.US_ASCII)));
+    assertEquals("11233QC4", Base58.encode(new byte[] {0, 0, 0x28, 0x7F, (byte)0xB4, (byte)0xCD}));
+    assertEquals("111", Base58.encode(new byte[3]));
+    assertArrayEquals(new byte[3], Base58.decode("111"));
+    assertArrayEquals("Hello World!".getBytes(StandardCharsets.US_ASCII), Base58.decode("2NEpo7TZRRrLZSi2U"));
+  }
+
+  @Test
+  public void testLimbsBoundary() {
+    // The limb counts overflowed int arithmetic above 1572096 bytes and
+    // 2929718 digits, respectively
+    for (final int len : new int[] {0, 1, 1572096, 1572097, 2929718, 2929719, 1 << 30, Integer.MAX_VALUE}) {
+      assertTrue(String.valueOf(len), 5 * Math.log(58) * Base58.encodeLimbs(len) >= 8 * Math.log(2) * len);
+      assertTrue(String.valueOf(len), 32 * Math.log(2) * Base58.decodeLimbs(len) >= Math.log(58) * len);
+    }
+  }
+
+  @Test
+  public void testRandom() {
+    final Random random = new Random(29);
+    for (int i = 0; i < 3000; ++i) {
+      final byte[] bytes = new byte[random.nextInt(80)];
+      random.nextBytes(bytes);
+      for (int j = random.nextInt(4); j > 0 && j <= bytes.length; --j)
+        bytes[j - 1] = 0;
+
+      final String expected = naive(bytes);
+      assertEquals(expected, Base58.encode(bytes));
+      assertTrue(expected.length() <= Base58.getMaxEncodedLength(bytes.length));
+      assertArrayEquals(bytes, Base58.decode(expected));
+      assertEquals(new Base58(bytes), new Base58(expected));
+
+      final char[] chars = new char[expected.length() + 2];
+      assertEquals(expected.length() + 1, Base58.encode(bytes, 0, bytes.length, chars, 1));
+      assertEquals(expected, new String(chars, 1, expected.length()));
+
+      final byte[] decoded = new byte[bytes.length + 2];
+      final String text = "0" + expected + "0";
+      assertEquals(bytes.length + 2, Base58.decode(text, 1, text.length() - 1, decoded, 2));
+      assertArrayEquals(bytes, Arrays.copyOfRange(decoded, 2, bytes.length + 2));
+    }
+  }
+
+  @Test
+  public void testIllegal() {
+    for (final String illegal : new String[] {"0", "O", "I", "l", "2NEpo7TZ+RrLZSi2U"}) {
+      try {
+        Base58.decode(illegal);
+        fail("Expected IllegalArgumentException: " + illegal);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    try {
+      Base58.encode(new byte[] {1, 2, 3}, 0, 3, new char[2], 0);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class Base64Test {
+  @Test
+  public void testRfc4648() {
+    final String[] data = {"", "f", "fo", "foo", "foob", "fooba", "foobar"};
+    final String[] expected = {"", "Zg==", "Zm8=", "Zm9v", "Zm9vYg==", "Zm9vYmE=", "Zm9vYmFy"};
+    for (int i = 0; i < data.length; ++i) {
+      final byte[] bytes = data[i].getBytes(StandardCharsets.US_ASCII);
+      assertEquals(expected[i], Base64.encode(bytes));
+      assertEquals(expected[i].replace("=", ""), Base64.encode(bytes, Base64.Alphabet.STANDARD, false));
+      assertEquals(expected[i].length(), Base64.getEncodedLength(bytes.length, true));
+      assertArrayEquals(bytes, Base64.decode(expected[i]));
+      assertArrayEquals(bytes, Base64.decode(expected[i].replace("=", ""), Base64.Alphabet.STANDARD));
+    }
+  }
+
+  @Test
+  public void testJdk() {
+    final Random random = new Random(17);
+    for (int i = 0; i < 2000; ++i) {
+      final byte[] bytes = new byte[random.nextInt(100)];
+      random.nextBytes(bytes);
+      final String standard = java.util.Base64.getEncoder().encodeToString(bytes);
+      final String url = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+      assertEquals(standard, Base64.encode(bytes));
+      assertEquals(url, Base64.encode(bytes, Base64.Alphabet.URL, false));
+      assertArrayEquals(bytes, Base64.decode(standard));
+      assertArrayEquals(bytes, Base64.decode(url, Base64.Alphabet.URL));
+      assertEquals(new Base64(bytes), new Base64(standard));
+      assertEquals(standard, new Base64(bytes).getEncoded());
+      assertArrayEquals(bytes, new Base64(url, Base64.Alphabet.URL).getData());
+    }
+  }
+
+  @Test
+  public void testInto() {
+    final Random random = new Random(19);
+    for (final Base64.Alphabet alphabet : Base64.Alphabet.values()) {
+      for (int i = 0; i < 500; ++i) {
+        final byte[] data = new byte[random.nextInt(64)];
+        random.nextBytes(data);
+        final int offset = data.length == 0 ? 0 : random.nextInt(data.length);
+        final int len = random.nextInt(data.length - offset + 1);
+        final boolean padding = random.nextBoolean();
+        final byte[] range = Arrays.copyOfRange(data, offset, offset + len);
+
+        final String expected = Base64.encode(range, alphabet, padding);
+        assertEquals(expected, Base64.encode(data, offset, len, alphabet, padding));
+
+        final char[] chars = new char[expected.length() + 3];
+        assertEquals(expected.length() + 2, Base64.encode(data, offset, len, chars, 2, alphabet, padding));
+        assertEquals(expected, new String(chars, 2, expected.length()));
+
+        final byte[] ascii = new byte[expected.length() + 3];
+        assertEquals(expected.length() + 1, Base64.encode(data, offset, len, ascii, 1, alphabet, padding));
+        assertEquals(expected, new String(ascii, 1, expected.length(), StandardCharsets.US_ASCII));
+
+        final byte[] decoded = new byte[len + 2];
+        final String text = "!" + expected + "!";
+        assertEquals(len + 1, Base64.decode(text, 1, text.length() - 1, decoded, 1, alphabet));
+        assertArrayEquals(range, Arrays.copyOfRange(decoded, 1, len + 1));
+      }
+    }
+  }
+
+  @Test
+  public void testIllegal() {
+    for (final String illegal : new String[] {"Z", "Zm9vY", "Zg=", "Zg===", "Zg=A", "====", "Zm9-", "Zm\u01009v"}) {
+      try {
+        Base64.decode(illegal);
+        fail("Expected IllegalArgumentException: " + illegal);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testStreams() throws IOException {
+    final Random random = new Random(23);
+    for (int i = 0; i < 300; ++i) {
+      final byte[] data = new byte[random.nextInt(i * 70 + 1)];
+      random.nextBytes(data);
+      final Base64.Alphabet alphabet = random.nextBoolean() ? Base64.Alphabet.STANDARD : Base64.Alphabet.URL;
+      final boolean padding = random.nextBoolean();
+      final String expected = Base64.encode(data, alphabet, padding);
+
+      final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+      try (final OutputStream out = Base64.newEncoder(buf, alphabet, padding)) {
+        for (int off = 0, n; off < data.length; off += n) {
+          n = Math.min(data.length - off, random.nextInt(12));
+          if (n == 1)
+            out.write(data[off]);
+          else
+            out.write(data, off, n);
+        }
+      }
+
+      assertEquals(expected, new String(buf.toByteArray(), StandardCharsets.US_ASCII));
+
+      final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+      final String wrapped = expected.replaceAll("(.{76})", "$1\r\n");
+      try (final InputStream in = Base64.newDecoder(new ByteArrayInputStream(wrapped.getBytes(StandardCharsets.US_ASCII)), alphabet)) {
+        final byte[] b = new byte[13];
+        for (int n;;) {
+          if (random.nextInt(4) == 0) {
+            if ((n = in.read()) == -1)
+              break;
+
+            decoded.write(n);
+          }
+          else {
+            if ((n = in.read(b, 0, 1 + random.nextInt(b.length))) == -1)
+              break;
+
+            decoded.write(b, 0, n);
+          }
+        }
+      }
+
+      assertArrayEquals(data, decoded.toByteArray());
+    }
+
+    try (final InputStream in = Base64.newDecoder(new ByteArrayInputStream("Zm9v*".getBytes(StandardCharsets.US_ASCII)), Base64.Alphabet.STANDARD)) {
+      while (in.read() != -1);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+}
@@ -94,6 +94,68 @@ public class BigDecimalsTest {
     }
   }
 
+  private static void assertInternString(final String val) {
+    final BigDecimal expected = BigDecimals.intern(new BigDecimal(val));
+    assertSame(val, expected, BigDecimals.intern(val));
+  }
+
+  @Test
+  public void testInternStringCanonical() {
+    for (final String val : new String[] {"0", "-0", "0.00", "1.", ".5", "+.5", "1E+3", "1e-3", "-1.50E2", "00012.340", "123456789012345678", "-0.123456789012345678", "1234567890123456789", "0.000000000000000000000123", "1E2147483647", "1E-2147483647"})
+      assertInternString(val);
+
+    for (int i = 0; i < 10000; ++i) {
+      assertInternString(BigDecimal.valueOf(random.nextLong(), random.nextInt(40) - 20).toString());
+      assertInternString(String.valueOf(random.nextDouble() * random.nextInt()));
+    }
+
+    for (final String val : new String[] {"", ".", "e5", "+", "1e", "1e+", "1.2.3", "1 ", "0x1"}) {
+      try {
+        BigDecimals.intern(val);
+        fail("Expected NumberFormatException: " + val);
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testInternlongCanonical() {
+    for (final long val : new long[] {0, 1, -1, 999999999999999999L, -999999999999999999L, 1000000000000000000L, Long.MIN_VALUE, Long.MAX_VALUE}) {
+      final BigDecimal expected = BigDecimals.intern(new BigDecimal(val));
+      assertSame(expected, BigDecimals.intern(val));
+      assertSame(expected, BigDecimals.intern(Long.valueOf(val)));
+    }
+
+    for (int i = 0; i < 10000; ++i) {
+      final long val = random.nextLong() >> random.nextInt(64);
+      final BigDecimal expected = BigDecimals.intern(new BigDecimal(val));
+      assertSame(expected, BigDecimals.intern(val));
+    }
+  }
+
+  @Test
+  public void testInterndoubleCanonical() {
+    for (final double val : new double[] {0, -0d, 1, 0.5, 2.375, 0.1, 1e17, 1e18, 1e19, Math.pow(2, 59), Math.pow(2, 60), Double.MIN_VALUE, -Double.MAX_VALUE}) {
+      final BigDecimal expected = BigDecimals.intern(new BigDecimal(val));
+      assertSame(String.valueOf(val), expected, BigDecimals.intern(val));
+      assertSame(String.valueOf(val), expected, BigDecimals.intern(Double.valueOf(val)));
+    }
+
+    for (int i = 0; i < 10000; ++i) {
+      final double val = random.nextInt() / (double)(1 << random.nextInt(31));
+      final BigDecimal expected = BigDecimals.intern(new BigDecimal(val));
+      assertSame(String.valueOf(val), expected, BigDecimals.intern(val));
+    }
+
+    try {
+      BigDecimals.intern(Double.NaN);
+      fail("Expected NumberFormatException");
+    }
+    catch (final NumberFormatException e) {
+    }
+  }
+
   private static void testBigDecimalInfinity(final BigDecimal infinity, final int signum, final boolean recurse) {
     final String expected = (signum == -1 ? "-" : "") + "Infinity";
     assertEquals(expected, infinity.toEngineeringString());
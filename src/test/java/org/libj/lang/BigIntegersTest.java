@@ -36,6 +36,32 @@ public class BigIntegersTest {
     }
   }
 
+  @Test
+  public void testInternChars() {
+    final BigInteger a = BigIntegers.intern("-58921");
+    final BigInteger b = BigIntegers.intern("1224141224141224141224141224");
+    assertEquals(new BigInteger("-58921"), a);
+    assertSame(BigIntegers.ZERO, BigIntegers.intern("-0"));
+    assertSame(BigIntegers.TEN, BigIntegers.intern(new StringBuilder("+10")));
+
+    final char[] chars = "x-58921 1224141224141224141224141224 999999999999999999".toCharArray();
+    for (int i = 0; i < 100; ++i) {
+      assertSame(a, BigIntegers.intern(chars, 1, 6));
+      assertSame(a, BigIntegers.intern(new StringBuilder("-58921")));
+      assertSame(b, BigIntegers.intern(chars, 8, 28));
+      assertSame(BigIntegers.intern(chars, 37, 18), BigIntegers.intern(new BigInteger("999999999999999999")));
+    }
+
+    for (final String invalid : new String[] {"", "-", "+", "1a", "--1"}) {
+      try {
+        BigIntegers.intern(new StringBuilder(invalid));
+        fail("Expected NumberFormatException: " + invalid);
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+  }
+
   @Test
   public void testInternString() {
     for (int i = 0; i < 100; ++i) {
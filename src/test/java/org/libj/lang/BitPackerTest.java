@@ -0,0 +1,111 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BitPackerTest {
+  private static final Random random = new Random(1);
+
+  @Test
+  public void testGetPackedLength() {
+    assertEquals(0, BitPacker.getPackedLength(0, 13));
+    assertEquals(0, BitPacker.getPackedLength(100, 0));
+    assertEquals(1, BitPacker.getPackedLength(64, 1));
+    assertEquals(2, BitPacker.getPackedLength(65, 1));
+    assertEquals(21, BitPacker.getPackedLength(100, 13));
+    assertEquals(100, BitPacker.getPackedLength(100, 64));
+
+    try {
+      BitPacker.getPackedLength(1, 65);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testGetBits() {
+    assertEquals(0, BitPacker.getBits(new int[] {0, 0}, 0, 2));
+    assertEquals(3, BitPacker.getBits(new int[] {1, 4, 2}, 0, 3));
+    assertEquals(2, BitPacker.getBits(new int[] {1, 4, 2}, 2, 1));
+    assertEquals(32, BitPacker.getBits(new int[] {-1}, 0, 1));
+    assertEquals(64, BitPacker.getBits(new long[] {1, Long.MIN_VALUE}, 0, 2));
+  }
+
+  @Test
+  public void testInts() {
+    for (int bits = 0; bits <= 32; ++bits) {
+      for (final int length : new int[] {0, 1, 63, 64, 65, 1000}) {
+        final int[] values = new int[length + 2];
+        for (int i = 0; i < values.length; ++i)
+          values[i] = bits == 0 ? 0 : random.nextInt() >>> (32 - bits);
+
+        final long[] packed = new long[BitPacker.getPackedLength(length, bits) + 2];
+        Arrays.fill(packed, -1);
+        final int end = BitPacker.pack(values, 1, packed, 1, length, bits);
+        assertEquals(1 + BitPacker.getPackedLength(length, bits), end);
+        assertEquals(-1, packed[0]);
+        assertEquals(-1, packed[packed.length - 1]);
+
+        final int[] unpacked = new int[length];
+        assertEquals(end, BitPacker.unpack(packed, 1, unpacked, 0, length, bits));
+        assertArrayEquals(Arrays.copyOfRange(values, 1, length + 1), unpacked);
+        for (int i = 0; i < length; ++i)
+          assertEquals(bits + ":" + i, values[i + 1] & 0xFFFFFFFFL, BitPacker.get(packed, 1, bits, i));
+      }
+    }
+  }
+
+  @Test
+  public void testLongs() {
+    for (int bits = 0; bits <= 64; ++bits) {
+      for (final int length : new int[] {0, 1, 63, 64, 65, 1000}) {
+        final long[] values = new long[length];
+        for (int i = 0; i < values.length; ++i)
+          values[i] = bits == 0 ? 0 : random.nextLong() >>> (64 - bits);
+
+        final long[] packed = new long[BitPacker.getPackedLength(length, bits)];
+        assertEquals(packed.length, BitPacker.pack(values, 0, packed, 0, length, bits));
+        final long[] unpacked = new long[length];
+        assertEquals(packed.length, BitPacker.unpack(packed, 0, unpacked, 0, length, bits));
+        assertArrayEquals(values, unpacked);
+
+        // Overwrite the values in reverse order with random access
+        for (int i = length - 1; i >= 0; --i) {
+          values[i] = bits == 0 ? 0 : random.nextLong() >>> (64 - bits);
+          BitPacker.set(packed, 0, bits, i, values[i] | (bits == 64 ? 0 : -1L << bits));
+        }
+
+        for (int i = 0; i < length; ++i)
+          assertEquals(bits + ":" + i, values[i], BitPacker.get(packed, 0, bits, i));
+      }
+    }
+  }
+
+  @Test
+  public void testHighBitsIgnored() {
+    final long[] packed = new long[1];
+    BitPacker.pack(new int[] {-1, 0, -1}, 0, packed, 0, 3, 3);
+    assertEquals(0b111000111L, packed[0]);
+  }
+}
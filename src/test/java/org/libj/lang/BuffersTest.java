@@ -18,6 +18,11 @@ package org.libj.lang;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
 import org.junit.Test;
 
 public class BuffersTest {
@@ -124,4 +129,98 @@ public class BuffersTest {
     assertArrayEquals(trimmed, Buffers.trimToLength(trimmed));
     assertEquals(0, Buffers.trimToLength(new byte[0]).length);
   }
-}
\ No newline at end of file
+
+  private static long[] random(final Random random) {
+    final long[] buf = new long[random.nextInt(8)];
+    for (int i = 0; i < buf.length; ++i)
+      buf[i] = random.nextInt(4) == 0 ? 0 : random.nextInt(4) == 0 ? -1 : random.nextLong();
+
+    return buf;
+  }
+
+  private static void assertBits(final BitSet expected, final long[] actual) {
+    assertArrayEquals(expected.toLongArray(), Buffers.trimToLength(actual));
+  }
+
+  @Test
+  public void testLongBulk() {
+    final Random random = new Random(31);
+    for (int t = 0; t < 2000; ++t) {
+      final long[] a = random(random);
+      final long[] b = random(random);
+      final BitSet x = BitSet.valueOf(a);
+      final BitSet y = BitSet.valueOf(b);
+
+      final BitSet and = (BitSet)x.clone();
+      and.and(y);
+      assertBits(and, Buffers.and(a.clone(), b));
+
+      final BitSet or = (BitSet)x.clone();
+      or.or(y);
+      assertBits(or, Buffers.or(a.clone(), b));
+
+      final BitSet xor = (BitSet)x.clone();
+      xor.xor(y);
+      assertBits(xor, Buffers.xor(a.clone(), b));
+
+      final BitSet andNot = (BitSet)x.clone();
+      andNot.andNot(y);
+      assertBits(andNot, Buffers.andNot(a.clone(), b));
+
+      assertEquals(x.cardinality(), Buffers.cardinality(a));
+      for (int i = 0; i < a.length * Long.SIZE + 70; i += 1 + random.nextInt(9)) {
+        assertEquals(x.nextSetBit(i), Buffers.nextSetBit(a, i));
+        assertEquals(x.nextClearBit(i), Buffers.nextClearBit(a, i));
+      }
+
+      final ArrayList<Integer> expected = new ArrayList<>();
+      x.stream().forEach(expected::add);
+      final ArrayList<Integer> actual = new ArrayList<>();
+      Buffers.forEachSetBit(a, actual::add);
+      assertEquals(expected, actual);
+
+      final int from = random.nextInt(a.length * Long.SIZE + 100);
+      final int to = from + random.nextInt(300);
+      final BitSet set = (BitSet)x.clone();
+      set.set(from, to);
+      assertBits(set, Buffers.set(a.clone(), from, to, -1));
+
+      final BitSet clear = (BitSet)x.clone();
+      clear.clear(from, to);
+      final long[] cleared = Buffers.clear(a.clone(), from, to);
+      assertEquals(a.length, cleared.length);
+      assertBits(clear, cleared);
+    }
+  }
+
+  @Test
+  public void testLongRangeBounds() {
+    final long[] buf = new long[2];
+    assertSame(buf, Buffers.set(buf, 3, 3, 0));
+    assertEquals(-1, Buffers.nextSetBit(buf, 0));
+    assertEquals(128, Buffers.nextClearBit(Buffers.set(buf, 0, 128, 0), 0));
+    assertEquals(Arrays.toString(new long[] {-1, -1}), Arrays.toString(buf));
+    assertEquals(1000, Buffers.nextClearBit(buf, 1000));
+
+    try {
+      Buffers.set(buf, 0, 129, 0);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+
+    try {
+      Buffers.clear(buf, 5, 4);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Buffers.nextSetBit(buf, -1);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
+}
@@ -18,7 +18,22 @@ package org.libj.lang;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -65,6 +80,403 @@ public class BytesTest {
     assertEquals(-1, Bytes.indexOf(bytes, 7, new byte[] {6, 7, 8}));
   }
 
+  private static int naiveIndexOf(final byte[] bytes, final int fromIndex, final int toIndex, final byte[] pattern) {
+    for (int i = fromIndex; i <= toIndex - pattern.length; ++i) {
+      int j = 0;
+      while (j < pattern.length && bytes[i + j] == pattern[j])
+        ++j;
+
+      if (j == pattern.length)
+        return i;
+    }
+
+    return -1;
+  }
+
+  private static int naiveLastIndexOf(final byte[] bytes, final int fromIndex, final int toIndex, final byte[] pattern) {
+    for (int i = toIndex - pattern.length; i >= fromIndex; --i) {
+      int j = 0;
+      while (j < pattern.length && bytes[i + j] == pattern[j])
+        ++j;
+
+      if (j == pattern.length)
+        return i;
+    }
+
+    return -1;
+  }
+
+  @Test
+  public void testSearcher() throws IOException {
+    try {
+      Bytes.compile();
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    final byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 1, 2, 3, 4, 5, 6, 7};
+    final Bytes.Searcher searcher = Bytes.compile((byte)5, (byte)6, (byte)7);
+    assertEquals(4, searcher.indexOf(bytes));
+    assertEquals(11, searcher.indexOf(bytes, 5));
+    assertEquals(-1, searcher.indexOf(bytes, 12));
+    assertEquals(-1, searcher.indexOf(bytes, 5, 13));
+    assertEquals(11, searcher.lastIndexOf(bytes));
+    assertEquals(4, searcher.lastIndexOf(bytes, 0, 13));
+    assertArrayEquals(new int[] {4, 11}, searcher.indexOfAll(bytes));
+    assertArrayEquals(new int[] {}, searcher.indexOfAll(bytes, 5, 13));
+    assertArrayEquals(new int[] {0, 2}, Bytes.compile((byte)1, (byte)1).indexOfAll(new byte[] {1, 1, 1, 1, 1}));
+
+    // Random sources over a small alphabet, with patterns of 1 to 8 bytes
+    final Random random = new Random(1);
+    for (int t = 0; t < 2000; ++t) {
+      final byte[] src = new byte[random.nextInt(100)];
+      for (int i = 0; i < src.length; ++i)
+        src[i] = (byte)(random.nextInt(3) - 1);
+
+      final byte[] pattern = new byte[1 + random.nextInt(8)];
+      for (int i = 0; i < pattern.length; ++i)
+        pattern[i] = (byte)(random.nextInt(3) - 1);
+
+      final int fromIndex = src.length == 0 ? 0 : random.nextInt(src.length);
+      final int toIndex = fromIndex + random.nextInt(src.length - fromIndex + 1);
+      final Bytes.Searcher s = Bytes.compile(pattern);
+      final int expected = naiveIndexOf(src, fromIndex, toIndex, pattern);
+      final int expectedLast = naiveLastIndexOf(src, fromIndex, toIndex, pattern);
+      assertEquals(expected, s.indexOf(src, fromIndex, toIndex));
+      assertEquals(expectedLast, s.lastIndexOf(src, fromIndex, toIndex));
+
+      final int[] all = s.indexOfAll(src, fromIndex, toIndex);
+      int count = 0;
+      for (int i = fromIndex; (i = naiveIndexOf(src, i, toIndex, pattern)) > -1; i += pattern.length)
+        assertEquals(i, all[count++]);
+
+      assertEquals(count, all.length);
+
+      // Heap buffer with a non-zero array offset, and direct buffers of both byte orders
+      final ByteBuffer heap = ByteBuffer.wrap(new byte[src.length + 3], 3, src.length).slice();
+      heap.put(src).clear();
+      final ByteBuffer direct = ByteBuffer.allocateDirect(src.length).order(t % 2 == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+      direct.put(src).clear();
+      for (final ByteBuffer buf : new ByteBuffer[] {heap, direct}) {
+        assertEquals(expected, s.indexOf(buf, fromIndex, toIndex));
+        assertEquals(expectedLast, s.lastIndexOf(buf, fromIndex, toIndex));
+        assertArrayEquals(all, s.indexOfAll(buf, fromIndex, toIndex));
+        buf.position(fromIndex).limit(toIndex);
+        assertEquals(expected, s.indexOf(buf));
+        assertEquals(expectedLast, s.lastIndexOf(buf));
+        assertArrayEquals(all, s.indexOfAll(buf));
+        assertEquals(fromIndex, buf.position());
+      }
+
+      if (src.length > 2)
+        assertEquals(naiveIndexOf(src, 0, src.length, pattern), Bytes.indexOf(src, 0, pattern));
+    }
+
+    final byte[] large = new byte[100000];
+    Arrays.fill(large, (byte)1);
+    large[99999] = 2;
+    assertEquals(99997, Bytes.indexOf(large, 10, (byte)1, (byte)1, (byte)2));
+    assertEquals(-1, Bytes.indexOf(large, 10, (byte)1, (byte)2, (byte)1));
+
+    final File file = File.createTempFile("bytes", ".bin");
+    file.deleteOnExit();
+    final byte[] data = new byte[10000];
+    final byte[] pattern = {9, 8, 7, 6};
+    System.arraycopy(pattern, 0, data, 5000, pattern.length);
+    Files.write(file.toPath(), data);
+    try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final Bytes.Searcher s = Bytes.compile(pattern);
+      assertEquals(5000, s.indexOf(channel, 0));
+      assertEquals(5000, s.indexOf(channel, 5000));
+      assertEquals(-1, s.indexOf(channel, 5001));
+      assertEquals(-1, s.indexOf(channel, 20000));
+    }
+  }
+
+  @Test
+  public void testMultiSearcher() throws IOException {
+    try {
+      Bytes.compileAll();
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Bytes.compileAll(new byte[] {1}, new byte[0]);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    final byte[] text = "ushers and his hers".getBytes(StandardCharsets.US_ASCII);
+    final Bytes.MultiSearcher searcher = Bytes.compileAll("he".getBytes(StandardCharsets.US_ASCII), "she".getBytes(StandardCharsets.US_ASCII), "his".getBytes(StandardCharsets.US_ASCII), "hers".getBytes(StandardCharsets.US_ASCII), "he".getBytes(StandardCharsets.US_ASCII));
+    assertEquals(5, searcher.size());
+    assertEquals(4, searcher.getLength(3));
+    assertEquals(1, searcher.indexOf(text));
+    assertEquals(11, searcher.indexOf(text, 4, 14));
+    assertEquals(-1, searcher.indexOf(text, 4, 12));
+
+    final StringBuilder matches = new StringBuilder();
+    assertTrue(searcher.search(text, (p, i) -> {
+      matches.append(p).append('@').append(i).append(' ');
+      return true;
+    }));
+    assertEquals("1@1 0@2 4@2 3@2 2@11 0@15 4@15 3@15 ", matches.toString());
+
+    // Stop at the first match, and resume a Session after it
+    final Bytes.MultiSearcher.Session session = searcher.newSession();
+    matches.setLength(0);
+    final int consumed = session.feed(text, 0, text.length, (p, i) -> {
+      matches.append(p).append('@').append(i).append(' ');
+      return false;
+    });
+    assertEquals(4, consumed);
+    assertEquals(4, session.getPosition());
+    assertEquals("1@1 ", matches.toString());
+    assertEquals(text.length - 4, session.feed(ByteBuffer.wrap(text, 4, text.length - 4), (p, i) -> {
+      matches.append(p).append('@').append(i).append(' ');
+      return true;
+    }));
+    assertEquals("1@1 3@2 2@11 0@15 4@15 3@15 ", matches.toString());
+
+    // Random sources over a small alphabet, compared to a search for each pattern
+    final Random random = new Random(1);
+    for (int t = 0; t < 1000; ++t) {
+      final byte[] src = new byte[random.nextInt(200)];
+      for (int i = 0; i < src.length; ++i)
+        src[i] = (byte)(random.nextInt(3) - 1);
+
+      final byte[][] patterns = new byte[1 + random.nextInt(6)][];
+      for (int p = 0; p < patterns.length; ++p) {
+        patterns[p] = new byte[1 + random.nextInt(5)];
+        for (int i = 0; i < patterns[p].length; ++i)
+          patterns[p][i] = (byte)(random.nextInt(3) - 1);
+      }
+
+      final Set<Long> expected = new HashSet<>();
+      int leftmost = -1;
+      for (int p = 0; p < patterns.length; ++p) {
+        for (int i = 0; (i = naiveIndexOf(src, i, src.length, patterns[p])) > -1; ++i) {
+          expected.add((long)p << 32 | i);
+          if (leftmost == -1 || i < leftmost)
+            leftmost = i;
+        }
+      }
+
+      final Bytes.MultiSearcher s = Bytes.compileAll(patterns);
+      assertEquals(leftmost, s.indexOf(src));
+
+      final Set<Long> actual = new HashSet<>();
+      final ByteBuffer direct = ByteBuffer.allocateDirect(src.length);
+      direct.put(src).clear();
+      assertTrue(s.search(direct, (p, i) -> actual.add((long)p << 32 | i)));
+      assertEquals(expected, actual);
+
+      // Feed the source in random chunks, through a stream of buffers
+      actual.clear();
+      final Bytes.MultiSearcher.Session streaming = s.newSession();
+      for (int from = 0, to; from < src.length; from = to) {
+        to = from + 1 + random.nextInt(src.length - from);
+        assertEquals(to - from, streaming.feed(Arrays.copyOfRange(src, from, to), 0, to - from, (p, i) -> actual.add((long)p << 32 | i)));
+      }
+
+      assertEquals(src.length, streaming.getPosition());
+      assertEquals(expected, actual);
+
+      actual.clear();
+      assertTrue(s.search(new ByteArrayInputStream(src), (p, i) -> actual.add((long)p << 32 | i)));
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void testBulkEndian() {
+    final Random random = new Random(1);
+    final long[] longs = new long[37];
+    final int[] ints = new int[37];
+    final short[] shorts = new short[37];
+    for (int i = 0; i < longs.length; ++i) {
+      longs[i] = random.nextLong();
+      ints[i] = random.nextInt();
+      shorts[i] = (short)random.nextInt();
+    }
+
+    for (final boolean isBigEndian : new boolean[] {true, false}) {
+      final ByteOrder order = isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+      final byte[] bytes = new byte[3 + 35 * 8];
+      Bytes.toBytes(longs, 2, bytes, 3, 35, isBigEndian);
+      final ByteBuffer expected = ByteBuffer.wrap(bytes).order(order);
+      for (int i = 0; i < 35; ++i)
+        assertEquals(longs[i + 2], expected.getLong(3 + i * 8));
+
+      final long[] longs2 = new long[longs.length];
+      Bytes.toLongs(bytes, 3, longs2, 2, 35, isBigEndian);
+      assertArrayEquals(Arrays.copyOfRange(longs, 2, 37), Arrays.copyOfRange(longs2, 2, 37));
+
+      Bytes.toBytes(ints, 2, bytes, 3, 35, isBigEndian);
+      for (int i = 0; i < 35; ++i)
+        assertEquals(ints[i + 2], expected.getInt(3 + i * 4));
+
+      final int[] ints2 = new int[ints.length];
+      Bytes.toInts(bytes, 3, ints2, 2, 35, isBigEndian);
+      assertArrayEquals(Arrays.copyOfRange(ints, 2, 37), Arrays.copyOfRange(ints2, 2, 37));
+
+      Bytes.toBytes(shorts, 2, bytes, 3, 35, isBigEndian);
+      for (int i = 0; i < 35; ++i)
+        assertEquals(shorts[i + 2], expected.getShort(3 + i * 2));
+
+      final short[] shorts2 = new short[shorts.length];
+      Bytes.toShorts(bytes, 3, shorts2, 2, 35, isBigEndian);
+      assertArrayEquals(Arrays.copyOfRange(shorts, 2, 37), Arrays.copyOfRange(shorts2, 2, 37));
+
+      // Consistent with the single value conversion
+      final byte[] one = new byte[8];
+      Bytes.toBytes(longs, 5, one, 0, 1, isBigEndian);
+      assertEquals(longs[5], Bytes.toLong(one, 0, isBigEndian));
+
+      for (final ByteBuffer buf : new ByteBuffer[] {ByteBuffer.allocate(400).order(order), ByteBuffer.allocateDirect(400).order(order)}) {
+        buf.position(1);
+        Bytes.toBytes(longs, 1, buf, 36);
+        Bytes.toBytes(ints, 0, buf, 2);
+        Bytes.toBytes(shorts, 0, buf, 3);
+        assertEquals(1 + 36 * 8 + 2 * 4 + 3 * 2, buf.position());
+        assertEquals(longs[1], buf.getLong(1));
+        assertEquals(shorts[2], buf.getShort(buf.position() - 2));
+
+        buf.position(1);
+        Bytes.toLongs(buf, longs2, 1, 36);
+        Bytes.toInts(buf, ints2, 0, 2);
+        Bytes.toShorts(buf, shorts2, 0, 3);
+        assertEquals(1 + 36 * 8 + 2 * 4 + 3 * 2, buf.position());
+        assertArrayEquals(Arrays.copyOfRange(longs, 1, 37), Arrays.copyOfRange(longs2, 1, 37));
+        assertEquals(ints[1], ints2[1]);
+        assertEquals(shorts[2], shorts2[2]);
+      }
+    }
+
+    try {
+      Bytes.toBytes(longs, 0, new byte[8 * 37 - 1], 0, 37, true);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+
+    try {
+      Bytes.toLongs(new byte[8], 0, longs, 36, 2, true);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testVarInt() {
+    assertEquals(1, Bytes.getVarIntSize(0));
+    assertEquals(1, Bytes.getVarIntSize(127));
+    assertEquals(2, Bytes.getVarIntSize(128));
+    assertEquals(5, Bytes.getVarIntSize(-1));
+    assertEquals(10, Bytes.getVarLongSize(-1));
+    assertEquals(9, Bytes.getVarLongSize(Long.MAX_VALUE));
+    final byte[] encoded = new byte[3];
+    assertEquals(2, Bytes.writeVarInt(encoded, 0, 300));
+    assertArrayEquals(new byte[] {(byte)0xAC, 0x02, 0}, encoded);
+
+    assertEquals(0, Bytes.encodeZigZag(0));
+    assertEquals(1, Bytes.encodeZigZag(-1));
+    assertEquals(2, Bytes.encodeZigZag(1));
+    assertEquals(-1, Bytes.encodeZigZag(Integer.MIN_VALUE));
+    assertEquals(-1L, Bytes.encodeZigZag(Long.MIN_VALUE));
+    assertEquals(Integer.MIN_VALUE, Bytes.decodeZigZag(-1));
+    assertEquals(Long.MIN_VALUE, Bytes.decodeZigZag(-1L));
+
+    final Random random = new Random(1);
+    final int[] ints = new int[1000];
+    final long[] longs = new long[ints.length];
+    for (int i = 0; i < ints.length; ++i) {
+      // Values of every bit length
+      ints[i] = random.nextInt() >>> random.nextInt(32);
+      longs[i] = random.nextLong() >>> random.nextInt(64);
+      assertEquals(ints[i], Bytes.decodeZigZag(Bytes.encodeZigZag(ints[i])));
+      assertEquals(longs[i], Bytes.decodeZigZag(Bytes.encodeZigZag(longs[i])));
+    }
+
+    final byte[] bytes = new byte[10 * ints.length + 1];
+    final ByteBuffer buf = ByteBuffer.allocateDirect(bytes.length);
+    for (int i = 0, offset = 1; i < ints.length; ++i) {
+      final int end = Bytes.writeVarInt(bytes, offset, ints[i]);
+      assertEquals(Bytes.getVarIntSize(ints[i]), end - offset);
+      assertEquals(ints[i], Bytes.readVarInt(bytes, offset));
+      buf.clear();
+      Bytes.writeVarInt(buf, ints[i]);
+      assertEquals(end - offset, buf.position());
+      buf.flip();
+      assertEquals(ints[i], Bytes.readVarInt(buf));
+      assertEquals(end - offset, buf.position());
+
+      final int endLong = Bytes.writeVarLong(bytes, offset, longs[i]);
+      assertEquals(Bytes.getVarLongSize(longs[i]), endLong - offset);
+      assertEquals(longs[i], Bytes.readVarLong(bytes, offset));
+      buf.clear();
+      Bytes.writeVarLong(buf, longs[i]);
+      buf.flip();
+      assertEquals(longs[i], Bytes.readVarLong(buf));
+      assertEquals(endLong - offset, buf.position());
+    }
+
+    int end = Bytes.writeVarInts(ints, 0, bytes, 1, ints.length);
+    final int[] ints2 = new int[ints.length];
+    assertEquals(end, Bytes.readVarInts(bytes, 1, ints2, 0, ints.length));
+    assertArrayEquals(ints, ints2);
+
+    end = Bytes.writeVarLongs(longs, 0, bytes, 1, longs.length);
+    final long[] longs2 = new long[longs.length];
+    assertEquals(end, Bytes.readVarLongs(bytes, 1, longs2, 0, longs.length));
+    assertArrayEquals(longs, longs2);
+
+    for (final byte[] malformed : new byte[][] {{(byte)0x80, 0x00}, {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x10}, {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x01}}) {
+      try {
+        Bytes.readVarInt(malformed, 0);
+        fail("Expected IllegalArgumentException");
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    try {
+      Bytes.readVarLong(new byte[] {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x02}, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testGroupVarInt() {
+    final byte[] bytes = new byte[5];
+    assertEquals(5, Bytes.writeGroupVarInts(new int[] {1, 256, 0}, 0, bytes, 0, 3));
+    assertArrayEquals(new byte[] {0b000100, 1, 0, 1, 0}, bytes);
+
+    final Random random = new Random(1);
+    for (int t = 0; t < 200; ++t) {
+      final int[] ints = new int[random.nextInt(100)];
+      for (int i = 0; i < ints.length; ++i)
+        ints[i] = random.nextInt() >>> random.nextInt(32);
+
+      final byte[] encoded = new byte[2 + (ints.length + 3) / 4 + 4 * ints.length];
+      final int end = Bytes.writeGroupVarInts(ints, 0, encoded, 2, ints.length);
+      final int[] decoded = new int[ints.length + 1];
+      assertEquals(end, Bytes.readGroupVarInts(encoded, 2, decoded, 1, ints.length));
+      assertArrayEquals(ints, Arrays.copyOfRange(decoded, 1, decoded.length));
+
+      // Without trailing bytes, so that the last groups are decoded byte by byte
+      final int[] decodedExact = new int[ints.length];
+      assertEquals(end - 2, Bytes.readGroupVarInts(Arrays.copyOfRange(encoded, 2, end), 0, decodedExact, 0, ints.length));
+      assertArrayEquals(ints, decodedExact);
+    }
+  }
+
   @Test
   public void testReplaceAll() {
     byte[] bytes = new byte[] {1, 2, 3, 4, 5, 6, 7};
@@ -80,6 +492,56 @@ public class BytesTest {
     assertArrayEquals(new byte[] {1, 2, 3, 4, 0, 0, 0}, bytes);
   }
 
+  @Test
+  public void testReplaceAllStreaming() throws IOException {
+    final byte[] src = "a--b----c--".getBytes(StandardCharsets.US_ASCII);
+    final Bytes.Searcher searcher = Bytes.compile((byte)'-', (byte)'-');
+    assertArrayEquals("a<>b<><>c<>".getBytes(StandardCharsets.US_ASCII), searcher.replaceAll(src, "<>".getBytes(StandardCharsets.US_ASCII)));
+    assertArrayEquals("abc".getBytes(StandardCharsets.US_ASCII), searcher.replaceAll(src, new byte[0]));
+    final byte[] none = {1, 2, 3};
+    assertSame(none, searcher.replaceAll(none, new byte[0]));
+
+    // Random sources over a small alphabet, read in small chunks to split the occurrences
+    final Random random = new Random(1);
+    for (int t = 0; t < 500; ++t) {
+      final byte[] bytes = new byte[random.nextInt(50000)];
+      for (int i = 0; i < bytes.length; ++i)
+        bytes[i] = (byte)random.nextInt(3);
+
+      final byte[] target = new byte[1 + random.nextInt(6)];
+      for (int i = 0; i < target.length; ++i)
+        target[i] = (byte)random.nextInt(3);
+
+      final byte[] replacement = new byte[random.nextInt(10)];
+      Arrays.fill(replacement, (byte)7);
+
+      final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+      int count = 0, from = 0;
+      for (int i; (i = naiveIndexOf(bytes, from, bytes.length, target)) > -1; from = i + target.length, ++count) {
+        expected.write(bytes, from, i - from);
+        expected.write(replacement);
+      }
+
+      expected.write(bytes, from, bytes.length - from);
+      final int chunk = 1 + random.nextInt(16);
+      final InputStream in = new ByteArrayInputStream(bytes) {
+        @Override
+        public synchronized int read(final byte[] b, final int off, final int len) {
+          return super.read(b, off, Math.min(len, chunk));
+        }
+      };
+
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(count, Bytes.replaceAll(in, out, target, replacement));
+      assertArrayEquals(expected.toByteArray(), out.toByteArray());
+      assertArrayEquals(expected.toByteArray(), Bytes.compile(target).replaceAll(bytes, replacement));
+
+      out.reset();
+      assertEquals(count, Bytes.replaceAll(Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(out), target, replacement));
+      assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+  }
+
   @Test
   public void testShort() {
     final long l = 65535L;
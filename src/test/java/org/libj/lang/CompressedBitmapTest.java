@@ -0,0 +1,226 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CompressedBitmapTest {
+  private static final Random random = new Random(37);
+
+  private static BitSet randomBits() {
+    final BitSet bits = new BitSet();
+    final int chunks = 1 + random.nextInt(4);
+    for (int c = 0; c < chunks; ++c) {
+      final int base = random.nextInt(8) << 16;
+      switch (random.nextInt(4)) {
+        case 0: // sparse
+          for (int i = random.nextInt(100); i > 0; --i)
+            bits.set(base + random.nextInt(1 << 16));
+          break;
+        case 1: // dense
+          for (int i = 0; i < 1 << 16; ++i)
+            if (random.nextInt(4) != 0)
+              bits.set(base + i);
+          break;
+        case 2: // runs
+          for (int i = random.nextInt(20); i > 0; --i) {
+            final int from = base + random.nextInt(1 << 16);
+            bits.set(from, Math.min(base + (1 << 16), from + random.nextInt(5000)));
+          }
+          break;
+        default: // around the array limit
+          for (int i = 0; i < 4090 + random.nextInt(12); ++i)
+            bits.set(base + i * 3);
+      }
+    }
+
+    return bits;
+  }
+
+  private static CompressedBitmap of(final BitSet bits) {
+    final CompressedBitmap bitmap = new CompressedBitmap();
+    bits.stream().forEach(bitmap::set);
+    if (random.nextBoolean())
+      bitmap.runOptimize();
+
+    return bitmap;
+  }
+
+  private static void assertBits(final BitSet expected, final CompressedBitmap actual) {
+    assertEquals(expected.cardinality(), actual.cardinality());
+    assertEquals(expected.length(), actual.length());
+    assertArrayEquals(expected.toLongArray(), actual.toLongArray());
+    assertEquals(expected.isEmpty(), actual.isEmpty());
+    final ArrayList<Integer> list = new ArrayList<>();
+    actual.forEach(list::add);
+    final ArrayList<Integer> expectedList = new ArrayList<>();
+    expected.stream().forEach(expectedList::add);
+    assertEquals(expectedList, list);
+  }
+
+  @Test
+  public void testSetGetClear() {
+    for (int t = 0; t < 30; ++t) {
+      final BitSet bits = randomBits();
+      final CompressedBitmap bitmap = of(bits);
+      assertBits(bits, bitmap);
+      for (int i = 0; i < 2000; ++i) {
+        final int bit = random.nextInt(8 << 16);
+        assertEquals(bits.get(bit), bitmap.get(bit));
+        assertEquals(bits.nextSetBit(bit), bitmap.nextSetBit(bit));
+        if (random.nextBoolean()) {
+          bits.set(bit);
+          bitmap.set(bit);
+        }
+        else {
+          bits.clear(bit);
+          bitmap.clear(bit);
+        }
+      }
+
+      for (int bit = bits.nextSetBit(0), n = 0; bit >= 0 && n < 6000; bit = bits.nextSetBit(bit + 1), ++n) {
+        bits.clear(bit);
+        bitmap.clear(bit);
+      }
+
+      assertBits(bits, bitmap);
+      assertEquals(bits.toString(), bitmap.toString());
+    }
+  }
+
+  @Test
+  public void testSetRange() {
+    for (int t = 0; t < 50; ++t) {
+      final BitSet bits = randomBits();
+      final CompressedBitmap bitmap = of(bits);
+      final int from = random.nextInt(8 << 16);
+      final int to = from + random.nextInt(random.nextBoolean() ? 300000 : 5000);
+      bits.set(from, to);
+      bitmap.set(from, to);
+      assertBits(bits, bitmap);
+    }
+
+    final CompressedBitmap bitmap = new CompressedBitmap();
+    bitmap.set(Integer.MAX_VALUE - (1 << 17), Integer.MAX_VALUE);
+    bitmap.set(Integer.MAX_VALUE);
+    assertEquals(1L << 31, bitmap.length());
+    assertEquals((1 << 17) + 1, bitmap.cardinality());
+    assertTrue(bitmap.serializedSize() < 64);
+  }
+
+  @Test
+  public void testSetOperations() {
+    for (int t = 0; t < 100; ++t) {
+      final BitSet x = randomBits();
+      final BitSet y = randomBits();
+      final CompressedBitmap a = of(x);
+      final CompressedBitmap b = of(y);
+
+      final BitSet or = (BitSet)x.clone();
+      or.or(y);
+      final CompressedBitmap union = of(x);
+      union.or(b);
+      assertBits(or, union);
+
+      final BitSet and = (BitSet)x.clone();
+      and.and(y);
+      final CompressedBitmap intersection = of(x);
+      intersection.and(b);
+      assertBits(and, intersection);
+
+      final BitSet andNot = (BitSet)x.clone();
+      andNot.andNot(y);
+      final CompressedBitmap difference = of(x);
+      difference.andNot(b);
+      assertBits(andNot, difference);
+
+      // The operands are not modified
+      assertBits(x, a);
+      assertBits(y, b);
+    }
+  }
+
+  @Test
+  public void testOrEmpty() {
+    final CompressedBitmap a = new CompressedBitmap();
+    a.or(new CompressedBitmap());
+    final BitSet bits = new BitSet();
+    for (int i = 0; i < 10; ++i) {
+      a.set(i << 16);
+      bits.set(i << 16);
+    }
+
+    assertBits(bits, a);
+
+    final CompressedBitmap b = of(bits);
+    b.clear();
+    b.or(new CompressedBitmap());
+    b.set(5);
+    b.set(1 << 20);
+    assertEquals("{5, 1048576}", b.toString());
+  }
+
+  @Test
+  public void testLongArray() {
+    for (int t = 0; t < 30; ++t) {
+      final BitSet bits = randomBits();
+      final long[] buf = bits.toLongArray();
+      final CompressedBitmap bitmap = CompressedBitmap.valueOf(buf);
+      assertBits(bits, bitmap);
+      assertEquals(of(bits), bitmap);
+      assertEquals(of(bits).hashCode(), bitmap.hashCode());
+    }
+
+    assertTrue(CompressedBitmap.valueOf(new long[3]).isEmpty());
+    assertEquals(0, new CompressedBitmap().toLongArray().length);
+  }
+
+  @Test
+  public void testSerialize() {
+    for (int t = 0; t < 30; ++t) {
+      final BitSet bits = randomBits();
+      final CompressedBitmap bitmap = of(bits);
+      final ByteBuffer buf = ByteBuffer.allocate(bitmap.serializedSize() + 3);
+      if (random.nextBoolean())
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+
+      buf.put((byte)7);
+      bitmap.serialize(buf);
+      assertEquals(bitmap.serializedSize() + 1, buf.position());
+      buf.position(1);
+      final CompressedBitmap deserialized = CompressedBitmap.deserialize(buf);
+      assertEquals(bitmap.serializedSize() + 1, buf.position());
+      assertEquals(bitmap, deserialized);
+      assertBits(bits, deserialized);
+    }
+
+    try {
+      CompressedBitmap.deserialize(ByteBuffer.wrap(new byte[] {0, 0, 0, 1, 0, 0, 9}));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
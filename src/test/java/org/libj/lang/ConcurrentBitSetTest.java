@@ -0,0 +1,114 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class ConcurrentBitSetTest {
+  private static final Random random = new Random(5);
+
+  private static void assertBits(final BitSet expected, final ConcurrentBitSet actual) {
+    assertEquals(expected.cardinality(), actual.cardinality());
+    assertEquals(expected.length(), actual.length());
+    assertArrayEquals(expected.toLongArray(), actual.toLongArray());
+    for (int i = 0; i < actual.size(); ++i) {
+      assertEquals(expected.get(i), actual.get(i));
+      assertEquals(expected.nextSetBit(i), actual.nextSetBit(i));
+    }
+
+    final BitSet each = new BitSet();
+    actual.forEachSetBit(each::set);
+    assertEquals(expected, each);
+  }
+
+  @Test
+  public void testSetGetClear() {
+    for (final int stripes : new int[] {1, 2, 8, 16, 64}) {
+      final ConcurrentBitSet bits = new ConcurrentBitSet(1000, stripes);
+      assertEquals(1024, bits.size());
+      final BitSet expected = new BitSet();
+      for (int i = 0; i < 5000; ++i) {
+        final int bit = random.nextInt(1024);
+        if (random.nextBoolean()) {
+          assertEquals(expected.get(bit), bits.getAndSet(bit));
+          expected.set(bit);
+        }
+        else {
+          assertEquals(expected.get(bit), bits.getAndClear(bit));
+          expected.clear(bit);
+        }
+      }
+
+      assertBits(expected, bits);
+      assertEquals(-1, bits.nextSetBit(1024));
+      bits.clear();
+      assertBits(new BitSet(), bits);
+    }
+
+    final ConcurrentBitSet bits = new ConcurrentBitSet(64);
+    try {
+      bits.get(64);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+
+    try {
+      new ConcurrentBitSet(64, 3);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new ConcurrentBitSet(64, 1 << 30);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testConcurrent() {
+    final int nbits = 1 << 18;
+    for (final int stripes : new int[] {1, 16}) {
+      final ConcurrentBitSet bits = new ConcurrentBitSet(nbits, stripes);
+      final AtomicInteger winners = new AtomicInteger();
+      IntStream.range(0, nbits * 4).parallel().forEach(i -> {
+        if (!bits.getAndSet((i * 31) & (nbits - 1)))
+          winners.incrementAndGet();
+      });
+
+      assertEquals(nbits, winners.get());
+      assertEquals(nbits, bits.cardinality());
+
+      IntStream.range(0, nbits).parallel().filter(i -> i % 3 != 0).forEach(bits::clear);
+      final BitSet expected = new BitSet();
+      for (int i = 0; i < nbits; i += 3)
+        expected.set(i);
+
+      assertBits(expected, bits);
+    }
+  }
+}
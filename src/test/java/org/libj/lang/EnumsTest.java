@@ -18,6 +18,9 @@ package org.libj.lang;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.junit.Test;
 
 public class EnumsTest {
@@ -25,10 +28,84 @@ public class EnumsTest {
     APPLE, ORANGE, WATERMELLON
   }
 
+  private enum Big {
+    C00, C01, C02, C03, C04, C05, C06, C07, C08, C09, C10, C11, C12, C13, C14, C15, C16, C17, C18,
+    C19, C20, C21, C22, C23, C24, C25, C26, C27, C28, C29, C30, C31, C32, C33, C34, C35, C36, C37,
+    C38, C39, C40, C41, C42, C43, C44, C45, C46, C47, C48, C49, C50, C51, C52, C53, C54, C55, C56,
+    C57, C58, C59, C60, C61, C62, C63, C64, C65, C66, C67, C68, C69
+  }
+
   @Test
   public void testEnums() {
     assertArrayEquals(new Fruit[] {Fruit.ORANGE, Fruit.WATERMELLON, Fruit.APPLE}, Enums.valueOf(Fruit.class, "ORANGE", "WATERMELLON", "TOMATO", "APPLE"));
     assertArrayEquals(new Fruit[] {}, Enums.valueOf(Fruit.class, "POTATO", "TOMATO", "CHICKEN"));
     assertArrayEquals(new Fruit[] {}, Enums.valueOf(Fruit.class));
   }
+
+  @Test
+  public void testValues() {
+    assertArrayEquals(Fruit.values(), Enums.values(Fruit.class));
+    final Fruit[] values = Enums.values(Fruit.class);
+    assertNotSame(values, Enums.values(Fruit.class));
+    values[0] = null;
+    assertArrayEquals(Fruit.values(), Enums.values(Fruit.class));
+  }
+
+  @Test
+  public void testMask() {
+    assertEquals(0b101, Enums.Mask.set(0, Fruit.APPLE, Fruit.WATERMELLON));
+    assertEquals(0b101, Enums.Mask.set(Enums.Mask.set(0, Fruit.APPLE), Fruit.WATERMELLON));
+    assertEquals(0b101, Enums.Mask.set(0, Fruit.APPLE, Fruit.WATERMELLON, Fruit.APPLE));
+    assertEquals((byte)0b001, Enums.Mask.unset((byte)0b111, Fruit.ORANGE, Fruit.WATERMELLON));
+    assertEquals((short)0b110, Enums.Mask.unset((short)0b111, Fruit.APPLE));
+    assertEquals(0b010, Enums.Mask.unset(0b111, new Fruit[] {Fruit.APPLE, Fruit.WATERMELLON}));
+    assertEquals(0b011, Enums.Mask.toggle(0b110, Fruit.APPLE, Fruit.WATERMELLON));
+    assertEquals(0b111L, Enums.Mask.toggle(0b110L, Fruit.APPLE));
+
+    final long mask = Enums.Mask.set(0L, Big.C02, Big.C40, Big.C63);
+    assertEquals(1L << 2 | 1L << 40 | 1L << 63, mask);
+    assertTrue(Enums.Mask.check(mask, Big.C40));
+    assertFalse(Enums.Mask.check(mask, Big.C08));
+    assertEquals(1L << 2 | 1L << 63, Enums.Mask.unset(mask, Big.C40));
+    assertArrayEquals(new Big[] {Big.C02, Big.C40, Big.C63}, Enums.Mask.toArray(mask, Enums.values(Big.class)));
+    assertArrayEquals(new Fruit[] {Fruit.APPLE, Fruit.WATERMELLON}, Enums.Mask.toArray((byte)0b101, Fruit.values()));
+    assertArrayEquals(new Fruit[] {}, Enums.Mask.toArray(0, Fruit.values()));
+
+    final ArrayList<Big> list = new ArrayList<>();
+    Enums.Mask.forEach(mask, Enums.values(Big.class), list::add);
+    assertEquals(Arrays.asList(Big.C02, Big.C40, Big.C63), list);
+
+    try {
+      Enums.Mask.toArray(0b1000, Fruit.values());
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testLongArrayMask() {
+    final Big[] values = Enums.values(Big.class);
+    final long[] mask = new long[(values.length + Long.SIZE - 1) / Long.SIZE];
+    assertSame(mask, Enums.Mask.set(mask, Big.C01, Big.C64));
+    Enums.Mask.set(mask, Big.C69);
+    Enums.Mask.set(mask, Big.C10, Big.C20, Big.C30);
+    assertTrue(Enums.Mask.check(mask, Big.C64));
+    assertTrue(Enums.Mask.check(mask, 69));
+    assertFalse(Enums.Mask.check(mask, Big.C65));
+    Enums.Mask.unset(mask, Big.C20);
+    Enums.Mask.toggle(mask, Big.C30, Big.C31);
+    assertArrayEquals(new Big[] {Big.C01, Big.C10, Big.C31, Big.C64, Big.C69}, Enums.Mask.toArray(mask, values));
+
+    final ArrayList<Big> list = new ArrayList<>();
+    Enums.Mask.forEach(mask, values, list::add);
+    assertEquals(Arrays.asList(Big.C01, Big.C10, Big.C31, Big.C64, Big.C69), list);
+
+    try {
+      Enums.Mask.set(new long[1], Big.C64);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
 }
\ No newline at end of file
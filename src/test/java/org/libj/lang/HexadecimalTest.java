@@ -18,6 +18,21 @@ package org.libj.lang;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Test;
 
 public class HexadecimalTest {
@@ -85,4 +100,176 @@ public class HexadecimalTest {
     testBytesToHex(new byte[] {0x12, 0x35, 0x57, 0x32, 0x57, 0x78, 0x12, 0x35, 0x57, 0x32, 0x57, 0x78});
     testBytesToHex(new byte[] {0x12, 0x35, 0x57, 0x32, 0x57, 0x78, 0x12, 0x35, 0x57, 0x32, 0x57, 0x78, 0x12, 0x35, 0x57, 0x32, 0x57, 0x78, 0x12, 0x35, 0x57, 0x32, 0x57, 0x78});
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testEncodeInto() {
+    final byte[] bytes = new byte[256];
+    for (int i = 0; i < bytes.length; ++i)
+      bytes[i] = (byte)i;
+
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < bytes.length; ++i)
+      expected.append(String.format("%02x", i));
+
+    final String lower = expected.toString();
+    final String upper = lower.toUpperCase();
+    assertEquals(lower, Hexadecimal.encode(bytes));
+    assertEquals(upper, Hexadecimal.encode(bytes, true));
+    assertEquals(upper.substring(2, 8), Hexadecimal.encode(bytes, 1, 3, true));
+
+    final char[] chars = new char[514];
+    assertEquals(514, Hexadecimal.encode(bytes, 0, 256, chars, 2, false));
+    assertEquals(lower, new String(chars, 2, 512));
+
+    final byte[] ascii = new byte[513];
+    assertEquals(513, Hexadecimal.encode(bytes, 0, 256, ascii, 1, true));
+    assertEquals(upper, new String(ascii, 1, 512, StandardCharsets.US_ASCII));
+
+    for (final ByteBuffer buf : new ByteBuffer[] {ByteBuffer.allocate(520), ByteBuffer.allocateDirect(520).order(ByteOrder.LITTLE_ENDIAN)}) {
+      buf.position(3);
+      Hexadecimal.encode(bytes, 0, 256, buf, false);
+      assertEquals(515, buf.position());
+      final byte[] out = new byte[512];
+      buf.position(3);
+      buf.get(out);
+      assertEquals(lower, new String(out, StandardCharsets.US_ASCII));
+    }
+
+    try {
+      Hexadecimal.encode(bytes, 0, 256, ByteBuffer.allocate(511), false);
+      fail("Expected BufferOverflowException");
+    }
+    catch (final BufferOverflowException e) {
+    }
+  }
+
+  @Test
+  public void testDecodeFrom() {
+    final byte[] expected = {0x01, 0x23, 0x45, 0x67, (byte)0x89, (byte)0xab, (byte)0xcd, (byte)0xef};
+    final String hex = "x0123456789aBcDeFx";
+    final byte[] dest = new byte[9];
+    assertEquals(9, Hexadecimal.decode(hex, 1, 17, dest, 1));
+    assertArrayEquals(expected, Arrays.copyOfRange(dest, 1, 9));
+
+    Arrays.fill(dest, (byte)0);
+    assertEquals(8, Hexadecimal.decode(hex.toCharArray(), 1, 16, dest, 0));
+    assertArrayEquals(expected, Arrays.copyOf(dest, 8));
+
+    Arrays.fill(dest, (byte)0);
+    assertEquals(8, Hexadecimal.decode(hex.getBytes(StandardCharsets.US_ASCII), 1, 16, dest, 0));
+    assertArrayEquals(expected, Arrays.copyOf(dest, 8));
+
+    // U+0130 has the low byte of '0', and U+0101 the low byte of a non-digit
+    for (final String illegal : new String[] {"0g", "g0", "\u01300", "0\u0101", "-1"}) {
+      try {
+        Hexadecimal.decode(illegal, 0, 2, dest, 0);
+        fail("Expected IllegalArgumentException: " + illegal);
+      }
+      catch (final IllegalArgumentException e) {
+        assertTrue(e.getMessage().startsWith("Illegal hexadecimal character"));
+      }
+
+      try {
+        Hexadecimal.decode(illegal.toCharArray(), 0, 2, dest, 0);
+        fail("Expected IllegalArgumentException: " + illegal);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    try {
+      Hexadecimal.decode(new byte[] {'0', (byte)0xb0}, 0, 2, dest, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Hexadecimal.decode("012", 0, 3, dest, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Hexadecimal.decode("0123", 0, 4, dest, 8);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testStreams() throws IOException {
+    final Random random = new Random(3);
+    for (int i = 0; i < 300; ++i) {
+      final byte[] data = new byte[random.nextInt(i * 70 + 1)];
+      random.nextBytes(data);
+      final boolean upperCase = random.nextBoolean();
+      final String expected = Hexadecimal.encode(data, upperCase);
+
+      final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+      try (final OutputStream out = Hexadecimal.newEncoder(buf, upperCase)) {
+        for (int off = 0, n; off < data.length; off += n) {
+          n = Math.min(data.length - off, random.nextInt(12));
+          if (n == 1)
+            out.write(data[off]);
+          else
+            out.write(data, off, n);
+        }
+      }
+
+      assertEquals(expected, new String(buf.toByteArray(), StandardCharsets.US_ASCII));
+
+      final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+      try (final InputStream in = Hexadecimal.newDecoder(new ByteArrayInputStream(buf.toByteArray()))) {
+        final byte[] b = new byte[13];
+        for (int n;;) {
+          if (random.nextInt(4) == 0) {
+            if ((n = in.read()) == -1)
+              break;
+
+            decoded.write(n);
+          }
+          else {
+            if ((n = in.read(b, 0, 1 + random.nextInt(b.length))) == -1)
+              break;
+
+            decoded.write(b, 0, n);
+          }
+        }
+      }
+
+      assertArrayEquals(data, decoded.toByteArray());
+    }
+
+    for (final String illegal : new String[] {"0123g5", "01234"}) {
+      try (final InputStream in = Hexadecimal.newDecoder(new ByteArrayInputStream(illegal.getBytes(StandardCharsets.US_ASCII)))) {
+        while (in.read() != -1);
+        fail("Expected IOException: " + illegal);
+      }
+      catch (final IOException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testChannels() throws IOException {
+    final byte[] data = new byte[100003];
+    new Random(5).nextBytes(data);
+    final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+    try (final WritableByteChannel out = Hexadecimal.newEncoder(Channels.newChannel(buf), false)) {
+      out.write(ByteBuffer.wrap(data));
+    }
+
+    assertEquals(Hexadecimal.encode(data), new String(buf.toByteArray(), StandardCharsets.US_ASCII));
+
+    final ByteBuffer decoded = ByteBuffer.allocate(data.length + 1);
+    try (final ReadableByteChannel in = Hexadecimal.newDecoder(Channels.newChannel(new ByteArrayInputStream(buf.toByteArray())))) {
+      while (in.read(decoded) != -1);
+    }
+
+    assertEquals(data.length, decoded.position());
+    assertArrayEquals(data, Arrays.copyOf(decoded.array(), data.length));
+  }
+}
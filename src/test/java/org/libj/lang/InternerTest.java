@@ -0,0 +1,224 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class InternerTest {
+  @Test
+  public void testWeak() {
+    final Interner<String> interner = Interner.newWeakInterner();
+    final String a = "hello world";
+    assertSame(a, interner.intern(a));
+    assertSame(a, interner.intern(new String("hello world")));
+    assertEquals(1, interner.getMissCount());
+    assertEquals(1, interner.getHitCount());
+    assertEquals(1, interner.size());
+
+    try {
+      interner.intern(null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+
+    final ArrayList<String> strong = new ArrayList<>();
+    for (int i = 0; i < 10000; ++i)
+      strong.add(interner.intern(String.valueOf(i)));
+
+    for (int i = 0; i < 10000; ++i)
+      assertSame(strong.get(i), interner.intern(String.valueOf(i)));
+
+    assertEquals(10001, interner.size());
+    strong.clear();
+    for (int i = 0; i < 20 && interner.size() > 1; ++i)
+      System.gc();
+
+    assertTrue(String.valueOf(interner.size()), interner.size() < 10001);
+    assertSame(a, interner.intern(new String("hello world")));
+
+    interner.clear();
+    assertEquals(0, interner.size());
+  }
+
+  @Test
+  public void testWeakExpunge() {
+    final Interner<String> interner = Interner.newWeakInterner();
+    final ArrayList<String> strong = new ArrayList<>();
+    for (int i = 0; i < 20000; ++i) {
+      final String value = interner.intern(String.valueOf(i));
+      if (i % 2 == 0)
+        strong.add(value);
+    }
+
+    for (int i = 0; i < 20 && interner.size() > strong.size(); ++i)
+      System.gc();
+
+    for (int i = 20000; i < 30000; ++i)
+      interner.intern(String.valueOf(i));
+
+    assertTrue(String.valueOf(interner.size()), interner.size() <= 20000);
+    for (int i = 0; i < strong.size(); ++i)
+      assertSame(strong.get(i), interner.intern(String.valueOf(i * 2)));
+  }
+
+  @Test
+  public void testBounded() {
+    try {
+      Interner.newBoundedInterner(0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    final Interner<String> interner = Interner.newBoundedInterner(64);
+    final String a = "hello world";
+    assertSame(a, interner.intern(a));
+    assertSame(a, interner.intern(new String("hello world")));
+
+    for (int i = 0; i < 10000; ++i)
+      interner.intern(String.valueOf(i));
+
+    assertTrue(String.valueOf(interner.size()), interner.size() <= 64);
+    assertEquals(10002, interner.getMissCount() + interner.getHitCount());
+
+    interner.clear();
+    assertEquals(0, interner.size());
+  }
+
+  @Test
+  public void testConcurrent() throws InterruptedException {
+    final Interner<String> interner = Interner.newWeakInterner();
+    final String[][] results = new String[8][1000];
+    final AtomicInteger index = new AtomicInteger();
+    final Thread[] threads = new Thread[results.length];
+    for (int i = 0; i < threads.length; ++i) {
+      threads[i] = new Thread(() -> {
+        final String[] result = results[index.getAndIncrement()];
+        for (int j = 0; j < result.length; ++j)
+          result[j] = interner.intern(String.valueOf(j));
+      });
+      threads[i].start();
+    }
+
+    for (final Thread thread : threads)
+      thread.join();
+
+    for (int i = 1; i < results.length; ++i)
+      for (int j = 0; j < results[i].length; ++j)
+        assertSame(results[0][j], results[i][j]);
+  }
+
+  private static final class MapInterner<T> extends Interner<T> {
+    private final HashMap<Integer,ArrayList<T>> map = new HashMap<>();
+
+    @Override
+    protected synchronized T get(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+      final ArrayList<T> values = map.get(hash);
+      if (values != null)
+        for (final T value : values)
+          if (matcher.matches(value, key, offset, length))
+            return value;
+
+      return null;
+    }
+
+    @Override
+    protected synchronized T put(final int hash, final Object key, final int offset, final int length, final Matcher<T> matcher) {
+      final T existing = get(hash, key, offset, length, matcher);
+      if (existing != null)
+        return existing;
+
+      final T value = matcher.create(key, offset, length);
+      map.computeIfAbsent(hash, k -> new ArrayList<>()).add(value);
+      return value;
+    }
+
+    @Override
+    public synchronized int size() {
+      return map.values().stream().mapToInt(ArrayList::size).sum();
+    }
+
+    @Override
+    public synchronized void clear() {
+      map.clear();
+    }
+  }
+
+  @Test
+  public void testSetInterner() {
+    final Interner<String> strings = Strings.getInterner();
+    final Interner<BigInteger> bigIntegers = BigIntegers.getInterner();
+    final Interner<BigDecimal> bigDecimals = BigDecimals.getInterner();
+    try {
+      final MapInterner<String> custom = new MapInterner<>();
+      Strings.setInterner(custom);
+      assertSame(custom, Strings.getInterner());
+      final String a = Strings.intern(new String("abc"));
+      assertSame(a, Strings.intern(new String("abc")));
+      assertSame(a, Strings.intern("xabcx".toCharArray(), 1, 3));
+      assertSame(a, Strings.intern(new StringBuilder("xabcx"), 1, 4));
+      assertEquals(1, custom.size());
+
+      final Interner<BigInteger> bounded = Interner.newBoundedInterner(64);
+      BigIntegers.setInterner(bounded);
+      assertSame(BigIntegers.TEN, BigIntegers.intern(BigInteger.valueOf(10)));
+      assertSame(BigIntegers.ONE, BigIntegers.intern("1"));
+
+      BigDecimals.setInterner(new MapInterner<>());
+      assertSame(BigDecimals.TWO, BigDecimals.intern(BigDecimal.valueOf(2)));
+      assertSame(BigDecimals.TWO, BigDecimals.intern("2"));
+      assertSame(BigDecimals.TWO, BigDecimals.intern(2L));
+      assertSame(BigDecimals.TWO, BigDecimals.intern(2d));
+
+      final MapInterner<BigDecimal> seeded = new MapInterner<>();
+      final BigDecimal two = seeded.intern(new BigDecimal("2"));
+      BigDecimals.setInterner(seeded);
+      assertSame(two, BigDecimals.intern("2"));
+      assertSame(BigDecimals.ONE, BigDecimals.intern(1L));
+
+      try {
+        BigDecimals.setInterner(null);
+        fail("Expected NullPointerException");
+      }
+      catch (final NullPointerException e) {
+      }
+
+      assertSame(seeded, BigDecimals.getInterner());
+
+      try {
+        Strings.setInterner(null);
+        fail("Expected NullPointerException");
+      }
+      catch (final NullPointerException e) {
+      }
+    }
+    finally {
+      Strings.setInterner(strings);
+      BigIntegers.setInterner(bigIntegers);
+      BigDecimals.setInterner(bigDecimals);
+    }
+  }
+}
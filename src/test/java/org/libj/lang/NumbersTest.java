@@ -19,8 +19,13 @@ package org.libj.lang;
 import static org.junit.Assert.*;
 import static org.libj.lang.Numbers.Unsigned.*;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -234,6 +239,7 @@ public class NumbersTest {
   public void testParseNumber() {
     assertEquals(2.5, Numbers.parseNumber("2 1/2"), 0);
     assertEquals(2.75, Numbers.parseNumber("2 3/4"), 0);
+    assertEquals(2.75, Numbers.parseNumber(new StringBuilder("2 3/4")), 0);
 
     assertEquals(0, Numbers.parseNumber("0"), 0);
     assertEquals(299792458, Numbers.parseNumber(" 299792458"), 0);
@@ -261,6 +267,24 @@ public class NumbersTest {
     assertEquals(Double.NaN, Numbers.parseNumber("-6.626068E-3-4 "), 0);
     assertEquals(Double.NaN, Numbers.parseNumber("-6.626068E-3.4"), 0);
     assertEquals(Double.NaN, Numbers.parseNumber("-6.626E068E-34"), 0);
+
+    assertEquals(2.8125, Numbers.parseNumber("2 13/16"), 0);
+    assertEquals(0.75, Numbers.parseNumber("[3/4]", 1, 4), 0);
+    assertEquals(2.75, Numbers.parseNumber("x2 3/4x".toCharArray(), 1, 6), 0);
+    assertEquals(-6.022E23, Numbers.parseNumber(" -6.022E23;".getBytes(), 0, 10), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber("1 2/3", 0, 3), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber((byte[])null, 0, 0), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber("-"), 0);
+    assertEquals(-1.5, Numbers.parseNumber("-1 1/2"), 0);
+    assertEquals(-0.75, Numbers.parseNumber("-3/4"), 0);
+    assertEquals(1.2345678901234567e-5, Numbers.parseNumber("0.000012345678901234567890123"), 0);
+    assertEquals(12345678901234567890.5 + 0.5, Numbers.parseNumber("12345678901234567890.5 1/2"), 0);
+    assertEquals(Double.POSITIVE_INFINITY, Numbers.parseNumber("1/0"), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber("1.5/2"), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber("1/2/3"), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber("1 2/3/4"), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber("1/-2"), 0);
+    assertEquals(Double.NaN, Numbers.parseNumber("."), 0);
   }
 
   @Test
@@ -278,6 +302,7 @@ public class NumbersTest {
     assertTrue(Numbers.isNumber("-6.6991202137503775E+18"));
     assertTrue(Numbers.isNumber("-6.6991202137503775E-18"));
     assertTrue(Numbers.isNumber("3/5"));
+    assertTrue(Numbers.isNumber(new StringBuilder("2 3/4")));
 
     assertFalse(Numbers.isNumber(null));
     assertFalse(Numbers.isNumber(""));
@@ -295,6 +320,19 @@ public class NumbersTest {
     assertFalse(Numbers.isNumber("-6.626068E-3-4 "));
     assertFalse(Numbers.isNumber("-6.626068E-3.4"));
     assertFalse(Numbers.isNumber("-6.626E068E-34"));
+
+    assertTrue(Numbers.isNumber("[3/4]", 1, 4));
+    assertTrue(Numbers.isNumber("x2 3/4x".toCharArray(), 1, 6));
+    assertTrue(Numbers.isNumber(" -6.022E23;".getBytes(), 0, 10));
+    assertFalse(Numbers.isNumber("1 2/3", 0, 3));
+    assertFalse(Numbers.isNumber("1  2/3".toCharArray(), 0, 6));
+    assertFalse(Numbers.isNumber((char[])null, 0, 0));
+    assertTrue(Numbers.isNumber("0/0"));
+    assertTrue(Numbers.isNumber(".5E+3"));
+    assertFalse(Numbers.isNumber("E5"));
+    assertFalse(Numbers.isNumber("1e5"));
+    assertFalse(Numbers.isNumber("-"));
+    assertFalse(Numbers.isNumber("1 2.5/3"));
   }
 
   @Test
@@ -304,6 +342,106 @@ public class NumbersTest {
     assertEquals("0.008333333333", Numbers.toString(0.008333333333000000, 14));
   }
 
+  private static String toChars(final double n, final int decimals) throws IOException {
+    final char[] cbuf = new char[decimals < 0 ? 32 : 400];
+    final int len = decimals < 0 ? Numbers.toChars(n, cbuf, 1) : Numbers.toChars(n, decimals, cbuf, 1);
+    final String str = new String(cbuf, 1, len);
+
+    final byte[] buf = new byte[cbuf.length];
+    assertEquals(str, len, decimals < 0 ? Numbers.toChars(n, buf, 0) : Numbers.toChars(n, decimals, buf, 0));
+    assertEquals(str, new String(buf, 0, len));
+
+    final StringBuilder builder = new StringBuilder("x");
+    assertEquals(str, len, decimals < 0 ? Numbers.toChars(n, builder) : Numbers.toChars(n, decimals, builder));
+    assertEquals("x" + str, builder.toString());
+    return str;
+  }
+
+  @Test
+  public void testToChars() throws IOException {
+    final char[] cbuf = new char[20];
+    for (final long n : new long[] {0, 7, -7, 10, 99999999, 100000000, -100000000, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+      assertEquals(Long.toString(n), new String(cbuf, 0, Numbers.toChars(n, cbuf, 0)));
+      assertEquals(Integer.toString((int)n), new String(cbuf, 0, Numbers.toChars((int)n, cbuf, 0)));
+    }
+
+    for (int i = 0; i < 100000; ++i) {
+      final long n = random.nextLong() >> random.nextInt(64);
+      final StringBuilder builder = new StringBuilder();
+      assertEquals(Long.toString(n).length(), Numbers.toChars(n, builder));
+      assertEquals(Long.toString(n), builder.toString());
+      final byte[] buf = new byte[11];
+      assertEquals(Integer.toString((int)n), new String(buf, 0, Numbers.toChars((int)n, buf, 0)));
+    }
+
+    assertEquals("0.0", toChars(0d, -1));
+    assertEquals("-0.0", toChars(-0d, -1));
+    assertEquals("NaN", toChars(Double.NaN, -1));
+    assertEquals("-Infinity", toChars(Double.NEGATIVE_INFINITY, -1));
+    assertEquals("1.0", toChars(1d, -1));
+    assertEquals("1.0E7", toChars(1e7, -1));
+    assertEquals("9999999.0", toChars(9999999d, -1));
+    assertEquals("0.001", toChars(0.001, -1));
+    assertEquals("1.0E-4", toChars(0.0001, -1));
+    assertEquals("1.0E23", toChars(1e23, -1));
+    assertEquals("2.0E23", toChars(2e23, -1));
+    assertEquals("4.9E-324", toChars(Double.MIN_VALUE, -1));
+    assertEquals("1.7976931348623157E308", toChars(Double.MAX_VALUE, -1));
+    assertEquals("-123.456", toChars(-123.456, -1));
+
+    // Shortest digits, where Double.toString before Java 19 writes more digits
+    assertEquals("1.0E23", toChars(1.0E23, -1));
+    assertEquals("8.41E21", toChars(8.41E21, -1));
+    assertEquals("2.82879384806159E17", toChars(2.82879384806159E17, -1));
+    assertEquals("7.075313976683532E17", toChars(Double.longBitsToDouble(4873918786231790185L), -1));
+    assertEquals("-1.6452825189832753E18", toChars(Double.longBitsToDouble(-4344050355200120717L), -1));
+    assertEquals("1.9400994884341945E25", toChars(1.9400994884341945E25, -1));
+
+    for (int i = 0; i < 100000; ++i) {
+      final double n = Double.longBitsToDouble(random.nextLong());
+      if (Double.isNaN(n))
+        continue;
+
+      final String str = toChars(n, -1);
+      assertEquals(str, Double.doubleToLongBits(n), Double.doubleToLongBits(Double.parseDouble(str)));
+      if (Double.isInfinite(n) || n == 0)
+        continue;
+
+      // No decimal of one digit fewer rounds to n
+      final BigDecimal decimal = new BigDecimal(str).stripTrailingZeros();
+      if (decimal.precision() > 2) {
+        final BigDecimal floor = decimal.round(new MathContext(decimal.precision() - 1, RoundingMode.FLOOR));
+        assertTrue(str, floor.doubleValue() != n);
+        assertTrue(str, floor.add(floor.ulp()).doubleValue() != n);
+      }
+    }
+
+    assertEquals("0.00", toChars(-0.001, 2));
+    assertEquals("1.01", toChars(1.005, 2));
+    assertEquals("-2", toChars(-1.5, 0));
+    assertEquals("100.000", toChars(99.9996, 3));
+    assertEquals("0.0000000001", toChars(1e-10, 10));
+    assertEquals("100000000000000000000.0", toChars(1e20, 1));
+    assertEquals("Infinity", toChars(Double.POSITIVE_INFINITY, 2));
+    assertEquals("282879384806159000", toChars(2.82879384806159E17, 0));
+    assertEquals("8410000000000000000000.00", toChars(8.41E21, 2));
+    for (int i = 0; i < 100000; ++i) {
+      final double n = i % 2 == 0 ? random.nextInt() / Math.pow(10, random.nextInt(12)) : Double.longBitsToDouble(random.nextLong()) % 1e20;
+      if (Double.isNaN(n))
+        continue;
+
+      final int decimals = random.nextInt(12);
+      assertEquals(String.valueOf(n), new BigDecimal(toChars(n, -1)).setScale(decimals, RoundingMode.HALF_UP).toPlainString(), toChars(n, decimals));
+    }
+
+    try {
+      Numbers.toChars(1d, -1, cbuf, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
   @Test
   public void testPrecision() {
     assertEquals(3, Numbers.precision(349));
@@ -457,6 +595,149 @@ public class NumbersTest {
     }
   }
 
+  private static final String[] invalidFloats = {"", " ", "-", "+", ".", "e1", "1e", "1e+", "--1", "1.2.3", "1f2", "1dd", "nan", "infinity", "-NaNx", "0x", "0x.p1", "0x1", "0x1p", "0x1.8p+", "1 2", "١", "1\u00A0"};
+  private static final String[] validFloats = {"0", "-0", "+0", "0.0", "-0.0", ".5", "5.", "1e0", "1E+2", "1e-2", "  3.25\t", "3.25f", "3.25D", "NaN", "+NaN", "Infinity", "-Infinity", "0x1.8p3", "0X.8P-1f", "1.7976931348623157e308", "1.7976931348623159e308", "4.9e-324", "2.4703282292062328e-324", "2.2250738585072011e-308", "2.2250738585072012e-308", "9007199254740993", "9007199254740992.9999999999999999999", "123456789012345678901234567890", "0.000000000000000000000000000001", "3.4028235e38", "3.4028236e38", "1.4e-45", "7.006492321624085e-46", "1.17549435E-38", "16777217", "1e400", "-1e-400", "00000000000000000000000000001.5"};
+
+  private static void assertParseDouble(final String s) {
+    final Double expected = Double.parseDouble(s);
+    assertEquals(s, expected, Numbers.parseDouble(s));
+    assertEquals(s, expected, Numbers.parseDouble((CharSequence)s));
+    assertEquals(s, expected, Numbers.parseDouble(s, Double.MIN_VALUE), 0);
+    assertEquals(s, expected, Numbers.parseDouble(s.toCharArray(), 0, s.length()));
+    assertEquals(s, expected, Numbers.parseDouble(s.getBytes(), 0, s.length()));
+    assertEquals(s, expected, Numbers.parseDouble("[" + s + "]", 1, s.length() + 1));
+    assertEquals(s, expected, Numbers.parseDouble(("[" + s + "]").toCharArray(), 1, s.length() + 1));
+    assertEquals(s, expected, Numbers.parseDouble(new StringBuilder(s), Double.MIN_VALUE), 0);
+  }
+
+  private static void assertParseFloat(final String s) {
+    final Float expected = Float.parseFloat(s);
+    assertEquals(s, expected, Numbers.parseFloat(s));
+    assertEquals(s, expected, Numbers.parseFloat((CharSequence)s));
+    assertEquals(s, expected, Numbers.parseFloat(s, Float.MIN_VALUE), 0);
+    assertEquals(s, expected, Numbers.parseFloat(s.toCharArray(), 0, s.length()));
+    assertEquals(s, expected, Numbers.parseFloat(s.getBytes(), 0, s.length()));
+    assertEquals(s, expected, Numbers.parseFloat("[" + s + "]", 1, s.length() + 1));
+    assertEquals(s, expected, Numbers.parseFloat(("[" + s + "]").toCharArray(), 1, s.length() + 1));
+    assertEquals(s, expected, Numbers.parseFloat(new StringBuilder(s), Float.MIN_VALUE), 0);
+  }
+
+  @Test
+  public void testParseDouble() {
+    assertNull(Numbers.parseDouble((String)null));
+    assertNull(Numbers.parseDouble((CharSequence)null));
+    assertEquals(7d, Numbers.parseDouble((String)null, 7d), 0);
+    assertEquals(7d, Numbers.parseDouble((char[])null, 7d), 0);
+    for (final String s : invalidFloats) {
+      assertNull(s, Numbers.parseDouble(s));
+      assertNull(s, Numbers.parseDouble(s.toCharArray(), 0, s.length()));
+      assertNull(s, Numbers.parseDouble(s.getBytes(), 0, s.getBytes().length));
+      assertEquals(s, 7d, Numbers.parseDouble(s, 7d), 0);
+    }
+
+    for (final String s : validFloats)
+      assertParseDouble(s);
+
+    for (int i = 0; i < 100000; ++i) {
+      assertParseDouble(String.valueOf(Double.longBitsToDouble(random.nextLong())));
+      assertParseDouble(String.valueOf(random.nextDouble()));
+      assertParseDouble(random.nextLong() + "." + Math.abs(random.nextLong()) + "e" + (random.nextInt(700) - 350));
+      assertParseDouble(random.nextInt() + "e" + (random.nextInt(50) - 25));
+    }
+  }
+
+  @Test
+  public void testParseFloat() {
+    assertNull(Numbers.parseFloat(null));
+    assertEquals(7f, Numbers.parseFloat((char[])null, 7f), 0);
+    for (final String s : invalidFloats) {
+      assertNull(s, Numbers.parseFloat(s));
+      assertNull(s, Numbers.parseFloat(s.toCharArray(), 0, s.length()));
+      assertNull(s, Numbers.parseFloat(s.getBytes(), 0, s.getBytes().length));
+      assertEquals(s, 7f, Numbers.parseFloat(s, 7f), 0);
+    }
+
+    for (final String s : validFloats)
+      assertParseFloat(s);
+
+    for (int i = 0; i < 100000; ++i) {
+      assertParseFloat(String.valueOf(Float.intBitsToFloat(random.nextInt())));
+      assertParseFloat(String.valueOf(random.nextFloat()));
+      assertParseFloat(String.valueOf(Double.longBitsToDouble(random.nextLong())));
+      assertParseFloat(random.nextInt() + "." + Math.abs(random.nextLong()) + "e" + (random.nextInt(100) - 50));
+    }
+  }
+
+  private static ByteBuffer[] buffers(final String s) {
+    final byte[] bytes = ("[" + s + "]").getBytes();
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).position(1);
+    direct.limit(bytes.length - 1);
+    final ByteBuffer swapped = direct.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    swapped.position(1);
+    final ByteBuffer heap = ByteBuffer.wrap(bytes);
+    heap.position(1);
+    heap.limit(bytes.length - 1);
+    return new ByteBuffer[] {direct, swapped, heap.slice()};
+  }
+
+  private static void assertParseBytes(final long expected, final String s, final int radix) {
+    final boolean isInt = (int)expected == expected;
+    final boolean isShort = (short)expected == expected;
+    final byte[] bytes = (" " + s + " ").getBytes();
+    final int from = 1;
+    final int to = bytes.length - 1;
+    assertEquals(s, expected, Numbers.parseLong(bytes, from, to, radix, 7));
+    assertEquals(s, Long.valueOf(expected), Numbers.parseLong(bytes, from, to, radix));
+    assertEquals(s, isInt ? Integer.valueOf((int)expected) : null, Numbers.parseInteger(bytes, from, to, radix));
+    assertEquals(s, isInt ? (int)expected : 7, Numbers.parseInt(bytes, from, to, radix, 7));
+    assertEquals(s, isShort ? Short.valueOf((short)expected) : null, Numbers.parseShort(bytes, from, to, radix));
+    if (radix == 10) {
+      assertEquals(s, expected, Numbers.parseLong(s.getBytes(), 7L));
+      assertEquals(s, isInt ? (int)expected : 7, Numbers.parseInt(s.getBytes(), 7));
+      assertEquals(s, isShort ? (short)expected : 7, Numbers.parseShort(s.getBytes(), (short)7));
+    }
+
+    for (final ByteBuffer buf : buffers(s)) {
+      final int position = buf.position();
+      assertEquals(s, expected, Numbers.parseLong(buf, radix, 7L));
+      assertEquals(s, Long.valueOf(expected), Numbers.parseLong(buf, position, buf.limit(), radix));
+      assertEquals(s, isInt ? (int)expected : 7, Numbers.parseInt(buf, radix, 7));
+      assertEquals(s, isInt ? Integer.valueOf((int)expected) : null, Numbers.parseInteger(buf, position, buf.limit(), radix));
+      assertEquals(s, isShort ? (short)expected : 7, Numbers.parseShort(buf, radix, (short)7));
+      assertEquals(position, buf.position());
+    }
+  }
+
+  @Test
+  public void testParseBytes() {
+    for (final String s : new String[] {"", "-", "+", "1-", "--1", " 1", "1a", "12345678a", "1234567:", "１", "9223372036854775808", "-9223372036854775809", "99999999999999999999"}) {
+      assertEquals(s, 7, Numbers.parseInt(s.getBytes(), 7));
+      assertEquals(s, 7, Numbers.parseLong(s.getBytes(), 7L));
+      assertNull(s, Numbers.parseLong(s.getBytes(), 10));
+      for (final ByteBuffer buf : buffers(s))
+        assertNull(s, Numbers.parseLong(buf, 10));
+    }
+
+    assertEquals(7, Numbers.parseInt((byte[])null, 7));
+    assertNull(Numbers.parseInteger((ByteBuffer)null, 10));
+    assertEquals(Integer.MIN_VALUE, (int)Numbers.parseInteger(String.valueOf(Integer.MIN_VALUE).getBytes(), 10));
+    assertEquals(Long.MIN_VALUE, (long)Numbers.parseLong(String.valueOf(Long.MIN_VALUE).getBytes(), 10));
+    assertEquals(Long.MAX_VALUE, (long)Numbers.parseLong(String.valueOf(Long.MAX_VALUE).getBytes(), 10));
+    assertEquals(42, Numbers.parseInt("000000000042".getBytes(), 7));
+    assertEquals(-12345678, Numbers.parseInt("-12345678".getBytes(), 7));
+
+    for (int i = 0; i < 10000; ++i) {
+      final long value = random.nextLong() >> random.nextInt(64);
+      for (int r = Character.MIN_RADIX; r <= Character.MAX_RADIX; r += 1 + random.nextInt(4)) {
+        final String s = Long.toString(value, r);
+        assertParseBytes(value, random.nextBoolean() ? s : s.toUpperCase(), r);
+      }
+
+      assertParseBytes(value, String.valueOf(value), 10);
+    }
+  }
+
   private static void testIsDigit(final int radix) {
     for (int r = 0; r < radix; ++r) {
       if (r < 10) {
@@ -0,0 +1,196 @@
+/* Copyright (c) 2021 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.Test;
+
+public class OffHeapBitSetTest {
+  private static final Random random = new Random(11);
+
+  private static void assertBits(final BitSet expected, final OffHeapBitSet actual) {
+    assertEquals(expected.cardinality(), actual.cardinality());
+    assertEquals(expected.length(), actual.length());
+    for (int i = 0; i < actual.size(); ++i)
+      assertEquals(expected.get(i), actual.get(i));
+
+    for (int i = 0; i < expected.length() + 2; ++i)
+      assertEquals(expected.nextSetBit(i), actual.nextSetBit(i));
+  }
+
+  @Test
+  public void testSetGetClear() {
+    final OffHeapBitSet bits = OffHeapBitSet.allocate(1000);
+    assertEquals(1024, bits.size());
+    assertNull(bits.getPath());
+    final BitSet expected = new BitSet();
+    assertBits(expected, bits);
+    for (int i = 0; i < 5000; ++i) {
+      final int bit = random.nextInt(1024);
+      if (random.nextBoolean()) {
+        expected.set(bit);
+        bits.set(bit);
+      }
+      else {
+        expected.clear(bit);
+        bits.clear(bit);
+      }
+    }
+
+    assertBits(expected, bits);
+    assertEquals(-1, bits.nextSetBit(1024));
+    bits.clear();
+    assertBits(new BitSet(), bits);
+
+    try {
+      bits.get(1024);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+
+    try {
+      bits.set(-1);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testWrap() {
+    final BitSet expected = new BitSet();
+    for (int i = 0; i < 100; ++i)
+      expected.set(random.nextInt(256));
+
+    final ByteBuffer buf = ByteBuffer.allocate(40);
+    buf.position(4);
+    buf.put(expected.toByteArray());
+    buf.position(4);
+    final OffHeapBitSet bits = OffHeapBitSet.wrap(buf);
+    assertEquals(256, bits.size());
+    assertBits(expected, bits);
+
+    bits.set(255);
+    assertEquals(0x80, buf.get(35) & 0x80);
+  }
+
+  private static void runThreads(final int count, final IntConsumer action) throws InterruptedException {
+    final Thread[] threads = new Thread[count];
+    for (int t = 0; t < threads.length; ++t) {
+      final int id = t;
+      threads[t] = new Thread(() -> action.accept(id));
+      threads[t].start();
+    }
+
+    for (final Thread thread : threads)
+      thread.join();
+  }
+
+  @Test
+  public void testConcurrentSetClear() throws InterruptedException {
+    final int nbits = 1 << 12;
+    final int nthreads = 4;
+    for (int trial = 0; trial < 50; ++trial) {
+      final OffHeapBitSet bits = OffHeapBitSet.allocate(nbits);
+      runThreads(nthreads, t -> {
+        for (int i = t; i < nbits; i += nthreads)
+          bits.set(i);
+      });
+      assertEquals(nbits, bits.cardinality());
+
+      runThreads(nthreads, t -> {
+        for (int i = t; i < nbits; i += nthreads)
+          if (t % 2 == 0)
+            bits.clear(i);
+      });
+      assertEquals(nbits / 2, bits.cardinality());
+    }
+  }
+
+  @Test
+  public void testTestAndSet() throws InterruptedException {
+    final int nbits = 1 << 16;
+    final OffHeapBitSet bits = OffHeapBitSet.allocate(nbits);
+    final AtomicInteger winners = new AtomicInteger();
+    final Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; ++t) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < nbits; ++i)
+          if (!bits.testAndSet(i))
+            winners.incrementAndGet();
+      });
+      threads[t].start();
+    }
+
+    for (final Thread thread : threads)
+      thread.join();
+
+    assertEquals(nbits, winners.get());
+    assertEquals(nbits, bits.cardinality());
+
+    assertTrue(bits.testAndClear(7));
+    assertFalse(bits.testAndClear(7));
+    assertFalse(bits.get(7));
+    assertFalse(bits.testAndSet(7));
+    assertTrue(bits.testAndSet(7));
+  }
+
+  @Test
+  public void testMap() throws IOException {
+    final Path path = Files.createTempFile("bitset", ".bin");
+    try {
+      // Beyond the 2^31 bytes of a single ByteBuffer, in a sparse file
+      final long nbits = 5_000_000_000L * 4;
+      final long[] indices = {0, 63, 64, 1L << 33, 5_000_000_000L, nbits - 1};
+      OffHeapBitSet bits = OffHeapBitSet.map(path, nbits);
+      assertEquals(path, bits.getPath());
+      assertEquals(nbits, bits.size());
+      for (final long index : indices)
+        bits.set(index);
+
+      bits.force();
+      assertEquals(nbits / 8, Files.size(path));
+
+      bits = OffHeapBitSet.map(path);
+      assertEquals(nbits, bits.size());
+      for (final long index : indices)
+        assertTrue(bits.get(index));
+
+      assertFalse(bits.get(65));
+      assertEquals(nbits, bits.length());
+      assertEquals(5_000_000_000L, bits.nextSetBit(65));
+      assertEquals(1L << 33, bits.nextSetBit(5_000_000_001L));
+      assertFalse(bits.testAndClear((1L << 33) + 1));
+      assertTrue(bits.testAndClear(1L << 33));
+      assertEquals(nbits - 1, bits.nextSetBit(1L << 33));
+    }
+    finally {
+      Files.delete(path);
+    }
+  }
+}
@@ -139,7 +139,7 @@ public class StringsTest {
       fail("Expected IllegalArgumentException");
     }
     catch (final IllegalArgumentException e) {
-      if (!"Loop detected".equals(e.getMessage()))
+      if (!"Loop detected: prop6 -> prop6".equals(e.getMessage()))
         throw e;
     }
 
@@ -148,6 +148,89 @@ public class StringsTest {
     assertEquals("prop2 plus prop3", properties.get("prop5"));
   }
 
+  @Test
+  public void testInterpolateMap() {
+    final Map<String,String> properties = new HashMap<>();
+    properties.put("title", "The ${subject} jumps over the ${object}");
+    properties.put("subject", "${adj1} fox");
+    properties.put("object", "${adj2} dog");
+    properties.put("adj1", "quick brown");
+    properties.put("adj2", "lazy");
+    properties.put("nested", "${ad${index}}");
+    properties.put("index", "j2");
+    properties.put("missing", "${none}");
+    properties.put("null", null);
+
+    Strings.interpolate(properties, "${", "}");
+    assertEquals("The quick brown fox jumps over the lazy dog", properties.get("title"));
+    assertEquals("quick brown fox", properties.get("subject"));
+    assertEquals("lazy dog", properties.get("object"));
+    assertEquals("lazy", properties.get("nested"));
+    assertEquals("${none}", properties.get("missing"));
+    assertNull(properties.get("null"));
+
+    // A long chain of references, each of which must be resolved only once
+    properties.clear();
+    for (int i = 0; i < 5000; ++i)
+      properties.put("key" + i, i == 0 ? "0" : "${key" + (i - 1) + "}.");
+
+    Strings.interpolate(properties, "${", "}");
+    assertEquals("0" + Strings.repeat('.', 4999), properties.get("key4999"));
+
+    properties.clear();
+    properties.put("a", "${b}");
+    properties.put("b", "x${c}");
+    properties.put("c", "${a}y");
+    try {
+      Strings.interpolate(properties, "${", "}");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      final String message = e.getMessage();
+      assertTrue(message, "Loop detected: a -> b -> c -> a".equals(message) || "Loop detected: b -> c -> a -> b".equals(message) || "Loop detected: c -> a -> b -> c".equals(message));
+    }
+  }
+
+  @Test
+  public void testCompileTemplate() {
+    final Map<String,String> properties = new HashMap<>();
+    properties.put("prop1", "prop1");
+    properties.put("prop2", "prop2");
+    properties.put("prop3", "prop3");
+    properties.put("prop4", "{{prop2}}");
+    properties.put("prop5", "{{prop4}} plus {{prop3}}");
+    properties.put("prop6", "{{prop5}} plus {{prop6}}");
+    properties.put("nested", "2");
+
+    assertEquals("Bla bla prop1 with prop2 and prop3", Strings.compileTemplate("Bla bla {{prop1}} with {{prop2}} and {{prop3}}", "{{", "}}").render(properties));
+    assertEquals("Bla bla prop2 with prop3 and prop2", Strings.compileTemplate("Bla bla {{prop2}} with {{prop3}} and {{prop4}}", "{{", "}}").render(properties));
+    assertEquals("Bla bla prop3 with prop2 and prop2 plus prop3", Strings.compileTemplate("Bla bla {{prop3}} with {{prop4}} and {{prop5}}", "{{", "}}").render(properties));
+    assertEquals("{{missing}} and prop2 and {{prop1", Strings.compileTemplate("{{missing}} and {{prop{{nested}}}} and {{prop1", "{{", "}}").render(properties));
+    assertEquals("", Strings.compileTemplate("", "{{", "}}").render(properties));
+
+    final Strings.Template template = Strings.compileTemplate("[{{prop5}}]", "{{", "}}");
+    final StringBuilder builder = new StringBuilder("x");
+    assertSame(builder, template.render(properties, builder));
+    assertEquals("x[prop2 plus prop3]", builder.toString());
+    properties.put("prop3", "three");
+    assertEquals("x[prop2 plus prop3][prop2 plus three]", template.render(properties, builder).toString());
+
+    try {
+      Strings.compileTemplate("Bla bla {{prop4}} with {{prop5}} and {{prop6}}", "{{", "}}").render(properties);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertEquals("Loop detected: prop6 -> prop6", e.getMessage());
+    }
+
+    try {
+      Strings.compileTemplate("{{a}}", "", "}}");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
   private static String testReplace(final StringBuilder builder, final CharSequence target, final CharSequence replacement, final boolean expectReplace) {
     assertEquals(expectReplace, Strings.replace(builder, target, replacement));
     return builder.toString();
@@ -759,5 +842,24 @@ public class StringsTest {
       assertSame(a, Strings.intern(new String("hello world 1")));
       assertSame(b, Strings.intern(new String("hello world 2")));
     }
+
+    final char[] chars = "[hello world 1][hello world 2]".toCharArray();
+    assertSame(a, Strings.intern(chars, 1, 13));
+    assertSame(b, Strings.intern(chars, 16, 13));
+    assertSame(a, Strings.intern(new ArrayCharSequence(chars, 1, 13)));
+    assertSame(b, Strings.intern(new StringBuilder("hello world 2")));
+    assertSame(b, Strings.intern(new StringBuilder("[hello world 2]"), 1, 14));
+
+    final String c = Strings.intern(chars, 0, 3);
+    assertEquals("[he", c);
+    assertSame(c, Strings.intern("[he"));
+    assertSame(Strings.intern(""), Strings.intern(chars, 5, 0));
+
+    try {
+      Strings.intern(chars, 20, 13);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
   }
 }
\ No newline at end of file